@@ -0,0 +1,116 @@
+package app.lifelinq.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against the committed baseline.
+ *
+ * <p>A benchmark regresses when its throughput drops, or its normalized allocation grows,
+ * by more than the matching tolerance. Throughput is noisy across machines, so it gets a wider
+ * tolerance than allocation. Benchmarks missing from the baseline are reported but do not fail
+ * the check.
+ */
+public final class BenchmarkBaselineCheck {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_SLACK_BYTES = 64.0;
+
+    private BenchmarkBaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "usage: BenchmarkBaselineCheck <result.json> <baseline.json> [throughputTolerance] [allocationTolerance]"
+            );
+        }
+        Path resultPath = Path.of(args[0]);
+        Path baselinePath = Path.of(args[1]);
+        double throughputTolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.50;
+        double allocationTolerance = args.length > 3 ? Double.parseDouble(args[3]) : 0.10;
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Measurement> results = readResults(mapper.readTree(Files.readString(resultPath)));
+        Map<String, Measurement> baseline = readBaseline(mapper.readTree(Files.readString(baselinePath)));
+
+        if (results.isEmpty()) {
+            System.err.println("No benchmark results found in " + resultPath);
+            System.exit(1);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Measurement> entry : results.entrySet()) {
+            Measurement current = entry.getValue();
+            Measurement expected = baseline.get(entry.getKey());
+            if (expected == null) {
+                System.out.printf("NEW       %s %.1f ops/s %.0f B/op%n", entry.getKey(), current.opsPerSecond(), current.allocatedBytesPerOp());
+                continue;
+            }
+            boolean slower = current.opsPerSecond() < expected.opsPerSecond() * (1.0 - throughputTolerance);
+            boolean heavier = current.allocatedBytesPerOp()
+                    > expected.allocatedBytesPerOp() * (1.0 + allocationTolerance) + ALLOCATION_SLACK_BYTES;
+            String status = slower || heavier ? "REGRESSED" : "OK";
+            System.out.printf(
+                    "%-9s %s %.1f ops/s (baseline %.1f) %.0f B/op (baseline %.0f)%n",
+                    status,
+                    entry.getKey(),
+                    current.opsPerSecond(),
+                    expected.opsPerSecond(),
+                    current.allocatedBytesPerOp(),
+                    expected.allocatedBytesPerOp()
+            );
+            if (slower || heavier) {
+                regressions.add(entry.getKey());
+            }
+        }
+        if (!regressions.isEmpty()) {
+            System.err.println("Benchmarks regressed beyond tolerance: " + regressions);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Measurement> readResults(JsonNode root) {
+        Map<String, Measurement> results = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            String key = benchmarkKey(run.path("benchmark").asText(), run.path("params"));
+            double opsPerSecond = run.path("primaryMetric").path("score").asDouble();
+            double allocatedBytesPerOp = run.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble();
+            results.put(key, new Measurement(opsPerSecond, allocatedBytesPerOp));
+        }
+        return results;
+    }
+
+    private static Map<String, Measurement> readBaseline(JsonNode root) {
+        Map<String, Measurement> baseline = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.path("benchmarks").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            baseline.put(field.getKey(), new Measurement(
+                    field.getValue().path("opsPerSecond").asDouble(),
+                    field.getValue().path("allocatedBytesPerOp").asDouble()
+            ));
+        }
+        return baseline;
+    }
+
+    private static String benchmarkKey(String benchmark, JsonNode params) {
+        StringBuilder key = new StringBuilder(benchmark);
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            key.append(':').append(field.getKey()).append('=').append(field.getValue().asText());
+        }
+        return key.toString();
+    }
+
+    private record Measurement(double opsPerSecond, double allocatedBytesPerOp) {
+    }
+}
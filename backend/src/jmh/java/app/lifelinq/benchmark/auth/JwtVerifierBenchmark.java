@@ -0,0 +1,62 @@
+package app.lifelinq.benchmark.auth;
+
+import app.lifelinq.config.JwtClaims;
+import app.lifelinq.config.JwtSigner;
+import app.lifelinq.config.JwtValidationException;
+import app.lifelinq.config.JwtVerifier;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request access token verification: the accepted path every authenticated
+ * request takes, and a tampered token rejected at the signature check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtVerifierBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private JwtVerifier verifier;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        verifier = new JwtVerifier(SECRET);
+        JwtSigner signer = new JwtSigner(SECRET, 3600, "lifelinq", "lifelinq-app", Clock.systemUTC());
+        validToken = signer.sign(UUID.randomUUID());
+        int payloadStart = validToken.indexOf('.') + 1;
+        char flipped = validToken.charAt(payloadStart) == 'e' ? 'f' : 'e';
+        tamperedToken = validToken.substring(0, payloadStart) + flipped + validToken.substring(payloadStart + 1);
+    }
+
+    @Benchmark
+    public JwtClaims verifyValidToken() {
+        return verifier.verify(validToken);
+    }
+
+    @Benchmark
+    public boolean rejectTamperedToken() {
+        try {
+            verifier.verify(tamperedToken);
+            return true;
+        } catch (JwtValidationException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package app.lifelinq.benchmark.group;
+
+import app.lifelinq.features.group.application.InvitationShortCodeGenerator;
+import app.lifelinq.features.group.infrastructure.FeistelInvitationShortCodeGenerator;
+import app.lifelinq.features.group.infrastructure.InMemoryInvitationShortCodeGenerator;
+import app.lifelinq.features.group.infrastructure.InvitationShortCodeBlockSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Short-code allocation with a share of the code space already taken: random codes
+ * checked against the taken set, as invitation creation did with one existence query per
+ * attempt, against the keyed permutation, which never probes. The probes counter is the
+ * number of existence queries the random path would have sent to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InvitationShortCodeBenchmark {
+    private static final long KEYSPACE = 36L * 36 * 36 * 36 * 36 * 36;
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Param({"10", "50", "90"})
+    public int occupancyPercent;
+
+    private InvitationShortCodeGenerator randomGenerator;
+    private InvitationShortCodeGenerator permutationGenerator;
+
+    @Setup
+    public void setUp() {
+        randomGenerator = new InMemoryInvitationShortCodeGenerator();
+        permutationGenerator = new FeistelInvitationShortCodeGenerator(
+                new WrappingBlockSource(KEYSPACE * occupancyPercent / 100),
+                "benchmark-key",
+                32
+        );
+    }
+
+    @Benchmark
+    public String randomWithExistenceProbes(ProbeCounters counters) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String code = randomGenerator.generate();
+            counters.probes++;
+            if (!isTaken(code)) {
+                return code;
+            }
+        }
+        counters.exhausted++;
+        return null;
+    }
+
+    @Benchmark
+    public String keyedPermutation() {
+        return permutationGenerator.generate();
+    }
+
+    private boolean isTaken(String code) {
+        int hash = code.hashCode() * 0x9E3779B1;
+        hash ^= hash >>> 15;
+        return Integer.remainderUnsigned(hash, 100) < occupancyPercent;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ProbeCounters {
+        public long probes;
+        public long exhausted;
+    }
+
+    /**
+     * Hands out blocks from the unused tail of the code space, starting over at the
+     * occupancy mark so long runs never exhaust it.
+     */
+    private static final class WrappingBlockSource implements InvitationShortCodeBlockSource {
+        private final long start;
+        private final AtomicLong reserved = new AtomicLong();
+
+        private WrappingBlockSource(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public long reserve(int size) {
+            long remaining = (KEYSPACE - start) / size * size;
+            return start + Math.floorMod(reserved.getAndAdd(size), remaining);
+        }
+    }
+}
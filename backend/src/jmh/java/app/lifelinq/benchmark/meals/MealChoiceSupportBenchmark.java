@@ -0,0 +1,87 @@
+package app.lifelinq.benchmark.meals;
+
+import app.lifelinq.features.meals.domain.MealChoiceSupportEngine;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.MealUsageAggregate;
+import app.lifelinq.features.meals.domain.PlanningChoiceSupport;
+import app.lifelinq.features.meals.domain.PlanningContext;
+import app.lifelinq.features.meals.domain.PlanningScenario;
+import app.lifelinq.features.meals.domain.RecipeUsageHistory;
+import java.time.temporal.IsoFields;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MealChoiceSupportBenchmark {
+
+    @Param({"1", "10"})
+    public int years;
+
+    @Param({"50", "2000"})
+    public int recipes;
+
+    private final MealChoiceSupportEngine engine = new MealChoiceSupportEngine();
+    private SyntheticHousehold household;
+    private PlanningContext slotContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        household = SyntheticHousehold.generate(years, recipes, 42L);
+        slotContext = new PlanningContext(
+                PlanningScenario.SLOT,
+                SyntheticHousehold.REFERENCE_DATE,
+                SyntheticHousehold.REFERENCE_DATE.get(IsoFields.WEEK_BASED_YEAR),
+                SyntheticHousehold.REFERENCE_DATE.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                SyntheticHousehold.REFERENCE_DATE.getDayOfWeek().getValue(),
+                MealType.DINNER,
+                null
+        );
+    }
+
+    @Benchmark
+    public PlanningChoiceSupport buildPlanningChoiceSupport() {
+        return engine.buildPlanningChoiceSupport(
+                slotContext,
+                household.occurrences(),
+                household.recipes(),
+                household.preferenceSignals()
+        );
+    }
+
+    @Benchmark
+    public List<MealUsageAggregate> summarizeMealUsage() {
+        return engine.summarizeMealUsage(
+                household.occurrences(),
+                household.recipes(),
+                household.preferenceSignals(),
+                SyntheticHousehold.REFERENCE_DATE
+        );
+    }
+
+    @Benchmark
+    public List<RecipeUsageHistory> summarizeRecipeUsage() {
+        return engine.summarizeRecipeUsage(
+                household.occurrences(),
+                household.recipes(),
+                household.preferenceSignals(),
+                SyntheticHousehold.REFERENCE_DATE
+        );
+    }
+}
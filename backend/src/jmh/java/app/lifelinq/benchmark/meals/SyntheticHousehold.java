@@ -0,0 +1,221 @@
+package app.lifelinq.benchmark.meals;
+
+import app.lifelinq.features.meals.contract.MealsShoppingItemSnapshot;
+import app.lifelinq.features.meals.contract.MealsShoppingListSnapshot;
+import app.lifelinq.features.meals.domain.HouseholdPreferenceSignal;
+import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalTargetKind;
+import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalType;
+import app.lifelinq.features.meals.domain.Ingredient;
+import app.lifelinq.features.meals.domain.IngredientUnit;
+import app.lifelinq.features.meals.domain.MealIdentity;
+import app.lifelinq.features.meals.domain.MealIngredientNeed;
+import app.lifelinq.features.meals.domain.MealOccurrence;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.Recipe;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+final class SyntheticHousehold {
+    static final LocalDate REFERENCE_DATE = LocalDate.of(2026, 6, 15);
+    private static final int INGREDIENTS_PER_RECIPE = 8;
+    private static final int INGREDIENT_VOCABULARY = 240;
+    private static final int FREE_TEXT_TITLES = 40;
+    private static final IngredientUnit[] UNITS = {IngredientUnit.G, IngredientUnit.DL, IngredientUnit.PCS, IngredientUnit.KG};
+
+    private final UUID groupId;
+    private final List<Recipe> recipes;
+    private final List<MealOccurrence> occurrences;
+    private final List<HouseholdPreferenceSignal> preferenceSignals;
+
+    private SyntheticHousehold(
+            UUID groupId,
+            List<Recipe> recipes,
+            List<MealOccurrence> occurrences,
+            List<HouseholdPreferenceSignal> preferenceSignals
+    ) {
+        this.groupId = groupId;
+        this.recipes = recipes;
+        this.occurrences = occurrences;
+        this.preferenceSignals = preferenceSignals;
+    }
+
+    static SyntheticHousehold generate(int years, int recipeCount, long seed) {
+        Random random = new Random(seed);
+        UUID groupId = new UUID(seed, 1L);
+        List<Recipe> recipes = generateRecipes(groupId, recipeCount, random);
+        List<MealOccurrence> occurrences = generateOccurrences(recipes, years, random);
+        List<HouseholdPreferenceSignal> signals = generatePreferenceSignals(groupId, recipes, random);
+        return new SyntheticHousehold(groupId, List.copyOf(recipes), List.copyOf(occurrences), List.copyOf(signals));
+    }
+
+    UUID groupId() {
+        return groupId;
+    }
+
+    List<Recipe> recipes() {
+        return recipes;
+    }
+
+    List<MealOccurrence> occurrences() {
+        return occurrences;
+    }
+
+    List<HouseholdPreferenceSignal> preferenceSignals() {
+        return preferenceSignals;
+    }
+
+    static List<MealIngredientNeed> ingredientNeeds(Recipe recipe) {
+        List<MealIngredientNeed> needs = new ArrayList<>();
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            needs.add(new MealIngredientNeed(
+                    ingredient.getId(),
+                    ingredient.getPosition(),
+                    ingredient.getName(),
+                    ingredient.getName().toLowerCase(Locale.ROOT),
+                    null,
+                    ingredient.getQuantity(),
+                    ingredient.getUnit() == null ? null : ingredient.getUnit().name()
+            ));
+        }
+        return needs;
+    }
+
+    static MealsShoppingListSnapshot shoppingList(int itemCount, long seed) {
+        Random random = new Random(seed);
+        List<MealsShoppingItemSnapshot> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            IngredientUnit unit = UNITS[random.nextInt(UNITS.length)];
+            items.add(new MealsShoppingItemSnapshot(
+                    new UUID(seed, i),
+                    ingredientName(random.nextInt(INGREDIENT_VOCABULARY)).toLowerCase(Locale.ROOT),
+                    random.nextInt(4) == 0 ? "BOUGHT" : "TO_BUY",
+                    BigDecimal.valueOf(1 + random.nextInt(500)),
+                    unit.name(),
+                    random.nextBoolean() ? "meal-plan" : null,
+                    null
+            ));
+        }
+        return new MealsShoppingListSnapshot(new UUID(seed, -1L), "Groceries", "GROCERY", items);
+    }
+
+    private static List<Recipe> generateRecipes(UUID groupId, int recipeCount, Random random) {
+        Instant createdAt = REFERENCE_DATE.minusYears(10).atStartOfDay().toInstant(ZoneOffset.UTC);
+        List<Recipe> recipes = new ArrayList<>(recipeCount);
+        for (int r = 0; r < recipeCount; r++) {
+            List<Ingredient> ingredients = new ArrayList<>(INGREDIENTS_PER_RECIPE);
+            for (int i = 0; i < INGREDIENTS_PER_RECIPE; i++) {
+                IngredientUnit unit = UNITS[random.nextInt(UNITS.length)];
+                ingredients.add(new Ingredient(
+                        new UUID(r, i),
+                        ingredientName(random.nextInt(INGREDIENT_VOCABULARY)),
+                        BigDecimal.valueOf(1 + random.nextInt(400)),
+                        unit,
+                        i + 1
+                ));
+            }
+            recipes.add(new Recipe(new UUID(groupId.getMostSignificantBits(), r), groupId, "Recipe " + r, createdAt, ingredients));
+        }
+        return recipes;
+    }
+
+    private static List<MealOccurrence> generateOccurrences(List<Recipe> recipes, int years, Random random) {
+        List<MealOccurrence> occurrences = new ArrayList<>();
+        LocalDate firstMonday = REFERENCE_DATE.minusYears(years).with(DayOfWeek.MONDAY);
+        int favourites = Math.max(1, recipes.size() / 10);
+        for (LocalDate monday = firstMonday; !monday.isAfter(REFERENCE_DATE); monday = monday.plusWeeks(1)) {
+            int year = monday.get(IsoFields.WEEK_BASED_YEAR);
+            int isoWeek = monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            UUID weekPlanId = new UUID(year, isoWeek);
+            for (int day = 1; day <= 7; day++) {
+                LocalDate plannedDate = monday.plusDays(day - 1L);
+                if (plannedDate.isAfter(REFERENCE_DATE)) {
+                    break;
+                }
+                occurrences.add(occurrence(weekPlanId, year, isoWeek, day, MealType.DINNER, plannedDate, recipes, favourites, random));
+                if (day >= 6 || random.nextInt(3) == 0) {
+                    occurrences.add(occurrence(weekPlanId, year, isoWeek, day, MealType.LUNCH, plannedDate, recipes, favourites, random));
+                }
+            }
+        }
+        occurrences.sort((left, right) -> right.plannedDate().compareTo(left.plannedDate()));
+        return occurrences;
+    }
+
+    private static MealOccurrence occurrence(
+            UUID weekPlanId,
+            int year,
+            int isoWeek,
+            int dayOfWeek,
+            MealType mealType,
+            LocalDate plannedDate,
+            List<Recipe> recipes,
+            int favourites,
+            Random random
+    ) {
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            String title = "Leftovers " + random.nextInt(FREE_TEXT_TITLES);
+            return new MealOccurrence(weekPlanId, year, isoWeek, dayOfWeek, mealType, plannedDate, title, null, null);
+        }
+        Recipe recipe = roll < 6
+                ? recipes.get(random.nextInt(favourites))
+                : recipes.get(random.nextInt(recipes.size()));
+        return new MealOccurrence(
+                weekPlanId,
+                year,
+                isoWeek,
+                dayOfWeek,
+                mealType,
+                plannedDate,
+                recipe.getName(),
+                recipe.getId(),
+                recipe.getName()
+        );
+    }
+
+    private static List<HouseholdPreferenceSignal> generatePreferenceSignals(UUID groupId, List<Recipe> recipes, Random random) {
+        Instant now = REFERENCE_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+        HouseholdPreferenceSignalType[] types = HouseholdPreferenceSignalType.values();
+        List<HouseholdPreferenceSignal> signals = new ArrayList<>();
+        int recipeSignals = Math.max(1, recipes.size() / 20);
+        for (int i = 0; i < recipeSignals; i++) {
+            Recipe recipe = recipes.get(random.nextInt(recipes.size()));
+            signals.add(new HouseholdPreferenceSignal(
+                    new UUID(groupId.getMostSignificantBits(), -i - 1L),
+                    groupId,
+                    HouseholdPreferenceSignalTargetKind.RECIPE,
+                    recipe.getId(),
+                    null,
+                    types[random.nextInt(types.length)],
+                    now,
+                    now
+            ));
+        }
+        for (int i = 0; i < FREE_TEXT_TITLES / 4; i++) {
+            signals.add(new HouseholdPreferenceSignal(
+                    new UUID(groupId.getLeastSignificantBits(), -i - 1L),
+                    groupId,
+                    HouseholdPreferenceSignalTargetKind.MEAL_IDENTITY,
+                    null,
+                    MealIdentity.titleKey("Leftovers " + i),
+                    types[random.nextInt(types.length)],
+                    now,
+                    now
+            ));
+        }
+        return signals;
+    }
+
+    private static String ingredientName(int index) {
+        return "Ingredient " + index;
+    }
+}
@@ -0,0 +1,116 @@
+package app.lifelinq.benchmark.meals;
+
+import app.lifelinq.features.meals.domain.MealChoiceSupportEngine;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.MealUsageAggregate;
+import app.lifelinq.features.meals.domain.PlanningChoiceSupport;
+import app.lifelinq.features.meals.domain.PlanningContext;
+import app.lifelinq.features.meals.domain.PlanningScenario;
+import app.lifelinq.features.meals.domain.ReuseCandidate;
+import app.lifelinq.features.meals.domain.WeekPlanProposal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares proposing a whole week in one pass against asking slot choice support for every
+ * slot in turn, the way a client auto-filling the week from the slot endpoint would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WeekPlanProposalBenchmark {
+
+    @Param({"1", "10"})
+    public int years;
+
+    @Param({"1", "3"})
+    public int mealsPerDay;
+
+    private final MealChoiceSupportEngine engine = new MealChoiceSupportEngine();
+    private SyntheticHousehold household;
+    private Set<MealType> mealTypes;
+    private LocalDate weekStart;
+    private int year;
+    private int isoWeek;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        household = SyntheticHousehold.generate(years, 200, 42L);
+        mealTypes = mealsPerDay == 1
+                ? EnumSet.of(MealType.DINNER)
+                : EnumSet.of(MealType.BREAKFAST, MealType.LUNCH, MealType.DINNER);
+        weekStart = SyntheticHousehold.REFERENCE_DATE.with(DayOfWeek.MONDAY);
+        year = weekStart.get(IsoFields.WEEK_BASED_YEAR);
+        isoWeek = weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+
+    @Benchmark
+    public List<ReuseCandidate> perSlotChoiceSupport() {
+        Set<String> used = new HashSet<>();
+        List<ReuseCandidate> proposed = new ArrayList<>();
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            for (MealType mealType : mealTypes) {
+                PlanningContext context = new PlanningContext(
+                        PlanningScenario.SLOT,
+                        weekStart.plusDays(dayOfWeek - 1L),
+                        year,
+                        isoWeek,
+                        dayOfWeek,
+                        mealType,
+                        null
+                );
+                PlanningChoiceSupport support = engine.buildPlanningChoiceSupport(
+                        context,
+                        household.occurrences(),
+                        household.recipes(),
+                        household.preferenceSignals()
+                );
+                Stream.of(
+                                support.makeSoonCandidates(),
+                                support.familiarCandidates(),
+                                support.fallbackCandidates(),
+                                support.recentCandidates()
+                        )
+                        .flatMap(List::stream)
+                        .filter(candidate -> used.add(candidate.identity().key()))
+                        .findFirst()
+                        .ifPresent(proposed::add);
+            }
+        }
+        return proposed;
+    }
+
+    @Benchmark
+    public WeekPlanProposal proposeWeek() {
+        List<MealUsageAggregate> aggregates = engine.summarizeMealUsage(
+                household.occurrences(),
+                household.recipes(),
+                household.preferenceSignals(),
+                weekStart
+        );
+        return engine.proposeWeek(year, isoWeek, weekStart, mealTypes, List.of(), aggregates, household.recipes());
+    }
+}
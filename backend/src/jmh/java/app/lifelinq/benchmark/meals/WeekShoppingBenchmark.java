@@ -0,0 +1,116 @@
+package app.lifelinq.benchmark.meals;
+
+import app.lifelinq.features.meals.contract.MealsShoppingListSnapshot;
+import app.lifelinq.features.meals.domain.KitchenReadinessEngine;
+import app.lifelinq.features.meals.domain.MealIngredientNeed;
+import app.lifelinq.features.meals.domain.MealShoppingProjection;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.PlannedMeal;
+import app.lifelinq.features.meals.domain.Recipe;
+import app.lifelinq.features.meals.domain.ShoppingLinkReference;
+import app.lifelinq.features.meals.domain.ShoppingLinkStatus;
+import app.lifelinq.features.meals.domain.WeekShoppingProjection;
+import app.lifelinq.features.meals.domain.WeekShoppingReview;
+import app.lifelinq.features.meals.domain.WeekShoppingReviewEngine;
+import app.lifelinq.features.meals.domain.WeekShoppingReviewLink;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WeekShoppingBenchmark {
+    private static final int YEAR = 2026;
+    private static final int ISO_WEEK = 25;
+
+    @Param({"50", "2000"})
+    public int recipes;
+
+    @Param({"50", "500"})
+    public int listItems;
+
+    private final KitchenReadinessEngine readinessEngine = new KitchenReadinessEngine();
+    private final WeekShoppingReviewEngine reviewEngine = new WeekShoppingReviewEngine();
+    private final UUID weekPlanId = UUID.randomUUID();
+    private MealsShoppingListSnapshot shoppingList;
+    private ShoppingLinkReference shoppingLink;
+    private WeekShoppingReviewLink reviewLink;
+    private List<PlannedMeal> meals;
+    private List<List<MealIngredientNeed>> mealNeeds;
+    private List<MealShoppingProjection> mealProjections;
+    private List<WeekShoppingReviewEngine.WeekIngredientOccurrence> weekOccurrences;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticHousehold household = SyntheticHousehold.generate(1, recipes, 42L);
+        Random random = new Random(7L);
+        shoppingList = SyntheticHousehold.shoppingList(listItems, 11L);
+        Instant handledAt = SyntheticHousehold.REFERENCE_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+        shoppingLink = new ShoppingLinkReference(shoppingList.listId(), shoppingList.listName(), handledAt, ShoppingLinkStatus.LINKED);
+        reviewLink = new WeekShoppingReviewLink(shoppingList.listId(), handledAt);
+
+        meals = new ArrayList<>();
+        mealNeeds = new ArrayList<>();
+        mealProjections = new ArrayList<>();
+        weekOccurrences = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            for (MealType mealType : MealType.values()) {
+                Recipe recipe = household.recipes().get(random.nextInt(household.recipes().size()));
+                PlannedMeal meal = PlannedMeal.rehydrate(day, mealType, recipe.getName(), recipe.getId(), recipe.getName());
+                List<MealIngredientNeed> needs = SyntheticHousehold.ingredientNeeds(recipe);
+                meals.add(meal);
+                mealNeeds.add(needs);
+                mealProjections.add(readinessEngine.buildMealProjection(YEAR, ISO_WEEK, meal, shoppingLink, needs, shoppingList));
+                for (MealIngredientNeed need : needs) {
+                    weekOccurrences.add(new WeekShoppingReviewEngine.WeekIngredientOccurrence(day, mealType, recipe.getName(), need));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public WeekShoppingProjection buildWeekProjection() {
+        return readinessEngine.buildWeekProjection(weekPlanId, YEAR, ISO_WEEK, mealProjections);
+    }
+
+    @Benchmark
+    public WeekShoppingProjection buildWeekProjectionFromMeals() {
+        List<MealShoppingProjection> projections = new ArrayList<>(meals.size());
+        for (int i = 0; i < meals.size(); i++) {
+            projections.add(readinessEngine.buildMealProjection(
+                    YEAR,
+                    ISO_WEEK,
+                    meals.get(i),
+                    shoppingLink,
+                    mealNeeds.get(i),
+                    shoppingList
+            ));
+        }
+        return readinessEngine.buildWeekProjection(weekPlanId, YEAR, ISO_WEEK, projections);
+    }
+
+    @Benchmark
+    public WeekShoppingReview buildWeekReview() {
+        return reviewEngine.buildWeekReview(weekPlanId, YEAR, ISO_WEEK, reviewLink, weekOccurrences, shoppingList);
+    }
+}
@@ -0,0 +1,90 @@
+package app.lifelinq.benchmark.shopping;
+
+import app.lifelinq.features.shopping.domain.ShoppingAddItemResult;
+import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
+import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListType;
+import app.lifelinq.features.shopping.domain.ShoppingUnit;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-item aggregate operations on lists of growing size. Add, merge and toggle should stay
+ * roughly flat in {@code items}; each benchmark leaves the list in its original shape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShoppingListBenchmark {
+    private static final Instant NOW = Instant.parse("2026-06-15T12:00:00Z");
+
+    @Param({"50", "500", "2000"})
+    public int items;
+
+    private ShoppingList list;
+    private UUID toggledItemId;
+    private String mergeName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "Groceries", ShoppingListType.GROCERY, NOW);
+        for (int index = 0; index < items; index++) {
+            boolean quantified = index % 2 == 0;
+            list.addItem(
+                    UUID.randomUUID(),
+                    "item " + index,
+                    quantified ? BigDecimal.ONE : null,
+                    quantified ? ShoppingUnit.DL : null,
+                    NOW.plusMillis(index)
+            );
+        }
+        ShoppingItem middle = list.getItems().get(items / 2);
+        toggledItemId = middle.getId();
+        mergeName = "item " + (items - 2);
+    }
+
+    @Benchmark
+    public ShoppingAddItemResult addAndRemoveManualItem() {
+        ShoppingAddItemResult result = list.addItem(UUID.randomUUID(), "new item", NOW);
+        list.removeItem(result.itemId());
+        return result;
+    }
+
+    @Benchmark
+    public ShoppingAddItemResult mergeMealPlanIntake() {
+        return list.addItem(
+                UUID.randomUUID(),
+                mergeName,
+                BigDecimal.ONE,
+                ShoppingUnit.DL,
+                ShoppingItemSourceKind.MEAL_PLAN,
+                "Soup",
+                NOW
+        );
+    }
+
+    @Benchmark
+    public ShoppingItem toggleItemTwice() {
+        list.toggleItem(toggledItemId, NOW);
+        list.toggleItem(toggledItemId, NOW);
+        return list.getItemOrThrow(toggledItemId);
+    }
+}
@@ -0,0 +1,109 @@
+package app.lifelinq.benchmark.shopping;
+
+import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeBroadcaster;
+import app.lifelinq.features.shopping.application.ShoppingWriteMetrics;
+import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
+import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
+import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.infrastructure.ShoppingJpaTestApplication;
+import app.lifelinq.features.shopping.infrastructure.SpringShoppingTransactionRunner;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Several household members writing to one shared list through the optimistic-lock retry
+ * loop, against the JPA adapter on the in-memory test database. Adds are removed again so
+ * the list keeps its size across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShoppingListConcurrentWriteBenchmark {
+    private static final int SEED_ITEMS = 10;
+
+    private final AtomicLong addedNames = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private ShoppingApplicationService service;
+    private UUID groupId;
+    private UUID userId;
+    private UUID listId;
+    private List<UUID> seedItemIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShoppingJpaTestApplication.class)
+                .profiles("test")
+                .run();
+        ShoppingListRepository repository = context.getBean(ShoppingListRepository.class);
+        groupId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), groupId, "Shared", Instant.now());
+        for (int index = 0; index < SEED_ITEMS; index++) {
+            list.addItem(UUID.randomUUID(), "seed " + index, Instant.now());
+        }
+        repository.save(list);
+        listId = list.getId();
+        seedItemIds = list.getItems().stream().map(ShoppingItem::getId).toList();
+        service = new ShoppingApplicationService(
+                repository,
+                context.getBean(ShoppingCategoryPreferenceRepository.class),
+                (ignoredGroupId, ignoredUserId) -> { },
+                Clock.systemUTC(),
+                new SpringShoppingTransactionRunner(context.getBean(PlatformTransactionManager.class)),
+                new ShoppingWriteMetrics(),
+                50,
+                new ShoppingChangeBroadcaster(ShoppingApplicationService.DEFAULT_CHANGE_BUFFER_CAPACITY)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void toggleSharedItem() {
+        UUID itemId = seedItemIds.get(ThreadLocalRandom.current().nextInt(SEED_ITEMS));
+        service.toggleShoppingItem(groupId, userId, listId, itemId);
+    }
+
+    @Benchmark
+    public AddShoppingItemOutput addAndRemoveItem() {
+        AddShoppingItemOutput added = service.addShoppingItem(
+                groupId,
+                userId,
+                listId,
+                "item " + addedNames.incrementAndGet()
+        );
+        service.removeShoppingItem(groupId, userId, listId, added.itemId());
+        return added;
+    }
+}
@@ -0,0 +1,195 @@
+package app.lifelinq.common;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Size-bounded cache whose entries each carry their own expiry. Lookups read a
+ * {@link ConcurrentHashMap} and stamp the entry's last access without taking a lock.
+ * Once the cache grows past its bound, a single thread trims it: it drops expired
+ * entries first, then the least recently used ones. In large caches that trim drops
+ * one sixteenth of the bound at a time, so the sort runs once per many inserts. Between
+ * a put and the trim the cache can briefly hold a few more entries than its bound.
+ *
+ * <p>Callers that load a value outside any lock read {@link #invalidationStamp()}
+ * before loading and store the result with {@link #putUnlessInvalidated}. A value
+ * loaded before a concurrent invalidation is then never cached.
+ */
+public final class BoundedCache<K, V> implements CacheStatistics {
+    private final int maxEntries;
+    private final int trimTarget;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock trimLock = new ReentrantLock();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxEntries, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        this.maxEntries = maxEntries;
+        this.trimTarget = maxEntries - maxEntries / 16;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the live value for {@code key} and counts a hit, or returns null and
+     * counts a miss. An expired entry is removed on the way.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && clock.millis() < entry.expiresAtMillis) {
+            entry.lastAccessNanos = System.nanoTime();
+            hits.increment();
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        store(key, value, expiresAtMillis);
+    }
+
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores {@code value} unless an invalidation has happened since {@code stamp} was
+     * read. Returns whether the value stayed in the cache.
+     */
+    public boolean putUnlessInvalidated(K key, V value, long expiresAtMillis, long stamp) {
+        if (invalidations.get() != stamp) {
+            return false;
+        }
+        Entry<V> stored = store(key, value, expiresAtMillis);
+        if (invalidations.get() != stamp) {
+            entries.remove(key, stored);
+            return false;
+        }
+        return true;
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry whose key matches. This walks the whole cache, so it suits
+     * invalidations that are rare next to lookups.
+     */
+    public void invalidateIf(Predicate<? super K> keyFilter) {
+        invalidations.incrementAndGet();
+        entries.keySet().removeIf(keyFilter);
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long putCount() {
+        return puts.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry<V> store(K key, V value, long expiresAtMillis) {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        Entry<V> entry = new Entry<>(value, expiresAtMillis, System.nanoTime());
+        entries.put(key, entry);
+        puts.increment();
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+        return entry;
+    }
+
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.millis();
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                if (now >= candidate.getValue().expiresAtMillis
+                        && entries.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+            int excess = entries.size() - trimTarget;
+            if (excess <= 0) {
+                return;
+            }
+            List<EvictionCandidate<K, V>> byLastAccess = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                Entry<V> entry = candidate.getValue();
+                byLastAccess.add(new EvictionCandidate<>(candidate.getKey(), entry, entry.lastAccessNanos));
+            }
+            byLastAccess.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+            for (int index = 0; index < byLastAccess.size() && excess > 0; index++) {
+                EvictionCandidate<K, V> candidate = byLastAccess.get(index);
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private record EvictionCandidate<K, V>(K key, Entry<V> entry, long lastAccessNanos) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+        private volatile long lastAccessNanos;
+
+        private Entry(V value, long expiresAtMillis, long lastAccessNanos) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package app.lifelinq.common;
+
+/**
+ * Running totals of one in-process cache, read by the metrics registry.
+ */
+public interface CacheStatistics {
+    long hitCount();
+
+    long missCount();
+
+    long putCount();
+
+    long evictionCount();
+
+    int size();
+}
@@ -0,0 +1,15 @@
+package app.lifelinq.common;
+
+import java.time.Instant;
+
+/**
+ * Removes rows that are past their retention window from one table, a bounded batch
+ * at a time. Implementations decide their own retention relative to {@code now}.
+ */
+public interface ExpiredRowPurger {
+    String name();
+
+    int purgeBatch(Instant now, int batchSize);
+
+    long countBacklog(Instant now);
+}
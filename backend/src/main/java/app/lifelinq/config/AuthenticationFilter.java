@@ -13,12 +13,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 public final class AuthenticationFilter extends OncePerRequestFilter {
     private final JwtVerifier jwtVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public AuthenticationFilter(JwtVerifier jwtVerifier) {
+        this(jwtVerifier, null);
+    }
+
+    public AuthenticationFilter(JwtVerifier jwtVerifier, VerifiedTokenCache verifiedTokenCache) {
         if (jwtVerifier == null) {
             throw new IllegalArgumentException("jwtVerifier must not be null");
         }
         this.jwtVerifier = jwtVerifier;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -58,7 +64,9 @@ public final class AuthenticationFilter extends OncePerRequestFilter {
 
         JwtClaims claims;
         try {
-            claims = jwtVerifier.verify(token);
+            claims = verifiedTokenCache != null
+                    ? verifiedTokenCache.verify(token, jwtVerifier)
+                    : jwtVerifier.verify(token);
         } catch (JwtValidationException ex) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
@@ -0,0 +1,89 @@
+package app.lifelinq.config;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically trims tables that only ever grow: expired auth tokens, sessions and
+ * magic-link challenges, and expired invitations. Each table is purged in batches of
+ * at most {@code batchSize} rows, each in its own transaction, and a run stops after
+ * {@code maxBatchesPerRun} batches so a large backlog is worked off over several runs
+ * instead of holding locks for one long one.
+ */
+public final class ExpiredDataReaper {
+    private static final Logger log = LoggerFactory.getLogger(ExpiredDataReaper.class);
+
+    private final List<ExpiredRowPurger> purgers;
+    private final ExpiredDataReaperMetrics metrics;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ExpiredDataReaper(
+            List<ExpiredRowPurger> purgers,
+            ExpiredDataReaperMetrics metrics,
+            Clock clock,
+            int batchSize,
+            int maxBatchesPerRun
+    ) {
+        if (purgers == null) {
+            throw new IllegalArgumentException("purgers must not be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("maxBatchesPerRun must be at least 1");
+        }
+        this.purgers = List.copyOf(purgers);
+        this.metrics = metrics;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(
+            initialDelayString = "${lifelinq.maintenance.reaper.initialDelay:PT1M}",
+            fixedDelayString = "${lifelinq.maintenance.reaper.fixedDelay:PT10M}"
+    )
+    public void run() {
+        Instant now = clock.instant();
+        for (ExpiredRowPurger purger : purgers) {
+            try {
+                purge(purger, now);
+            } catch (RuntimeException ex) {
+                metrics.recordFailure(purger.name());
+                log.warn("Purging expired rows from {} failed", purger.name(), ex);
+            }
+        }
+    }
+
+    private void purge(ExpiredRowPurger purger, Instant now) {
+        long startedAt = System.nanoTime();
+        long deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int batchDeleted = purger.purgeBatch(now, batchSize);
+            deleted += batchDeleted;
+            if (batchDeleted < batchSize) {
+                break;
+            }
+        }
+        long backlog = purger.countBacklog(now);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        metrics.recordRun(purger.name(), deleted, backlog, elapsedMillis);
+        if (deleted > 0 || backlog > 0) {
+            log.info("Purged {} expired rows from {} in {} ms, {} remaining", deleted, purger.name(), elapsedMillis, backlog);
+        }
+    }
+}
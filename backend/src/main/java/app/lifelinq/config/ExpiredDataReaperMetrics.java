@@ -0,0 +1,62 @@
+package app.lifelinq.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ExpiredDataReaperMetrics {
+    private final Map<String, TableMetrics> tables = new ConcurrentHashMap<>();
+
+    void recordRun(String table, long deleted, long backlog, long elapsedMillis) {
+        TableMetrics metrics = tables.computeIfAbsent(table, ignored -> new TableMetrics());
+        metrics.runs.increment();
+        metrics.deleted.add(deleted);
+        metrics.lastRunDeleted.set(deleted);
+        metrics.backlog.set(backlog);
+        metrics.lastRunMillis.set(elapsedMillis);
+    }
+
+    void recordFailure(String table) {
+        tables.computeIfAbsent(table, ignored -> new TableMetrics()).failures.increment();
+    }
+
+    public long deletedCount(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.deleted.sum();
+    }
+
+    public long lastRunDeletedCount(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.lastRunDeleted.get();
+    }
+
+    public long backlog(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.backlog.get();
+    }
+
+    public long lastRunMillis(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.lastRunMillis.get();
+    }
+
+    public long runCount(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.runs.sum();
+    }
+
+    public long failureCount(String table) {
+        TableMetrics metrics = tables.get(table);
+        return metrics == null ? 0 : metrics.failures.sum();
+    }
+
+    private static final class TableMetrics {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder deleted = new LongAdder();
+        private final AtomicLong lastRunDeleted = new AtomicLong();
+        private final AtomicLong backlog = new AtomicLong();
+        private final AtomicLong lastRunMillis = new AtomicLong();
+    }
+}
@@ -1,24 +1,26 @@
 package app.lifelinq.config;
 
-import app.lifelinq.features.user.domain.UserRepository;
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
+import app.lifelinq.features.user.contract.UserActiveGroupView;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 public final class GroupContextFilter extends OncePerRequestFilter {
-    private final UserRepository userRepository;
+    private final UserActiveGroupLookup activeGroupLookup;
 
-    public GroupContextFilter(UserRepository userRepository) {
-        if (userRepository == null) {
-            throw new IllegalArgumentException("userRepository must not be null");
+    public GroupContextFilter(UserActiveGroupLookup activeGroupLookup) {
+        if (activeGroupLookup == null) {
+            throw new IllegalArgumentException("activeGroupLookup must not be null");
         }
-        this.userRepository = userRepository;
+        this.activeGroupLookup = activeGroupLookup;
     }
 
     @Override
@@ -64,15 +66,15 @@ public final class GroupContextFilter extends OncePerRequestFilter {
                 return;
             }
 
-            var user = userRepository.findById(userId);
-            if (user.isEmpty()) {
+            Optional<UserActiveGroupView> activeGroup = activeGroupLookup.findActiveGroup(userId);
+            if (activeGroup.isEmpty()) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
             RequestContext context = new RequestContext();
             context.setUserId(userId);
-            context.setGroupId(user.get().getActiveGroupId());
+            context.setGroupId(activeGroup.get().groupId());
             RequestContextHolder.set(context);
             filterChain.doFilter(request, response);
         } finally {
@@ -5,10 +5,16 @@ import java.util.UUID;
 public final class JwtClaims {
     private final UUID groupId;
     private final UUID userId;
+    private final long expiresAtEpochSecond;
 
     public JwtClaims(UUID groupId, UUID userId) {
+        this(groupId, userId, 0L);
+    }
+
+    public JwtClaims(UUID groupId, UUID userId, long expiresAtEpochSecond) {
         this.groupId = groupId;
         this.userId = userId;
+        this.expiresAtEpochSecond = expiresAtEpochSecond;
     }
 
     public UUID getGroupId() {
@@ -18,4 +24,8 @@ public final class JwtClaims {
     public UUID getUserId() {
         return userId;
     }
+
+    public long getExpiresAtEpochSecond() {
+        return expiresAtEpochSecond;
+    }
 }
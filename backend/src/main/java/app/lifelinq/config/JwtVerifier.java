@@ -1,25 +1,39 @@
 package app.lifelinq.config;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.time.Instant;
-import java.util.Base64;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.UUID;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Verifies the HS256 tokens issued by {@link JwtSigner}. This runs on every
+ * authenticated request, so it works on the raw token bytes: the parts are
+ * base64url-decoded into per-thread buffers, the signature is checked with a
+ * per-thread pre-keyed Mac, and claims are read by a single scan of the decoded
+ * bytes instead of per-claim regexes.
+ */
 public final class JwtVerifier {
-    private static final Pattern STRING_CLAIM = Pattern.compile("\"%s\"\\s*:\\s*\"([^\"]+)\"");
-    private static final Pattern NUMBER_CLAIM = Pattern.compile("\"%s\"\\s*:\\s*(\\d+)");
-    private final byte[] secret;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MAX_ENCODED_SIGNATURE_LENGTH = 44;
+    private static final byte[] ALG_KEY = quotedKey("alg");
+    private static final byte[] GROUP_ID_KEY = quotedKey("groupId");
+    private static final byte[] USER_ID_KEY = quotedKey("userId");
+    private static final byte[] EXP_KEY = quotedKey("exp");
+    private static final byte[] HS256 = "HS256".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64_URL_VALUES = base64UrlValues();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Buffers> buffers;
 
     public JwtVerifier(String secret) {
         if (secret == null || secret.isBlank()) {
             throw new IllegalArgumentException("JWT secret must not be blank");
         }
-        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(newMac()));
     }
 
     public JwtClaims verify(String token) {
@@ -27,109 +41,328 @@ public final class JwtVerifier {
             throw new JwtValidationException("Missing token");
         }
 
-        String[] parts = token.split("\\.");
-        if (parts.length != 3) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
             throw new JwtValidationException("Invalid token format");
         }
 
-        String headerJson = decodeJson(parts[0]);
-        String alg = extractStringClaim(headerJson, "alg");
-        if (!"HS256".equals(alg)) {
+        Buffers buffers = this.buffers.get();
+        int length = token.length();
+        byte[] raw = buffers.raw(length);
+        for (int index = 0; index < length; index++) {
+            char ch = token.charAt(index);
+            if (ch > 0x7F) {
+                throw new JwtValidationException("Invalid token payload");
+            }
+            raw[index] = (byte) ch;
+        }
+
+        byte[] header = buffers.decoded(headerEnd);
+        int headerLength = decodeBase64Url(raw, 0, headerEnd, header);
+        if (headerLength < 0) {
+            throw new JwtValidationException("Invalid token payload");
+        }
+        int alg = findStringValue(header, headerLength, ALG_KEY);
+        if (alg < 0) {
+            throw new JwtValidationException("Missing claim: alg");
+        }
+        if (!valueEquals(header, alg, HS256)) {
             throw new JwtValidationException("Unsupported alg");
         }
 
-        verifySignature(parts[0], parts[1], parts[2]);
+        verifySignature(buffers, raw, payloadEnd, length);
 
-        String payloadJson = decodeJson(parts[1]);
-        UUID groupId = parseOptionalUuidClaim(payloadJson, "groupId");
-        UUID userId = parseRequiredUuidClaim(payloadJson, "userId");
-        long exp = parseExp(payloadJson);
-        if (Instant.now().getEpochSecond() >= exp) {
+        byte[] payload = buffers.decoded(payloadEnd - headerEnd - 1);
+        int payloadLength = decodeBase64Url(raw, headerEnd + 1, payloadEnd, payload);
+        if (payloadLength < 0) {
+            throw new JwtValidationException("Invalid token payload");
+        }
+        UUID groupId = null;
+        int groupIdStart = findStringValue(payload, payloadLength, GROUP_ID_KEY);
+        if (groupIdStart >= 0) {
+            groupId = parseUuid(payload, groupIdStart, "groupId");
+        }
+        int userIdStart = findStringValue(payload, payloadLength, USER_ID_KEY);
+        if (userIdStart < 0) {
+            throw new JwtValidationException("Missing claim: userId");
+        }
+        UUID userId = parseUuid(payload, userIdStart, "userId");
+        long exp = parseExp(payload, payloadLength);
+        if (System.currentTimeMillis() / 1000 >= exp) {
             throw new JwtValidationException("Token expired");
         }
 
-        return new JwtClaims(groupId, userId);
+        return new JwtClaims(groupId, userId, exp);
     }
 
-    private String decodeJson(String part) {
-        try {
-            byte[] decoded = Base64.getUrlDecoder().decode(part);
-            return new String(decoded, StandardCharsets.UTF_8);
-        } catch (Exception ex) {
-            throw new JwtValidationException("Invalid token payload", ex);
+    private void verifySignature(Buffers buffers, byte[] raw, int signedLength, int tokenLength) {
+        if (tokenLength - signedLength - 1 > MAX_ENCODED_SIGNATURE_LENGTH) {
+            throw new JwtValidationException("Invalid signature");
+        }
+        int signatureLength = decodeBase64Url(raw, signedLength + 1, tokenLength, buffers.signature);
+        if (signatureLength < 0) {
+            throw new JwtValidationException("Signature verification failed");
         }
-    }
-
-    private void verifySignature(String header, String payload, String signaturePart) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
-            byte[] signed = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8));
-            byte[] provided = Base64.getUrlDecoder().decode(signaturePart);
-            if (!MessageDigest.isEqual(signed, provided)) {
-                throw new JwtValidationException("Invalid signature");
-            }
-        } catch (JwtValidationException ex) {
-            throw ex;
-        } catch (Exception ex) {
+            buffers.mac.update(raw, 0, signedLength);
+            buffers.mac.doFinal(buffers.expected, 0);
+        } catch (GeneralSecurityException ex) {
             throw new JwtValidationException("Signature verification failed", ex);
         }
+        if (signatureLength != SIGNATURE_LENGTH) {
+            throw new JwtValidationException("Invalid signature");
+        }
+        int difference = 0;
+        for (int index = 0; index < SIGNATURE_LENGTH; index++) {
+            difference |= buffers.expected[index] ^ buffers.signature[index];
+        }
+        if (difference != 0) {
+            throw new JwtValidationException("Invalid signature");
+        }
     }
 
-    private UUID parseRequiredUuidClaim(String payloadJson, String name) {
-        String value = extractStringClaim(payloadJson, name);
+    private UUID parseUuid(byte[] json, int start, String name) {
+        int end = valueEnd(json, start);
+        if (end - start == 36 && isCanonicalUuid(json, start)) {
+            long mostSignificant = parseHex(json, start, start + 8) << 32
+                    | parseHex(json, start + 9, start + 13) << 16
+                    | parseHex(json, start + 14, start + 18);
+            long leastSignificant = parseHex(json, start + 19, start + 23) << 48
+                    | parseHex(json, start + 24, start + 36);
+            return new UUID(mostSignificant, leastSignificant);
+        }
         try {
-            return UUID.fromString(value);
+            return UUID.fromString(new String(json, start, end - start, StandardCharsets.UTF_8));
         } catch (IllegalArgumentException ex) {
             throw new JwtValidationException("Invalid claim: " + name, ex);
         }
     }
 
-    private UUID parseOptionalUuidClaim(String payloadJson, String name) {
-        String value = extractOptionalStringClaim(payloadJson, name);
-        if (value == null) {
-            return null;
+    private long parseExp(byte[] json, int length) {
+        int start = findNumberValue(json, length, EXP_KEY);
+        if (start < 0) {
+            throw new JwtValidationException("Missing exp");
         }
-        try {
-            return UUID.fromString(value);
-        } catch (IllegalArgumentException ex) {
-            throw new JwtValidationException("Invalid claim: " + name, ex);
+        long value = 0;
+        for (int index = start; index < length && isDigit(json[index]); index++) {
+            int digit = json[index] - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw new JwtValidationException("Invalid exp");
+            }
+            value = value * 10 + digit;
         }
+        return value;
     }
 
-    private long parseExp(String payloadJson) {
-        String value = extractNumberClaim(payloadJson, "exp");
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException ex) {
-            throw new JwtValidationException("Invalid exp", ex);
+    /**
+     * Returns the start of the first {@code "key" : "value"} string value, with the same
+     * matching rules as the pattern {@code "key"\s*:\s*"([^"]+)"}, or -1 when absent.
+     */
+    private static int findStringValue(byte[] json, int length, byte[] key) {
+        for (int at = indexOf(json, length, key, 0); at >= 0; at = indexOf(json, length, key, at + 1)) {
+            int index = skipWhitespace(json, length, at + key.length);
+            if (index >= length || json[index] != ':') {
+                continue;
+            }
+            index = skipWhitespace(json, length, index + 1);
+            if (index >= length || json[index] != '"') {
+                continue;
+            }
+            int start = index + 1;
+            int end = start;
+            while (end < length && json[end] != '"') {
+                end++;
+            }
+            if (end < length && end > start) {
+                return start;
+            }
         }
+        return -1;
     }
 
-    private String extractStringClaim(String json, String name) {
-        Pattern pattern = Pattern.compile(String.format(STRING_CLAIM.pattern(), Pattern.quote(name)));
-        Matcher matcher = pattern.matcher(json);
-        if (!matcher.find()) {
-            throw new JwtValidationException("Missing claim: " + name);
+    private static int findNumberValue(byte[] json, int length, byte[] key) {
+        for (int at = indexOf(json, length, key, 0); at >= 0; at = indexOf(json, length, key, at + 1)) {
+            int index = skipWhitespace(json, length, at + key.length);
+            if (index >= length || json[index] != ':') {
+                continue;
+            }
+            index = skipWhitespace(json, length, index + 1);
+            if (index < length && isDigit(json[index])) {
+                return index;
+            }
         }
-        return matcher.group(1);
+        return -1;
     }
 
-    private String extractOptionalStringClaim(String json, String name) {
-        Pattern pattern = Pattern.compile(String.format(STRING_CLAIM.pattern(), Pattern.quote(name)));
-        Matcher matcher = pattern.matcher(json);
-        if (!matcher.find()) {
-            return null;
+    private static int indexOf(byte[] source, int length, byte[] target, int from) {
+        int last = length - target.length;
+        outer:
+        for (int index = from; index <= last; index++) {
+            for (int offset = 0; offset < target.length; offset++) {
+                if (source[index + offset] != target[offset]) {
+                    continue outer;
+                }
+            }
+            return index;
         }
-        return matcher.group(1);
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int length, int index) {
+        while (index < length) {
+            byte value = json[index];
+            if (value != ' ' && value != '\t' && value != '\n' && value != 0x0B && value != '\f' && value != '\r') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static int valueEnd(byte[] json, int start) {
+        int end = start;
+        while (json[end] != '"') {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean valueEquals(byte[] json, int start, byte[] expected) {
+        int end = valueEnd(json, start);
+        return end - start == expected.length && Arrays.equals(json, start, end, expected, 0, expected.length);
     }
 
-    private String extractNumberClaim(String json, String name) {
-        Pattern pattern = Pattern.compile(String.format(NUMBER_CLAIM.pattern(), Pattern.quote(name)));
-        Matcher matcher = pattern.matcher(json);
-        if (!matcher.find()) {
-            throw new JwtValidationException("Missing " + name);
+    private static long parseHex(byte[] json, int start, int end) {
+        long value = 0;
+        for (int index = start; index < end; index++) {
+            value = value << 4 | Character.digit(json[index], 16);
+        }
+        return value;
+    }
+
+    private static boolean isCanonicalUuid(byte[] json, int start) {
+        for (int offset = 0; offset < 36; offset++) {
+            byte value = json[start + offset];
+            if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                if (value != '-') {
+                    return false;
+                }
+            } else if (Character.digit(value, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+
+    /**
+     * Decodes base64url with the same acceptance rules as {@code Base64.getUrlDecoder()}
+     * and returns the decoded length, or -1 when the input is malformed.
+     */
+    private static int decodeBase64Url(byte[] source, int from, int to, byte[] target) {
+        int bits = 0;
+        int pending = 0;
+        int written = 0;
+        int index = from;
+        while (index < to) {
+            byte value = source[index];
+            if (value == '=') {
+                break;
+            }
+            int decoded = BASE64_URL_VALUES[value];
+            if (decoded < 0) {
+                return -1;
+            }
+            bits = bits << 6 | decoded;
+            pending++;
+            index++;
+            if (pending == 4) {
+                target[written++] = (byte) (bits >> 16);
+                target[written++] = (byte) (bits >> 8);
+                target[written++] = (byte) bits;
+                bits = 0;
+                pending = 0;
+            }
+        }
+        if (index < to) {
+            if (pending < 2) {
+                return -1;
+            }
+            index++;
+            if (pending == 2) {
+                if (index == to || source[index] != '=') {
+                    return -1;
+                }
+                index++;
+            }
+            if (index < to) {
+                return -1;
+            }
+        }
+        if (pending == 1) {
+            return -1;
+        }
+        if (pending == 2) {
+            target[written++] = (byte) (bits >> 4);
+        } else if (pending == 3) {
+            target[written++] = (byte) (bits >> 10);
+            target[written++] = (byte) (bits >> 2);
+        }
+        return written;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+
+    private static byte[] quotedKey(String name) {
+        return ("\"" + name + "\"").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] base64UrlValues() {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int index = 0; index < alphabet.length(); index++) {
+            values[alphabet.charAt(index)] = (byte) index;
+        }
+        return values;
+    }
+
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] signature = new byte[MAX_ENCODED_SIGNATURE_LENGTH];
+        private byte[] raw = new byte[512];
+        private byte[] decoded = new byte[512];
+
+        private Buffers(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] raw(int length) {
+            if (raw.length < length) {
+                raw = new byte[Math.max(length, raw.length * 2)];
+            }
+            return raw;
+        }
+
+        private byte[] decoded(int encodedLength) {
+            int length = encodedLength / 4 * 3 + 3;
+            if (decoded.length < length) {
+                decoded = new byte[Math.max(length, decoded.length * 2)];
+            }
+            return decoded;
         }
-        return matcher.group(1);
     }
 }
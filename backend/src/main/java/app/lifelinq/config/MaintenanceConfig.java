@@ -0,0 +1,68 @@
+package app.lifelinq.config;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "lifelinq.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class MaintenanceConfig {
+
+    @Bean
+    public ExpiredDataReaperMetrics expiredDataReaperMetrics() {
+        return new ExpiredDataReaperMetrics();
+    }
+
+    @Bean
+    public ExpiredDataReaper expiredDataReaper(
+            List<ExpiredRowPurger> purgers,
+            ExpiredDataReaperMetrics metrics,
+            Clock clock,
+            @Value("${lifelinq.maintenance.reaper.batchSize:500}") int batchSize,
+            @Value("${lifelinq.maintenance.reaper.maxBatchesPerRun:20}") int maxBatchesPerRun
+    ) {
+        return new ExpiredDataReaper(purgers, metrics, clock, batchSize, maxBatchesPerRun);
+    }
+
+    @Bean
+    public MeterBinder expiredDataReaperMeters(List<ExpiredRowPurger> purgers, ExpiredDataReaperMetrics metrics) {
+        return registry -> {
+            for (ExpiredRowPurger purger : purgers) {
+                String table = purger.name();
+                Tags tags = Tags.of("table", table);
+                FunctionCounter.builder("lifelinq.maintenance.reaper.runs", metrics, m -> m.runCount(table))
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("lifelinq.maintenance.reaper.failures", metrics, m -> m.failureCount(table))
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("lifelinq.maintenance.reaper.deleted", metrics, m -> m.deletedCount(table))
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("lifelinq.maintenance.reaper.backlog", metrics, m -> m.backlog(table))
+                        .tags(tags)
+                        .register(registry);
+                TimeGauge.builder(
+                                "lifelinq.maintenance.reaper.last.run",
+                                metrics,
+                                TimeUnit.MILLISECONDS,
+                                m -> m.lastRunMillis(table)
+                        )
+                        .tags(tags)
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package app.lifelinq.config;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 public final class RequestContext {
     private UUID groupId;
     private UUID userId;
+    private final Set<UUID> verifiedMemberGroupIds = new HashSet<>();
 
     public UUID getGroupId() {
         return groupId;
@@ -21,4 +24,12 @@ public final class RequestContext {
     public void setUserId(UUID userId) {
         this.userId = userId;
     }
+
+    public boolean isVerifiedMemberOf(UUID groupId) {
+        return verifiedMemberGroupIds.contains(groupId);
+    }
+
+    public void markVerifiedMemberOf(UUID groupId) {
+        verifiedMemberGroupIds.add(groupId);
+    }
 }
@@ -2,22 +2,60 @@ package app.lifelinq.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.annotation.Value;
-import app.lifelinq.features.user.domain.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.Clock;
+import java.util.Optional;
 
 @Configuration
 public class RequestContextConfig {
 
     @Bean
-    public AuthenticationFilter authenticationFilter(JwtVerifier jwtVerifier) {
-        return new AuthenticationFilter(jwtVerifier);
+    public AuthenticationFilter authenticationFilter(
+            JwtVerifier jwtVerifier,
+            Optional<VerifiedTokenCache> verifiedTokenCache
+    ) {
+        return new AuthenticationFilter(jwtVerifier, verifiedTokenCache.orElse(null));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.jwt.verifiedCache.enabled", havingValue = "true")
+    public VerifiedTokenCache verifiedTokenCache(
+            @Value("${lifelinq.jwt.verifiedCache.maxEntries:10000}") int maxEntries,
+            @Value("${lifelinq.jwt.verifiedCache.maxTtlSeconds:300}") long maxTtlSeconds,
+            Clock clock
+    ) {
+        return new VerifiedTokenCache(maxEntries, maxTtlSeconds, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.jwt.verifiedCache.enabled", havingValue = "true")
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return new CacheStatisticsMeterBinder(verifiedTokenCache, "jwt.verified-tokens");
+    }
+
+    @Bean
+    public GroupContextFilter groupContextFilter(UserActiveGroupLookup activeGroupLookup) {
+        return new GroupContextFilter(activeGroupLookup);
     }
 
     @Bean
-    public GroupContextFilter groupContextFilter(UserRepository userRepository) {
-        return new GroupContextFilter(userRepository);
+    public static BeanPostProcessor requestMemoizedGroupMemberCheckPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof EnsureGroupMemberUseCase check
+                        && !(bean instanceof RequestMemoizedGroupMemberCheck)) {
+                    return new RequestMemoizedGroupMemberCheck(check);
+                }
+                return bean;
+            }
+        };
     }
 
     @Bean
@@ -0,0 +1,35 @@
+package app.lifelinq.config;
+
+import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import java.util.UUID;
+
+/**
+ * Remembers successful membership checks for the request's own user on the current
+ * {@link RequestContext}, so the many checks one request makes against the same
+ * group cost a single membership query. Checks for other users, checks outside a
+ * request and denials always go to the delegate.
+ */
+public final class RequestMemoizedGroupMemberCheck implements EnsureGroupMemberUseCase {
+    private final EnsureGroupMemberUseCase delegate;
+
+    public RequestMemoizedGroupMemberCheck(EnsureGroupMemberUseCase delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate must not be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(UUID groupId, UUID actorUserId) {
+        RequestContext context = RequestContextHolder.getCurrent();
+        if (context == null || actorUserId == null || !actorUserId.equals(context.getUserId())) {
+            delegate.execute(groupId, actorUserId);
+            return;
+        }
+        if (groupId != null && context.isVerifiedMemberOf(groupId)) {
+            return;
+        }
+        delegate.execute(groupId, actorUserId);
+        context.markVerifiedMemberOf(groupId);
+    }
+}
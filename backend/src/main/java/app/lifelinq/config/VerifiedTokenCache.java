@@ -0,0 +1,115 @@
+package app.lifelinq.config;
+
+import app.lifelinq.common.BoundedCache;
+import app.lifelinq.common.CacheStatistics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+
+/**
+ * Remembers recently verified access tokens so repeat requests with the same token
+ * skip signature verification. Entries are keyed by a SHA-256 digest of the token,
+ * so raw tokens are never retained, and an entry never outlives the token's own
+ * {@code exp}. Lookups do not lock; a full cache drops expired and then least
+ * recently used tokens (see {@link BoundedCache}).
+ */
+public final class VerifiedTokenCache implements CacheStatistics {
+    private final long maxTtlSeconds;
+    private final Clock clock;
+    private final BoundedCache<TokenDigest, JwtClaims> entries;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    public VerifiedTokenCache(int maxEntries, long maxTtlSeconds, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        if (maxTtlSeconds < 1) {
+            throw new IllegalArgumentException("maxTtlSeconds must be at least 1");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.clock = clock;
+        this.entries = new BoundedCache<>(maxEntries, clock);
+    }
+
+    public JwtClaims verify(String token, JwtVerifier verifier) {
+        if (token == null || token.isBlank()) {
+            return verifier.verify(token);
+        }
+        TokenDigest digest = new TokenDigest(digests.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        JwtClaims cached = entries.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        long now = nowEpochSecond();
+        JwtClaims claims = verifier.verify(token);
+        long expiresAt = Math.min(claims.getExpiresAtEpochSecond(), now + maxTtlSeconds);
+        if (now < expiresAt) {
+            entries.put(digest, claims, expiresAt * 1000);
+        }
+        return claims;
+    }
+
+    @Override
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    @Override
+    public long putCount() {
+        return entries.putCount();
+    }
+
+    @Override
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private long nowEpochSecond() {
+        return clock.millis() / 1000;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record Entry(JwtClaims claims, long expiresAtEpochSecond) {
+    }
+
+    private static final class TokenDigest {
+        private final byte[] bytes;
+        private final int hash;
+
+        private TokenDigest(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TokenDigest digest && MessageDigest.isEqual(bytes, digest.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -9,7 +9,7 @@ import app.lifelinq.features.auth.domain.RefreshTokenRepository;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.ConcurrencyFailureException;
 
 final class RotateRefreshTokenUseCase {
     private static final String REPLAY_REASON = "REPLAY";
@@ -67,17 +67,12 @@ final class RotateRefreshTokenUseCase {
         if (currentToken.isExpired(now) || currentToken.isRevoked()) {
             throw new RefreshAuthenticationException("refresh token is invalid");
         }
-
-        UUID replacementId = UUID.randomUUID();
-        RefreshToken consumedToken;
-        try {
-            consumedToken = currentToken.replaceWith(replacementId, now);
-            refreshTokenRepository.save(consumedToken);
-        } catch (IllegalStateException | OptimisticLockingFailureException ex) {
+        if (currentToken.isUsed()) {
             revokeSessionForReplay(session, now);
             throw new RefreshAuthenticationException("refresh token is invalid");
         }
 
+        UUID replacementId = UUID.randomUUID();
         String nextPlaintext = refreshTokenGenerator.generate();
         String nextHash = refreshTokenHasher.hash(nextPlaintext);
         Instant nextIdleExpiry = min(now.plus(idleTtl), session.getAbsoluteExpiresAt());
@@ -92,7 +87,16 @@ final class RotateRefreshTokenUseCase {
                 null,
                 null
         );
-        refreshTokenRepository.save(replacementToken);
+        boolean replaced;
+        try {
+            replaced = refreshTokenRepository.replace(currentToken.getId(), replacementToken, now);
+        } catch (ConcurrencyFailureException ex) {
+            replaced = false;
+        }
+        if (!replaced) {
+            revokeSessionForReplay(session, now);
+            throw new RefreshAuthenticationException("refresh token is invalid");
+        }
         return new RotateRefreshTokenResult(session.getUserId(), nextPlaintext);
     }
 
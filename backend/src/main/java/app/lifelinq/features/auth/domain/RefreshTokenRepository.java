@@ -1,5 +1,6 @@
 package app.lifelinq.features.auth.domain;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +10,25 @@ public interface RefreshTokenRepository {
     Optional<RefreshToken> findById(UUID id);
 
     Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks the token as replaced by {@code replacement} and stores the replacement, but
+     * only if the token is still unused, unrevoked and not expired at {@code now}.
+     * Returns false when another rotation or a revocation got there first.
+     */
+    default boolean replace(UUID tokenId, RefreshToken replacement, Instant now) {
+        Optional<RefreshToken> current = findById(tokenId);
+        if (current.isEmpty()) {
+            return false;
+        }
+        RefreshToken consumed;
+        try {
+            consumed = current.get().replaceWith(replacement.getId(), now);
+        } catch (IllegalStateException ex) {
+            return false;
+        }
+        save(replacement);
+        save(consumed);
+        return true;
+    }
 }
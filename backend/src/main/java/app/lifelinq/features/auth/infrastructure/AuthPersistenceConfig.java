@@ -6,11 +6,17 @@ import app.lifelinq.features.auth.domain.RefreshSessionRepository;
 import app.lifelinq.features.auth.domain.RefreshTokenGenerator;
 import app.lifelinq.features.auth.domain.RefreshTokenHasher;
 import app.lifelinq.features.auth.domain.RefreshTokenRepository;
+import app.lifelinq.features.mail.contract.QueuedMailSender;
+import java.time.Duration;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSender;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class AuthPersistenceConfig {
@@ -56,6 +62,39 @@ public class AuthPersistenceConfig {
         return new JpaRefreshTokenRepositoryAdapter(tokenRepository, sessionRepository);
     }
 
+    @Bean
+    public ExpiredMagicLinkChallengePurger expiredMagicLinkChallengePurger(
+            MagicLinkChallengeJpaRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${lifelinq.maintenance.retention.magicLinkChallengesSeconds:86400}") long retentionSeconds
+    ) {
+        return new ExpiredMagicLinkChallengePurger(repository, new TransactionTemplate(transactionManager), Duration.ofSeconds(retentionSeconds));
+    }
+
+    @Bean
+    public ExpiredRefreshTokenPurger expiredRefreshTokenPurger(
+            JpaRefreshTokenRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${lifelinq.maintenance.retention.refreshTokensSeconds:604800}") long retentionSeconds
+    ) {
+        return new ExpiredRefreshTokenPurger(repository, new TransactionTemplate(transactionManager), Duration.ofSeconds(retentionSeconds));
+    }
+
+    @Bean
+    public ExpiredRefreshSessionPurger expiredRefreshSessionPurger(
+            JpaRefreshSessionRepository sessionRepository,
+            JpaRefreshTokenRepository tokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${lifelinq.maintenance.retention.refreshSessionsSeconds:604800}") long retentionSeconds
+    ) {
+        return new ExpiredRefreshSessionPurger(
+                sessionRepository,
+                tokenRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ofSeconds(retentionSeconds)
+        );
+    }
+
     @Bean
     public MagicLinkTokenGenerator magicLinkTokenGenerator() {
         return new SecureMagicLinkTokenGenerator();
@@ -77,11 +116,13 @@ public class AuthPersistenceConfig {
     @Profile("dev")
     public AuthMailSender authMailSender(
             JavaMailSender mailSender,
+            Optional<QueuedMailSender> queuedMailSender,
             @Value("${lifelinq.auth.mail.from:}") String configuredFrom,
             @Value("${spring.mail.username:}") String smtpUsername
     ) {
         String fromAddress = configuredFrom != null && !configuredFrom.isBlank() ? configuredFrom : smtpUsername;
-        return new SmtpAuthMailSender(mailSender, fromAddress);
+        MailSender transport = queuedMailSender.isPresent() ? queuedMailSender.get() : mailSender;
+        return new SmtpAuthMailSender(transport, fromAddress);
     }
 
     @Bean
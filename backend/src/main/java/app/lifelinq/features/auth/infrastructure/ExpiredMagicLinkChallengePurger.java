@@ -0,0 +1,54 @@
+package app.lifelinq.features.auth.infrastructure;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public final class ExpiredMagicLinkChallengePurger implements ExpiredRowPurger {
+    private final MagicLinkChallengeJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public ExpiredMagicLinkChallengePurger(
+            MagicLinkChallengeJpaRepository repository,
+            TransactionTemplate transactionTemplate,
+            Duration retention
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("transactionTemplate must not be null");
+        }
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("retention must not be negative");
+        }
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "auth_magic_link_challenges";
+    }
+
+    @Override
+    public int purgeBatch(Instant now, int batchSize) {
+        Instant cutoff = now.minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<UUID> ids = repository.findIdsExpiredBefore(cutoff, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : repository.deleteByIdIn(ids);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    @Override
+    public long countBacklog(Instant now) {
+        return repository.countByExpiresAtBefore(now.minus(retention));
+    }
+}
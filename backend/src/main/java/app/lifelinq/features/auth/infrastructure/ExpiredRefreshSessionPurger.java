@@ -0,0 +1,68 @@
+package app.lifelinq.features.auth.infrastructure;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes refresh sessions past their absolute expiry together with their tokens, so
+ * the batch does not depend on the database cascading the foreign key.
+ */
+public final class ExpiredRefreshSessionPurger implements ExpiredRowPurger {
+    private final JpaRefreshSessionRepository repository;
+    private final JpaRefreshTokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public ExpiredRefreshSessionPurger(
+            JpaRefreshSessionRepository repository,
+            JpaRefreshTokenRepository tokenRepository,
+            TransactionTemplate transactionTemplate,
+            Duration retention
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (tokenRepository == null) {
+            throw new IllegalArgumentException("tokenRepository must not be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("transactionTemplate must not be null");
+        }
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("retention must not be negative");
+        }
+        this.repository = repository;
+        this.tokenRepository = tokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "auth_refresh_sessions";
+    }
+
+    @Override
+    public int purgeBatch(Instant now, int batchSize) {
+        Instant cutoff = now.minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<UUID> ids = repository.findIdsExpiredBefore(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            tokenRepository.deleteBySessionIdIn(ids);
+            return repository.deleteByIdIn(ids);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    @Override
+    public long countBacklog(Instant now) {
+        return repository.countByAbsoluteExpiresAtBefore(now.minus(retention));
+    }
+}
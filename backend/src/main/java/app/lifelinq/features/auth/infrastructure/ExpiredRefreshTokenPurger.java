@@ -0,0 +1,59 @@
+package app.lifelinq.features.auth.infrastructure;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes refresh tokens past their idle expiry. A token that a remaining token still
+ * points to through {@code replaced_by_token_id} is left for a later batch, after the
+ * older token referencing it has gone.
+ */
+public final class ExpiredRefreshTokenPurger implements ExpiredRowPurger {
+    private final JpaRefreshTokenRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public ExpiredRefreshTokenPurger(
+            JpaRefreshTokenRepository repository,
+            TransactionTemplate transactionTemplate,
+            Duration retention
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("transactionTemplate must not be null");
+        }
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("retention must not be negative");
+        }
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "auth_refresh_tokens";
+    }
+
+    @Override
+    public int purgeBatch(Instant now, int batchSize) {
+        Instant cutoff = now.minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<UUID> ids = repository.findUnreferencedIdsExpiredBefore(cutoff, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : repository.deleteByIdIn(ids);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    @Override
+    public long countBacklog(Instant now) {
+        return repository.countByIdleExpiresAtBefore(now.minus(retention));
+    }
+}
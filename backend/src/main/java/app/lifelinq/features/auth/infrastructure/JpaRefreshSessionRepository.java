@@ -1,8 +1,22 @@
 package app.lifelinq.features.auth.infrastructure;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaRefreshSessionRepository extends JpaRepository<RefreshSessionEntity, UUID> {
-}
+    @Query("select session.id from RefreshSessionEntity session where session.absoluteExpiresAt < :cutoff order by session.absoluteExpiresAt")
+    List<UUID> findIdsExpiredBefore(@Param("cutoff") Instant cutoff, Pageable page);
+
+    long countByAbsoluteExpiresAtBefore(Instant cutoff);
 
+    @Modifying
+    @Query("delete from RefreshSessionEntity session where session.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,10 +1,61 @@
 package app.lifelinq.features.auth.infrastructure;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+    @EntityGraph(attributePaths = "session")
     Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update RefreshTokenEntity token
+            set token.usedAt = :now,
+                token.replacedByTokenId = :replacementId,
+                token.version = token.version + 1
+            where token.id = :id
+              and token.replacedByTokenId is null
+              and token.revokedAt is null
+              and token.idleExpiresAt >= :now
+            """)
+    int markReplacedIfUnused(
+            @Param("id") UUID id,
+            @Param("replacementId") UUID replacementId,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity token where token.id = :id")
+    int deleteByIdDirectly(@Param("id") UUID id);
+
+    @Query("""
+            select token.id
+            from RefreshTokenEntity token
+            where token.idleExpiresAt < :cutoff
+              and not exists (
+                  select previous.id from RefreshTokenEntity previous where previous.replacedByTokenId = token.id
+              )
+            order by token.idleExpiresAt
+            """)
+    List<UUID> findUnreferencedIdsExpiredBefore(@Param("cutoff") Instant cutoff, Pageable page);
+
+    long countByIdleExpiresAtBefore(Instant cutoff);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity token where token.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity token where token.session.id in :sessionIds")
+    int deleteBySessionIdIn(@Param("sessionIds") Collection<UUID> sessionIds);
 }
 
@@ -2,6 +2,7 @@ package app.lifelinq.features.auth.infrastructure;
 
 import app.lifelinq.features.auth.domain.RefreshToken;
 import app.lifelinq.features.auth.domain.RefreshTokenRepository;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,6 +48,38 @@ public final class JpaRefreshTokenRepositoryAdapter implements RefreshTokenRepos
         return tokenRepository.findByTokenHash(tokenHash).map(this::toDomain);
     }
 
+    /**
+     * Inserts the replacement first so the consumed token's foreign key to it holds,
+     * then consumes the current token with one conditional UPDATE. Exactly one
+     * concurrent rotation of a token can match that UPDATE; the others remove the
+     * replacement they inserted and report the loss.
+     *
+     * <p>Folding both writes into one statement would need a data-modifying CTE
+     * ({@code with consumed as (update ... returning ...) insert ...}), which the H2
+     * database the adapter tests run on cannot parse. The conditional UPDATE is
+     * already the single point that decides the race, so the second round trip only
+     * costs latency, and a losing rotation's short-lived insert is undone in the same
+     * transaction.
+     */
+    @Override
+    public boolean replace(UUID tokenId, RefreshToken replacement, Instant now) {
+        if (tokenId == null) {
+            throw new IllegalArgumentException("tokenId must not be null");
+        }
+        if (replacement == null) {
+            throw new IllegalArgumentException("replacement must not be null");
+        }
+        if (now == null) {
+            throw new IllegalArgumentException("now must not be null");
+        }
+        tokenRepository.saveAndFlush(toEntity(replacement));
+        if (tokenRepository.markReplacedIfUnused(tokenId, replacement.getId(), now) == 1) {
+            return true;
+        }
+        tokenRepository.deleteByIdDirectly(replacement.getId());
+        return false;
+    }
+
     private RefreshTokenEntity toEntity(RefreshToken token) {
         RefreshSessionEntity sessionRef = sessionRepository.getReferenceById(token.getSessionId());
         return new RefreshTokenEntity(
@@ -1,12 +1,28 @@
 package app.lifelinq.features.auth.infrastructure;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MagicLinkChallengeJpaRepository extends JpaRepository<MagicLinkChallengeEntity, UUID> {
     Optional<MagicLinkChallengeEntity> findByToken(String token);
 
     boolean existsByToken(String token);
+
+    @Query("select challenge.id from MagicLinkChallengeEntity challenge where challenge.expiresAt < :cutoff order by challenge.expiresAt")
+    List<UUID> findIdsExpiredBefore(@Param("cutoff") Instant cutoff, Pageable page);
+
+    long countByExpiresAtBefore(Instant cutoff);
+
+    @Modifying
+    @Query("delete from MagicLinkChallengeEntity challenge where challenge.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
 
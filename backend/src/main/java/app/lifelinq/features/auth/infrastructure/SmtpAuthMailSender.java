@@ -1,14 +1,14 @@
 package app.lifelinq.features.auth.infrastructure;
 
 import app.lifelinq.features.auth.domain.AuthMailSender;
+import org.springframework.mail.MailSender;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 public final class SmtpAuthMailSender implements AuthMailSender {
-    private final JavaMailSender mailSender;
+    private final MailSender mailSender;
     private final String fromAddress;
 
-    public SmtpAuthMailSender(JavaMailSender mailSender, String fromAddress) {
+    public SmtpAuthMailSender(MailSender mailSender, String fromAddress) {
         if (mailSender == null) {
             throw new IllegalArgumentException("mailSender must not be null");
         }
@@ -78,8 +78,7 @@ final class CreateInvitationUseCase {
                         throw new IllegalStateException("active invitation already exists");
                     });
         } else {
-            Invitation activeLink = findActiveLink(command.getGroupId(), command.getNow());
-            if (activeLink != null) {
+            if (invitationRepository.findActiveLinkByGroupId(command.getGroupId(), command.getNow()).isPresent()) {
                 throw new IllegalStateException("active link invitation already exists");
             }
         }
@@ -109,10 +108,7 @@ final class CreateInvitationUseCase {
 
     private String generateUniqueToken() {
         for (int attempt = 0; attempt < MAX_TOKEN_ATTEMPTS; attempt++) {
-            String token = tokenGenerator.generate();
-            if (token == null || token.isBlank()) {
-                throw new IllegalArgumentException("generated token must not be blank");
-            }
+            String token = requireValidToken(tokenGenerator.generate());
             if (!invitationRepository.existsByToken(token)) {
                 return token;
             }
@@ -121,12 +117,11 @@ final class CreateInvitationUseCase {
     }
 
     private String generateUniqueShortCode() {
+        if (shortCodeGenerator.isCollisionFree()) {
+            return requireValidShortCode(shortCodeGenerator.generate());
+        }
         for (int attempt = 0; attempt < MAX_SHORT_CODE_ATTEMPTS; attempt++) {
-            String generated = shortCodeGenerator.generate();
-            if (generated == null || !generated.matches("^[A-Z0-9]{6}$")) {
-                throw new IllegalArgumentException("generated shortCode must match ^[A-Z0-9]{6}$");
-            }
-            String normalized = generated.toUpperCase(Locale.ROOT);
+            String normalized = requireValidShortCode(shortCodeGenerator.generate());
             if (!invitationRepository.existsByShortCode(normalized)) {
                 return normalized;
             }
@@ -134,14 +129,17 @@ final class CreateInvitationUseCase {
         throw new IllegalStateException("could not generate a unique shortCode");
     }
 
-    private Invitation findActiveLink(UUID groupId, Instant now) {
-        for (Invitation invitation : invitationRepository.findActive()) {
-            if (invitation.getType() == InvitationType.LINK
-                    && groupId.equals(invitation.getGroupId())
-                    && invitation.isAcceptAllowed(now)) {
-                return invitation;
-            }
+    private String requireValidToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("generated token must not be blank");
+        }
+        return token;
+    }
+
+    private String requireValidShortCode(String generated) {
+        if (generated == null || !generated.matches("^[A-Z0-9]{6}$")) {
+            throw new IllegalArgumentException("generated shortCode must match ^[A-Z0-9]{6}$");
         }
-        return null;
+        return generated.toUpperCase(Locale.ROOT);
     }
 }
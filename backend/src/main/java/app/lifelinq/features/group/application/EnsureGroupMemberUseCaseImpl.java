@@ -2,9 +2,7 @@ package app.lifelinq.features.group.application;
 
 import app.lifelinq.features.group.contract.AccessDeniedException;
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
-import app.lifelinq.features.group.domain.Membership;
 import app.lifelinq.features.group.domain.MembershipRepository;
-import java.util.List;
 import java.util.UUID;
 
 final class EnsureGroupMemberUseCaseImpl implements EnsureGroupMemberUseCase {
@@ -25,11 +23,8 @@ final class EnsureGroupMemberUseCaseImpl implements EnsureGroupMemberUseCase {
         if (actorUserId == null) {
             throw new IllegalArgumentException("actorUserId must not be null");
         }
-        List<Membership> memberships = membershipRepository.findByGroupId(groupId);
-        for (Membership membership : memberships) {
-            if (membership.getUserId().equals(actorUserId)) {
-                return;
-            }
+        if (membershipRepository.existsByGroupIdAndUserId(groupId, actorUserId)) {
+            return;
         }
         throw new AccessDeniedException("Actor is not a member of the group");
     }
@@ -1,9 +1,7 @@
 package app.lifelinq.features.group.application;
 
-import app.lifelinq.features.group.domain.Invitation;
 import app.lifelinq.features.group.domain.InvitationRepository;
 import java.time.Instant;
-import java.util.List;
 
 final class ExpireInvitationsUseCase {
     private final InvitationRepository invitationRepository;
@@ -24,17 +22,7 @@ final class ExpireInvitationsUseCase {
             throw new IllegalArgumentException("now must not be null");
         }
 
-        List<Invitation> active = invitationRepository.findActive();
-        int expiredCount = 0;
-        for (Invitation invitation : active) {
-            if (invitation == null) {
-                continue;
-            }
-            if (invitation.isExpired(now)) {
-                expiredCount++;
-            }
-        }
-
-        return new ExpireInvitationsResult(expiredCount);
+        long expiredCount = invitationRepository.countActiveExpiredAt(now);
+        return new ExpireInvitationsResult((int) Math.min(expiredCount, Integer.MAX_VALUE));
     }
 }
@@ -6,7 +6,8 @@ import app.lifelinq.features.group.domain.MembershipRepository;
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
 import app.lifelinq.features.group.contract.GroupFeatureInitializerPort;
 import app.lifelinq.features.group.contract.UserDefaultGroupProvisioning;
-import app.lifelinq.features.group.infrastructure.InMemoryInvitationShortCodeGenerator;
+import app.lifelinq.features.group.infrastructure.FeistelInvitationShortCodeGenerator;
+import app.lifelinq.features.group.infrastructure.InvitationShortCodeBlockSource;
 import app.lifelinq.features.group.infrastructure.UserDefaultGroupProvisioningAdapter;
 import app.lifelinq.features.user.contract.UserProvisioning;
 import app.lifelinq.features.user.contract.UserActiveGroupRead;
@@ -151,8 +152,12 @@ public class GroupApplicationConfig {
     }
 
     @Bean
-    public InvitationShortCodeGenerator invitationShortCodeGenerator() {
-        return new InMemoryInvitationShortCodeGenerator();
+    public InvitationShortCodeGenerator invitationShortCodeGenerator(
+            InvitationShortCodeBlockSource blockSource,
+            @Value("${lifelinq.group.invitation.shortCodeKey}") String key,
+            @Value("${lifelinq.group.invitation.shortCodeBlockSize:32}") int blockSize
+    ) {
+        return new FeistelInvitationShortCodeGenerator(blockSource, key, blockSize);
     }
 
     @Bean
@@ -21,8 +21,11 @@ import java.time.Instant;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -256,15 +259,8 @@ public class GroupApplicationService {
     public Optional<InvitationLookupView> getActiveLinkInvitation(UUID groupId, UUID actorUserId) {
         userProvisioning.ensureUserExists(actorUserId);
         ensureAdmin(groupId, actorUserId);
-        Instant now = clock.instant();
-        for (Invitation invitation : invitationRepository.findActive()) {
-            if (invitation.getType() == InvitationType.LINK
-                    && groupId.equals(invitation.getGroupId())
-                    && invitation.isAcceptAllowed(now)) {
-                return Optional.of(toInvitationLookupView(invitation));
-            }
-        }
-        return Optional.empty();
+        return invitationRepository.findActiveLinkByGroupId(groupId, clock.instant())
+                .map(this::toInvitationLookupView);
     }
 
     @Transactional(readOnly = true)
@@ -400,9 +396,23 @@ public class GroupApplicationService {
         ListGroupMembersResult result = listGroupMembersUseCase.execute(
                 new ListGroupMembersCommand(groupId)
         );
-        return result.getMembers().stream()
-                .map(this::toGroupMemberView)
-                .toList();
+        List<Membership> members = result.getMembers();
+        Set<UUID> userIds = new HashSet<>();
+        for (Membership membership : members) {
+            userIds.add(membership.getUserId());
+        }
+        Map<UUID, UserProfileView> profiles = userIds.isEmpty()
+                ? Map.of()
+                : userProfileRead.getProfiles(userIds);
+        List<GroupMemberView> views = new ArrayList<>(members.size());
+        for (Membership membership : members) {
+            views.add(new GroupMemberView(
+                    membership.getUserId(),
+                    membership.getRole(),
+                    displayName(profiles.get(membership.getUserId()))
+            ));
+        }
+        return views;
     }
 
     @Transactional
@@ -473,13 +483,11 @@ public class GroupApplicationService {
         );
     }
 
-    private GroupMemberView toGroupMemberView(Membership membership) {
-        String displayName = actorDisplayName(membership.getUserId());
-        return new GroupMemberView(membership.getUserId(), membership.getRole(), displayName);
+    private String actorDisplayName(UUID userId) {
+        return displayName(userProfileRead.getProfile(userId));
     }
 
-    private String actorDisplayName(UUID userId) {
-        UserProfileView profile = userProfileRead.getProfile(userId);
+    private static String displayName(UserProfileView profile) {
         if (profile == null
                 || profile.firstName() == null
                 || profile.lastName() == null
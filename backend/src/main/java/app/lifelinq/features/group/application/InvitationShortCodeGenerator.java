@@ -2,4 +2,12 @@ package app.lifelinq.features.group.application;
 
 public interface InvitationShortCodeGenerator {
     String generate();
+
+    /**
+     * Whether every generated code is distinct from all previously generated ones, so
+     * callers can skip checking the repository for an existing invitation with the code.
+     */
+    default boolean isCollisionFree() {
+        return false;
+    }
 }
@@ -1,5 +1,8 @@
 package app.lifelinq.features.group.domain;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,5 +11,13 @@ public interface GroupRepository {
 
     Optional<Group> findById(UUID id);
 
+    default List<Group> findByIds(Collection<UUID> ids) {
+        List<Group> result = new ArrayList<>();
+        for (UUID id : ids) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
     void deleteById(UUID id);
 }
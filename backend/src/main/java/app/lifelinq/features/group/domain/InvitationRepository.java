@@ -1,5 +1,6 @@
 package app.lifelinq.features.group.domain;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
@@ -19,5 +20,26 @@ public interface InvitationRepository {
 
     List<Invitation> findActive();
 
+    default long countActiveExpiredAt(Instant now) {
+        long count = 0;
+        for (Invitation invitation : findActive()) {
+            if (invitation != null && invitation.isExpired(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     Optional<Invitation> findActiveByGroupIdAndInviteeEmail(UUID groupId, String inviteeEmail);
+
+    default Optional<Invitation> findActiveLinkByGroupId(UUID groupId, Instant now) {
+        for (Invitation invitation : findActive()) {
+            if (invitation.getType() == InvitationType.LINK
+                    && groupId.equals(invitation.getGroupId())
+                    && invitation.isAcceptAllowed(now)) {
+                return Optional.of(invitation);
+            }
+        }
+        return Optional.empty();
+    }
 }
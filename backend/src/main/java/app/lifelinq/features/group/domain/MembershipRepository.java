@@ -8,6 +8,15 @@ public interface MembershipRepository {
 
     List<Membership> findByGroupId(UUID groupId);
 
+    default boolean existsByGroupIdAndUserId(UUID groupId, UUID userId) {
+        for (Membership membership : findByGroupId(groupId)) {
+            if (membership.getUserId().equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     List<Membership> findByUserId(UUID userId);
 
     List<UUID> findGroupIdsByUserId(UUID userId);
@@ -0,0 +1,63 @@
+package app.lifelinq.features.group.infrastructure;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import app.lifelinq.features.group.domain.InvitationStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes invitations that expired unused. Revoked and accepted invitations are kept
+ * as the group's audit trail, whatever their age.
+ */
+public final class ExpiredInvitationPurger implements ExpiredRowPurger {
+    private final InvitationJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public ExpiredInvitationPurger(
+            InvitationJpaRepository repository,
+            TransactionTemplate transactionTemplate,
+            Duration retention
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("transactionTemplate must not be null");
+        }
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("retention must not be negative");
+        }
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "invitations";
+    }
+
+    @Override
+    public int purgeBatch(Instant now, int batchSize) {
+        Instant cutoff = now.minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<UUID> ids = repository.findUnusedIdsExpiredBefore(cutoff, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : repository.deleteByIdIn(ids);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    @Override
+    public long countBacklog(Instant now) {
+        return repository.countByStatusAndUsageCountAndExpiresAtBefore(
+                InvitationStatus.ACTIVE,
+                0,
+                now.minus(retention)
+        );
+    }
+}
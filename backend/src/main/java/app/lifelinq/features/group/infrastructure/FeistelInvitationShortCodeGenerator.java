@@ -0,0 +1,118 @@
+package app.lifelinq.features.group.infrastructure;
+
+import app.lifelinq.features.group.application.InvitationShortCodeGenerator;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Allocates invitation short codes without probing the repository. Sequence numbers
+ * are reserved in blocks from an {@link InvitationShortCodeBlockSource} and mapped to
+ * codes by a keyed Feistel permutation of the 36^6 code space, split into two halves of
+ * 36^3. Because the permutation is a bijection, distinct sequence numbers always give
+ * distinct codes, while consecutive numbers still give unrelated-looking codes.
+ */
+public final class FeistelInvitationShortCodeGenerator implements InvitationShortCodeGenerator {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int LENGTH = 6;
+    static final int HALF = 36 * 36 * 36;
+    static final long KEYSPACE = (long) HALF * HALF;
+    static final int ROUNDS = 6;
+
+    private final InvitationShortCodeBlockSource blockSource;
+    private final int blockSize;
+    private final int[] roundKeys;
+    private long next;
+    private long blockEnd;
+
+    public FeistelInvitationShortCodeGenerator(
+            InvitationShortCodeBlockSource blockSource,
+            String key,
+            int blockSize
+    ) {
+        if (blockSource == null) {
+            throw new IllegalArgumentException("blockSource must not be null");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("key must not be blank");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+        this.roundKeys = roundKeys(key);
+    }
+
+    @Override
+    public synchronized String generate() {
+        if (next == blockEnd) {
+            next = blockSource.reserve(blockSize);
+            blockEnd = next + blockSize;
+        }
+        long sequence = next++;
+        if (sequence < 0 || sequence >= KEYSPACE) {
+            throw new IllegalStateException("invitation short code space is exhausted");
+        }
+        return encode(permute(sequence));
+    }
+
+    @Override
+    public boolean isCollisionFree() {
+        return true;
+    }
+
+    long permute(long value) {
+        int left = (int) (value / HALF);
+        int right = (int) (value % HALF);
+        for (int round = 0; round < ROUNDS; round++) {
+            int mixed = mix(round, left, right);
+            left = right;
+            right = mixed;
+        }
+        return (long) left * HALF + right;
+    }
+
+    /**
+     * One Feistel round: adds the keyed hash of {@code right} to {@code left} modulo
+     * 36^3. The hash is reduced first so the sum cannot overflow an int, which would
+     * break the round's bijectivity.
+     */
+    int mix(int round, int left, int right) {
+        return Math.floorMod(left + Math.floorMod(roundFunction(right, roundKeys[round]), HALF), HALF);
+    }
+
+    private static int roundFunction(int value, int key) {
+        int hash = value * 0x9E3779B1 ^ key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[LENGTH];
+        for (int index = LENGTH - 1; index >= 0; index--) {
+            chars[index] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(chars);
+    }
+
+    private static int[] roundKeys(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            int[] keys = new int[ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                keys[round] = buffer.getInt();
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -36,6 +36,11 @@ public class GroupInMemoryConfig {
         return new InMemoryInvitationTokenGenerator();
     }
 
+    @Bean
+    public InvitationShortCodeBlockSource invitationShortCodeBlockSource() {
+        return new InMemoryInvitationShortCodeBlockSource();
+    }
+
     @Bean
     public GroupInvitationMailSender groupInvitationMailSender() {
         return new NoOpGroupInvitationMailSender();
@@ -8,11 +8,17 @@ import app.lifelinq.features.group.application.InvitationTokenGenerator;
 import app.lifelinq.features.group.domain.GroupRepository;
 import app.lifelinq.features.group.domain.InvitationRepository;
 import app.lifelinq.features.group.domain.MembershipRepository;
+import app.lifelinq.features.mail.contract.QueuedMailSender;
+import java.time.Duration;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSender;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @Profile("persistence")
@@ -57,6 +63,23 @@ public class GroupPersistenceConfig {
         return new JpaInvitationRepositoryAdapter(invitationJpaRepository, invitationMapper);
     }
 
+    @Bean
+    public ExpiredInvitationPurger expiredInvitationPurger(
+            InvitationJpaRepository invitationJpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${lifelinq.maintenance.retention.invitationsSeconds:2592000}") long retentionSeconds
+    ) {
+        return new ExpiredInvitationPurger(invitationJpaRepository, new TransactionTemplate(transactionManager), Duration.ofSeconds(retentionSeconds));
+    }
+
+    @Bean
+    public InvitationShortCodeBlockSource invitationShortCodeBlockSource(
+            InvitationShortCodeCounterJpaRepository repository,
+            PlatformTransactionManager transactionManager
+    ) {
+        return new JpaInvitationShortCodeBlockSource(repository, transactionManager);
+    }
+
     @Bean
     public InvitationTokenGenerator invitationTokenGenerator() {
         return new InMemoryInvitationTokenGenerator();
@@ -66,11 +89,13 @@ public class GroupPersistenceConfig {
     @Profile("dev")
     public GroupInvitationMailSender groupInvitationMailSender(
             JavaMailSender mailSender,
+            Optional<QueuedMailSender> queuedMailSender,
             @Value("${lifelinq.auth.mail.from:}") String configuredFrom,
             @Value("${spring.mail.username:}") String smtpUsername
     ) {
         String fromAddress = configuredFrom != null && !configuredFrom.isBlank() ? configuredFrom : smtpUsername;
-        return new SmtpGroupInvitationMailSender(mailSender, fromAddress);
+        MailSender transport = queuedMailSender.isPresent() ? queuedMailSender.get() : mailSender;
+        return new SmtpGroupInvitationMailSender(transport, fromAddress);
     }
 
     @Bean
@@ -88,11 +113,8 @@ public class GroupPersistenceConfig {
     }
 
     @Bean
-    public UserGroupMembershipLookup userGroupMembershipLookup(
-            MembershipRepository membershipRepository,
-            GroupRepository groupRepository
-    ) {
-        return new UserGroupMembershipLookupAdapter(membershipRepository, groupRepository);
+    public UserGroupMembershipLookup userGroupMembershipLookup(MembershipJpaRepository membershipJpaRepository) {
+        return new JpaUserGroupMembershipLookupAdapter(membershipJpaRepository);
     }
 
     @Bean
@@ -0,0 +1,26 @@
+package app.lifelinq.features.group.infrastructure;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class InMemoryInvitationShortCodeBlockSource implements InvitationShortCodeBlockSource {
+    private final AtomicLong next;
+
+    public InMemoryInvitationShortCodeBlockSource() {
+        this(0);
+    }
+
+    public InMemoryInvitationShortCodeBlockSource(long start) {
+        if (start < 0) {
+            throw new IllegalArgumentException("start must not be negative");
+        }
+        this.next = new AtomicLong(start);
+    }
+
+    @Override
+    public long reserve(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        return next.getAndAdd(size);
+    }
+}
@@ -32,6 +32,22 @@ public final class InMemoryMembershipRepository implements MembershipRepository
         return result;
     }
 
+    @Override
+    public boolean existsByGroupIdAndUserId(UUID groupId, UUID userId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+        for (Membership membership : memberships) {
+            if (groupId.equals(membership.getGroupId()) && userId.equals(membership.getUserId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public List<Membership> findByUserId(UUID userId) {
         if (userId == null) {
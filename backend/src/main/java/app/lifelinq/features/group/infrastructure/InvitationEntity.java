@@ -16,7 +16,9 @@ import java.util.UUID;
 @Table(
         name = "invitations",
         indexes = {
-                @Index(name = "idx_invitation_group_email_status", columnList = "group_id,inviteeEmail,status")
+                @Index(name = "idx_invitation_group_email_status", columnList = "group_id,inviteeEmail,status"),
+                @Index(name = "idx_invitations_expires_at", columnList = "expiresAt"),
+                @Index(name = "idx_invitations_active_link_by_group", columnList = "group_id,expiresAt")
         }
 )
 public class InvitationEntity {
@@ -1,10 +1,16 @@
 package app.lifelinq.features.group.infrastructure;
 
 import app.lifelinq.features.group.domain.InvitationStatus;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface InvitationJpaRepository extends JpaRepository<InvitationEntity, UUID> {
     Optional<InvitationEntity> findByToken(String token);
@@ -17,9 +23,43 @@ public interface InvitationJpaRepository extends JpaRepository<InvitationEntity,
 
     List<InvitationEntity> findByStatus(InvitationStatus status);
 
-    Optional<InvitationEntity> findByGroupIdAndInviteeEmailAndStatus(
+    Optional<InvitationEntity> findFirstByGroupIdAndInviteeEmailAndStatusOrderByExpiresAtDesc(
             UUID groupId,
             String inviteeEmail,
             InvitationStatus status
     );
+
+    @Query("""
+            select invitation
+            from InvitationEntity invitation
+            where invitation.groupId = :groupId
+              and invitation.status = app.lifelinq.features.group.domain.InvitationStatus.ACTIVE
+              and invitation.type = app.lifelinq.features.group.domain.InvitationType.LINK
+              and invitation.expiresAt >= :now
+              and (invitation.maxUses is null or invitation.usageCount < invitation.maxUses)
+            order by invitation.expiresAt desc
+            """)
+    List<InvitationEntity> findAcceptableLinks(
+            @Param("groupId") UUID groupId,
+            @Param("now") Instant now,
+            Pageable page
+    );
+
+    long countByStatusAndExpiresAtBefore(InvitationStatus status, Instant cutoff);
+
+    @Query("""
+            select invitation.id
+            from InvitationEntity invitation
+            where invitation.status = app.lifelinq.features.group.domain.InvitationStatus.ACTIVE
+              and invitation.usageCount = 0
+              and invitation.expiresAt < :cutoff
+            order by invitation.expiresAt
+            """)
+    List<UUID> findUnusedIdsExpiredBefore(@Param("cutoff") Instant cutoff, Pageable page);
+
+    long countByStatusAndUsageCountAndExpiresAtBefore(InvitationStatus status, int usageCount, Instant cutoff);
+
+    @Modifying
+    @Query("delete from InvitationEntity invitation where invitation.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,10 @@
+package app.lifelinq.features.group.infrastructure;
+
+/**
+ * Hands out disjoint ranges of short-code sequence numbers. Each call reserves
+ * {@code size} consecutive numbers and returns the first one; a range is never handed
+ * out twice, even across restarts.
+ */
+public interface InvitationShortCodeBlockSource {
+    long reserve(int size);
+}
@@ -0,0 +1,32 @@
+package app.lifelinq.features.group.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "invitation_short_code_counter")
+public class InvitationShortCodeCounterEntity {
+    @Id
+    private short id;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    protected InvitationShortCodeCounterEntity() {
+    }
+
+    public InvitationShortCodeCounterEntity(short id, long nextValue) {
+        this.id = id;
+        this.nextValue = nextValue;
+    }
+
+    public short getId() {
+        return id;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+}
@@ -0,0 +1,19 @@
+package app.lifelinq.features.group.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InvitationShortCodeCounterJpaRepository extends JpaRepository<InvitationShortCodeCounterEntity, Short> {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InvitationShortCodeCounterEntity counter set counter.nextValue = counter.nextValue + :size where counter.id = :id")
+    int advance(@Param("id") short id, @Param("size") long size);
+
+    @Modifying
+    @Query(value = "insert into invitation_short_code_counter (id, next_value) values (:id, :nextValue)", nativeQuery = true)
+    int insert(@Param("id") short id, @Param("nextValue") long nextValue);
+
+    @Query("select counter.nextValue from InvitationShortCodeCounterEntity counter where counter.id = :id")
+    long findNextValue(@Param("id") short id);
+}
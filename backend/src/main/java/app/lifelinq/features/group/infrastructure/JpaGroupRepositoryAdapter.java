@@ -2,6 +2,9 @@ package app.lifelinq.features.group.infrastructure;
 
 import app.lifelinq.features.group.domain.Group;
 import app.lifelinq.features.group.domain.GroupRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +37,21 @@ public final class JpaGroupRepositoryAdapter implements GroupRepository {
         return groupJpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Group> findByIds(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("ids must not be null");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Group> result = new ArrayList<>();
+        for (GroupEntity entity : groupJpaRepository.findAllById(ids)) {
+            result.add(mapper.toDomain(entity));
+        }
+        return result;
+    }
+
     @Override
     public void deleteById(UUID id) {
         if (id == null) {
@@ -3,10 +3,12 @@ package app.lifelinq.features.group.infrastructure;
 import app.lifelinq.features.group.domain.Invitation;
 import app.lifelinq.features.group.domain.InvitationRepository;
 import app.lifelinq.features.group.domain.InvitationStatus;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 
 public final class JpaInvitationRepositoryAdapter implements InvitationRepository {
     private final InvitationJpaRepository invitationJpaRepository;
@@ -90,6 +92,14 @@ public final class JpaInvitationRepositoryAdapter implements InvitationRepositor
         return result;
     }
 
+    @Override
+    public long countActiveExpiredAt(Instant now) {
+        if (now == null) {
+            throw new IllegalArgumentException("now must not be null");
+        }
+        return invitationJpaRepository.countByStatusAndExpiresAtBefore(InvitationStatus.ACTIVE, now);
+    }
+
     @Override
     public Optional<Invitation> findActiveByGroupIdAndInviteeEmail(UUID groupId, String inviteeEmail) {
         if (groupId == null) {
@@ -99,7 +109,25 @@ public final class JpaInvitationRepositoryAdapter implements InvitationRepositor
             throw new IllegalArgumentException("inviteeEmail must not be blank");
         }
         return invitationJpaRepository
-                .findByGroupIdAndInviteeEmailAndStatus(groupId, inviteeEmail, InvitationStatus.ACTIVE)
+                .findFirstByGroupIdAndInviteeEmailAndStatusOrderByExpiresAtDesc(
+                        groupId,
+                        inviteeEmail,
+                        InvitationStatus.ACTIVE
+                )
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Invitation> findActiveLinkByGroupId(UUID groupId, Instant now) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (now == null) {
+            throw new IllegalArgumentException("now must not be null");
+        }
+        return invitationJpaRepository.findAcceptableLinks(groupId, now, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
                 .map(mapper::toDomain);
     }
 }
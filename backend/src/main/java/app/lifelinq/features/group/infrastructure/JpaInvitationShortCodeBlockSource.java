@@ -0,0 +1,57 @@
+package app.lifelinq.features.group.infrastructure;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reserves short-code ranges by advancing a single counter row. Each reservation commits
+ * in its own transaction, so a range stays used even when the invitation that triggered
+ * it rolls back; the gap only costs unused codes.
+ */
+public final class JpaInvitationShortCodeBlockSource implements InvitationShortCodeBlockSource {
+    private static final short COUNTER_ID = 1;
+
+    private final InvitationShortCodeCounterJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaInvitationShortCodeBlockSource(
+            InvitationShortCodeCounterJpaRepository repository,
+            PlatformTransactionManager transactionManager
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("transactionManager must not be null");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long reserve(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        try {
+            return reserveInNewTransaction(size);
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance created the counter row first; advance the row it created.
+            return reserveInNewTransaction(size);
+        }
+    }
+
+    private long reserveInNewTransaction(int size) {
+        Long start = transactionTemplate.execute(status -> {
+            if (repository.advance(COUNTER_ID, size) == 0) {
+                repository.insert(COUNTER_ID, size);
+                return 0L;
+            }
+            return repository.findNextValue(COUNTER_ID) - size;
+        });
+        return start == null ? 0 : start;
+    }
+}
@@ -39,6 +39,17 @@ public final class JpaMembershipRepositoryAdapter implements MembershipRepositor
         return result;
     }
 
+    @Override
+    public boolean existsByGroupIdAndUserId(UUID groupId, UUID userId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+        return membershipJpaRepository.existsById(new MembershipEntityId(groupId, userId));
+    }
+
     @Override
     public List<Membership> findByUserId(UUID userId) {
         if (userId == null) {
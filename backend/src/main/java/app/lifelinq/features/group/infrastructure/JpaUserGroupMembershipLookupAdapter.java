@@ -0,0 +1,42 @@
+package app.lifelinq.features.group.infrastructure;
+
+import app.lifelinq.features.group.contract.UserGroupMembershipLookup;
+import app.lifelinq.features.group.contract.UserGroupMembershipSummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads a user's memberships together with the group names in a single joined query,
+ * instead of loading each group separately.
+ */
+public final class JpaUserGroupMembershipLookupAdapter implements UserGroupMembershipLookup {
+    private final MembershipJpaRepository membershipJpaRepository;
+
+    public JpaUserGroupMembershipLookupAdapter(MembershipJpaRepository membershipJpaRepository) {
+        if (membershipJpaRepository == null) {
+            throw new IllegalArgumentException("membershipJpaRepository must not be null");
+        }
+        this.membershipJpaRepository = membershipJpaRepository;
+    }
+
+    @Override
+    public boolean isMember(UUID userId, UUID groupId) {
+        if (userId == null || groupId == null) {
+            throw new IllegalArgumentException("userId/groupId must not be null");
+        }
+        return membershipJpaRepository.existsById(new MembershipEntityId(groupId, userId));
+    }
+
+    @Override
+    public List<UserGroupMembershipSummary> listMemberships(UUID userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+        List<UserGroupMembershipSummary> summaries = new ArrayList<>();
+        for (UserGroupMembershipRow row : membershipJpaRepository.findMembershipRowsByUserId(userId)) {
+            summaries.add(new UserGroupMembershipSummary(row.groupId(), row.groupName(), row.role().name()));
+        }
+        return summaries;
+    }
+}
@@ -3,12 +3,26 @@ package app.lifelinq.features.group.infrastructure;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MembershipJpaRepository extends JpaRepository<MembershipEntity, MembershipEntityId> {
     List<MembershipEntity> findByIdGroupId(UUID groupId);
 
     List<MembershipEntity> findByIdUserId(UUID userId);
 
+    @Query("""
+            select new app.lifelinq.features.group.infrastructure.UserGroupMembershipRow(
+                membership.id.groupId,
+                groupEntity.name,
+                membership.role
+            )
+            from MembershipEntity membership
+            left join GroupEntity groupEntity on groupEntity.id = membership.id.groupId
+            where membership.id.userId = :userId
+            """)
+    List<UserGroupMembershipRow> findMembershipRowsByUserId(@Param("userId") UUID userId);
+
     long deleteByIdGroupIdAndIdUserId(UUID groupId, UUID userId);
 
     long deleteByIdGroupId(UUID groupId);
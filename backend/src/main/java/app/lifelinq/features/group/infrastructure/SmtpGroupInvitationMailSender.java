@@ -2,14 +2,14 @@ package app.lifelinq.features.group.infrastructure;
 
 import app.lifelinq.features.group.application.GroupInvitationMailSender;
 import java.time.Instant;
+import org.springframework.mail.MailSender;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 public final class SmtpGroupInvitationMailSender implements GroupInvitationMailSender {
-    private final JavaMailSender mailSender;
+    private final MailSender mailSender;
     private final String fromAddress;
 
-    public SmtpGroupInvitationMailSender(JavaMailSender mailSender, String fromAddress) {
+    public SmtpGroupInvitationMailSender(MailSender mailSender, String fromAddress) {
         if (mailSender == null) {
             throw new IllegalArgumentException("mailSender must not be null");
         }
@@ -5,8 +5,13 @@ import app.lifelinq.features.group.contract.UserGroupMembershipSummary;
 import app.lifelinq.features.group.domain.GroupRepository;
 import app.lifelinq.features.group.domain.Membership;
 import app.lifelinq.features.group.domain.MembershipRepository;
+import app.lifelinq.features.group.domain.Group;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public final class UserGroupMembershipLookupAdapter implements UserGroupMembershipLookup {
@@ -42,14 +47,22 @@ public final class UserGroupMembershipLookupAdapter implements UserGroupMembersh
         if (userId == null) {
             throw new IllegalArgumentException("userId must not be null");
         }
+        List<Membership> memberships = membershipRepository.findByUserId(userId);
+        Set<UUID> groupIds = new LinkedHashSet<>();
+        for (Membership membership : memberships) {
+            groupIds.add(membership.getGroupId());
+        }
+        Map<UUID, String> groupNames = new HashMap<>();
+        if (!groupIds.isEmpty()) {
+            for (Group group : groupRepository.findByIds(groupIds)) {
+                groupNames.put(group.getId(), group.getName());
+            }
+        }
         List<UserGroupMembershipSummary> summaries = new ArrayList<>();
-        for (Membership membership : membershipRepository.findByUserId(userId)) {
-            String groupName = groupRepository.findById(membership.getGroupId())
-                    .map(group -> group.getName())
-                    .orElse(null);
+        for (Membership membership : memberships) {
             summaries.add(new UserGroupMembershipSummary(
                     membership.getGroupId(),
-                    groupName,
+                    groupNames.get(membership.getGroupId()),
                     membership.getRole().name()
             ));
         }
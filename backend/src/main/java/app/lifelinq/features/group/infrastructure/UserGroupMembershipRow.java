@@ -0,0 +1,10 @@
+package app.lifelinq.features.group.infrastructure;
+
+import app.lifelinq.features.group.domain.GroupRole;
+import java.util.UUID;
+
+public record UserGroupMembershipRow(
+        UUID groupId,
+        String groupName,
+        GroupRole role
+) {}
@@ -0,0 +1,74 @@
+package app.lifelinq.features.mail.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class MailOutboxMetrics {
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    public void recordEnqueued() {
+        enqueued.increment();
+    }
+
+    public void recordBatch() {
+        batches.increment();
+    }
+
+    public void recordSent(long latencyMillis) {
+        sent.increment();
+        totalLatencyMillis.add(latencyMillis);
+        maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordFailed() {
+        failed.increment();
+    }
+
+    public void recordQueueDepth(long depth) {
+        queueDepth.set(depth);
+    }
+
+    public long enqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long queueDepth() {
+        return queueDepth.get();
+    }
+
+    public long averageLatencyMillis() {
+        long count = sent.sum();
+        return count == 0 ? 0 : totalLatencyMillis.sum() / count;
+    }
+
+    public long maxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+}
@@ -0,0 +1,11 @@
+package app.lifelinq.features.mail.contract;
+
+import org.springframework.mail.MailSender;
+
+/**
+ * Outgoing mail transport that queues messages in the mail outbox and delivers them off
+ * the request path. Only present when the outbox is enabled; features fall back to
+ * sending through SMTP directly otherwise.
+ */
+public interface QueuedMailSender extends MailSender {
+}
@@ -0,0 +1,30 @@
+package app.lifelinq.features.mail.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record MailOutboxRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+    public MailOutboxRetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("initialBackoff must be positive");
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must not be shorter than initialBackoff");
+        }
+    }
+
+    public boolean isExhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    public Instant nextAttemptAt(Instant now, int attempts) {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; attempt < attempts && backoff.compareTo(maxBackoff) < 0; attempt++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+}
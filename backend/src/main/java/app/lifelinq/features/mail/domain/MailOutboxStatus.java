@@ -0,0 +1,6 @@
+package app.lifelinq.features.mail.domain;
+
+public enum MailOutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,103 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import app.lifelinq.features.mail.application.MailOutboxMetrics;
+import app.lifelinq.features.mail.domain.MailOutboxRetryPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@ConditionalOnProperty(name = "lifelinq.mail.outbox.enabled", havingValue = "true")
+public class MailOutboxConfig {
+
+    @Bean
+    public MailOutboxMetrics mailOutboxMetrics() {
+        return new MailOutboxMetrics();
+    }
+
+    @Bean
+    public MeterBinder mailOutboxMeters(MailOutboxMetrics metrics) {
+        return registry -> {
+            FunctionCounter.builder("lifelinq.mail.outbox.enqueued", metrics, MailOutboxMetrics::enqueuedCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.mail.outbox.sent", metrics, MailOutboxMetrics::sentCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.mail.outbox.retries", metrics, MailOutboxMetrics::retryCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.mail.outbox.failed", metrics, MailOutboxMetrics::failedCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.mail.outbox.batches", metrics, MailOutboxMetrics::batchCount)
+                    .register(registry);
+            Gauge.builder("lifelinq.mail.outbox.queue.depth", metrics, MailOutboxMetrics::queueDepth)
+                    .register(registry);
+            TimeGauge.builder(
+                            "lifelinq.mail.outbox.latency.average",
+                            metrics,
+                            TimeUnit.MILLISECONDS,
+                            MailOutboxMetrics::averageLatencyMillis
+                    )
+                    .register(registry);
+            TimeGauge.builder(
+                            "lifelinq.mail.outbox.latency.max",
+                            metrics,
+                            TimeUnit.MILLISECONDS,
+                            MailOutboxMetrics::maxLatencyMillis
+                    )
+                    .register(registry);
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public MailOutboxDispatcher mailOutboxDispatcher(
+            MailOutboxJpaRepository repository,
+            JavaMailSender mailSender,
+            PlatformTransactionManager transactionManager,
+            MailOutboxMetrics metrics,
+            Clock clock,
+            @Value("${lifelinq.mail.outbox.workers:2}") int workers,
+            @Value("${lifelinq.mail.outbox.batchSize:50}") int batchSize,
+            @Value("${lifelinq.mail.outbox.pollIntervalMillis:2000}") long pollIntervalMillis,
+            @Value("${lifelinq.mail.outbox.leaseSeconds:120}") long leaseSeconds,
+            @Value("${lifelinq.mail.outbox.maxAttempts:8}") int maxAttempts,
+            @Value("${lifelinq.mail.outbox.initialBackoffSeconds:30}") long initialBackoffSeconds,
+            @Value("${lifelinq.mail.outbox.maxBackoffSeconds:3600}") long maxBackoffSeconds
+    ) {
+        return new MailOutboxDispatcher(
+                repository,
+                mailSender,
+                new TransactionTemplate(transactionManager),
+                metrics,
+                new MailOutboxRetryPolicy(
+                        maxAttempts,
+                        Duration.ofSeconds(initialBackoffSeconds),
+                        Duration.ofSeconds(maxBackoffSeconds)
+                ),
+                clock,
+                workers,
+                batchSize,
+                Duration.ofMillis(pollIntervalMillis),
+                Duration.ofSeconds(leaseSeconds)
+        );
+    }
+
+    @Bean
+    public OutboxMailSender outboxMailSender(
+            MailOutboxJpaRepository repository,
+            MailOutboxDispatcher dispatcher,
+            MailOutboxMetrics metrics,
+            Clock clock
+    ) {
+        return new OutboxMailSender(repository, dispatcher, metrics, clock);
+    }
+}
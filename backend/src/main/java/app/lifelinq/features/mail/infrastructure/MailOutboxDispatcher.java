@@ -0,0 +1,263 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import app.lifelinq.features.mail.application.MailOutboxMetrics;
+import app.lifelinq.features.mail.domain.MailOutboxRetryPolicy;
+import app.lifelinq.features.mail.domain.MailOutboxStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.MailSender;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Sends queued {@code mail_outbox} rows off the request path. Each worker leases a batch
+ * of due rows, hands the whole batch to the underlying sender in one call so SMTP can
+ * reuse a single connection for it, deletes what was delivered and reschedules the rest
+ * with exponential backoff until the retry policy gives up on them.
+ */
+public final class MailOutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxJpaRepository repository;
+    private final MailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final MailOutboxMetrics metrics;
+    private final MailOutboxRetryPolicy retryPolicy;
+    private final Clock clock;
+    private final int workers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private ScheduledExecutorService executor;
+
+    public MailOutboxDispatcher(
+            MailOutboxJpaRepository repository,
+            MailSender mailSender,
+            TransactionTemplate transactionTemplate,
+            MailOutboxMetrics metrics,
+            MailOutboxRetryPolicy retryPolicy,
+            Clock clock,
+            int workers,
+            int batchSize,
+            Duration pollInterval,
+            Duration lease
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (mailSender == null) {
+            throw new IllegalArgumentException("mailSender must not be null");
+        }
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("transactionTemplate must not be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics must not be null");
+        }
+        if (retryPolicy == null) {
+            throw new IllegalArgumentException("retryPolicy must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (lease == null || lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("lease must be positive");
+        }
+        this.repository = repository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.retryPolicy = retryPolicy;
+        this.clock = clock;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollMillis = pollInterval.toMillis();
+        for (int worker = 0; worker < workers; worker++) {
+            executor.scheduleWithFixedDelay(this::drainSafely, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    void wake() {
+        ScheduledExecutorService current = executor;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.execute(this::drainSafely);
+        } catch (RejectedExecutionException ex) {
+            // Shutting down; whatever is queued is picked up after the next start.
+        }
+    }
+
+    /**
+     * Sends one batch of due messages and returns how many rows it processed, delivered
+     * or not.
+     */
+    public int drainOnce() {
+        Instant now = clock.instant();
+        UUID claimToken = UUID.randomUUID();
+        List<MailOutboxEntity> batch = transactionTemplate.execute(status -> {
+            List<UUID> ids = repository.findDueIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty() || repository.claim(ids, claimToken, now, now.plus(lease)) == 0) {
+                return List.<MailOutboxEntity>of();
+            }
+            return repository.findByClaimToken(claimToken);
+        });
+        if (batch == null || batch.isEmpty()) {
+            metrics.recordQueueDepth(repository.countByStatus(MailOutboxStatus.PENDING));
+            return 0;
+        }
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int index = 0; index < batch.size(); index++) {
+            messages[index] = toMessage(batch.get(index));
+        }
+        Map<SimpleMailMessage, Exception> failures = send(messages);
+        metrics.recordBatch();
+
+        Instant sentAt = clock.instant();
+        List<UUID> delivered = new ArrayList<>();
+        List<Integer> undelivered = new ArrayList<>();
+        for (int index = 0; index < batch.size(); index++) {
+            MailOutboxEntity mail = batch.get(index);
+            if (failures.containsKey(messages[index])) {
+                undelivered.add(index);
+            } else {
+                delivered.add(mail.getId());
+                metrics.recordSent(Duration.between(mail.getCreatedAt(), sentAt).toMillis());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                repository.deleteClaimed(delivered, claimToken);
+            }
+            for (int index : undelivered) {
+                recordFailure(batch.get(index), claimToken, failures.get(messages[index]), sentAt);
+            }
+        });
+        metrics.recordQueueDepth(repository.countByStatus(MailOutboxStatus.PENDING));
+        return batch.size();
+    }
+
+    private void drainSafely() {
+        try {
+            while (drainOnce() == batchSize) {
+                // Keep going while full batches are due.
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Mail outbox dispatch failed", ex);
+        }
+    }
+
+    private Map<SimpleMailMessage, Exception> send(SimpleMailMessage[] messages) {
+        Map<SimpleMailMessage, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            Set<Object> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+            failed.addAll(ex.getFailedMessages().keySet());
+            for (SimpleMailMessage message : messages) {
+                if (failed.isEmpty() || failed.contains(message)) {
+                    Exception cause = ex.getFailedMessages().get(message);
+                    failures.put(message, cause == null ? ex : cause);
+                }
+            }
+        } catch (MailException ex) {
+            for (SimpleMailMessage message : messages) {
+                failures.put(message, ex);
+            }
+        }
+        return failures;
+    }
+
+    private void recordFailure(MailOutboxEntity mail, UUID claimToken, Exception error, Instant now) {
+        int attempts = mail.getAttempts() + 1;
+        boolean exhausted = retryPolicy.isExhausted(attempts);
+        repository.recordFailedAttempt(
+                mail.getId(),
+                claimToken,
+                exhausted ? MailOutboxStatus.FAILED : MailOutboxStatus.PENDING,
+                exhausted ? now : retryPolicy.nextAttemptAt(now, attempts),
+                truncate(error == null ? null : error.toString())
+        );
+        if (exhausted) {
+            metrics.recordFailed();
+            log.warn("Giving up on outbox mail {} after {} attempts", mail.getId(), attempts);
+        } else {
+            metrics.recordRetry();
+        }
+    }
+
+    private static SimpleMailMessage toMessage(MailOutboxEntity mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        if (mail.getSender() != null) {
+            message.setFrom(mail.getSender());
+        }
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
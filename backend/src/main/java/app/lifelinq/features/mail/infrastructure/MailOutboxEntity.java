@@ -0,0 +1,129 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import app.lifelinq.features.mail.domain.MailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status,next_attempt_at"),
+                @Index(name = "idx_mail_outbox_claim_token", columnList = "claim_token")
+        }
+)
+public class MailOutboxEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = true, length = 320)
+    private String sender;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "locked_until", nullable = true)
+    private Instant lockedUntil;
+
+    @Column(name = "claim_token", nullable = true)
+    private UUID claimToken;
+
+    @Column(name = "last_error", nullable = true, length = 1000)
+    private String lastError;
+
+    protected MailOutboxEntity() {
+    }
+
+    public MailOutboxEntity(
+            UUID id,
+            String recipient,
+            String sender,
+            String subject,
+            String body,
+            Instant createdAt
+    ) {
+        this.id = id;
+        this.recipient = recipient;
+        this.sender = sender;
+        this.subject = subject;
+        this.body = body;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public MailOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public UUID getClaimToken() {
+        return claimToken;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
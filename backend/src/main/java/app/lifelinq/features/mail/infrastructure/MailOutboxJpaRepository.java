@@ -0,0 +1,70 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import app.lifelinq.features.mail.domain.MailOutboxStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxJpaRepository extends JpaRepository<MailOutboxEntity, UUID> {
+    @Query("""
+            select mail.id
+            from MailOutboxEntity mail
+            where mail.status = app.lifelinq.features.mail.domain.MailOutboxStatus.PENDING
+              and mail.nextAttemptAt <= :now
+              and (mail.lockedUntil is null or mail.lockedUntil < :now)
+            order by mail.nextAttemptAt
+            """)
+    List<UUID> findDueIds(@Param("now") Instant now, Pageable page);
+
+    /**
+     * Leases the given rows to one dispatcher. Rows another dispatcher leased in the
+     * meantime are skipped, so concurrent dispatchers never send the same message.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update MailOutboxEntity mail
+            set mail.claimToken = :claimToken, mail.lockedUntil = :lockedUntil
+            where mail.id in :ids
+              and mail.status = app.lifelinq.features.mail.domain.MailOutboxStatus.PENDING
+              and (mail.lockedUntil is null or mail.lockedUntil < :now)
+            """)
+    int claim(
+            @Param("ids") Collection<UUID> ids,
+            @Param("claimToken") UUID claimToken,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil
+    );
+
+    List<MailOutboxEntity> findByClaimToken(UUID claimToken);
+
+    @Modifying
+    @Query("delete from MailOutboxEntity mail where mail.id in :ids and mail.claimToken = :claimToken")
+    int deleteClaimed(@Param("ids") Collection<UUID> ids, @Param("claimToken") UUID claimToken);
+
+    @Modifying
+    @Query("""
+            update MailOutboxEntity mail
+            set mail.attempts = mail.attempts + 1,
+                mail.status = :status,
+                mail.nextAttemptAt = :nextAttemptAt,
+                mail.lockedUntil = null,
+                mail.claimToken = null,
+                mail.lastError = :lastError
+            where mail.id = :id and mail.claimToken = :claimToken
+            """)
+    int recordFailedAttempt(
+            @Param("id") UUID id,
+            @Param("claimToken") UUID claimToken,
+            @Param("status") MailOutboxStatus status,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+
+    long countByStatus(MailOutboxStatus status);
+}
@@ -0,0 +1,88 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import app.lifelinq.features.mail.application.MailOutboxMetrics;
+import app.lifelinq.features.mail.contract.QueuedMailSender;
+import java.time.Clock;
+import java.util.UUID;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSender;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A {@link MailSender} that writes each message to the {@code mail_outbox} table instead
+ * of talking to SMTP. When called inside a transaction the message is committed or
+ * rolled back together with the rest of the request's writes, and the dispatcher is
+ * woken once the transaction commits.
+ */
+public final class OutboxMailSender implements QueuedMailSender {
+    private final MailOutboxJpaRepository repository;
+    private final MailOutboxDispatcher dispatcher;
+    private final MailOutboxMetrics metrics;
+    private final Clock clock;
+
+    public OutboxMailSender(
+            MailOutboxJpaRepository repository,
+            MailOutboxDispatcher dispatcher,
+            MailOutboxMetrics metrics,
+            Clock clock
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (dispatcher == null) {
+            throw new IllegalArgumentException("dispatcher must not be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    @Override
+    public void send(SimpleMailMessage simpleMessage) throws MailException {
+        send(new SimpleMailMessage[] {simpleMessage});
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) throws MailException {
+        for (SimpleMailMessage message : simpleMessages) {
+            enqueue(message);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wake();
+                }
+            });
+        } else {
+            dispatcher.wake();
+        }
+    }
+
+    private void enqueue(SimpleMailMessage message) {
+        if (message == null || message.getTo() == null || message.getTo().length == 0) {
+            throw new MailParseException("message must have at least one recipient");
+        }
+        for (String recipient : message.getTo()) {
+            repository.save(new MailOutboxEntity(
+                    UUID.randomUUID(),
+                    recipient,
+                    message.getFrom(),
+                    message.getSubject() == null ? "" : message.getSubject(),
+                    message.getText() == null ? "" : message.getText(),
+                    clock.instant()
+            ));
+            metrics.recordEnqueued();
+        }
+    }
+}
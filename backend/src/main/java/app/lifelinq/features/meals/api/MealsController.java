@@ -23,6 +23,7 @@ import app.lifelinq.features.meals.contract.RecentMealOccurrenceView;
 import app.lifelinq.features.meals.contract.RecipeUsageSummaryView;
 import app.lifelinq.features.meals.contract.WeekShoppingProjectionView;
 import app.lifelinq.features.meals.contract.WeekShoppingReviewView;
+import app.lifelinq.features.meals.contract.WeekPlanProposalView;
 import app.lifelinq.features.meals.contract.WeekPlanView;
 import java.util.ArrayList;
 import java.util.List;
@@ -186,7 +187,9 @@ public class MealsController {
 
     @GetMapping("/meals/recipe-library/items")
     public ResponseEntity<?> listRecipeLibraryItems(
-            @RequestParam(name = "state", required = false, defaultValue = "active") String state
+            @RequestParam(name = "state", required = false, defaultValue = "active") String state,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", required = false) Integer limit
     ) {
         RequestContext context = ApiScoping.getContext();
         if (context == null || context.getGroupId() == null || context.getUserId() == null) {
@@ -195,7 +198,9 @@ public class MealsController {
         List<RecipeLibraryItemView> items = mealsApplicationService.listRecipeLibraryItems(
                 context.getGroupId(),
                 context.getUserId(),
-                state
+                state,
+                after,
+                limit
         );
         return ResponseEntity.ok(items);
     }
@@ -486,6 +491,16 @@ public class MealsController {
         return ResponseEntity.ok(view);
     }
 
+    @PostMapping("/meals/household-memory/rebuild")
+    public ResponseEntity<?> rebuildMealUsage() {
+        RequestContext context = ApiScoping.getContext();
+        if (context == null || context.getGroupId() == null || context.getUserId() == null) {
+            return ApiScoping.missingContext();
+        }
+        mealsApplicationService.rebuildMealUsage(context.getGroupId(), context.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/meals/household-memory/preferences/clear")
     public ResponseEntity<?> clearHouseholdPreferenceSignal(@RequestBody WriteHouseholdPreferenceSignalRequest request) {
         RequestContext context = ApiScoping.getContext();
@@ -556,6 +571,26 @@ public class MealsController {
         return ResponseEntity.ok(view);
     }
 
+    @GetMapping("/meals/choice-support/week")
+    public ResponseEntity<?> proposeWeekPlan(
+            @RequestParam int year,
+            @RequestParam int isoWeek,
+            @RequestParam(defaultValue = "DINNER") List<String> mealTypes
+    ) {
+        RequestContext context = ApiScoping.getContext();
+        if (context == null || context.getGroupId() == null || context.getUserId() == null) {
+            return ApiScoping.missingContext();
+        }
+        WeekPlanProposalView view = mealsApplicationService.proposeWeekPlan(
+                context.getGroupId(),
+                context.getUserId(),
+                year,
+                isoWeek,
+                mealTypes.stream().map(app.lifelinq.features.meals.domain.MealType::valueOf).toList()
+        );
+        return ResponseEntity.ok(view);
+    }
+
     @GetMapping("/meals/recipes/{recipeId}")
     public ResponseEntity<?> getRecipe(@PathVariable UUID recipeId) {
         RequestContext context = ApiScoping.getContext();
@@ -8,6 +8,7 @@ import app.lifelinq.features.meals.application.RecipeDraftNotFoundException;
 import app.lifelinq.features.meals.application.RecipeDuplicateAttentionRequiredException;
 import app.lifelinq.features.meals.application.RecipeImportFailedException;
 import app.lifelinq.features.meals.contract.MealsShoppingAccessDeniedException;
+import app.lifelinq.features.meals.contract.MealsShoppingConflictException;
 import app.lifelinq.features.meals.contract.MealsShoppingDuplicateItemException;
 import app.lifelinq.features.meals.contract.MealsShoppingListNotFoundException;
 import app.lifelinq.features.meals.application.RecipeNotFoundException;
@@ -63,6 +64,12 @@ public final class MealsExceptionHandler {
                 .body(new ApiErrorResponse("DUPLICATE_ITEM", ex.getMessage()));
     }
 
+    @ExceptionHandler(MealsShoppingConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleShoppingConflict(MealsShoppingConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiErrorResponse("SHOPPING_LIST_CONFLICT", ex.getMessage()));
+    }
+
     @ExceptionHandler(RecipeImportFailedException.class)
     public ResponseEntity<ApiErrorResponse> handleRecipeImportFailed(RecipeImportFailedException ex) {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
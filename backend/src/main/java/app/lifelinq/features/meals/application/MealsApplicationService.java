@@ -16,11 +16,13 @@ import app.lifelinq.features.meals.contract.MealIngredientNeedView;
 import app.lifelinq.features.meals.contract.MealReadinessView;
 import app.lifelinq.features.meals.contract.MealShoppingProjectionView;
 import app.lifelinq.features.meals.contract.MealIdentitySummaryView;
+import app.lifelinq.features.meals.contract.MealsShoppingItemInput;
 import app.lifelinq.features.meals.contract.MealsShoppingPort;
 import app.lifelinq.features.meals.contract.MealsShoppingListSnapshot;
 import app.lifelinq.features.meals.contract.MealsShoppingListNotFoundException;
 import app.lifelinq.features.meals.contract.PlannedMealView;
 import app.lifelinq.features.meals.contract.PlanningChoiceSupportView;
+import app.lifelinq.features.meals.contract.ProposedMealView;
 import app.lifelinq.features.meals.contract.RecentPlannedMealView;
 import app.lifelinq.features.meals.contract.RecentMealOccurrenceView;
 import app.lifelinq.features.meals.contract.RecipeDetailView;
@@ -39,6 +41,7 @@ import app.lifelinq.features.meals.contract.ShoppingLinkReferenceView;
 import app.lifelinq.features.meals.contract.WeekShoppingReviewLinkView;
 import app.lifelinq.features.meals.contract.WeekShoppingReviewView;
 import app.lifelinq.features.meals.contract.WeekShoppingProjectionView;
+import app.lifelinq.features.meals.contract.WeekPlanProposalView;
 import app.lifelinq.features.meals.contract.WeekPlanView;
 import app.lifelinq.features.meals.domain.AggregatedIngredientComparison;
 import app.lifelinq.features.meals.domain.AggregatedIngredientComparisonState;
@@ -63,6 +66,8 @@ import app.lifelinq.features.meals.domain.MealReadinessState;
 import app.lifelinq.features.meals.domain.MealShoppingProjection;
 import app.lifelinq.features.meals.domain.MealType;
 import app.lifelinq.features.meals.domain.MealUsageAggregate;
+import app.lifelinq.features.meals.domain.MealUsageRepository;
+import app.lifelinq.features.meals.domain.MealUsageYear;
 import app.lifelinq.features.meals.domain.PlanningChoiceSupport;
 import app.lifelinq.features.meals.domain.PlanningContext;
 import app.lifelinq.features.meals.domain.PlanningScenario;
@@ -73,14 +78,19 @@ import app.lifelinq.features.meals.domain.RecipeDraft;
 import app.lifelinq.features.meals.domain.RecipeDraftRepository;
 import app.lifelinq.features.meals.domain.RecipeDraftState;
 import app.lifelinq.features.meals.domain.RecipeDuplicateAssessment;
+import app.lifelinq.features.meals.domain.RecipeDuplicateKeys;
 import app.lifelinq.features.meals.domain.RecipeDuplicateMatchType;
+import app.lifelinq.features.meals.domain.RecipeHeader;
 import app.lifelinq.features.meals.domain.RecipeInstructions;
+import app.lifelinq.features.meals.domain.RecipeLibraryCursor;
 import app.lifelinq.features.meals.domain.RecipeLifecycle;
 import app.lifelinq.features.meals.domain.RecipeOriginKind;
 import app.lifelinq.features.meals.domain.RecipeProvenance;
 import app.lifelinq.features.meals.domain.RecipeRepository;
 import app.lifelinq.features.meals.domain.RecipeSource;
+import app.lifelinq.features.meals.domain.RecipeSummary;
 import app.lifelinq.features.meals.domain.RecipeUsageHistory;
+import app.lifelinq.features.meals.domain.ProposedMeal;
 import app.lifelinq.features.meals.domain.ReuseCandidate;
 import app.lifelinq.features.meals.domain.ReuseCandidateFamily;
 import app.lifelinq.features.meals.domain.ShoppingCoverageState;
@@ -88,6 +98,7 @@ import app.lifelinq.features.meals.domain.ShoppingDelta;
 import app.lifelinq.features.meals.domain.ShoppingLinkReference;
 import app.lifelinq.features.meals.domain.ShoppingLinkStatus;
 import app.lifelinq.features.meals.domain.WeekPlan;
+import app.lifelinq.features.meals.domain.WeekPlanProposal;
 import app.lifelinq.features.meals.domain.WeekShoppingProjection;
 import app.lifelinq.features.meals.domain.WeekShoppingReview;
 import app.lifelinq.features.meals.domain.WeekShoppingReviewEngine;
@@ -99,20 +110,29 @@ import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
 public class MealsApplicationService {
     private static final int RECENTLY_USED_RECIPES_LIMIT = 3;
+    private static final int MAX_RECIPE_LIBRARY_PAGE_SIZE = 200;
     private static final int RECENTLY_USED_MEALS_LIMIT = 6;
+    private static final int RECENT_HISTORY_WINDOW_DAYS = 365;
+    private static final int RECENT_HISTORY_CHUNK_SIZE = 32;
     private static final List<String> LEADING_INGREDIENT_MODIFIERS = List.of(
             "very finely chopped",
             "finely chopped",
@@ -175,11 +195,13 @@ public class MealsApplicationService {
     private final RecipeRepository recipeRepository;
     private final RecipeDraftRepository recipeDraftRepository;
     private final MealMemoryRepository mealMemoryRepository;
+    private final MealUsageRepository mealUsageRepository;
     private final HouseholdPreferenceSignalRepository householdPreferenceSignalRepository;
     private final RecipeImportPort recipeImportPort;
     private final EnsureGroupMemberUseCase ensureGroupMemberUseCase;
     private final MealsShoppingPort mealsShoppingPort;
     private final Clock clock;
+    private final PlanningChoiceInputCache planningChoiceInputCache;
     private final MealChoiceSupportEngine mealChoiceSupportEngine;
     private final KitchenReadinessEngine kitchenReadinessEngine;
     private final WeekShoppingReviewEngine weekShoppingReviewEngine;
@@ -198,6 +220,7 @@ public class MealsApplicationService {
                 null,
                 null,
                 null,
+                null,
                 ensureGroupMemberUseCase,
                 mealsShoppingPort,
                 clock
@@ -209,11 +232,40 @@ public class MealsApplicationService {
             RecipeRepository recipeRepository,
             RecipeDraftRepository recipeDraftRepository,
             MealMemoryRepository mealMemoryRepository,
+            MealUsageRepository mealUsageRepository,
             HouseholdPreferenceSignalRepository householdPreferenceSignalRepository,
             RecipeImportPort recipeImportPort,
             EnsureGroupMemberUseCase ensureGroupMemberUseCase,
             MealsShoppingPort mealsShoppingPort,
             Clock clock
+    ) {
+        this(
+                weekPlanRepository,
+                recipeRepository,
+                recipeDraftRepository,
+                mealMemoryRepository,
+                mealUsageRepository,
+                householdPreferenceSignalRepository,
+                recipeImportPort,
+                ensureGroupMemberUseCase,
+                mealsShoppingPort,
+                clock,
+                null
+        );
+    }
+
+    public MealsApplicationService(
+            WeekPlanRepository weekPlanRepository,
+            RecipeRepository recipeRepository,
+            RecipeDraftRepository recipeDraftRepository,
+            MealMemoryRepository mealMemoryRepository,
+            MealUsageRepository mealUsageRepository,
+            HouseholdPreferenceSignalRepository householdPreferenceSignalRepository,
+            RecipeImportPort recipeImportPort,
+            EnsureGroupMemberUseCase ensureGroupMemberUseCase,
+            MealsShoppingPort mealsShoppingPort,
+            Clock clock,
+            PlanningChoiceInputCache planningChoiceInputCache
     ) {
         if (weekPlanRepository == null) {
             throw new IllegalArgumentException("weekPlanRepository must not be null");
@@ -234,11 +286,13 @@ public class MealsApplicationService {
         this.recipeRepository = recipeRepository;
         this.recipeDraftRepository = recipeDraftRepository;
         this.mealMemoryRepository = mealMemoryRepository;
+        this.mealUsageRepository = mealUsageRepository;
         this.householdPreferenceSignalRepository = householdPreferenceSignalRepository;
         this.recipeImportPort = recipeImportPort;
         this.ensureGroupMemberUseCase = ensureGroupMemberUseCase;
         this.mealsShoppingPort = mealsShoppingPort;
         this.clock = clock;
+        this.planningChoiceInputCache = planningChoiceInputCache;
         this.mealChoiceSupportEngine = new MealChoiceSupportEngine();
         this.kitchenReadinessEngine = new KitchenReadinessEngine();
         this.weekShoppingReviewEngine = new WeekShoppingReviewEngine();
@@ -259,6 +313,7 @@ public class MealsApplicationService {
                 recipeDraftRepository,
                 null,
                 null,
+                null,
                 recipeImportPort,
                 ensureGroupMemberUseCase,
                 mealsShoppingPort,
@@ -299,6 +354,7 @@ public class MealsApplicationService {
                 savedInRecipes == null || savedInRecipes,
                 toDomainIngredients(ingredients)
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(recipe), false);
     }
 
@@ -463,6 +519,7 @@ public class MealsApplicationService {
             throw new RecipeDuplicateAttentionRequiredException(duplicateAssessment.reason());
         }
         Instant now = clock.instant();
+        invalidatePlanningChoices(groupId);
         Recipe savedRecipe = recipeRepository.save(new Recipe(
                 UUID.randomUUID(),
                 groupId,
@@ -491,18 +548,36 @@ public class MealsApplicationService {
 
     @Transactional(readOnly = true)
     public List<RecipeLibraryItemView> listRecipeLibraryItems(UUID groupId, UUID actorUserId, String state) {
+        return listRecipeLibraryItems(groupId, actorUserId, state, null, null);
+    }
+
+    /**
+     * Lists one page of the recipe library, sorted by name. Pass the {@code cursor} of
+     * the last item on the previous page as {@code after} to continue; a page shorter
+     * than {@code limit} is the last one. Without a limit the whole library is returned.
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeLibraryItemView> listRecipeLibraryItems(
+            UUID groupId,
+            UUID actorUserId,
+            String state,
+            String after,
+            Integer limit
+    ) {
         ensureMealAccess(groupId, actorUserId);
-        List<RecipeLibraryItemView> views = new ArrayList<>();
-        for (Recipe recipe : findRecipesForLibraryState(groupId, state)) {
-            views.add(toLibraryItemView(recipe));
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        List<RecipeSummary> summaries = recipeRepository.findSummaryPage(
+                groupId,
+                parseLibraryLifecycle(state),
+                after == null ? null : RecipeLibraryCursor.decode(after),
+                limit == null ? Integer.MAX_VALUE : Math.min(limit, MAX_RECIPE_LIBRARY_PAGE_SIZE)
+        );
+        List<RecipeLibraryItemView> views = new ArrayList<>(summaries.size());
+        for (RecipeSummary summary : summaries) {
+            views.add(toLibraryItemView(summary));
         }
-        views.sort((a, b) -> {
-            int nameCompare = a.name().compareToIgnoreCase(b.name());
-            if (nameCompare != 0) {
-                return nameCompare;
-            }
-            return a.recipeId().compareTo(b.recipeId());
-        });
         return views;
     }
 
@@ -511,7 +586,7 @@ public class MealsApplicationService {
         ensureMealAccess(groupId, actorUserId);
         List<RecipeLibraryItemView> views = new ArrayList<>();
         for (Recipe recipe : findRecentlyUsedSavedRecipes(groupId)) {
-            views.add(toLibraryItemView(recipe));
+            views.add(toLibraryItemView(RecipeSummary.of(recipe)));
         }
         return views;
     }
@@ -544,6 +619,7 @@ public class MealsApplicationService {
                 existing.isSavedInRecipes(),
                 existing.getIngredients()
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(updated), true);
     }
 
@@ -569,6 +645,7 @@ public class MealsApplicationService {
                 existing.isSavedInRecipes(),
                 existing.getIngredients()
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(updated), true);
     }
 
@@ -626,59 +703,50 @@ public class MealsApplicationService {
     public List<RecentPlannedMealView> listRecentPlannedMeals(UUID groupId, UUID actorUserId) {
         ensureMealAccess(groupId, actorUserId);
         LocalDate today = LocalDate.now(clock);
-        int currentYear = today.get(WeekFields.ISO.weekBasedYear());
-        int currentIsoWeek = today.get(WeekFields.ISO.weekOfWeekBasedYear());
-        int currentDayOfWeek = today.getDayOfWeek().getValue();
-
-        List<RecentPlannedMeal> orderedMeals = weekPlanRepository.findRecentMealsOnOrBefore(
-                groupId,
-                currentYear,
-                currentIsoWeek,
-                currentDayOfWeek
-        );
-        if (orderedMeals.isEmpty()) {
-            return List.of();
-        }
-
-        Set<UUID> recipeIds = new HashSet<>();
-        for (RecentPlannedMeal meal : orderedMeals) {
-            if (meal.recipeId() != null) {
-                recipeIds.add(meal.recipeId());
-            }
-        }
-
-        Map<UUID, Recipe> recipesById = new HashMap<>();
-        if (!recipeIds.isEmpty()) {
-            for (Recipe recipe : recipeRepository.findByGroupIdAndIds(groupId, recipeIds)) {
-                if (recipe.isArchived()) {
-                    continue;
-                }
-                recipesById.put(recipe.getId(), recipe);
-            }
-        }
+        LocalDate windowStart = today.minusDays(RECENT_HISTORY_WINDOW_DAYS);
 
         Set<String> seenMealKeys = new HashSet<>();
+        Set<UUID> resolvedRecipeIds = new HashSet<>();
+        Set<UUID> reusableRecipeIds = new HashSet<>();
         List<RecentPlannedMealView> views = new ArrayList<>();
-        for (RecentPlannedMeal meal : orderedMeals) {
-            UUID reusableRecipeId = meal.recipeId();
-            if (reusableRecipeId != null && !recipesById.containsKey(reusableRecipeId)) {
-                reusableRecipeId = null;
-            }
-            String dedupeKey = normalizeRecentMealKey(meal.mealTitle(), reusableRecipeId, meal.recipeTitleSnapshot());
-            if (!seenMealKeys.add(dedupeKey)) {
-                continue;
-            }
-            views.add(new RecentPlannedMealView(
-                    meal.year(),
-                    meal.isoWeek(),
-                    meal.dayOfWeek(),
-                    meal.mealType().name(),
-                    meal.mealTitle(),
-                    reusableRecipeId,
-                    meal.recipeTitleSnapshot()
-            ));
-            if (views.size() >= RECENTLY_USED_MEALS_LIMIT) {
-                break;
+        try (Stream<RecentPlannedMeal> orderedMeals = weekPlanRepository.streamRecentMealsOnOrBefore(
+                groupId,
+                windowStart.get(WeekFields.ISO.weekBasedYear()),
+                windowStart.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.get(WeekFields.ISO.weekBasedYear()),
+                today.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.getDayOfWeek().getValue()
+        )) {
+            Iterator<RecentPlannedMeal> iterator = orderedMeals.iterator();
+            List<RecentPlannedMeal> chunk = new ArrayList<>(RECENT_HISTORY_CHUNK_SIZE);
+            while (views.size() < RECENTLY_USED_MEALS_LIMIT && iterator.hasNext()) {
+                chunk.clear();
+                while (chunk.size() < RECENT_HISTORY_CHUNK_SIZE && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                resolveReusableRecipeIds(groupId, chunk, resolvedRecipeIds, reusableRecipeIds);
+                for (RecentPlannedMeal meal : chunk) {
+                    UUID reusableRecipeId = meal.recipeId();
+                    if (reusableRecipeId != null && !reusableRecipeIds.contains(reusableRecipeId)) {
+                        reusableRecipeId = null;
+                    }
+                    String dedupeKey = normalizeRecentMealKey(meal.mealTitle(), reusableRecipeId, meal.recipeTitleSnapshot());
+                    if (!seenMealKeys.add(dedupeKey)) {
+                        continue;
+                    }
+                    views.add(new RecentPlannedMealView(
+                            meal.year(),
+                            meal.isoWeek(),
+                            meal.dayOfWeek(),
+                            meal.mealType().name(),
+                            meal.mealTitle(),
+                            reusableRecipeId,
+                            meal.recipeTitleSnapshot()
+                    ));
+                    if (views.size() >= RECENTLY_USED_MEALS_LIMIT) {
+                        break;
+                    }
+                }
             }
         }
         return views;
@@ -688,20 +756,28 @@ public class MealsApplicationService {
     public List<RecentMealOccurrenceView> listRecentMealOccurrences(UUID groupId, UUID actorUserId, int limit) {
         ensureMealAccess(groupId, actorUserId);
         int resolvedLimit = normalizePositiveLimit(limit, 12);
+        requireMealMemoryRepository();
         LocalDate today = LocalDate.now(clock);
-        List<MealOccurrence> occurrences = loadHistoricalOccurrences(groupId, today);
-        Map<UUID, Recipe> recipesById = recipesById(groupId);
+        LocalDate windowStart = today.minusDays(RECENT_HISTORY_WINDOW_DAYS);
+        Map<UUID, RecipeHeader> recipesById = recipesById(groupId);
 
         Set<String> seenIdentityKeys = new HashSet<>();
         List<RecentMealOccurrenceView> views = new ArrayList<>();
-        for (MealOccurrence occurrence : occurrences) {
-            MealIdentity identity = resolveMealIdentity(occurrence, recipesById);
-            if (!seenIdentityKeys.add(identity.key())) {
-                continue;
-            }
-            views.add(toRecentMealOccurrenceView(occurrence, identity));
-            if (views.size() >= resolvedLimit) {
-                break;
+        try (Stream<MealOccurrence> occurrences = mealMemoryRepository.streamHistoricalOccurrencesOnOrBefore(
+                groupId,
+                windowStart.get(WeekFields.ISO.weekBasedYear()),
+                windowStart.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.get(WeekFields.ISO.weekBasedYear()),
+                today.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.getDayOfWeek().getValue()
+        )) {
+            Iterator<MealOccurrence> iterator = occurrences.iterator();
+            while (views.size() < resolvedLimit && iterator.hasNext()) {
+                MealOccurrence occurrence = iterator.next();
+                MealIdentity identity = resolveMealIdentity(occurrence, recipesById);
+                if (seenIdentityKeys.add(identity.key())) {
+                    views.add(toRecentMealOccurrenceView(occurrence, identity));
+                }
             }
         }
         return views;
@@ -804,6 +880,7 @@ public class MealsApplicationService {
                 now,
                 now
         );
+        invalidatePlanningChoices(groupId);
         return toHouseholdPreferenceSummaryView(householdPreferenceSignalRepository.save(signal));
     }
 
@@ -825,6 +902,7 @@ public class MealsApplicationService {
                 recipeId,
                 mealIdentityKey
         ).ifPresent(householdPreferenceSignalRepository::delete);
+        invalidatePlanningChoices(groupId);
     }
 
     @Transactional(readOnly = true)
@@ -893,6 +971,40 @@ public class MealsApplicationService {
         return toPlanningChoiceSupportView(loadPlanningChoiceSupport(groupId, context));
     }
 
+    @Transactional(readOnly = true)
+    public WeekPlanProposalView proposeWeekPlan(
+            UUID groupId,
+            UUID actorUserId,
+            int year,
+            int isoWeek,
+            Collection<MealType> mealTypes
+    ) {
+        ensureMealAccess(groupId, actorUserId);
+        validateIsoWeek(year, isoWeek);
+        if (mealTypes == null || mealTypes.isEmpty()) {
+            throw new IllegalArgumentException("mealTypes must not be empty");
+        }
+        LocalDate weekStart = localDateForIsoWeek(year, isoWeek, 1);
+        PlanningChoiceInputCache.Inputs inputs = loadCachedPlanningChoiceInputs(groupId, weekStart);
+        List<PlannedMeal> plannedMeals = weekPlanRepository.findByGroupAndWeek(groupId, year, isoWeek)
+                .map(WeekPlan::getMeals)
+                .orElse(List.of());
+        WeekPlanProposal proposal = mealChoiceSupportEngine.proposeWeek(
+                year,
+                isoWeek,
+                weekStart,
+                EnumSet.copyOf(mealTypes),
+                plannedMeals,
+                inputs.usageAggregates(),
+                inputs.recipes()
+        );
+        return new WeekPlanProposalView(
+                proposal.year(),
+                proposal.isoWeek(),
+                proposal.meals().stream().map(this::toProposedMealView).toList()
+        );
+    }
+
     @Transactional
     public RecipeView updateRecipe(
             UUID groupId,
@@ -927,6 +1039,7 @@ public class MealsApplicationService {
                 savedInRecipes == null ? existing.isSavedInRecipes() : savedInRecipes,
                 toDomainIngredients(ingredients)
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(updated), true);
     }
 
@@ -955,6 +1068,7 @@ public class MealsApplicationService {
                 existing.isSavedInRecipes(),
                 existing.getIngredients()
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(archived), true);
     }
 
@@ -983,6 +1097,7 @@ public class MealsApplicationService {
                 existing.isSavedInRecipes(),
                 existing.getIngredients()
         );
+        invalidatePlanningChoices(groupId);
         return toView(recipeRepository.save(restored), true);
     }
 
@@ -994,6 +1109,7 @@ public class MealsApplicationService {
         if (!deleteEligibility.eligible()) {
             throw new RecipeDeleteBlockedException(deleteEligibility.blockedReason());
         }
+        invalidatePlanningChoices(groupId);
         recipeRepository.delete(existing);
     }
 
@@ -1048,7 +1164,9 @@ public class MealsApplicationService {
                 shoppingHandledAt,
                 shoppingListId
         );
+        invalidatePlanningChoices(groupId);
         WeekPlan saved = weekPlanRepository.save(weekPlan);
+        refreshMealUsage(groupId, year);
 
         if (shouldPushToShopping) {
             // V0.5c intent: recipe ingredients primarily act as shopping-item generators.
@@ -1119,7 +1237,47 @@ public class MealsApplicationService {
         } catch (IllegalArgumentException ex) {
             throw new MealNotFoundException("Meal not found");
         }
+        invalidatePlanningChoices(groupId);
         weekPlanRepository.save(weekPlan);
+        refreshMealUsage(groupId, year);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> listGroupsWithMealUsage() {
+        requireMealMemoryRepository();
+        return mealMemoryRepository.findGroupIdsWithPlannedMeals();
+    }
+
+    @Transactional
+    public int rebuildMealUsage(UUID groupId, UUID actorUserId) {
+        ensureMealAccess(groupId, actorUserId);
+        return rebuildMealUsage(groupId);
+    }
+
+    @Transactional
+    public int rebuildMealUsage(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        requireMealMemoryRepository();
+        requireMealUsageRepository();
+        List<Integer> plannedYears = mealMemoryRepository.findPlannedYears(groupId);
+        for (int year : plannedYears) {
+            mealUsageRepository.lockYear(groupId, year);
+        }
+        Map<Integer, List<MealOccurrence>> occurrencesByYear = new LinkedHashMap<>();
+        for (int year : plannedYears) {
+            occurrencesByYear.put(year, mealMemoryRepository.findOccurrencesInYear(groupId, year));
+        }
+        invalidatePlanningChoices(groupId);
+        mealUsageRepository.deleteByGroupId(groupId);
+        int rows = 0;
+        for (Map.Entry<Integer, List<MealOccurrence>> entry : occurrencesByYear.entrySet()) {
+            List<MealUsageYear> usage = mealChoiceSupportEngine.summarizeUsageYear(entry.getKey(), entry.getValue());
+            mealUsageRepository.replaceYear(groupId, entry.getKey(), usage);
+            rows += usage.size();
+        }
+        return rows;
     }
 
     @Transactional(readOnly = true)
@@ -1198,9 +1356,38 @@ public class MealsApplicationService {
             ));
         }
 
+        Set<UUID> recipeIds = new HashSet<>();
+        Set<UUID> shoppingListIds = new HashSet<>();
+        for (PlannedMeal meal : weekPlan.getMeals()) {
+            if (meal.getRecipeId() != null) {
+                recipeIds.add(meal.getRecipeId());
+            }
+            if (meal.getShoppingListId() != null) {
+                shoppingListIds.add(meal.getShoppingListId());
+            }
+        }
+        Map<UUID, Recipe> recipesById = new HashMap<>();
+        if (!recipeIds.isEmpty()) {
+            for (Recipe recipe : recipeRepository.findByGroupIdAndIds(groupId, recipeIds)) {
+                recipesById.put(recipe.getId(), recipe);
+            }
+        }
+        Map<UUID, MealsShoppingListSnapshot> shoppingListsById = loadShoppingListSnapshots(
+                groupId,
+                actorUserId,
+                shoppingListIds
+        );
+
         List<MealShoppingProjection> meals = new ArrayList<>();
         for (PlannedMeal meal : weekPlan.getMeals()) {
-            meals.add(buildMealShoppingProjection(groupId, actorUserId, year, isoWeek, meal, null));
+            Recipe recipe = null;
+            if (meal.getRecipeId() != null) {
+                recipe = recipesById.get(meal.getRecipeId());
+                if (recipe == null) {
+                    throw new RecipeNotFoundException(meal.getRecipeId());
+                }
+            }
+            meals.add(buildMealShoppingProjection(year, isoWeek, meal, null, recipe, shoppingListsById));
         }
         return toWeekShoppingProjectionView(kitchenReadinessEngine.buildWeekProjection(
                 weekPlan.getId(),
@@ -1272,22 +1459,23 @@ public class MealsApplicationService {
             }
         }
 
+        List<MealsShoppingItemInput> items = new ArrayList<>();
         for (String selectedLineId : selectedLineIds) {
             AggregatedIngredientComparison ingredient = addableById.get(selectedLineId);
             AggregatedIngredientNeed need = ingredient.need();
             java.math.BigDecimal quantityToAdd = ingredient.remainingQuantity() != null
                     ? ingredient.remainingQuantity()
                     : need.totalQuantity();
-            mealsShoppingPort.addShoppingItem(
-                    groupId,
-                    actorUserId,
-                    shoppingListId,
+            items.add(new MealsShoppingItemInput(
                     need.normalizedShoppingName(),
                     quantityToAdd,
                     need.unitName(),
                     "meal-plan",
                     "Week " + isoWeek + " meals"
-            );
+            ));
+        }
+        if (!items.isEmpty()) {
+            mealsShoppingPort.addShoppingItems(groupId, actorUserId, shoppingListId, items);
         }
 
         if (weekPlan != null) {
@@ -1472,13 +1660,26 @@ public class MealsApplicationService {
                 actorUserId,
                 requestedSnapshotIds
         );
+        Recipe recipe = meal.getRecipeId() == null ? null : loadRecipe(groupId, meal.getRecipeId());
+        return buildMealShoppingProjection(year, isoWeek, meal, shoppingListId, recipe, shoppingListsById);
+    }
+
+    private MealShoppingProjection buildMealShoppingProjection(
+            int year,
+            int isoWeek,
+            PlannedMeal meal,
+            UUID shoppingListId,
+            Recipe recipe,
+            Map<UUID, MealsShoppingListSnapshot> shoppingListsById
+    ) {
+        UUID linkedShoppingListId = meal.getShoppingListId();
+        UUID assessedShoppingListId = shoppingListId != null ? shoppingListId : linkedShoppingListId;
         MealsShoppingListSnapshot linkedShoppingList = linkedShoppingListId == null
                 ? null
                 : shoppingListsById.get(linkedShoppingListId);
         MealsShoppingListSnapshot assessedShoppingList = assessedShoppingListId == null
                 ? null
                 : shoppingListsById.get(assessedShoppingListId);
-        Recipe recipe = meal.getRecipeId() == null ? null : loadRecipe(groupId, meal.getRecipeId());
         return kitchenReadinessEngine.buildMealProjection(
                 year,
                 isoWeek,
@@ -1579,6 +1780,12 @@ public class MealsApplicationService {
         }
     }
 
+    private void requireMealUsageRepository() {
+        if (mealUsageRepository == null) {
+            throw new IllegalStateException("Meal usage platform is not configured");
+        }
+    }
+
     private void requireHouseholdPreferenceSignalRepository() {
         if (householdPreferenceSignalRepository == null) {
             throw new IllegalStateException("Household preference platform is not configured");
@@ -1593,22 +1800,52 @@ public class MealsApplicationService {
         return mealMemoryRepository.findHistoricalOccurrencesOnOrBefore(groupId, year, isoWeek, dayOfWeek);
     }
 
+    private UsageHistory loadUsageHistory(UUID groupId, LocalDate referenceDate) {
+        if (mealUsageRepository == null) {
+            return new UsageHistory(loadHistoricalOccurrences(groupId, referenceDate), List.of());
+        }
+        requireMealMemoryRepository();
+        int firstOpenYear = mealChoiceSupportEngine.usageWindowStart(referenceDate).get(WeekFields.ISO.weekBasedYear());
+        List<MealOccurrence> occurrences = mealMemoryRepository.findHistoricalOccurrencesOnOrBefore(
+                groupId,
+                firstOpenYear,
+                referenceDate.get(WeekFields.ISO.weekBasedYear()),
+                referenceDate.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                referenceDate.getDayOfWeek().getValue()
+        );
+        return new UsageHistory(occurrences, mealUsageRepository.findByGroupIdBeforeYear(groupId, firstOpenYear));
+    }
+
+    private void refreshMealUsage(UUID groupId, int year) {
+        if (mealUsageRepository == null || mealMemoryRepository == null) {
+            return;
+        }
+        mealUsageRepository.lockYear(groupId, year);
+        mealUsageRepository.replaceYear(
+                groupId,
+                year,
+                mealChoiceSupportEngine.summarizeUsageYear(year, mealMemoryRepository.findOccurrencesInYear(groupId, year))
+        );
+    }
+
     private List<HouseholdPreferenceSignal> loadPreferenceSignals(UUID groupId) {
         requireHouseholdPreferenceSignalRepository();
         return householdPreferenceSignalRepository.findByGroupId(groupId);
     }
 
-    private Map<UUID, Recipe> recipesById(UUID groupId) {
-        Map<UUID, Recipe> recipesById = new HashMap<>();
-        for (Recipe recipe : recipeRepository.findByGroupId(groupId)) {
+    private Map<UUID, RecipeHeader> recipesById(UUID groupId) {
+        Map<UUID, RecipeHeader> recipesById = new HashMap<>();
+        for (RecipeSummary recipe : recipeRepository.findSummariesByGroupId(groupId)) {
             recipesById.put(recipe.getId(), recipe);
         }
         return recipesById;
     }
 
     private List<MealUsageAggregate> summarizeMealUsage(UUID groupId, LocalDate referenceDate) {
+        UsageHistory history = loadUsageHistory(groupId, referenceDate);
         return mealChoiceSupportEngine.summarizeMealUsage(
-                loadHistoricalOccurrences(groupId, referenceDate),
+                history.occurrences(),
+                history.earlierUsage(),
                 recipesById(groupId).values(),
                 loadPreferenceSignals(groupId),
                 referenceDate
@@ -1616,8 +1853,10 @@ public class MealsApplicationService {
     }
 
     private List<RecipeUsageHistory> summarizeRecipeUsage(UUID groupId, LocalDate referenceDate) {
+        UsageHistory history = loadUsageHistory(groupId, referenceDate);
         return mealChoiceSupportEngine.summarizeRecipeUsage(
-                loadHistoricalOccurrences(groupId, referenceDate),
+                history.occurrences(),
+                history.earlierUsage(),
                 recipesById(groupId).values(),
                 loadPreferenceSignals(groupId),
                 referenceDate
@@ -1625,17 +1864,39 @@ public class MealsApplicationService {
     }
 
     private PlanningChoiceSupport loadPlanningChoiceSupport(UUID groupId, PlanningContext context) {
-        return mealChoiceSupportEngine.buildPlanningChoiceSupport(
-                context,
-                loadHistoricalOccurrences(groupId, context.referenceDate()),
-                recipesById(groupId).values(),
-                loadPreferenceSignals(groupId)
+        PlanningChoiceInputCache.Inputs inputs = loadCachedPlanningChoiceInputs(groupId, context.referenceDate());
+        return mealChoiceSupportEngine.buildPlanningChoiceSupport(context, inputs.usageAggregates(), inputs.recipes());
+    }
+
+    private PlanningChoiceInputCache.Inputs loadCachedPlanningChoiceInputs(UUID groupId, LocalDate referenceDate) {
+        if (planningChoiceInputCache == null) {
+            return loadPlanningChoiceInputs(groupId, referenceDate);
+        }
+        return planningChoiceInputCache.get(groupId, referenceDate, () -> loadPlanningChoiceInputs(groupId, referenceDate));
+    }
+
+    private PlanningChoiceInputCache.Inputs loadPlanningChoiceInputs(UUID groupId, LocalDate referenceDate) {
+        UsageHistory history = loadUsageHistory(groupId, referenceDate);
+        List<RecipeHeader> recipes = new ArrayList<>(recipesById(groupId).values());
+        List<MealUsageAggregate> aggregates = mealChoiceSupportEngine.summarizeMealUsage(
+                history.occurrences(),
+                history.earlierUsage(),
+                recipes,
+                loadPreferenceSignals(groupId),
+                referenceDate
         );
+        return new PlanningChoiceInputCache.Inputs(recipes, aggregates);
+    }
+
+    private void invalidatePlanningChoices(UUID groupId) {
+        if (planningChoiceInputCache != null) {
+            planningChoiceInputCache.invalidate(groupId);
+        }
     }
 
-    private MealIdentity resolveMealIdentity(MealOccurrence occurrence, Map<UUID, Recipe> recipesById) {
+    private MealIdentity resolveMealIdentity(MealOccurrence occurrence, Map<UUID, RecipeHeader> recipesById) {
         if (occurrence.recipeId() != null) {
-            Recipe recipe = recipesById.get(occurrence.recipeId());
+            RecipeHeader recipe = recipesById.get(occurrence.recipeId());
             String title = recipe != null
                     ? recipe.getName()
                     : occurrence.recipeTitleSnapshot() == null ? occurrence.mealTitle() : occurrence.recipeTitleSnapshot();
@@ -1730,6 +1991,15 @@ public class MealsApplicationService {
         );
     }
 
+    private ProposedMealView toProposedMealView(ProposedMeal meal) {
+        return new ProposedMealView(
+                meal.dayOfWeek(),
+                meal.mealType().name(),
+                meal.plannedDate(),
+                toMealChoiceCandidateView(meal.candidate())
+        );
+    }
+
     private MealShoppingProjectionView toMealShoppingProjectionView(
             MealShoppingProjection projection,
             UUID assessedShoppingListId,
@@ -1986,33 +2256,37 @@ public class MealsApplicationService {
     }
 
     private RecipeDuplicateAssessment assessDuplicateAttention(UUID groupId, RecipeDraft draft) {
-        String normalizedDraftSourceUrl = normalizeComparableUrl(draft.getSource().sourceUrl());
+        String normalizedDraftSourceUrl = RecipeDuplicateKeys.sourceUrl(draft.getSource().sourceUrl());
         if (normalizedDraftSourceUrl != null) {
-            for (Recipe recipe : recipeRepository.findByGroupId(groupId)) {
-                if (normalizedDraftSourceUrl.equals(normalizeComparableUrl(recipe.getSource().sourceUrl()))) {
-                    return new RecipeDuplicateAssessment(
-                            true,
-                            RecipeDuplicateMatchType.EXACT_SOURCE_URL,
-                            recipe.getId(),
-                            "This recipe link is already saved in your library."
-                    );
-                }
+            Optional<UUID> matchingRecipeId = recipeRepository.findIdByGroupIdAndNormalizedSourceUrl(
+                    groupId,
+                    normalizedDraftSourceUrl
+            );
+            if (matchingRecipeId.isPresent()) {
+                return new RecipeDuplicateAssessment(
+                        true,
+                        RecipeDuplicateMatchType.EXACT_SOURCE_URL,
+                        matchingRecipeId.get(),
+                        "This recipe link is already saved in your library."
+                );
             }
         }
 
-        String normalizedDraftName = normalizeComparableText(draft.getName());
-        String normalizedDraftSourceName = normalizeComparableText(draft.getSource().sourceName());
+        String normalizedDraftName = RecipeDuplicateKeys.text(draft.getName());
+        String normalizedDraftSourceName = RecipeDuplicateKeys.text(draft.getSource().sourceName());
         if (normalizedDraftName != null && normalizedDraftSourceName != null) {
-            for (Recipe recipe : recipeRepository.findByGroupId(groupId)) {
-                if (normalizedDraftName.equals(normalizeComparableText(recipe.getName()))
-                        && normalizedDraftSourceName.equals(normalizeComparableText(recipe.getSource().sourceName()))) {
-                    return new RecipeDuplicateAssessment(
-                            true,
-                            RecipeDuplicateMatchType.SAME_NAME_AND_SOURCE,
-                            recipe.getId(),
-                            "A recipe with the same name and source is already in your library."
-                    );
-                }
+            Optional<UUID> matchingRecipeId = recipeRepository.findIdByGroupIdAndNormalizedNameAndSourceName(
+                    groupId,
+                    normalizedDraftName,
+                    normalizedDraftSourceName
+            );
+            if (matchingRecipeId.isPresent()) {
+                return new RecipeDuplicateAssessment(
+                        true,
+                        RecipeDuplicateMatchType.SAME_NAME_AND_SOURCE,
+                        matchingRecipeId.get(),
+                        "A recipe with the same name and source is already in your library."
+                );
             }
         }
 
@@ -2235,15 +2509,16 @@ public class MealsApplicationService {
         );
     }
 
-    private RecipeLibraryItemView toLibraryItemView(Recipe recipe) {
+    private RecipeLibraryItemView toLibraryItemView(RecipeSummary recipe) {
         return new RecipeLibraryItemView(
                 recipe.getId(),
                 recipe.getName(),
                 toSourceView(recipe.getSource()),
-                toLifecycleView(recipe),
+                toLifecycleView(recipe.getGroupId(), recipe, recipe.getLifecycle()),
                 recipe.getMakeSoonAt(),
                 recipe.getUpdatedAt(),
-                recipe.getIngredients().size()
+                recipe.getIngredientCount(),
+                RecipeLibraryCursor.after(recipe).encode()
         );
     }
 
@@ -2253,7 +2528,8 @@ public class MealsApplicationService {
     ) {
         RecipeIdentitySummaryView matchingRecipe = null;
         if (assessment.matchingRecipeId() != null) {
-            Recipe recipe = recipeRepository.findByIdAndGroupId(assessment.matchingRecipeId(), groupId).orElse(null);
+            RecipeSummary recipe = recipeRepository.findSummaryByIdAndGroupId(assessment.matchingRecipeId(), groupId)
+                    .orElse(null);
             if (recipe != null) {
                 matchingRecipe = toIdentitySummaryView(recipe);
             }
@@ -2266,12 +2542,12 @@ public class MealsApplicationService {
         );
     }
 
-    private RecipeIdentitySummaryView toIdentitySummaryView(Recipe recipe) {
+    private RecipeIdentitySummaryView toIdentitySummaryView(RecipeSummary recipe) {
         return new RecipeIdentitySummaryView(
                 recipe.getId(),
                 recipe.getName(),
                 toSourceView(recipe.getSource()),
-                toLifecycleView(recipe)
+                toLifecycleView(recipe.getGroupId(), recipe, recipe.getLifecycle())
         );
     }
 
@@ -2290,9 +2566,13 @@ public class MealsApplicationService {
     }
 
     private RecipeLifecycleView toLifecycleView(Recipe recipe) {
-        DeleteEligibility deleteEligibility = getDeleteEligibility(recipe.getGroupId(), recipe);
+        return toLifecycleView(recipe.getGroupId(), recipe, recipe.getLifecycle());
+    }
+
+    private RecipeLifecycleView toLifecycleView(UUID groupId, RecipeHeader recipe, RecipeLifecycle lifecycle) {
+        DeleteEligibility deleteEligibility = getDeleteEligibility(groupId, recipe);
         return new RecipeLifecycleView(
-                toLifecycleValue(recipe.getLifecycle()),
+                toLifecycleValue(lifecycle),
                 deleteEligibility.eligible(),
                 deleteEligibility.blockedReason()
         );
@@ -2300,58 +2580,77 @@ public class MealsApplicationService {
 
     private List<Recipe> findRecentlyUsedSavedRecipes(UUID groupId) {
         LocalDate today = LocalDate.now(clock);
-        int currentYear = today.get(WeekFields.ISO.weekBasedYear());
-        int currentIsoWeek = today.get(WeekFields.ISO.weekOfWeekBasedYear());
-        int currentDayOfWeek = today.getDayOfWeek().getValue();
-
-        List<UUID> orderedRecipeIds = weekPlanRepository.findRecentRecipeIdsOnOrBefore(
-                groupId,
-                currentYear,
-                currentIsoWeek,
-                currentDayOfWeek
-        );
-        if (orderedRecipeIds.isEmpty()) {
-            return List.of();
-        }
+        LocalDate windowStart = today.minusDays(RECENT_HISTORY_WINDOW_DAYS);
 
         Set<UUID> seenRecipeIds = new HashSet<>();
-        List<UUID> recentRecipeIds = new ArrayList<>();
-        for (UUID recipeId : orderedRecipeIds) {
-            if (!seenRecipeIds.add(recipeId)) {
-                continue;
+        List<Recipe> recipes = new ArrayList<>();
+        try (Stream<UUID> orderedRecipeIds = weekPlanRepository.streamRecentRecipeIdsOnOrBefore(
+                groupId,
+                windowStart.get(WeekFields.ISO.weekBasedYear()),
+                windowStart.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.get(WeekFields.ISO.weekBasedYear()),
+                today.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                today.getDayOfWeek().getValue()
+        )) {
+            Iterator<UUID> iterator = orderedRecipeIds.iterator();
+            List<UUID> chunk = new ArrayList<>(RECENTLY_USED_RECIPES_LIMIT);
+            while (recipes.size() < RECENTLY_USED_RECIPES_LIMIT && iterator.hasNext()) {
+                chunk.clear();
+                while (chunk.size() < RECENTLY_USED_RECIPES_LIMIT - recipes.size() && iterator.hasNext()) {
+                    UUID recipeId = iterator.next();
+                    if (seenRecipeIds.add(recipeId)) {
+                        chunk.add(recipeId);
+                    }
+                }
+                if (chunk.isEmpty()) {
+                    continue;
+                }
+                Map<UUID, Recipe> recipesById = new HashMap<>();
+                for (Recipe recipe : recipeRepository.findByGroupIdAndIds(groupId, new HashSet<>(chunk))) {
+                    if (recipe.isArchived() || !recipe.isSavedInRecipes()) {
+                        continue;
+                    }
+                    recipesById.put(recipe.getId(), recipe);
+                }
+                for (UUID recipeId : chunk) {
+                    Recipe recipe = recipesById.get(recipeId);
+                    if (recipe != null) {
+                        recipes.add(recipe);
+                    }
+                }
             }
-            recentRecipeIds.add(recipeId);
-        }
-        if (recentRecipeIds.isEmpty()) {
-            return List.of();
         }
+        return recipes;
+    }
 
-        Map<UUID, Recipe> recipesById = new HashMap<>();
-        for (Recipe recipe : recipeRepository.findByGroupIdAndIds(groupId, new HashSet<>(recentRecipeIds))) {
-            if (recipe.isArchived() || !recipe.isSavedInRecipes()) {
-                continue;
+    private void resolveReusableRecipeIds(
+            UUID groupId,
+            List<RecentPlannedMeal> meals,
+            Set<UUID> resolvedRecipeIds,
+            Set<UUID> reusableRecipeIds
+    ) {
+        Set<UUID> unresolvedRecipeIds = new HashSet<>();
+        for (RecentPlannedMeal meal : meals) {
+            if (meal.recipeId() != null && !resolvedRecipeIds.contains(meal.recipeId())) {
+                unresolvedRecipeIds.add(meal.recipeId());
             }
-            recipesById.put(recipe.getId(), recipe);
         }
-
-        List<Recipe> recipes = new ArrayList<>();
-        for (UUID recipeId : recentRecipeIds) {
-            Recipe recipe = recipesById.get(recipeId);
-            if (recipe != null) {
-                recipes.add(recipe);
-                if (recipes.size() >= RECENTLY_USED_RECIPES_LIMIT) {
-                    break;
-                }
+        if (unresolvedRecipeIds.isEmpty()) {
+            return;
+        }
+        for (Recipe recipe : recipeRepository.findByGroupIdAndIds(groupId, unresolvedRecipeIds)) {
+            if (!recipe.isArchived()) {
+                reusableRecipeIds.add(recipe.getId());
             }
         }
-        return recipes;
+        resolvedRecipeIds.addAll(unresolvedRecipeIds);
     }
 
-    private List<Recipe> findRecipesForLibraryState(UUID groupId, String state) {
+    private RecipeLifecycle parseLibraryLifecycle(String state) {
         String normalizedState = state == null ? "active" : state.trim().toLowerCase(Locale.ROOT);
         return switch (normalizedState) {
-            case "active" -> recipeRepository.findActiveByGroupId(groupId);
-            case "archived" -> recipeRepository.findArchivedByGroupId(groupId);
+            case "active" -> RecipeLifecycle.ACTIVE;
+            case "archived" -> RecipeLifecycle.ARCHIVED;
             default -> throw new IllegalArgumentException("Unknown recipe library state: " + state);
         };
     }
@@ -2442,7 +2741,7 @@ public class MealsApplicationService {
         };
     }
 
-    private DeleteEligibility getDeleteEligibility(UUID groupId, Recipe recipe) {
+    private DeleteEligibility getDeleteEligibility(UUID groupId, RecipeHeader recipe) {
         if (!recipe.isArchived()) {
             return new DeleteEligibility(false, "Recipe must be archived before you can delete it.");
         }
@@ -2467,6 +2766,9 @@ public class MealsApplicationService {
         };
     }
 
+    private record UsageHistory(List<MealOccurrence> occurrences, List<MealUsageYear> earlierUsage) {
+    }
+
     private record DeleteEligibility(boolean eligible, String blockedReason) {
     }
 
@@ -2490,22 +2792,23 @@ public class MealsApplicationService {
                 : new HashSet<>(selectedIngredientPositions);
         // Shopping inserts new items at the top. Reverse recipe order here so the
         // final list preserves the original ingredient order for users.
+        List<MealsShoppingItemInput> items = new ArrayList<>();
         for (int index = ingredients.size() - 1; index >= 0; index--) {
             Ingredient ingredient = ingredients.get(index);
             if (selectedPositions != null && !selectedPositions.contains(ingredient.getPosition())) {
                 continue;
             }
             ShoppingIngredientProjection projection = projectIngredientForShopping(ingredient);
-            mealsShoppingPort.addShoppingItem(
-                    groupId,
-                    actorUserId,
-                    targetShoppingListId,
+            items.add(new MealsShoppingItemInput(
                     projection.name(),
                     projection.quantity(),
                     projection.unitName(),
                     "meal-plan",
                     normalizeRecipeName(recipeName)
-            );
+            ));
+        }
+        if (!items.isEmpty()) {
+            mealsShoppingPort.addShoppingItems(groupId, actorUserId, targetShoppingListId, items);
         }
     }
 
@@ -2739,18 +3042,6 @@ public class MealsApplicationService {
         return normalized.isEmpty() ? null : normalized;
     }
 
-    private String normalizeComparableText(String value) {
-        return normalizeClause(value);
-    }
-
-    private String normalizeComparableUrl(String value) {
-        if (value == null) {
-            return null;
-        }
-        String normalized = value.trim().toLowerCase(Locale.ROOT);
-        return normalized.isEmpty() ? null : normalized;
-    }
-
     private String normalizeRecentMealKey(String mealTitle, UUID recipeId, String recipeTitleSnapshot) {
         String normalizedMealTitle = normalizeClause(mealTitle);
         String normalizedRecipeTitle = normalizeClause(recipeTitleSnapshot);
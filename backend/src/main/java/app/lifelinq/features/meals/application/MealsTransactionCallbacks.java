@@ -0,0 +1,18 @@
+package app.lifelinq.features.meals.application;
+
+/**
+ * Defers work until the caller's transaction has finished, so that caches are
+ * cleared only once concurrent readers can see the committed write.
+ */
+public interface MealsTransactionCallbacks {
+
+    /**
+     * Runs the callback once the current transaction has completed, whether it
+     * committed or rolled back, or right away when there is none.
+     */
+    void afterCompletion(Runnable callback);
+
+    static MealsTransactionCallbacks direct() {
+        return Runnable::run;
+    }
+}
@@ -0,0 +1,154 @@
+package app.lifelinq.features.meals.application;
+
+import app.lifelinq.common.BoundedCache;
+import app.lifelinq.common.CacheStatistics;
+import app.lifelinq.features.meals.domain.MealUsageAggregate;
+import app.lifelinq.features.meals.domain.RecipeHeader;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the planning choice engine inputs per group and reference date: the group's
+ * recipes and its usage aggregates, with preference signals already applied. A household
+ * planning a week asks for tonight, week-start and slot suggestions over and over, and each
+ * rebuild reads its history, recipes and preference signals. Every meal, recipe, usage or
+ * preference write for the group drops all of the group's entries. That happens once when
+ * the write happens and again when its transaction completes. Otherwise entries live for
+ * the TTL, and past the entry bound the least recently used ones go first.
+ */
+public final class PlanningChoiceInputCache implements CacheStatistics {
+    private final long ttlMillis;
+    private final Clock clock;
+    private final MealsTransactionCallbacks transactionCallbacks;
+    private final BoundedCache<Key, Inputs> entries;
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder rebuildNanos = new LongAdder();
+    private final AtomicLong maxRebuildNanos = new AtomicLong();
+
+    public PlanningChoiceInputCache(int maxEntries, Duration ttl, Clock clock) {
+        this(maxEntries, ttl, clock, MealsTransactionCallbacks.direct());
+    }
+
+    public PlanningChoiceInputCache(
+            int maxEntries,
+            Duration ttl,
+            Clock clock,
+            MealsTransactionCallbacks transactionCallbacks
+    ) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (transactionCallbacks == null) {
+            throw new IllegalArgumentException("transactionCallbacks must not be null");
+        }
+        this.entries = new BoundedCache<>(maxEntries, clock);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.transactionCallbacks = transactionCallbacks;
+    }
+
+    public Inputs get(UUID groupId, LocalDate referenceDate, Supplier<Inputs> loader) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (referenceDate == null) {
+            throw new IllegalArgumentException("referenceDate must not be null");
+        }
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must not be null");
+        }
+        Key key = new Key(groupId, referenceDate);
+        Inputs cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = entries.invalidationStamp();
+        long startedAt = System.nanoTime();
+        Inputs loaded = loader.get();
+        recordRebuild(System.nanoTime() - startedAt);
+        if (loaded != null) {
+            entries.putUnlessInvalidated(key, loaded, clock.millis() + ttlMillis, stamp);
+        }
+        return loaded;
+    }
+
+    public void invalidate(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        evictGroup(groupId);
+        transactionCallbacks.afterCompletion(() -> evictGroup(groupId));
+    }
+
+    @Override
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    @Override
+    public long putCount() {
+        return entries.putCount();
+    }
+
+    @Override
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    public double hitRatio() {
+        long hitCount = entries.hitCount();
+        long total = hitCount + entries.missCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public Duration averageRebuildLatency() {
+        long rebuildCount = rebuilds.sum();
+        return rebuildCount == 0 ? Duration.ZERO : Duration.ofNanos(rebuildNanos.sum() / rebuildCount);
+    }
+
+    public Duration maxRebuildLatency() {
+        return Duration.ofNanos(maxRebuildNanos.get());
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictGroup(UUID groupId) {
+        entries.invalidateIf(key -> key.groupId().equals(groupId));
+    }
+
+    private void recordRebuild(long nanos) {
+        rebuilds.increment();
+        rebuildNanos.add(nanos);
+        maxRebuildNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public record Inputs(List<? extends RecipeHeader> recipes, List<MealUsageAggregate> usageAggregates) {
+        public Inputs {
+            if (recipes == null) {
+                throw new IllegalArgumentException("recipes must not be null");
+            }
+            if (usageAggregates == null) {
+                throw new IllegalArgumentException("usageAggregates must not be null");
+            }
+            recipes = List.copyOf(recipes);
+            usageAggregates = List.copyOf(usageAggregates);
+        }
+    }
+
+    private record Key(UUID groupId, LocalDate referenceDate) {
+    }
+}
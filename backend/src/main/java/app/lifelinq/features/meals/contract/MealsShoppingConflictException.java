@@ -0,0 +1,7 @@
+package app.lifelinq.features.meals.contract;
+
+public final class MealsShoppingConflictException extends RuntimeException {
+    public MealsShoppingConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package app.lifelinq.features.meals.contract;
+
+import java.math.BigDecimal;
+
+public record MealsShoppingItemInput(
+        String itemName,
+        BigDecimal quantity,
+        String unitName,
+        String sourceKind,
+        String sourceLabel
+) {
+}
@@ -1,6 +1,7 @@
 package app.lifelinq.features.meals.contract;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -17,6 +18,13 @@ public interface MealsShoppingPort {
             String sourceLabel
     );
 
+    void addShoppingItems(
+            UUID groupId,
+            UUID actorUserId,
+            UUID listId,
+            List<MealsShoppingItemInput> items
+    );
+
     Map<UUID, MealsShoppingListSnapshot> listShoppingListSnapshots(
             UUID groupId,
             UUID actorUserId,
@@ -0,0 +1,11 @@
+package app.lifelinq.features.meals.contract;
+
+import java.time.LocalDate;
+
+public record ProposedMealView(
+        int dayOfWeek,
+        String mealType,
+        LocalDate plannedDate,
+        MealChoiceCandidateView candidate
+) {
+}
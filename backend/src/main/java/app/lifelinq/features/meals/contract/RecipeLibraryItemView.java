@@ -10,6 +10,7 @@ public record RecipeLibraryItemView(
         RecipeLifecycleView lifecycle,
         Instant makeSoonAt,
         Instant updatedAt,
-        int ingredientCount
+        int ingredientCount,
+        String cursor
 ) {
 }
@@ -0,0 +1,10 @@
+package app.lifelinq.features.meals.contract;
+
+import java.util.List;
+
+public record WeekPlanProposalView(
+        int year,
+        int isoWeek,
+        List<ProposedMealView> meals
+) {
+}
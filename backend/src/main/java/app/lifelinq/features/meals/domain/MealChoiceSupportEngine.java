@@ -6,6 +6,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,11 +27,25 @@ public final class MealChoiceSupportEngine {
 
     public List<MealUsageAggregate> summarizeMealUsage(
             List<MealOccurrence> occurrences,
-            Collection<Recipe> recipes,
+            Collection<? extends RecipeHeader> recipes,
             List<HouseholdPreferenceSignal> preferenceSignals,
             LocalDate referenceDate
     ) {
-        Map<UUID, Recipe> recipesById = indexRecipes(recipes);
+        return summarizeMealUsage(occurrences, List.of(), recipes, preferenceSignals, referenceDate);
+    }
+
+    /**
+     * Summarizes usage from recent occurrences plus pre-aggregated earlier years.
+     * Earlier years must not overlap the occurrences and must end before {@link #usageWindowStart(LocalDate)}.
+     */
+    public List<MealUsageAggregate> summarizeMealUsage(
+            List<MealOccurrence> occurrences,
+            List<MealUsageYear> earlierUsage,
+            Collection<? extends RecipeHeader> recipes,
+            List<HouseholdPreferenceSignal> preferenceSignals,
+            LocalDate referenceDate
+    ) {
+        Map<UUID, RecipeHeader> recipesById = indexRecipes(recipes);
         PreferenceIndex preferenceIndex = PreferenceIndex.from(preferenceSignals);
         Map<String, AggregateAccumulator> byIdentity = new LinkedHashMap<>();
         for (MealOccurrence occurrence : occurrences) {
@@ -38,11 +53,15 @@ public final class MealChoiceSupportEngine {
             byIdentity.computeIfAbsent(identity.key(), ignored -> new AggregateAccumulator(identity))
                     .add(occurrence);
         }
+        for (MealUsageYear usage : sortedByRecency(earlierUsage)) {
+            byIdentity.computeIfAbsent(usage.identityKey(), ignored -> new AggregateAccumulator(resolveIdentity(usage, recipesById)))
+                    .add(usage);
+        }
 
         List<MealUsageAggregate> aggregates = new ArrayList<>();
         for (AggregateAccumulator accumulator : byIdentity.values()) {
             PreferenceResolution preferenceResolution = preferenceIndex.resolve(accumulator.identity());
-            Recipe recipe = accumulator.identity().recipeId() == null
+            RecipeHeader recipe = accumulator.identity().recipeId() == null
                     ? null
                     : recipesById.get(accumulator.identity().recipeId());
             aggregates.add(accumulator.toAggregate(referenceDate, recipe, preferenceResolution));
@@ -53,11 +72,21 @@ public final class MealChoiceSupportEngine {
 
     public List<RecipeUsageHistory> summarizeRecipeUsage(
             List<MealOccurrence> occurrences,
-            Collection<Recipe> recipes,
+            Collection<? extends RecipeHeader> recipes,
+            List<HouseholdPreferenceSignal> preferenceSignals,
+            LocalDate referenceDate
+    ) {
+        return summarizeRecipeUsage(occurrences, List.of(), recipes, preferenceSignals, referenceDate);
+    }
+
+    public List<RecipeUsageHistory> summarizeRecipeUsage(
+            List<MealOccurrence> occurrences,
+            List<MealUsageYear> earlierUsage,
+            Collection<? extends RecipeHeader> recipes,
             List<HouseholdPreferenceSignal> preferenceSignals,
             LocalDate referenceDate
     ) {
-        Map<UUID, Recipe> recipesById = indexRecipes(recipes);
+        Map<UUID, RecipeHeader> recipesById = indexRecipes(recipes);
         PreferenceIndex preferenceIndex = PreferenceIndex.from(preferenceSignals);
         Map<UUID, RecipeAccumulator> byRecipeId = new LinkedHashMap<>();
         for (MealOccurrence occurrence : occurrences) {
@@ -69,10 +98,19 @@ public final class MealChoiceSupportEngine {
                     recipeId -> new RecipeAccumulator(recipeId, resolveRecipeTitle(occurrence, recipesById.get(recipeId)))
             ).add(occurrence);
         }
+        for (MealUsageYear usage : sortedByRecency(earlierUsage)) {
+            if (usage.recipeId() == null) {
+                continue;
+            }
+            byRecipeId.computeIfAbsent(
+                    usage.recipeId(),
+                    recipeId -> new RecipeAccumulator(recipeId, resolveRecipeTitle(usage, recipesById.get(recipeId)))
+            ).add(usage);
+        }
 
         List<RecipeUsageHistory> result = new ArrayList<>();
         for (RecipeAccumulator accumulator : byRecipeId.values()) {
-            Recipe recipe = recipesById.get(accumulator.recipeId());
+            RecipeHeader recipe = recipesById.get(accumulator.recipeId());
             PreferenceResolution preferenceResolution = preferenceIndex.resolve(
                     MealIdentity.forRecipe(accumulator.recipeId(), accumulator.recipeTitle())
             );
@@ -85,17 +123,39 @@ public final class MealChoiceSupportEngine {
     public PlanningChoiceSupport buildPlanningChoiceSupport(
             PlanningContext context,
             List<MealOccurrence> occurrences,
-            Collection<Recipe> recipes,
+            Collection<? extends RecipeHeader> recipes,
+            List<HouseholdPreferenceSignal> preferenceSignals
+    ) {
+        return buildPlanningChoiceSupport(context, occurrences, List.of(), recipes, preferenceSignals);
+    }
+
+    public PlanningChoiceSupport buildPlanningChoiceSupport(
+            PlanningContext context,
+            List<MealOccurrence> occurrences,
+            List<MealUsageYear> earlierUsage,
+            Collection<? extends RecipeHeader> recipes,
             List<HouseholdPreferenceSignal> preferenceSignals
     ) {
-        LocalDate referenceDate = context.referenceDate();
-        Map<UUID, Recipe> recipesById = indexRecipes(recipes);
         List<MealUsageAggregate> aggregates = summarizeMealUsage(
                 occurrences,
-                recipesById.values(),
+                earlierUsage,
+                indexRecipes(recipes).values(),
                 preferenceSignals,
-                referenceDate
+                context.referenceDate()
         );
+        return buildPlanningChoiceSupport(context, aggregates, recipes);
+    }
+
+    /**
+     * Builds choice support from aggregates already produced by {@link #summarizeMealUsage}
+     * for the context's reference date, so callers can reuse them across planning contexts.
+     */
+    public PlanningChoiceSupport buildPlanningChoiceSupport(
+            PlanningContext context,
+            List<MealUsageAggregate> aggregates,
+            Collection<? extends RecipeHeader> recipes
+    ) {
+        LocalDate referenceDate = context.referenceDate();
         Map<String, MealUsageAggregate> aggregateByIdentityKey = new HashMap<>();
         for (MealUsageAggregate aggregate : aggregates) {
             aggregateByIdentityKey.put(aggregate.identity().key(), aggregate);
@@ -124,7 +184,7 @@ public final class MealChoiceSupportEngine {
         List<ReuseCandidate> makeSoonCandidates = recipes.stream()
                 .filter(recipe -> !recipe.isArchived())
                 .filter(recipe -> recipe.getMakeSoonAt() != null)
-                .sorted(Comparator.comparing(Recipe::getMakeSoonAt).reversed())
+                .sorted(Comparator.comparing(RecipeHeader::getMakeSoonAt).reversed())
                 .map(recipe -> toMakeSoonCandidate(
                         recipe,
                         aggregateByIdentityKey.get(MealIdentity.recipeKey(recipe.getId())),
@@ -142,15 +202,146 @@ public final class MealChoiceSupportEngine {
         );
     }
 
-    private Map<UUID, Recipe> indexRecipes(Collection<Recipe> recipes) {
-        Map<UUID, Recipe> result = new HashMap<>();
-        for (Recipe recipe : recipes) {
+    /**
+     * Proposes one candidate for every open slot of a week, in day then meal type order.
+     * Aggregates must come from {@link #summarizeMealUsage} for {@code weekStart}. Candidates
+     * are ranked once per meal type with the same scoring as slot choice support, and a meal
+     * identity is never proposed twice, nor when it is already planned in the week.
+     * Deprioritized meals are never proposed, so a slot stays open when nothing else is left.
+     */
+    public WeekPlanProposal proposeWeek(
+            int year,
+            int isoWeek,
+            LocalDate weekStart,
+            Set<MealType> mealTypes,
+            List<PlannedMeal> plannedMeals,
+            List<MealUsageAggregate> aggregates,
+            Collection<? extends RecipeHeader> recipes
+    ) {
+        Map<UUID, RecipeHeader> recipesById = indexRecipes(recipes);
+        Set<String> usedIdentityKeys = new HashSet<>();
+        Set<String> occupiedSlots = new HashSet<>();
+        for (PlannedMeal meal : plannedMeals) {
+            usedIdentityKeys.add(meal.getRecipeId() != null
+                    ? MealIdentity.recipeKey(meal.getRecipeId())
+                    : MealIdentity.titleKey(meal.getMealTitle()));
+            occupiedSlots.add(meal.getDayOfWeek() + ":" + meal.getMealType());
+        }
+
+        List<MealUsageAggregate> pool = new ArrayList<>();
+        Set<String> aggregateKeys = new HashSet<>();
+        for (MealUsageAggregate aggregate : aggregates) {
+            aggregateKeys.add(aggregate.identity().key());
+            if (!aggregate.deprioritized()) {
+                pool.add(aggregate);
+            }
+        }
+        for (RecipeHeader recipe : recipesById.values()) {
+            if (recipe.isArchived() || recipe.getMakeSoonAt() == null) {
+                continue;
+            }
+            MealIdentity identity = MealIdentity.forRecipe(recipe.getId(), recipe.getName());
+            if (aggregateKeys.add(identity.key())) {
+                pool.add(new MealUsageAggregate(
+                        identity,
+                        0,
+                        0,
+                        0,
+                        LocalDate.ofInstant(recipe.getMakeSoonAt(), ZoneOffset.UTC),
+                        Set.of(),
+                        false,
+                        false,
+                        false,
+                        false,
+                        false,
+                        false,
+                        true
+                ));
+            }
+        }
+
+        List<ProposedMeal> proposed = new ArrayList<>();
+        Map<MealType, List<MealUsageAggregate>> rankedByMealType = new EnumMap<>(MealType.class);
+        Map<MealType, Integer> nextIndexByMealType = new EnumMap<>(MealType.class);
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            for (MealType mealType : MealType.values()) {
+                if (!mealTypes.contains(mealType) || occupiedSlots.contains(dayOfWeek + ":" + mealType)) {
+                    continue;
+                }
+                PlanningContext slotContext = new PlanningContext(
+                        PlanningScenario.SLOT,
+                        weekStart.plusDays(dayOfWeek - 1L),
+                        year,
+                        isoWeek,
+                        dayOfWeek,
+                        mealType,
+                        null
+                );
+                List<MealUsageAggregate> ranked = rankedByMealType.computeIfAbsent(mealType, ignored -> pool.stream()
+                        .sorted(candidateAggregateComparator(weekStart, slotContext))
+                        .toList());
+                int index = nextIndexByMealType.getOrDefault(mealType, 0);
+                while (index < ranked.size() && usedIdentityKeys.contains(ranked.get(index).identity().key())) {
+                    index++;
+                }
+                nextIndexByMealType.put(mealType, index);
+                if (index == ranked.size()) {
+                    continue;
+                }
+                MealUsageAggregate chosen = ranked.get(index);
+                usedIdentityKeys.add(chosen.identity().key());
+                proposed.add(new ProposedMeal(
+                        dayOfWeek,
+                        mealType,
+                        slotContext.referenceDate(),
+                        toProposedCandidate(chosen, recipesById, slotContext)
+                ));
+            }
+        }
+        return new WeekPlanProposal(year, isoWeek, proposed);
+    }
+
+    public LocalDate usageWindowStart(LocalDate referenceDate) {
+        return referenceDate.minusDays(RECENT_USAGE_WINDOW_DAYS);
+    }
+
+    public List<MealUsageYear> summarizeUsageYear(int year, List<MealOccurrence> occurrences) {
+        Map<String, UsageYearAccumulator> byIdentity = new LinkedHashMap<>();
+        for (MealOccurrence occurrence : occurrences) {
+            if (occurrence.year() != year) {
+                throw new IllegalArgumentException("occurrences must belong to year " + year);
+            }
+            String title = occurrence.recipeId() == null
+                    ? occurrence.mealTitle()
+                    : resolveRecipeTitle(occurrence, null);
+            String identityKey = occurrence.recipeId() == null
+                    ? MealIdentity.titleKey(title)
+                    : MealIdentity.recipeKey(occurrence.recipeId());
+            byIdentity.computeIfAbsent(identityKey, key -> new UsageYearAccumulator(key, occurrence.recipeId()))
+                    .add(occurrence, title);
+        }
+        List<MealUsageYear> result = new ArrayList<>();
+        for (UsageYearAccumulator accumulator : byIdentity.values()) {
+            result.add(accumulator.toUsageYear(year));
+        }
+        return result;
+    }
+
+    private List<MealUsageYear> sortedByRecency(List<MealUsageYear> usage) {
+        List<MealUsageYear> sorted = new ArrayList<>(usage);
+        sorted.sort(Comparator.comparing(MealUsageYear::lastPlannedDate).reversed());
+        return sorted;
+    }
+
+    private Map<UUID, RecipeHeader> indexRecipes(Collection<? extends RecipeHeader> recipes) {
+        Map<UUID, RecipeHeader> result = new HashMap<>();
+        for (RecipeHeader recipe : recipes) {
             result.put(recipe.getId(), recipe);
         }
         return result;
     }
 
-    private MealIdentity resolveIdentity(MealOccurrence occurrence, Map<UUID, Recipe> recipesById) {
+    private MealIdentity resolveIdentity(MealOccurrence occurrence, Map<UUID, RecipeHeader> recipesById) {
         if (occurrence.recipeId() != null) {
             return MealIdentity.forRecipe(
                     occurrence.recipeId(),
@@ -160,7 +351,18 @@ public final class MealChoiceSupportEngine {
         return MealIdentity.forTitle(occurrence.mealTitle());
     }
 
-    private String resolveRecipeTitle(MealOccurrence occurrence, Recipe recipe) {
+    private MealIdentity resolveIdentity(MealUsageYear usage, Map<UUID, RecipeHeader> recipesById) {
+        if (usage.recipeId() != null) {
+            return MealIdentity.forRecipe(usage.recipeId(), resolveRecipeTitle(usage, recipesById.get(usage.recipeId())));
+        }
+        return MealIdentity.forTitle(usage.title());
+    }
+
+    private String resolveRecipeTitle(MealUsageYear usage, RecipeHeader recipe) {
+        return recipe != null ? recipe.getName() : usage.title();
+    }
+
+    private String resolveRecipeTitle(MealOccurrence occurrence, RecipeHeader recipe) {
         if (recipe != null) {
             return recipe.getName();
         }
@@ -306,7 +508,7 @@ public final class MealChoiceSupportEngine {
         );
     }
 
-    private ReuseCandidate toMakeSoonCandidate(Recipe recipe, MealUsageAggregate aggregate, PlanningContext context) {
+    private ReuseCandidate toMakeSoonCandidate(RecipeHeader recipe, MealUsageAggregate aggregate, PlanningContext context) {
         MealIdentity identity = MealIdentity.forRecipe(recipe.getId(), recipe.getName());
         return new ReuseCandidate(
                 ReuseCandidateFamily.MAKE_SOON,
@@ -325,6 +527,26 @@ public final class MealChoiceSupportEngine {
         );
     }
 
+    private ReuseCandidate toProposedCandidate(
+            MealUsageAggregate aggregate,
+            Map<UUID, RecipeHeader> recipesById,
+            PlanningContext context
+    ) {
+        RecipeHeader recipe = aggregate.identity().recipeId() == null
+                ? null
+                : recipesById.get(aggregate.identity().recipeId());
+        if (aggregate.makeSoon() && recipe != null && recipe.getMakeSoonAt() != null) {
+            return toMakeSoonCandidate(recipe, aggregate.totalOccurrences() == 0 ? null : aggregate, context);
+        }
+        if (aggregate.fallback()) {
+            return toFallbackCandidate(aggregate, context);
+        }
+        if (aggregate.familiar() || aggregate.frequent() || aggregate.preferenceFit() || slotFit(aggregate, context)) {
+            return toFamiliarCandidate(aggregate, context);
+        }
+        return toRecentCandidate(aggregate, context);
+    }
+
     private boolean slotFit(MealUsageAggregate aggregate, PlanningContext context) {
         if (context == null || context.mealType() == null) {
             return false;
@@ -338,6 +560,8 @@ public final class MealChoiceSupportEngine {
         private final Set<String> distinctWeeks = new HashSet<>();
         private final Set<MealType> usedMealTypes = EnumSet.noneOf(MealType.class);
         private LocalDate lastPlannedDate = null;
+        private int earlierOccurrences = 0;
+        private int earlierDistinctWeeks = 0;
 
         private AggregateAccumulator(MealIdentity identity) {
             this.identity = identity;
@@ -356,26 +580,37 @@ public final class MealChoiceSupportEngine {
             usedMealTypes.add(occurrence.mealType());
         }
 
+        private void add(MealUsageYear usage) {
+            earlierOccurrences += usage.occurrences();
+            earlierDistinctWeeks += usage.distinctWeeks();
+            if (lastPlannedDate == null || usage.lastPlannedDate().isAfter(lastPlannedDate)) {
+                lastPlannedDate = usage.lastPlannedDate();
+            }
+            usedMealTypes.addAll(usage.usedMealTypes());
+        }
+
         private MealUsageAggregate toAggregate(
                 LocalDate referenceDate,
-                Recipe recipe,
+                RecipeHeader recipe,
                 PreferenceResolution preferenceResolution
         ) {
             int recentOccurrences = (int) occurrences.stream()
                     .filter(occurrence -> !occurrence.plannedDate().isBefore(referenceDate.minusDays(RECENT_USAGE_WINDOW_DAYS)))
                     .count();
+            int totalOccurrences = occurrences.size() + earlierOccurrences;
+            int totalDistinctWeeks = distinctWeeks.size() + earlierDistinctWeeks;
             boolean recent = !lastPlannedDate.isBefore(referenceDate.minusDays(RECENT_WINDOW_DAYS));
-            boolean frequent = occurrences.size() >= 3;
-            boolean familiar = occurrences.size() >= 2 && distinctWeeks.size() >= 2;
-            boolean fallback = preferenceResolution.fallback() || (occurrences.size() >= 4 && distinctWeeks.size() >= 2);
+            boolean frequent = totalOccurrences >= 3;
+            boolean familiar = totalOccurrences >= 2 && totalDistinctWeeks >= 2;
+            boolean fallback = preferenceResolution.fallback() || (totalOccurrences >= 4 && totalDistinctWeeks >= 2);
             boolean preferenceFit = preferenceResolution.preferred() || preferenceResolution.fallback();
             boolean deprioritized = preferenceResolution.deprioritized();
             boolean makeSoon = recipe != null && recipe.getMakeSoonAt() != null;
             return new MealUsageAggregate(
                     identity,
-                    occurrences.size(),
+                    totalOccurrences,
                     recentOccurrences,
-                    distinctWeeks.size(),
+                    totalDistinctWeeks,
                     lastPlannedDate,
                     usedMealTypes,
                     recent,
@@ -395,6 +630,8 @@ public final class MealChoiceSupportEngine {
         private final List<MealOccurrence> occurrences = new ArrayList<>();
         private final Set<String> distinctWeeks = new HashSet<>();
         private LocalDate lastUsedDate = null;
+        private int earlierUses = 0;
+        private int earlierDistinctWeeks = 0;
 
         private RecipeAccumulator(UUID recipeId, String recipeTitle) {
             this.recipeId = recipeId;
@@ -417,23 +654,33 @@ public final class MealChoiceSupportEngine {
             distinctWeeks.add(occurrence.year() + "-" + occurrence.isoWeek());
         }
 
+        private void add(MealUsageYear usage) {
+            earlierUses += usage.occurrences();
+            earlierDistinctWeeks += usage.distinctWeeks();
+            if (lastUsedDate == null || usage.lastPlannedDate().isAfter(lastUsedDate)) {
+                lastUsedDate = usage.lastPlannedDate();
+            }
+        }
+
         private RecipeUsageHistory toHistory(
                 LocalDate referenceDate,
-                Recipe recipe,
+                RecipeHeader recipe,
                 PreferenceResolution preferenceResolution
         ) {
             int recentUses = (int) occurrences.stream()
                     .filter(occurrence -> !occurrence.plannedDate().isBefore(referenceDate.minusDays(RECENT_USAGE_WINDOW_DAYS)))
                     .count();
-            boolean frequent = occurrences.size() >= 3;
-            boolean familiar = occurrences.size() >= 2 && distinctWeeks.size() >= 2;
+            int totalUses = occurrences.size() + earlierUses;
+            int totalDistinctWeeks = distinctWeeks.size() + earlierDistinctWeeks;
+            boolean frequent = totalUses >= 3;
+            boolean familiar = totalUses >= 2 && totalDistinctWeeks >= 2;
             return new RecipeUsageHistory(
                     recipeId,
                     recipeTitle,
                     lastUsedDate,
-                    occurrences.size(),
+                    totalUses,
                     recentUses,
-                    distinctWeeks.size(),
+                    totalDistinctWeeks,
                     frequent,
                     familiar,
                     recipe != null && recipe.getMakeSoonAt() != null,
@@ -443,6 +690,44 @@ public final class MealChoiceSupportEngine {
         }
     }
 
+    private static final class UsageYearAccumulator {
+        private final String identityKey;
+        private final UUID recipeId;
+        private final Set<Integer> distinctWeeks = new HashSet<>();
+        private final Set<MealType> usedMealTypes = EnumSet.noneOf(MealType.class);
+        private String title = null;
+        private LocalDate lastPlannedDate = null;
+        private int occurrences = 0;
+
+        private UsageYearAccumulator(String identityKey, UUID recipeId) {
+            this.identityKey = identityKey;
+            this.recipeId = recipeId;
+        }
+
+        private void add(MealOccurrence occurrence, String occurrenceTitle) {
+            occurrences++;
+            if (lastPlannedDate == null || occurrence.plannedDate().isAfter(lastPlannedDate)) {
+                lastPlannedDate = occurrence.plannedDate();
+                title = occurrenceTitle;
+            }
+            distinctWeeks.add(occurrence.isoWeek());
+            usedMealTypes.add(occurrence.mealType());
+        }
+
+        private MealUsageYear toUsageYear(int year) {
+            return new MealUsageYear(
+                    identityKey,
+                    recipeId,
+                    title,
+                    year,
+                    occurrences,
+                    distinctWeeks.size(),
+                    lastPlannedDate,
+                    usedMealTypes
+            );
+        }
+    }
+
     private record PreferenceResolution(boolean preferred, boolean fallback, boolean deprioritized) {
     }
 
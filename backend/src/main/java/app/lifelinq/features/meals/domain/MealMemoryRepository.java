@@ -2,7 +2,41 @@ package app.lifelinq.features.meals.domain;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MealMemoryRepository {
     List<MealOccurrence> findHistoricalOccurrencesOnOrBefore(UUID groupId, int year, int isoWeek, int dayOfWeek);
+
+    List<MealOccurrence> findHistoricalOccurrencesOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    );
+
+    /**
+     * Streams occurrences from week {@code fromYear}/{@code fromIsoWeek} up to the given day, newest
+     * first. Callers must close the stream and may stop reading as soon as they have enough.
+     */
+    default Stream<MealOccurrence> streamHistoricalOccurrencesOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        return findHistoricalOccurrencesOnOrBefore(groupId, fromYear, year, isoWeek, dayOfWeek).stream()
+                .filter(occurrence -> occurrence.year() > fromYear || occurrence.isoWeek() >= fromIsoWeek);
+    }
+
+    List<MealOccurrence> findOccurrencesInYear(UUID groupId, int year);
+
+    /**
+     * Returns the distinct years in which the group has planned meals, oldest first.
+     */
+    List<Integer> findPlannedYears(UUID groupId);
+
+    List<UUID> findGroupIdsWithPlannedMeals();
 }
@@ -0,0 +1,19 @@
+package app.lifelinq.features.meals.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MealUsageRepository {
+    List<MealUsageYear> findByGroupIdBeforeYear(UUID groupId, int year);
+
+    /**
+     * Holds the usage rows of one group year against concurrent rewrites until the current
+     * transaction ends. Callers take it before reading the occurrences they summarize.
+     */
+    default void lockYear(UUID groupId, int year) {
+    }
+
+    void replaceYear(UUID groupId, int year, List<MealUsageYear> usage);
+
+    void deleteByGroupId(UUID groupId);
+}
@@ -0,0 +1,40 @@
+package app.lifelinq.features.meals.domain;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+public record MealUsageYear(
+        String identityKey,
+        UUID recipeId,
+        String title,
+        int year,
+        int occurrences,
+        int distinctWeeks,
+        LocalDate lastPlannedDate,
+        Set<MealType> usedMealTypes
+) {
+    public MealUsageYear {
+        if (identityKey == null || identityKey.isBlank()) {
+            throw new IllegalArgumentException("identityKey must not be blank");
+        }
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("title must not be blank");
+        }
+        if (occurrences < 1) {
+            throw new IllegalArgumentException("occurrences must be >= 1");
+        }
+        if (distinctWeeks < 1 || distinctWeeks > occurrences) {
+            throw new IllegalArgumentException("distinctWeeks must be between 1 and occurrences");
+        }
+        if (lastPlannedDate == null) {
+            throw new IllegalArgumentException("lastPlannedDate must not be null");
+        }
+        if (usedMealTypes == null || usedMealTypes.isEmpty()) {
+            throw new IllegalArgumentException("usedMealTypes must not be empty");
+        }
+        identityKey = identityKey.trim();
+        title = title.trim();
+        usedMealTypes = Set.copyOf(usedMealTypes);
+    }
+}
@@ -0,0 +1,25 @@
+package app.lifelinq.features.meals.domain;
+
+import java.time.LocalDate;
+
+public record ProposedMeal(
+        int dayOfWeek,
+        MealType mealType,
+        LocalDate plannedDate,
+        ReuseCandidate candidate
+) {
+    public ProposedMeal {
+        if (dayOfWeek < 1 || dayOfWeek > 7) {
+            throw new IllegalArgumentException("dayOfWeek must be between 1 and 7");
+        }
+        if (mealType == null) {
+            throw new IllegalArgumentException("mealType must not be null");
+        }
+        if (plannedDate == null) {
+            throw new IllegalArgumentException("plannedDate must not be null");
+        }
+        if (candidate == null) {
+            throw new IllegalArgumentException("candidate must not be null");
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
-public final class Recipe {
+public final class Recipe implements RecipeHeader {
     private final UUID id;
     private final UUID groupId;
     private final String name;
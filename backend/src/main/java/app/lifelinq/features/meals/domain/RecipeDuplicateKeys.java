@@ -0,0 +1,28 @@
+package app.lifelinq.features.meals.domain;
+
+import java.util.Locale;
+
+/**
+ * Comparable forms of the recipe fields used for duplicate detection. Recipes store
+ * these keys so a draft can be matched against the library with indexed lookups.
+ */
+public final class RecipeDuplicateKeys {
+    private RecipeDuplicateKeys() {
+    }
+
+    public static String sourceUrl(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public static String text(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
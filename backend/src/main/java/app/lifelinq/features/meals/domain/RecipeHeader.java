@@ -0,0 +1,17 @@
+package app.lifelinq.features.meals.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The parts of a recipe that planning and library listings need, without its ingredients.
+ */
+public interface RecipeHeader {
+    UUID getId();
+
+    String getName();
+
+    Instant getMakeSoonAt();
+
+    boolean isArchived();
+}
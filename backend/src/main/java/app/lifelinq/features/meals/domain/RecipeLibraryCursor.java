@@ -0,0 +1,70 @@
+package app.lifelinq.features.meals.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the recipe library: the sort key and id of the last recipe on the
+ * previous page. The cursor carries the key itself, so paging stays stable when that
+ * recipe is renamed, archived or deleted afterwards.
+ */
+public record RecipeLibraryCursor(String sortKey, UUID recipeId) {
+    private static final int ID_LENGTH = 36;
+
+    public RecipeLibraryCursor {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("sortKey must not be null");
+        }
+        if (recipeId == null) {
+            throw new IllegalArgumentException("recipeId must not be null");
+        }
+    }
+
+    public static RecipeLibraryCursor after(RecipeSummary recipe) {
+        if (recipe == null) {
+            throw new IllegalArgumentException("recipe must not be null");
+        }
+        return new RecipeLibraryCursor(recipe.getSortKey(), recipe.getId());
+    }
+
+    public static RecipeLibraryCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("recipe library cursor must not be blank");
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid recipe library cursor");
+        }
+        if (decoded.length() <= ID_LENGTH || decoded.charAt(ID_LENGTH) != ':') {
+            throw new IllegalArgumentException("Invalid recipe library cursor");
+        }
+        UUID recipeId;
+        try {
+            recipeId = UUID.fromString(decoded.substring(0, ID_LENGTH));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid recipe library cursor");
+        }
+        return new RecipeLibraryCursor(decoded.substring(ID_LENGTH + 1), recipeId);
+    }
+
+    public String encode() {
+        String raw = recipeId + ":" + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether {@code recipe} sorts after this position in library order: by sort key,
+     * then by the canonical text form of the id, which matches how the database orders
+     * uuid columns.
+     */
+    public boolean precedes(RecipeSummary recipe) {
+        int bySortKey = recipe.getSortKey().compareTo(sortKey);
+        if (bySortKey != 0) {
+            return bySortKey > 0;
+        }
+        return recipe.getId().toString().compareTo(recipeId.toString()) > 0;
+    }
+}
@@ -1,5 +1,7 @@
 package app.lifelinq.features.meals.domain;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -19,4 +21,65 @@ public interface RecipeRepository {
     List<Recipe> findByGroupId(UUID groupId);
 
     List<Recipe> findByGroupIdAndIds(UUID groupId, Set<UUID> recipeIds);
+
+    /**
+     * Returns one page of saved recipes in the given lifecycle, ordered by
+     * {@link RecipeSummary#getSortKey()} and then id, starting after {@code after}
+     * when it is given.
+     */
+    default List<RecipeSummary> findSummaryPage(
+            UUID groupId,
+            RecipeLifecycle lifecycle,
+            RecipeLibraryCursor after,
+            int limit
+    ) {
+        List<Recipe> recipes = lifecycle == RecipeLifecycle.ARCHIVED
+                ? findArchivedByGroupId(groupId)
+                : findActiveByGroupId(groupId);
+        List<RecipeSummary> summaries = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            RecipeSummary summary = RecipeSummary.of(recipe);
+            if (after == null || after.precedes(summary)) {
+                summaries.add(summary);
+            }
+        }
+        summaries.sort(Comparator.comparing(RecipeSummary::getSortKey)
+                .thenComparing(summary -> summary.getId().toString()));
+        return List.copyOf(summaries.subList(0, Math.min(summaries.size(), limit)));
+    }
+
+    default List<RecipeSummary> findSummariesByGroupId(UUID groupId) {
+        List<RecipeSummary> summaries = new ArrayList<>();
+        for (Recipe recipe : findByGroupId(groupId)) {
+            summaries.add(RecipeSummary.of(recipe));
+        }
+        return summaries;
+    }
+
+    default Optional<RecipeSummary> findSummaryByIdAndGroupId(UUID recipeId, UUID groupId) {
+        return findByIdAndGroupId(recipeId, groupId).map(RecipeSummary::of);
+    }
+
+    default Optional<UUID> findIdByGroupIdAndNormalizedSourceUrl(UUID groupId, String normalizedSourceUrl) {
+        for (Recipe recipe : findByGroupId(groupId)) {
+            if (normalizedSourceUrl.equals(RecipeDuplicateKeys.sourceUrl(recipe.getSourceUrl()))) {
+                return Optional.of(recipe.getId());
+            }
+        }
+        return Optional.empty();
+    }
+
+    default Optional<UUID> findIdByGroupIdAndNormalizedNameAndSourceName(
+            UUID groupId,
+            String normalizedName,
+            String normalizedSourceName
+    ) {
+        for (Recipe recipe : findByGroupId(groupId)) {
+            if (normalizedName.equals(RecipeDuplicateKeys.text(recipe.getName()))
+                    && normalizedSourceName.equals(RecipeDuplicateKeys.text(recipe.getSourceName()))) {
+                return Optional.of(recipe.getId());
+            }
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,131 @@
+package app.lifelinq.features.meals.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A recipe as shown in library listings: everything but the ingredients themselves,
+ * which are only counted.
+ */
+public final class RecipeSummary implements RecipeHeader {
+    private final UUID id;
+    private final UUID groupId;
+    private final String name;
+    private final String sourceName;
+    private final String sourceUrl;
+    private final Instant makeSoonAt;
+    private final Instant updatedAt;
+    private final Instant archivedAt;
+    private final boolean savedInRecipes;
+    private final int ingredientCount;
+
+    public RecipeSummary(
+            UUID id,
+            UUID groupId,
+            String name,
+            String sourceName,
+            String sourceUrl,
+            Instant makeSoonAt,
+            Instant updatedAt,
+            Instant archivedAt,
+            boolean savedInRecipes,
+            int ingredientCount
+    ) {
+        if (id == null) {
+            throw new IllegalArgumentException("id must not be null");
+        }
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("name must not be null");
+        }
+        if (ingredientCount < 0) {
+            throw new IllegalArgumentException("ingredientCount must not be negative");
+        }
+        this.id = id;
+        this.groupId = groupId;
+        this.name = name;
+        this.sourceName = sourceName;
+        this.sourceUrl = sourceUrl;
+        this.makeSoonAt = makeSoonAt;
+        this.updatedAt = updatedAt;
+        this.archivedAt = archivedAt;
+        this.savedInRecipes = savedInRecipes;
+        this.ingredientCount = ingredientCount;
+    }
+
+    public static RecipeSummary of(Recipe recipe) {
+        return new RecipeSummary(
+                recipe.getId(),
+                recipe.getGroupId(),
+                recipe.getName(),
+                recipe.getSourceName(),
+                recipe.getSourceUrl(),
+                recipe.getMakeSoonAt(),
+                recipe.getUpdatedAt(),
+                recipe.getArchivedAt(),
+                recipe.isSavedInRecipes(),
+                recipe.getIngredients().size()
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getGroupId() {
+        return groupId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public String getSourceUrl() {
+        return sourceUrl;
+    }
+
+    public RecipeSource getSource() {
+        return new RecipeSource(sourceName, sourceUrl);
+    }
+
+    public Instant getMakeSoonAt() {
+        return makeSoonAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public boolean isSavedInRecipes() {
+        return savedInRecipes;
+    }
+
+    public int getIngredientCount() {
+        return ingredientCount;
+    }
+
+    public boolean isArchived() {
+        return archivedAt != null;
+    }
+
+    public RecipeLifecycle getLifecycle() {
+        return isArchived() ? RecipeLifecycle.ARCHIVED : RecipeLifecycle.ACTIVE;
+    }
+
+    /**
+     * The library sort key; listings order by this key, then by recipe id.
+     */
+    public String getSortKey() {
+        return RecipeDuplicateKeys.text(name);
+    }
+}
@@ -0,0 +1,16 @@
+package app.lifelinq.features.meals.domain;
+
+import java.util.List;
+
+public record WeekPlanProposal(
+        int year,
+        int isoWeek,
+        List<ProposedMeal> meals
+) {
+    public WeekPlanProposal {
+        if (meals == null) {
+            throw new IllegalArgumentException("meals must not be null");
+        }
+        meals = List.copyOf(meals);
+    }
+}
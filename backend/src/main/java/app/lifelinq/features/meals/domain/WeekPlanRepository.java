@@ -3,6 +3,7 @@ package app.lifelinq.features.meals.domain;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface WeekPlanRepository {
     WeekPlan save(WeekPlan weekPlan);
@@ -16,4 +17,37 @@ public interface WeekPlanRepository {
     List<UUID> findRecentRecipeIdsOnOrBefore(UUID groupId, int year, int isoWeek, int dayOfWeek);
 
     List<RecentPlannedMeal> findRecentMealsOnOrBefore(UUID groupId, int year, int isoWeek, int dayOfWeek);
+
+    /**
+     * Streams recipe ids planned from week {@code fromYear}/{@code fromIsoWeek} up to the given day,
+     * newest first. Callers must close the stream and may stop reading as soon as they have enough.
+     */
+    default Stream<UUID> streamRecentRecipeIdsOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        return streamRecentMealsOnOrBefore(groupId, fromYear, fromIsoWeek, year, isoWeek, dayOfWeek)
+                .map(RecentPlannedMeal::recipeId)
+                .filter(recipeId -> recipeId != null);
+    }
+
+    /**
+     * Streams planned meals from week {@code fromYear}/{@code fromIsoWeek} up to the given day, in
+     * {@link #findRecentMealsOnOrBefore} order. Callers must close the stream.
+     */
+    default Stream<RecentPlannedMeal> streamRecentMealsOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        return findRecentMealsOnOrBefore(groupId, year, isoWeek, dayOfWeek).stream()
+                .filter(meal -> meal.year() > fromYear || (meal.year() == fromYear && meal.isoWeek() >= fromIsoWeek));
+    }
 }
@@ -6,8 +6,8 @@ import app.lifelinq.features.meals.domain.MealType;
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
 import java.util.List;
-import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public final class JpaMealMemoryRepositoryAdapter implements MealMemoryRepository {
     private final MealMemoryJpaRepository repository;
@@ -24,20 +24,79 @@ public final class JpaMealMemoryRepositoryAdapter implements MealMemoryRepositor
         if (groupId == null) {
             throw new IllegalArgumentException("groupId must not be null");
         }
-        return repository.findHistoricalOccurrencesOnOrBefore(groupId, year, isoWeek, dayOfWeek).stream()
-                .map(projection -> new MealOccurrence(
-                        projection.getWeekPlanId(),
-                        projection.getYear(),
-                        projection.getIsoWeek(),
-                        projection.getDayOfWeek(),
-                        MealType.valueOf(projection.getMealType()),
-                        LocalDate.of(projection.getYear(), 1, 4)
-                                .with(WeekFields.ISO.weekOfWeekBasedYear(), projection.getIsoWeek())
-                                .with(WeekFields.ISO.dayOfWeek(), projection.getDayOfWeek()),
-                        projection.getMealTitle(),
-                        projection.getRecipeId(),
-                        projection.getRecipeTitleSnapshot()
-                ))
+        return toDomain(repository.findHistoricalOccurrencesOnOrBefore(groupId, year, isoWeek, dayOfWeek));
+    }
+
+    @Override
+    public List<MealOccurrence> findHistoricalOccurrencesOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return toDomain(repository.findHistoricalOccurrencesFromYearOnOrBefore(groupId, fromYear, year, isoWeek, dayOfWeek));
+    }
+
+    @Override
+    public Stream<MealOccurrence> streamHistoricalOccurrencesOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.streamHistoricalOccurrencesBetween(groupId, fromYear, fromIsoWeek, year, isoWeek, dayOfWeek)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<MealOccurrence> findOccurrencesInYear(UUID groupId, int year) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return toDomain(repository.findOccurrencesInYear(groupId, year));
+    }
+
+    @Override
+    public List<Integer> findPlannedYears(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.findPlannedYears(groupId);
+    }
+
+    @Override
+    public List<UUID> findGroupIdsWithPlannedMeals() {
+        return repository.findGroupIdsWithPlannedMeals();
+    }
+
+    private List<MealOccurrence> toDomain(List<HistoricalMealOccurrenceProjection> projections) {
+        return projections.stream()
+                .map(this::toDomain)
                 .toList();
     }
+
+    private MealOccurrence toDomain(HistoricalMealOccurrenceProjection projection) {
+        return new MealOccurrence(
+                projection.getWeekPlanId(),
+                projection.getYear(),
+                projection.getIsoWeek(),
+                projection.getDayOfWeek(),
+                MealType.valueOf(projection.getMealType()),
+                LocalDate.of(projection.getYear(), 1, 4)
+                        .with(WeekFields.ISO.weekOfWeekBasedYear(), projection.getIsoWeek())
+                        .with(WeekFields.ISO.dayOfWeek(), projection.getDayOfWeek()),
+                projection.getMealTitle(),
+                projection.getRecipeId(),
+                projection.getRecipeTitleSnapshot()
+        );
+    }
 }
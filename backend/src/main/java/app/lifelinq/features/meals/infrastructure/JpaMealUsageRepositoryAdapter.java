@@ -0,0 +1,115 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.MealUsageRepository;
+import app.lifelinq.features.meals.domain.MealUsageYear;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public final class JpaMealUsageRepositoryAdapter implements MealUsageRepository {
+    private final MealUsageYearJpaRepository repository;
+    private final MealUsageYearLockJpaRepository lockRepository;
+
+    public JpaMealUsageRepositoryAdapter(
+            MealUsageYearJpaRepository repository,
+            MealUsageYearLockJpaRepository lockRepository
+    ) {
+        if (repository == null) {
+            throw new IllegalArgumentException("repository must not be null");
+        }
+        if (lockRepository == null) {
+            throw new IllegalArgumentException("lockRepository must not be null");
+        }
+        this.repository = repository;
+        this.lockRepository = lockRepository;
+    }
+
+    @Override
+    public List<MealUsageYear> findByGroupIdBeforeYear(UUID groupId, int year) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.findByGroupIdAndUsageYearLessThan(groupId, year).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void lockYear(UUID groupId, int year) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        MealUsageYearLockId id = new MealUsageYearLockId(groupId, year);
+        lockRepository.insertIfAbsent(groupId, year);
+        lockRepository.lockById(id)
+                .orElseThrow(() -> new IllegalStateException("meal usage lock row missing for " + groupId + "/" + year));
+    }
+
+    @Override
+    public void replaceYear(UUID groupId, int year, List<MealUsageYear> usage) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (usage == null) {
+            throw new IllegalArgumentException("usage must not be null");
+        }
+        repository.deleteByGroupIdAndUsageYear(groupId, year);
+        repository.saveAll(usage.stream()
+                .map(entry -> {
+                    if (entry.year() != year) {
+                        throw new IllegalArgumentException("usage must belong to year " + year);
+                    }
+                    return toEntity(groupId, entry);
+                })
+                .toList());
+    }
+
+    @Override
+    public void deleteByGroupId(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        repository.deleteByGroupId(groupId);
+    }
+
+    private MealUsageYearEntity toEntity(UUID groupId, MealUsageYear usage) {
+        return new MealUsageYearEntity(
+                UUID.randomUUID(),
+                groupId,
+                usage.year(),
+                usage.identityKey(),
+                usage.recipeId(),
+                usage.title(),
+                usage.occurrences(),
+                usage.distinctWeeks(),
+                usage.lastPlannedDate(),
+                usage.usedMealTypes().stream()
+                        .sorted()
+                        .map(MealType::name)
+                        .collect(Collectors.joining(","))
+        );
+    }
+
+    private MealUsageYear toDomain(MealUsageYearEntity entity) {
+        Set<MealType> usedMealTypes = EnumSet.noneOf(MealType.class);
+        Arrays.stream(entity.getUsedMealTypes().split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(MealType::valueOf)
+                .forEach(usedMealTypes::add);
+        return new MealUsageYear(
+                entity.getIdentityKey(),
+                entity.getRecipeId(),
+                entity.getTitle(),
+                entity.getUsageYear(),
+                entity.getOccurrenceCount(),
+                entity.getDistinctWeeks(),
+                entity.getLastPlannedDate(),
+                usedMealTypes
+        );
+    }
+}
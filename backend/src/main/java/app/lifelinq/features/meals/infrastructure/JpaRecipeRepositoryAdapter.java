@@ -1,12 +1,16 @@
 package app.lifelinq.features.meals.infrastructure;
 
 import app.lifelinq.features.meals.domain.Recipe;
+import app.lifelinq.features.meals.domain.RecipeLibraryCursor;
+import app.lifelinq.features.meals.domain.RecipeLifecycle;
 import app.lifelinq.features.meals.domain.RecipeRepository;
+import app.lifelinq.features.meals.domain.RecipeSummary;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JpaRecipeRepositoryAdapter implements RecipeRepository {
@@ -123,6 +127,107 @@ public class JpaRecipeRepositoryAdapter implements RecipeRepository {
         return result;
     }
 
+    @Override
+    public List<RecipeSummary> findSummaryPage(
+            UUID groupId,
+            RecipeLifecycle lifecycle,
+            RecipeLibraryCursor after,
+            int limit
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (lifecycle == null) {
+            throw new IllegalArgumentException("lifecycle must not be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        boolean archived = lifecycle == RecipeLifecycle.ARCHIVED;
+        PageRequest page = PageRequest.of(0, limit);
+        List<RecipeSummaryProjection> rows;
+        if (after == null) {
+            rows = repository.findLibrarySummaries(groupId, archived, page);
+        } else {
+            rows = repository.findLibrarySummariesAfter(groupId, archived, after.sortKey(), after.recipeId(), page);
+        }
+        return toSummaries(rows);
+    }
+
+    @Override
+    public List<RecipeSummary> findSummariesByGroupId(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return toSummaries(repository.findSummariesByGroupId(groupId));
+    }
+
+    @Override
+    public Optional<RecipeSummary> findSummaryByIdAndGroupId(UUID recipeId, UUID groupId) {
+        if (recipeId == null) {
+            throw new IllegalArgumentException("recipeId must not be null");
+        }
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.findSummaryByIdAndGroupId(recipeId, groupId).map(this::toSummary);
+    }
+
+    private List<RecipeSummary> toSummaries(List<RecipeSummaryProjection> rows) {
+        List<RecipeSummary> result = new ArrayList<>(rows.size());
+        for (RecipeSummaryProjection row : rows) {
+            result.add(toSummary(row));
+        }
+        return result;
+    }
+
+    private RecipeSummary toSummary(RecipeSummaryProjection row) {
+        return new RecipeSummary(
+                row.getId(),
+                row.getGroupId(),
+                row.getName(),
+                row.getSourceName(),
+                row.getSourceUrl(),
+                row.getMakeSoonAt(),
+                row.getUpdatedAt(),
+                row.getArchivedAt(),
+                row.getSavedInRecipes(),
+                row.getIngredientCount()
+        );
+    }
+
+    @Override
+    public Optional<UUID> findIdByGroupIdAndNormalizedSourceUrl(UUID groupId, String normalizedSourceUrl) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (normalizedSourceUrl == null) {
+            throw new IllegalArgumentException("normalizedSourceUrl must not be null");
+        }
+        return repository.findFirstByGroupIdAndNormalizedSourceUrlOrderByCreatedAtAsc(groupId, normalizedSourceUrl)
+                .map(RecipeEntity::getId);
+    }
+
+    @Override
+    public Optional<UUID> findIdByGroupIdAndNormalizedNameAndSourceName(
+            UUID groupId,
+            String normalizedName,
+            String normalizedSourceName
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (normalizedName == null || normalizedSourceName == null) {
+            throw new IllegalArgumentException("normalizedName/normalizedSourceName must not be null");
+        }
+        return repository.findFirstByGroupIdAndNormalizedNameAndNormalizedSourceNameOrderByCreatedAtAsc(
+                        groupId,
+                        normalizedName,
+                        normalizedSourceName
+                )
+                .map(RecipeEntity::getId);
+    }
+
     @Override
     public List<Recipe> findByGroupIdAndIds(UUID groupId, Set<UUID> recipeIds) {
         if (groupId == null) {
@@ -8,6 +8,7 @@ import app.lifelinq.features.meals.domain.WeekPlanRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.dao.DataIntegrityViolationException;
 
 public final class JpaWeekPlanRepositoryAdapter implements WeekPlanRepository {
@@ -86,18 +87,53 @@ public final class JpaWeekPlanRepositoryAdapter implements WeekPlanRepository {
             throw new IllegalArgumentException("groupId must not be null");
         }
         return repository.findRecentMealsOnOrBefore(groupId, year, isoWeek, dayOfWeek).stream()
-                .map(meal -> new RecentPlannedMeal(
-                        meal.getYear(),
-                        meal.getIsoWeek(),
-                        meal.getDayOfWeek(),
-                        MealType.valueOf(meal.getMealType()),
-                        meal.getMealTitle(),
-                        meal.getRecipeId(),
-                        meal.getRecipeTitleSnapshot()
-                ))
+                .map(this::toRecentPlannedMeal)
                 .toList();
     }
 
+    @Override
+    public Stream<UUID> streamRecentRecipeIdsOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.streamRecentRecipeIdsBetween(groupId, fromYear, fromIsoWeek, year, isoWeek, dayOfWeek);
+    }
+
+    @Override
+    public Stream<RecentPlannedMeal> streamRecentMealsOnOrBefore(
+            UUID groupId,
+            int fromYear,
+            int fromIsoWeek,
+            int year,
+            int isoWeek,
+            int dayOfWeek
+    ) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        return repository.streamRecentMealsBetween(groupId, fromYear, fromIsoWeek, year, isoWeek, dayOfWeek)
+                .map(this::toRecentPlannedMeal);
+    }
+
+    private RecentPlannedMeal toRecentPlannedMeal(RecentPlannedMealProjection meal) {
+        return new RecentPlannedMeal(
+                meal.getYear(),
+                meal.getIsoWeek(),
+                meal.getDayOfWeek(),
+                MealType.valueOf(meal.getMealType()),
+                meal.getMealTitle(),
+                meal.getRecipeId(),
+                meal.getRecipeTitleSnapshot()
+        );
+    }
+
     private WeekPlanEntity updateEntity(WeekPlanEntity entity, WeekPlan weekPlan) {
         if (!entity.getGroupId().equals(weekPlan.getGroupId())) {
             throw new IllegalArgumentException("groupId cannot be changed");
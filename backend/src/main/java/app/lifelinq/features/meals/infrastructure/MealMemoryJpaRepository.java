@@ -1,8 +1,12 @@
 package app.lifelinq.features.meals.infrastructure;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
@@ -39,4 +43,114 @@ public interface MealMemoryJpaRepository extends Repository<PlannedMealEntity, P
             @Param("isoWeek") int isoWeek,
             @Param("dayOfWeek") int dayOfWeek
     );
+
+    @Query("""
+            select
+                wp.id as weekPlanId,
+                wp.year as year,
+                wp.isoWeek as isoWeek,
+                pm.id.dayOfWeek as dayOfWeek,
+                pm.id.mealType as mealType,
+                pm.mealTitle as mealTitle,
+                pm.recipeId as recipeId,
+                pm.recipeTitleSnapshot as recipeTitleSnapshot
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+              and wp.year >= :fromYear
+              and (
+                    wp.year < :year
+                    or (
+                        wp.year = :year
+                        and (
+                            wp.isoWeek < :isoWeek
+                            or (wp.isoWeek = :isoWeek and pm.id.dayOfWeek <= :dayOfWeek)
+                        )
+                    )
+              )
+            order by wp.year desc, wp.isoWeek desc, pm.id.dayOfWeek desc, pm.id.mealType asc
+            """)
+    List<HistoricalMealOccurrenceProjection> findHistoricalOccurrencesFromYearOnOrBefore(
+            @Param("groupId") UUID groupId,
+            @Param("fromYear") int fromYear,
+            @Param("year") int year,
+            @Param("isoWeek") int isoWeek,
+            @Param("dayOfWeek") int dayOfWeek
+    );
+
+    @Query("""
+            select
+                wp.id as weekPlanId,
+                wp.year as year,
+                wp.isoWeek as isoWeek,
+                pm.id.dayOfWeek as dayOfWeek,
+                pm.id.mealType as mealType,
+                pm.mealTitle as mealTitle,
+                pm.recipeId as recipeId,
+                pm.recipeTitleSnapshot as recipeTitleSnapshot
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+              and (wp.year > :fromYear or (wp.year = :fromYear and wp.isoWeek >= :fromIsoWeek))
+              and (
+                    wp.year < :year
+                    or (
+                        wp.year = :year
+                        and (
+                            wp.isoWeek < :isoWeek
+                            or (wp.isoWeek = :isoWeek and pm.id.dayOfWeek <= :dayOfWeek)
+                        )
+                    )
+              )
+            order by wp.year desc, wp.isoWeek desc, pm.id.dayOfWeek desc, pm.id.mealType asc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "32"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<HistoricalMealOccurrenceProjection> streamHistoricalOccurrencesBetween(
+            @Param("groupId") UUID groupId,
+            @Param("fromYear") int fromYear,
+            @Param("fromIsoWeek") int fromIsoWeek,
+            @Param("year") int year,
+            @Param("isoWeek") int isoWeek,
+            @Param("dayOfWeek") int dayOfWeek
+    );
+
+    @Query("""
+            select
+                wp.id as weekPlanId,
+                wp.year as year,
+                wp.isoWeek as isoWeek,
+                pm.id.dayOfWeek as dayOfWeek,
+                pm.id.mealType as mealType,
+                pm.mealTitle as mealTitle,
+                pm.recipeId as recipeId,
+                pm.recipeTitleSnapshot as recipeTitleSnapshot
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+              and wp.year = :year
+            order by wp.isoWeek desc, pm.id.dayOfWeek desc, pm.id.mealType asc
+            """)
+    List<HistoricalMealOccurrenceProjection> findOccurrencesInYear(
+            @Param("groupId") UUID groupId,
+            @Param("year") int year
+    );
+
+    @Query("""
+            select distinct wp.year
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+            order by wp.year
+            """)
+    List<Integer> findPlannedYears(@Param("groupId") UUID groupId);
+
+    @Query("""
+            select distinct wp.groupId
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            """)
+    List<UUID> findGroupIdsWithPlannedMeals();
 }
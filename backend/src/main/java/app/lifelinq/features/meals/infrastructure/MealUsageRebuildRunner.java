@@ -0,0 +1,32 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import app.lifelinq.features.meals.application.MealsApplicationService;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+public final class MealUsageRebuildRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(MealUsageRebuildRunner.class);
+
+    private final MealsApplicationService mealsApplicationService;
+
+    public MealUsageRebuildRunner(MealsApplicationService mealsApplicationService) {
+        if (mealsApplicationService == null) {
+            throw new IllegalArgumentException("mealsApplicationService must not be null");
+        }
+        this.mealsApplicationService = mealsApplicationService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int groups = 0;
+        int rows = 0;
+        for (UUID groupId : mealsApplicationService.listGroupsWithMealUsage()) {
+            rows += mealsApplicationService.rebuildMealUsage(groupId);
+            groups++;
+        }
+        log.info("Rebuilt meal usage read model for {} groups ({} rows)", groups, rows);
+    }
+}
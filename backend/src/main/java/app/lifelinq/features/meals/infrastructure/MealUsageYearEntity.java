@@ -0,0 +1,120 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "meal_usage_years",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id", "usage_year", "identity_key"})
+        },
+        indexes = {
+                @Index(name = "idx_meal_usage_years_group_year", columnList = "group_id,usage_year")
+        }
+)
+public class MealUsageYearEntity {
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "group_id", nullable = false)
+    private UUID groupId;
+
+    @Column(name = "usage_year", nullable = false)
+    private int usageYear;
+
+    @Column(name = "identity_key", nullable = false, length = 512)
+    private String identityKey;
+
+    @Column(name = "recipe_id")
+    private UUID recipeId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private int occurrenceCount;
+
+    @Column(name = "distinct_weeks", nullable = false)
+    private int distinctWeeks;
+
+    @Column(name = "last_planned_date", nullable = false)
+    private LocalDate lastPlannedDate;
+
+    @Column(name = "used_meal_types", nullable = false, length = 64)
+    private String usedMealTypes;
+
+    protected MealUsageYearEntity() {
+    }
+
+    MealUsageYearEntity(
+            UUID id,
+            UUID groupId,
+            int usageYear,
+            String identityKey,
+            UUID recipeId,
+            String title,
+            int occurrenceCount,
+            int distinctWeeks,
+            LocalDate lastPlannedDate,
+            String usedMealTypes
+    ) {
+        this.id = id;
+        this.groupId = groupId;
+        this.usageYear = usageYear;
+        this.identityKey = identityKey;
+        this.recipeId = recipeId;
+        this.title = title;
+        this.occurrenceCount = occurrenceCount;
+        this.distinctWeeks = distinctWeeks;
+        this.lastPlannedDate = lastPlannedDate;
+        this.usedMealTypes = usedMealTypes;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    UUID getGroupId() {
+        return groupId;
+    }
+
+    int getUsageYear() {
+        return usageYear;
+    }
+
+    String getIdentityKey() {
+        return identityKey;
+    }
+
+    UUID getRecipeId() {
+        return recipeId;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    int getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    int getDistinctWeeks() {
+        return distinctWeeks;
+    }
+
+    LocalDate getLastPlannedDate() {
+        return lastPlannedDate;
+    }
+
+    String getUsedMealTypes() {
+        return usedMealTypes;
+    }
+}
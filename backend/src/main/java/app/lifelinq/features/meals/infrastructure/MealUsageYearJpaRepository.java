@@ -0,0 +1,23 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MealUsageYearJpaRepository extends JpaRepository<MealUsageYearEntity, UUID> {
+    List<MealUsageYearEntity> findByGroupIdAndUsageYearLessThan(UUID groupId, int usageYear);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("delete from MealUsageYearEntity usage where usage.groupId = :groupId and usage.usageYear = :usageYear")
+    int deleteByGroupIdAndUsageYear(@Param("groupId") UUID groupId, @Param("usageYear") int usageYear);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("delete from MealUsageYearEntity usage where usage.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") UUID groupId);
+}
@@ -0,0 +1,23 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "meal_usage_year_locks")
+public class MealUsageYearLockEntity {
+    @EmbeddedId
+    private MealUsageYearLockId id;
+
+    protected MealUsageYearLockEntity() {
+    }
+
+    MealUsageYearLockEntity(MealUsageYearLockId id) {
+        this.id = id;
+    }
+
+    MealUsageYearLockId getId() {
+        return id;
+    }
+}
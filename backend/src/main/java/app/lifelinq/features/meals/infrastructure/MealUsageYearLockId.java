@@ -0,0 +1,49 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class MealUsageYearLockId implements Serializable {
+    @Column(name = "group_id", nullable = false)
+    private UUID groupId;
+
+    @Column(name = "usage_year", nullable = false)
+    private int usageYear;
+
+    protected MealUsageYearLockId() {
+    }
+
+    MealUsageYearLockId(UUID groupId, int usageYear) {
+        this.groupId = groupId;
+        this.usageYear = usageYear;
+    }
+
+    UUID getGroupId() {
+        return groupId;
+    }
+
+    int getUsageYear() {
+        return usageYear;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MealUsageYearLockId that = (MealUsageYearLockId) o;
+        return usageYear == that.usageYear && Objects.equals(groupId, that.groupId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupId, usageYear);
+    }
+}
@@ -0,0 +1,23 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MealUsageYearLockJpaRepository extends JpaRepository<MealUsageYearLockEntity, MealUsageYearLockId> {
+    @Modifying
+    @Query(
+            value = "insert into meal_usage_year_locks (group_id, usage_year) values (:groupId, :usageYear) on conflict do nothing",
+            nativeQuery = true
+    )
+    int insertIfAbsent(@Param("groupId") UUID groupId, @Param("usageYear") int usageYear);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select yearLock from MealUsageYearLockEntity yearLock where yearLock.id = :id")
+    Optional<MealUsageYearLockEntity> lockById(@Param("id") MealUsageYearLockId id);
+}
@@ -1,16 +1,26 @@
 package app.lifelinq.features.meals.infrastructure;
 
+import app.lifelinq.config.CacheStatisticsMeterBinder;
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
 import app.lifelinq.features.meals.application.MealsApplicationService;
+import app.lifelinq.features.meals.application.PlanningChoiceInputCache;
 import app.lifelinq.features.meals.application.RecipeImportApplicationService;
 import app.lifelinq.features.meals.contract.MealsShoppingPort;
 import app.lifelinq.features.meals.contract.RecipeImportPort;
 import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalRepository;
 import app.lifelinq.features.meals.domain.MealMemoryRepository;
+import app.lifelinq.features.meals.domain.MealUsageRepository;
 import app.lifelinq.features.meals.domain.RecipeDraftRepository;
 import app.lifelinq.features.meals.domain.RecipeRepository;
 import app.lifelinq.features.meals.domain.WeekPlanRepository;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,25 +33,72 @@ public class MealsApplicationConfig {
             RecipeRepository recipeRepository,
             RecipeDraftRepository recipeDraftRepository,
             MealMemoryRepository mealMemoryRepository,
+            MealUsageRepository mealUsageRepository,
             HouseholdPreferenceSignalRepository householdPreferenceSignalRepository,
             RecipeImportPort recipeImportPort,
             EnsureGroupMemberUseCase ensureGroupMemberUseCase,
             MealsShoppingPort mealsShoppingPort,
-            Clock clock
+            Clock clock,
+            Optional<PlanningChoiceInputCache> planningChoiceInputCache
     ) {
         return new MealsApplicationService(
                 weekPlanRepository,
                 recipeRepository,
                 recipeDraftRepository,
                 mealMemoryRepository,
+                mealUsageRepository,
                 householdPreferenceSignalRepository,
                 recipeImportPort,
                 ensureGroupMemberUseCase,
                 mealsShoppingPort,
-                clock
+                clock,
+                planningChoiceInputCache.orElse(null)
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.meals.planningChoiceCache.enabled", havingValue = "true")
+    public PlanningChoiceInputCache planningChoiceInputCache(
+            @Value("${lifelinq.meals.planningChoiceCache.maxEntries:4000}") int maxEntries,
+            @Value("${lifelinq.meals.planningChoiceCache.ttlSeconds:300}") long ttlSeconds,
+            Clock clock
+    ) {
+        return new PlanningChoiceInputCache(
+                maxEntries,
+                Duration.ofSeconds(ttlSeconds),
+                clock,
+                new SpringMealsTransactionCallbacks()
         );
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.meals.planningChoiceCache.enabled", havingValue = "true")
+    public MeterBinder planningChoiceInputCacheMetrics(PlanningChoiceInputCache cache) {
+        return registry -> {
+            new CacheStatisticsMeterBinder(cache, "meals.planning-choice-inputs").bindTo(registry);
+            TimeGauge.builder(
+                            "lifelinq.meals.planning-choice-inputs.rebuild.average",
+                            cache,
+                            TimeUnit.MILLISECONDS,
+                            c -> c.averageRebuildLatency().toNanos() / 1_000_000.0
+                    )
+                    .register(registry);
+            TimeGauge.builder(
+                            "lifelinq.meals.planning-choice-inputs.rebuild.max",
+                            cache,
+                            TimeUnit.MILLISECONDS,
+                            c -> c.maxRebuildLatency().toNanos() / 1_000_000.0
+                    )
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.meals.usage.rebuild-on-startup", havingValue = "true")
+    public MealUsageRebuildRunner mealUsageRebuildRunner(MealsApplicationService mealsApplicationService) {
+        return new MealUsageRebuildRunner(mealsApplicationService);
+    }
+
     @Bean
     public RecipeImportApplicationService recipeImportApplicationService(
             EnsureGroupMemberUseCase ensureGroupMemberUseCase,
@@ -2,6 +2,7 @@ package app.lifelinq.features.meals.infrastructure;
 
 import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalRepository;
 import app.lifelinq.features.meals.domain.MealMemoryRepository;
+import app.lifelinq.features.meals.domain.MealUsageRepository;
 import app.lifelinq.features.meals.domain.RecipeRepository;
 import app.lifelinq.features.meals.domain.RecipeDraftRepository;
 import app.lifelinq.features.meals.domain.WeekPlanRepository;
@@ -59,6 +60,14 @@ public class MealsPersistenceConfig {
         return new JpaMealMemoryRepositoryAdapter(repository);
     }
 
+    @Bean
+    public MealUsageRepository mealUsageRepository(
+            MealUsageYearJpaRepository repository,
+            MealUsageYearLockJpaRepository lockRepository
+    ) {
+        return new JpaMealUsageRepositoryAdapter(repository, lockRepository);
+    }
+
     @Bean
     public HouseholdPreferenceSignalRepository householdPreferenceSignalRepository(
             HouseholdPreferenceSignalJpaRepository repository
@@ -1,5 +1,6 @@
 package app.lifelinq.features.meals.infrastructure;
 
+import app.lifelinq.features.meals.domain.RecipeDuplicateKeys;
 import app.lifelinq.features.meals.domain.RecipeOriginKind;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -20,7 +21,12 @@ import java.util.UUID;
 @Table(
         name = "recipes",
         indexes = {
-                @Index(name = "idx_recipes_group_id", columnList = "group_id")
+                @Index(name = "idx_recipes_group_id", columnList = "group_id"),
+                @Index(name = "idx_recipes_group_source_url_key", columnList = "group_id, normalized_source_url"),
+                @Index(
+                        name = "idx_recipes_group_name_source_key",
+                        columnList = "group_id, normalized_name, normalized_source_name"
+                )
         }
 )
 public class RecipeEntity {
@@ -40,6 +46,15 @@ public class RecipeEntity {
     @Column(name = "source_url", length = 1000)
     private String sourceUrl;
 
+    @Column(name = "normalized_source_url", length = 1000)
+    private String normalizedSourceUrl;
+
+    @Column(name = "normalized_name", length = 1000)
+    private String normalizedName;
+
+    @Column(name = "normalized_source_name", length = 1000)
+    private String normalizedSourceName;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "origin_kind", nullable = false, length = 32)
     private RecipeOriginKind originKind;
@@ -105,6 +120,7 @@ public class RecipeEntity {
         this.updatedAt = updatedAt;
         this.archivedAt = archivedAt;
         this.savedInRecipes = savedInRecipes;
+        refreshDuplicateKeys();
     }
 
     UUID getId() {
@@ -191,6 +207,13 @@ public class RecipeEntity {
         this.updatedAt = updatedAt;
         this.archivedAt = archivedAt;
         this.savedInRecipes = savedInRecipes;
+        refreshDuplicateKeys();
+    }
+
+    private void refreshDuplicateKeys() {
+        this.normalizedSourceUrl = RecipeDuplicateKeys.sourceUrl(sourceUrl);
+        this.normalizedName = RecipeDuplicateKeys.text(name);
+        this.normalizedSourceName = RecipeDuplicateKeys.text(sourceName);
     }
 
     void replaceIngredients(List<RecipeIngredientEntity> ingredients) {
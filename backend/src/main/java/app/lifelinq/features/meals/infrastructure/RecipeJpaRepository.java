@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -26,6 +27,100 @@ public interface RecipeJpaRepository extends JpaRepository<RecipeEntity, UUID> {
     @EntityGraph(attributePaths = "ingredients")
     List<RecipeEntity> findByGroupIdAndIdIn(UUID groupId, Collection<UUID> ids);
 
+    @Query("""
+            select recipe.id as id,
+                recipe.groupId as groupId,
+                recipe.name as name,
+                recipe.sourceName as sourceName,
+                recipe.sourceUrl as sourceUrl,
+                recipe.makeSoonAt as makeSoonAt,
+                recipe.updatedAt as updatedAt,
+                recipe.archivedAt as archivedAt,
+                recipe.savedInRecipes as savedInRecipes,
+                size(recipe.ingredients) as ingredientCount
+            from RecipeEntity recipe
+            where recipe.groupId = :groupId
+              and recipe.savedInRecipes = true
+              and (case when recipe.archivedAt is null then false else true end) = :archived
+            order by recipe.normalizedName, recipe.id
+            """)
+    List<RecipeSummaryProjection> findLibrarySummaries(
+            @Param("groupId") UUID groupId,
+            @Param("archived") boolean archived,
+            Pageable page
+    );
+
+    @Query("""
+            select recipe.id as id,
+                recipe.groupId as groupId,
+                recipe.name as name,
+                recipe.sourceName as sourceName,
+                recipe.sourceUrl as sourceUrl,
+                recipe.makeSoonAt as makeSoonAt,
+                recipe.updatedAt as updatedAt,
+                recipe.archivedAt as archivedAt,
+                recipe.savedInRecipes as savedInRecipes,
+                size(recipe.ingredients) as ingredientCount
+            from RecipeEntity recipe
+            where recipe.groupId = :groupId
+              and recipe.savedInRecipes = true
+              and (case when recipe.archivedAt is null then false else true end) = :archived
+              and (recipe.normalizedName > :afterSortKey
+                  or (recipe.normalizedName = :afterSortKey and recipe.id > :afterId))
+            order by recipe.normalizedName, recipe.id
+            """)
+    List<RecipeSummaryProjection> findLibrarySummariesAfter(
+            @Param("groupId") UUID groupId,
+            @Param("archived") boolean archived,
+            @Param("afterSortKey") String afterSortKey,
+            @Param("afterId") UUID afterId,
+            Pageable page
+    );
+
+    @Query("""
+            select recipe.id as id,
+                recipe.groupId as groupId,
+                recipe.name as name,
+                recipe.sourceName as sourceName,
+                recipe.sourceUrl as sourceUrl,
+                recipe.makeSoonAt as makeSoonAt,
+                recipe.updatedAt as updatedAt,
+                recipe.archivedAt as archivedAt,
+                recipe.savedInRecipes as savedInRecipes,
+                size(recipe.ingredients) as ingredientCount
+            from RecipeEntity recipe
+            where recipe.groupId = :groupId
+            """)
+    List<RecipeSummaryProjection> findSummariesByGroupId(@Param("groupId") UUID groupId);
+
+    @Query("""
+            select recipe.id as id,
+                recipe.groupId as groupId,
+                recipe.name as name,
+                recipe.sourceName as sourceName,
+                recipe.sourceUrl as sourceUrl,
+                recipe.makeSoonAt as makeSoonAt,
+                recipe.updatedAt as updatedAt,
+                recipe.archivedAt as archivedAt,
+                recipe.savedInRecipes as savedInRecipes,
+                size(recipe.ingredients) as ingredientCount
+            from RecipeEntity recipe
+            where recipe.id = :id
+              and recipe.groupId = :groupId
+            """)
+    Optional<RecipeSummaryProjection> findSummaryByIdAndGroupId(@Param("id") UUID id, @Param("groupId") UUID groupId);
+
+    Optional<RecipeEntity> findFirstByGroupIdAndNormalizedSourceUrlOrderByCreatedAtAsc(
+            UUID groupId,
+            String normalizedSourceUrl
+    );
+
+    Optional<RecipeEntity> findFirstByGroupIdAndNormalizedNameAndNormalizedSourceNameOrderByCreatedAtAsc(
+            UUID groupId,
+            String normalizedName,
+            String normalizedSourceName
+    );
+
     @Modifying
     @Query("delete from RecipeEntity recipe where recipe.id = :recipeId and recipe.groupId = :groupId")
     void deleteByIdAndGroupId(@Param("recipeId") UUID recipeId, @Param("groupId") UUID groupId);
@@ -0,0 +1,26 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RecipeSummaryProjection {
+    UUID getId();
+
+    UUID getGroupId();
+
+    String getName();
+
+    String getSourceName();
+
+    String getSourceUrl();
+
+    Instant getMakeSoonAt();
+
+    Instant getUpdatedAt();
+
+    Instant getArchivedAt();
+
+    boolean getSavedInRecipes();
+
+    int getIngredientCount();
+}
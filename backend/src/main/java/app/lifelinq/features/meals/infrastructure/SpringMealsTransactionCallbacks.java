@@ -0,0 +1,22 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import app.lifelinq.features.meals.application.MealsTransactionCallbacks;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class SpringMealsTransactionCallbacks implements MealsTransactionCallbacks {
+
+    @Override
+    public void afterCompletion(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.run();
+            }
+        });
+    }
+}
@@ -1,11 +1,15 @@
 package app.lifelinq.features.meals.infrastructure;
 
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface WeekPlanJpaRepository extends JpaRepository<WeekPlanEntity, UUID> {
@@ -87,4 +91,74 @@ public interface WeekPlanJpaRepository extends JpaRepository<WeekPlanEntity, UUI
             @Param("isoWeek") int isoWeek,
             @Param("dayOfWeek") int dayOfWeek
     );
+
+    @Query("""
+            select pm.recipeId
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+              and pm.recipeId is not null
+              and (wp.year > :fromYear or (wp.year = :fromYear and wp.isoWeek >= :fromIsoWeek))
+              and (
+                    wp.year < :year
+                    or (
+                        wp.year = :year
+                        and (
+                            wp.isoWeek < :isoWeek
+                            or (wp.isoWeek = :isoWeek and pm.id.dayOfWeek <= :dayOfWeek)
+                        )
+                    )
+              )
+            order by wp.year desc, wp.isoWeek desc, pm.id.dayOfWeek desc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "32"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UUID> streamRecentRecipeIdsBetween(
+            @Param("groupId") UUID groupId,
+            @Param("fromYear") int fromYear,
+            @Param("fromIsoWeek") int fromIsoWeek,
+            @Param("year") int year,
+            @Param("isoWeek") int isoWeek,
+            @Param("dayOfWeek") int dayOfWeek
+    );
+
+    @Query("""
+            select
+                wp.year as year,
+                wp.isoWeek as isoWeek,
+                pm.id.dayOfWeek as dayOfWeek,
+                pm.id.mealType as mealType,
+                pm.mealTitle as mealTitle,
+                pm.recipeId as recipeId,
+                pm.recipeTitleSnapshot as recipeTitleSnapshot
+            from PlannedMealEntity pm
+            join pm.weekPlan wp
+            where wp.groupId = :groupId
+              and (wp.year > :fromYear or (wp.year = :fromYear and wp.isoWeek >= :fromIsoWeek))
+              and (
+                    wp.year < :year
+                    or (
+                        wp.year = :year
+                        and (
+                            wp.isoWeek < :isoWeek
+                            or (wp.isoWeek = :isoWeek and pm.id.dayOfWeek <= :dayOfWeek)
+                        )
+                    )
+              )
+            order by wp.year desc, wp.isoWeek desc, pm.id.dayOfWeek desc, pm.id.mealType asc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "32"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<RecentPlannedMealProjection> streamRecentMealsBetween(
+            @Param("groupId") UUID groupId,
+            @Param("fromYear") int fromYear,
+            @Param("fromIsoWeek") int fromIsoWeek,
+            @Param("year") int year,
+            @Param("isoWeek") int isoWeek,
+            @Param("dayOfWeek") int dayOfWeek
+    );
 }
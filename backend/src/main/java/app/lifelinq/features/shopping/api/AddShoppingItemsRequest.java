@@ -0,0 +1,11 @@
+package app.lifelinq.features.shopping.api;
+
+import java.util.List;
+
+public final class AddShoppingItemsRequest {
+    private List<AddShoppingItemRequest> items;
+
+    public List<AddShoppingItemRequest> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,141 @@
+package app.lifelinq.features.shopping.api;
+
+import app.lifelinq.features.shopping.application.ShoppingChangeSubscription;
+import app.lifelinq.features.shopping.contract.ShoppingItemChangeView;
+import app.lifelinq.features.shopping.contract.ShoppingItemView;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Drains one subscription into one SSE connection on its own virtual thread. A
+ * slow client only blocks its own thread; if it falls far enough behind that its
+ * buffer overflows, it gets a "resync" event and the stream ends. Group membership is
+ * checked again at least once per heartbeat interval, so a listener removed from the
+ * group stops receiving changes within that interval. Closing the stream on shutdown
+ * ends every open connection and stops the drain threads.
+ */
+@Component
+public final class ShoppingChangeStream implements AutoCloseable {
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+    static final long CONNECTION_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("shopping-sse-", 0).factory()
+    );
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Duration accessRecheckInterval;
+
+    public ShoppingChangeStream() {
+        this(HEARTBEAT_INTERVAL);
+    }
+
+    ShoppingChangeStream(Duration accessRecheckInterval) {
+        if (accessRecheckInterval == null || accessRecheckInterval.isNegative()) {
+            throw new IllegalArgumentException("accessRecheckInterval must not be negative");
+        }
+        this.accessRecheckInterval = accessRecheckInterval;
+    }
+
+    SseEmitter open(ShoppingChangeSubscription subscription) {
+        SseEmitter emitter = new SseEmitter(CONNECTION_TIMEOUT_MILLIS);
+        Connection connection = new Connection(subscription, emitter);
+        emitter.onCompletion(() -> release(connection));
+        emitter.onTimeout(() -> release(connection));
+        emitter.onError(error -> release(connection));
+        connections.add(connection);
+        executor.execute(() -> {
+            try {
+                drain(subscription, emitter);
+            } finally {
+                connections.remove(connection);
+            }
+        });
+        return emitter;
+    }
+
+    int openConnectionCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+        for (Connection connection : connections) {
+            release(connection);
+            connection.emitter().complete();
+        }
+    }
+
+    private void release(Connection connection) {
+        connection.subscription().close();
+        connections.remove(connection);
+    }
+
+    private void drain(ShoppingChangeSubscription subscription, SseEmitter emitter) {
+        try (subscription) {
+            emitter.send(SseEmitter.event().name("ready").data(""));
+            long accessCheckedAt = System.nanoTime();
+            while (!subscription.isClosed()) {
+                ShoppingItemChangeView change = subscription.poll(HEARTBEAT_INTERVAL);
+                if (System.nanoTime() - accessCheckedAt >= accessRecheckInterval.toNanos()) {
+                    if (!subscription.recheckAccess()) {
+                        break;
+                    }
+                    accessCheckedAt = System.nanoTime();
+                }
+                if (subscription.isOverflowed()) {
+                    emitter.send(SseEmitter.event().name("resync").data(""));
+                    break;
+                }
+                if (change == null) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                    continue;
+                }
+                emitter.send(SseEmitter.event()
+                        .name(change.type())
+                        .data(toResponse(change)));
+            }
+            emitter.complete();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away or the emitter already completed; nothing left to deliver.
+        }
+    }
+
+    private ShoppingItemChangeResponse toResponse(ShoppingItemChangeView change) {
+        ShoppingItemView item = change.item();
+        ShoppingItemResponse itemResponse = item == null ? null : new ShoppingItemResponse(
+                item.id(),
+                item.name(),
+                item.status().name(),
+                item.quantity(),
+                item.unit() != null ? item.unit().name() : null,
+                item.sourceKind(),
+                item.sourceLabel(),
+                item.createdAt(),
+                item.boughtAt()
+        );
+        return new ShoppingItemChangeResponse(
+                change.type(),
+                change.listId(),
+                change.itemId(),
+                itemResponse,
+                change.orderIndex(),
+                change.occurredAt()
+        );
+    }
+
+    private record Connection(ShoppingChangeSubscription subscription, SseEmitter emitter) {
+    }
+}
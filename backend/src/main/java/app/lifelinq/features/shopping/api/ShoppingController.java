@@ -2,6 +2,8 @@ package app.lifelinq.features.shopping.api;
 
 import app.lifelinq.config.RequestContext;
 import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeSubscription;
+import app.lifelinq.features.shopping.contract.AddShoppingItemInput;
 import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
 import app.lifelinq.features.shopping.contract.CreateShoppingListOutput;
 import app.lifelinq.features.shopping.contract.ShoppingCategoryPreferenceView;
@@ -29,9 +31,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class ShoppingController {
     private final ShoppingApplicationService shoppingApplicationService;
+    private final ShoppingChangeStream changeStream;
 
-    public ShoppingController(ShoppingApplicationService shoppingApplicationService) {
+    public ShoppingController(
+            ShoppingApplicationService shoppingApplicationService,
+            ShoppingChangeStream changeStream
+    ) {
         this.shoppingApplicationService = shoppingApplicationService;
+        this.changeStream = changeStream;
     }
 
     @PostMapping("/shopping-lists")
@@ -73,6 +80,22 @@ public class ShoppingController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/shopping-lists/events")
+    public Object streamItemChanges() {
+        RequestContext context = ApiScoping.getContext();
+        if (context == null || context.getGroupId() == null) {
+            return ApiScoping.missingContext();
+        }
+        if (context.getUserId() == null) {
+            return ApiScoping.missingContext();
+        }
+        ShoppingChangeSubscription subscription = shoppingApplicationService.subscribeToItemChanges(
+                context.getGroupId(),
+                context.getUserId()
+        );
+        return changeStream.open(subscription);
+    }
+
     @GetMapping("/shopping/category-preferences")
     public ResponseEntity<?> listCategoryPreferences() {
         RequestContext context = ApiScoping.getContext();
@@ -205,19 +228,49 @@ public class ShoppingController {
                 parseUnit(request.getUnit()),
                 Boolean.TRUE.equals(request.getAddAsNew())
         );
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new AddShoppingItemResponse(
-                        output.itemId(),
-                        output.name(),
-                        output.outcome(),
-                        output.status().name(),
-                        output.quantity(),
-                        output.unit() != null ? output.unit().name() : null,
-                        output.sourceKind(),
-                        output.sourceLabel(),
-                        output.createdAt(),
-                        output.boughtAt()
-                ));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(output));
+    }
+
+    @PostMapping("/shopping-lists/{listId}/items/batch")
+    public ResponseEntity<?> addItems(
+            @PathVariable UUID listId,
+            @RequestBody AddShoppingItemsRequest request
+    ) {
+        RequestContext context = ApiScoping.getContext();
+        if (context == null || context.getGroupId() == null) {
+            return ApiScoping.missingContext();
+        }
+        if (context.getUserId() == null) {
+            return ApiScoping.missingContext();
+        }
+        if (request.getItems() == null) {
+            throw new IllegalArgumentException("items must not be null");
+        }
+        List<AddShoppingItemInput> inputs = new ArrayList<>();
+        for (AddShoppingItemRequest item : request.getItems()) {
+            if (item == null) {
+                throw new IllegalArgumentException("items must not contain null");
+            }
+            inputs.add(new AddShoppingItemInput(
+                    item.getName(),
+                    item.getQuantity(),
+                    parseUnit(item.getUnit()),
+                    null,
+                    null,
+                    Boolean.TRUE.equals(item.getAddAsNew())
+            ));
+        }
+        List<AddShoppingItemOutput> outputs = shoppingApplicationService.addShoppingItems(
+                context.getGroupId(),
+                context.getUserId(),
+                listId,
+                inputs
+        );
+        List<AddShoppingItemResponse> responses = new ArrayList<>();
+        for (AddShoppingItemOutput output : outputs) {
+            responses.add(toResponse(output));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
     }
 
     @PatchMapping("/shopping-lists/{listId}/items/{itemId}")
@@ -341,6 +394,21 @@ public class ShoppingController {
         return ResponseEntity.noContent().build();
     }
 
+    private AddShoppingItemResponse toResponse(AddShoppingItemOutput output) {
+        return new AddShoppingItemResponse(
+                output.itemId(),
+                output.name(),
+                output.outcome(),
+                output.status().name(),
+                output.quantity(),
+                output.unit() != null ? output.unit().name() : null,
+                output.sourceKind(),
+                output.sourceLabel(),
+                output.createdAt(),
+                output.boughtAt()
+        );
+    }
+
     private ShoppingListResponse toResponse(ShoppingListView list) {
         List<ShoppingItemResponse> items = new ArrayList<>();
         for (ShoppingItemView item : list.items()) {
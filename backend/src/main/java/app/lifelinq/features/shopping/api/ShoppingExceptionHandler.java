@@ -4,6 +4,7 @@ import app.lifelinq.config.ApiErrorResponse;
 import app.lifelinq.features.shopping.application.AccessDeniedException;
 import app.lifelinq.features.shopping.domain.DuplicateShoppingItemNameException;
 import app.lifelinq.features.shopping.domain.ShoppingItemNotFoundException;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
 import app.lifelinq.features.shopping.domain.ShoppingListNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +38,12 @@ public final class ShoppingExceptionHandler {
                 .body(new ApiErrorResponse("DUPLICATE_ITEM_NAME", ex.getMessage()));
     }
 
+    @ExceptionHandler(ShoppingListConcurrentModificationException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrentModification(ShoppingListConcurrentModificationException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiErrorResponse("SHOPPING_LIST_CONFLICT", ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleBadRequest(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,13 @@
+package app.lifelinq.features.shopping.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ShoppingItemChangeResponse(
+        String type,
+        UUID listId,
+        UUID itemId,
+        ShoppingItemResponse item,
+        Long orderIndex,
+        Instant occurredAt
+) {}
@@ -1,9 +1,11 @@
 package app.lifelinq.features.shopping.application;
 
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import app.lifelinq.features.shopping.contract.AddShoppingItemInput;
 import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
 import app.lifelinq.features.shopping.contract.CreateShoppingListOutput;
 import app.lifelinq.features.shopping.contract.ShoppingCategoryPreferenceView;
+import app.lifelinq.features.shopping.contract.ShoppingItemChangeView;
 import app.lifelinq.features.shopping.contract.ShoppingItemStatusView;
 import app.lifelinq.features.shopping.contract.ShoppingItemView;
 import app.lifelinq.features.shopping.contract.ShoppingListView;
@@ -13,12 +15,15 @@ import app.lifelinq.features.shopping.domain.ShoppingCategory;
 import app.lifelinq.features.shopping.domain.ShoppingCategoryPreference;
 import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
 import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingAddItemOutcome;
 import app.lifelinq.features.shopping.domain.ShoppingAddItemResult;
 import app.lifelinq.features.shopping.domain.ShoppingItemStatus;
 import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
 import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
 import app.lifelinq.features.shopping.domain.ShoppingListNotFoundException;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingListType;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
 import java.math.BigDecimal;
@@ -27,22 +32,54 @@ import java.time.Instant;
 import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.springframework.transaction.annotation.Transactional;
 
 public class ShoppingApplicationService {
+    public static final int DEFAULT_CHANGE_BUFFER_CAPACITY = 256;
+
     private final ShoppingListRepository shoppingListRepository;
     private final ShoppingCategoryPreferenceRepository shoppingCategoryPreferenceRepository;
     private final EnsureGroupMemberUseCase ensureGroupMemberUseCase;
     private final Clock clock;
+    private final ShoppingTransactionRunner transactionRunner;
+    private final ShoppingWriteMetrics writeMetrics;
+    private final int maxWriteAttempts;
+    private final ShoppingChangeBroadcaster changeBroadcaster;
 
     public ShoppingApplicationService(
             ShoppingListRepository shoppingListRepository,
             ShoppingCategoryPreferenceRepository shoppingCategoryPreferenceRepository,
             EnsureGroupMemberUseCase ensureGroupMemberUseCase,
             Clock clock
+    ) {
+        this(
+                shoppingListRepository,
+                shoppingCategoryPreferenceRepository,
+                ensureGroupMemberUseCase,
+                clock,
+                ShoppingTransactionRunner.direct(),
+                new ShoppingWriteMetrics(),
+                1,
+                new ShoppingChangeBroadcaster(DEFAULT_CHANGE_BUFFER_CAPACITY)
+        );
+    }
+
+    public ShoppingApplicationService(
+            ShoppingListRepository shoppingListRepository,
+            ShoppingCategoryPreferenceRepository shoppingCategoryPreferenceRepository,
+            EnsureGroupMemberUseCase ensureGroupMemberUseCase,
+            Clock clock,
+            ShoppingTransactionRunner transactionRunner,
+            ShoppingWriteMetrics writeMetrics,
+            int maxWriteAttempts,
+            ShoppingChangeBroadcaster changeBroadcaster
     ) {
         if (shoppingListRepository == null) {
             throw new IllegalArgumentException("shoppingListRepository must not be null");
@@ -59,7 +96,23 @@ public class ShoppingApplicationService {
         this.shoppingListRepository = shoppingListRepository;
         this.shoppingCategoryPreferenceRepository = shoppingCategoryPreferenceRepository;
         this.ensureGroupMemberUseCase = ensureGroupMemberUseCase;
+        if (transactionRunner == null) {
+            throw new IllegalArgumentException("transactionRunner must not be null");
+        }
+        if (writeMetrics == null) {
+            throw new IllegalArgumentException("writeMetrics must not be null");
+        }
+        if (maxWriteAttempts < 1) {
+            throw new IllegalArgumentException("maxWriteAttempts must be at least 1");
+        }
+        if (changeBroadcaster == null) {
+            throw new IllegalArgumentException("changeBroadcaster must not be null");
+        }
         this.clock = clock;
+        this.transactionRunner = transactionRunner;
+        this.writeMetrics = writeMetrics;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.changeBroadcaster = changeBroadcaster;
     }
 
     @Transactional
@@ -89,7 +142,6 @@ public class ShoppingApplicationService {
         return new CreateShoppingListOutput(listId, normalizedName, type.key());
     }
 
-    @Transactional
     public AddShoppingItemOutput addShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -99,7 +151,6 @@ public class ShoppingApplicationService {
         return addShoppingItem(groupId, actorUserId, listId, itemName, null, null);
     }
 
-    @Transactional
     public AddShoppingItemOutput addShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -111,7 +162,6 @@ public class ShoppingApplicationService {
         return addShoppingItem(groupId, actorUserId, listId, itemName, quantity, unit, null, null, false);
     }
 
-    @Transactional
     public AddShoppingItemOutput addShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -124,7 +174,6 @@ public class ShoppingApplicationService {
         return addShoppingItem(groupId, actorUserId, listId, itemName, quantity, unit, null, null, addAsNew);
     }
 
-    @Transactional
     public AddShoppingItemOutput addShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -138,7 +187,6 @@ public class ShoppingApplicationService {
         return addShoppingItem(groupId, actorUserId, listId, itemName, quantity, unit, sourceKind, sourceLabel, false);
     }
 
-    @Transactional
     public AddShoppingItemOutput addShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -149,64 +197,128 @@ public class ShoppingApplicationService {
             ShoppingItemSourceKind sourceKind,
             String sourceLabel,
             boolean addAsNew
+    ) {
+        return addShoppingItems(
+                groupId,
+                actorUserId,
+                listId,
+                List.of(new AddShoppingItemInput(itemName, quantity, unit, sourceKind, sourceLabel, addAsNew))
+        ).get(0);
+    }
+
+    public List<AddShoppingItemOutput> addShoppingItems(
+            UUID groupId,
+            UUID actorUserId,
+            UUID listId,
+            List<AddShoppingItemInput> items
+    ) {
+        if (items == null) {
+            throw new IllegalArgumentException("items must not be null");
+        }
+        for (AddShoppingItemInput item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("items must not contain null");
+            }
+        }
+        return writeWithRetry(() -> addShoppingItemsOnce(groupId, actorUserId, listId, items));
+    }
+
+    private List<AddShoppingItemOutput> addShoppingItemsOnce(
+            UUID groupId,
+            UUID actorUserId,
+            UUID listId,
+            List<AddShoppingItemInput> items
     ) {
         ensureGroupMemberUseCase.execute(groupId, actorUserId);
         ShoppingList list = getListForGroup(groupId, listId);
-        String normalizedName = normalizeItemName(itemName);
-        UUID itemId = UUID.randomUUID();
         Instant now = clock.instant();
-        ShoppingAddItemResult addResult = list.addItem(itemId, normalizedName, quantity, unit, sourceKind, sourceLabel, addAsNew, now);
-        shoppingListRepository.save(list);
-        ShoppingItem item = list.getItemOrThrow(addResult.itemId());
-        return new AddShoppingItemOutput(
-                list.getId(),
-                item.getId(),
-                item.getName(),
-                addResult.outcome().name(),
-                toViewStatus(item.getStatus()),
-                item.getQuantity(),
-                toViewUnit(item.getUnit()),
-                toViewSourceKind(item.getSourceKind()),
-                item.getSourceLabel(),
-                item.getCreatedAt(),
-                item.getBoughtAt()
-        );
+        List<ShoppingAddItemResult> addResults = new ArrayList<>();
+        for (AddShoppingItemInput item : items) {
+            addResults.add(list.addItem(
+                    UUID.randomUUID(),
+                    normalizeItemName(item.name()),
+                    item.quantity(),
+                    item.unit(),
+                    item.sourceKind(),
+                    item.sourceLabel(),
+                    item.addAsNew(),
+                    now
+            ));
+        }
+        if (!addResults.isEmpty()) {
+            shoppingListRepository.save(list);
+        }
+        List<AddShoppingItemOutput> outputs = new ArrayList<>();
+        for (ShoppingAddItemResult addResult : addResults) {
+            ShoppingItem item = list.getItemOrThrow(addResult.itemId());
+            outputs.add(new AddShoppingItemOutput(
+                    list.getId(),
+                    item.getId(),
+                    item.getName(),
+                    addResult.outcome().name(),
+                    toViewStatus(item.getStatus()),
+                    item.getQuantity(),
+                    toViewUnit(item.getUnit()),
+                    toViewSourceKind(item.getSourceKind()),
+                    item.getSourceLabel(),
+                    item.getCreatedAt(),
+                    item.getBoughtAt()
+            ));
+            if (addResult.outcome() == ShoppingAddItemOutcome.CREATED) {
+                publishAfterCommit(groupId, ShoppingItemChangeView.ADDED, list.getId(), item);
+            } else if (addResult.outcome() != ShoppingAddItemOutcome.REUSED_EXISTING) {
+                publishAfterCommit(groupId, ShoppingItemChangeView.UPDATED, list.getId(), item);
+            }
+        }
+        return outputs;
     }
 
-    @Transactional
     public ToggleShoppingItemOutput toggleShoppingItem(
             UUID groupId,
             UUID actorUserId,
             UUID listId,
             UUID itemId
     ) {
-        ensureGroupMemberUseCase.execute(groupId, actorUserId);
-        ShoppingList list = getListForGroup(groupId, listId);
-        list.toggleItem(itemId, clock.instant());
-        shoppingListRepository.save(list);
-        ShoppingItem item = list.getItemOrThrow(itemId);
-        return new ToggleShoppingItemOutput(
-                list.getId(),
-                item.getId(),
-                toViewStatus(item.getStatus()),
-                item.getBoughtAt()
-        );
+        return writeWithRetry(() -> {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            ShoppingList list = getListForGroup(groupId, listId);
+            list.toggleItem(itemId, clock.instant());
+            shoppingListRepository.save(list);
+            ShoppingItem item = list.getItemOrThrow(itemId);
+            publishAfterCommit(groupId, ShoppingItemChangeView.TOGGLED, list.getId(), item);
+            return new ToggleShoppingItemOutput(
+                    list.getId(),
+                    item.getId(),
+                    toViewStatus(item.getStatus()),
+                    item.getBoughtAt()
+            );
+        });
     }
 
-    @Transactional
     public void removeShoppingItem(
             UUID groupId,
             UUID actorUserId,
             UUID listId,
             UUID itemId
     ) {
-        ensureGroupMemberUseCase.execute(groupId, actorUserId);
-        ShoppingList list = getListForGroup(groupId, listId);
-        list.removeItem(itemId);
-        shoppingListRepository.save(list);
+        writeWithRetry(() -> {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            ShoppingList list = getListForGroup(groupId, listId);
+            list.removeItem(itemId);
+            shoppingListRepository.save(list);
+            ShoppingItemChangeView change = new ShoppingItemChangeView(
+                    ShoppingItemChangeView.REMOVED,
+                    list.getId(),
+                    itemId,
+                    null,
+                    null,
+                    clock.instant()
+            );
+            transactionRunner.afterCommit(() -> changeBroadcaster.publish(groupId, change));
+            return null;
+        });
     }
 
-    @Transactional
     public void reorderShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -214,10 +326,22 @@ public class ShoppingApplicationService {
             UUID itemId,
             String direction
     ) {
-        ensureGroupMemberUseCase.execute(groupId, actorUserId);
-        ShoppingList list = getListForGroup(groupId, listId);
-        list.reorderOpenItem(itemId, direction);
-        shoppingListRepository.save(list);
+        writeWithRetry(() -> {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            ShoppingList list = getListForGroup(groupId, listId);
+            Map<UUID, Long> orderIndexesBefore = new HashMap<>();
+            for (ShoppingItem item : list.getItems()) {
+                orderIndexesBefore.put(item.getId(), item.getOrderIndex());
+            }
+            list.reorderOpenItem(itemId, direction);
+            shoppingListRepository.save(list);
+            for (ShoppingItem item : list.getItems()) {
+                if (item.getOrderIndex() != orderIndexesBefore.get(item.getId())) {
+                    publishAfterCommit(groupId, ShoppingItemChangeView.REORDERED, list.getId(), item);
+                }
+            }
+            return null;
+        });
     }
 
     @Transactional
@@ -230,9 +354,17 @@ public class ShoppingApplicationService {
         getListForGroup(groupId, listId);
         shoppingListRepository.deleteById(listId);
         normalizeOrderAndPersist(loadOrderedLists(groupId));
+        ShoppingItemChangeView change = new ShoppingItemChangeView(
+                ShoppingItemChangeView.LIST_REMOVED,
+                listId,
+                null,
+                null,
+                null,
+                clock.instant()
+        );
+        transactionRunner.afterCommit(() -> changeBroadcaster.publish(groupId, change));
     }
 
-    @Transactional
     public ShoppingItemView updateShoppingItem(
             UUID groupId,
             UUID actorUserId,
@@ -242,12 +374,16 @@ public class ShoppingApplicationService {
             BigDecimal quantity,
             ShoppingUnit unit
     ) {
-        ensureGroupMemberUseCase.execute(groupId, actorUserId);
-        ShoppingList list = getListForGroup(groupId, listId);
-        String normalizedName = normalizeItemName(name);
-        list.updateItem(itemId, normalizedName, quantity, unit);
-        shoppingListRepository.save(list);
-        return toView(list.getItemOrThrow(itemId));
+        return writeWithRetry(() -> {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            ShoppingList list = getListForGroup(groupId, listId);
+            String normalizedName = normalizeItemName(name);
+            list.updateItem(itemId, normalizedName, quantity, unit);
+            shoppingListRepository.save(list);
+            ShoppingItem item = list.getItemOrThrow(itemId);
+            publishAfterCommit(groupId, ShoppingItemChangeView.UPDATED, list.getId(), item);
+            return toView(item);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -307,6 +443,28 @@ public class ShoppingApplicationService {
         return result;
     }
 
+    @Transactional(readOnly = true)
+    public ShoppingChangeSubscription subscribeToItemChanges(UUID groupId, UUID actorUserId) {
+        ensureGroupMemberUseCase.execute(groupId, actorUserId);
+        return changeBroadcaster.subscribe(groupId, () -> isGroupMember(groupId, actorUserId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ShoppingListSnapshot> getShoppingListSnapshots(
+            UUID groupId,
+            UUID actorUserId,
+            Set<UUID> listIds
+    ) {
+        ensureGroupMemberUseCase.execute(groupId, actorUserId);
+        if (listIds == null) {
+            throw new IllegalArgumentException("listIds must not be null");
+        }
+        if (listIds.isEmpty()) {
+            return List.of();
+        }
+        return shoppingListRepository.findSnapshotsByGroupIdAndIds(groupId, listIds);
+    }
+
     @Transactional
     public void reorderShoppingList(
             UUID groupId,
@@ -337,7 +495,6 @@ public class ShoppingApplicationService {
         shoppingListRepository.save(target);
     }
 
-    @Transactional
     public ShoppingListView updateShoppingListIdentity(
             UUID groupId,
             UUID actorUserId,
@@ -345,12 +502,56 @@ public class ShoppingApplicationService {
             String name,
             ShoppingListType type
     ) {
-        ensureGroupMemberUseCase.execute(groupId, actorUserId);
-        ShoppingList list = getListForGroup(groupId, listId);
-        String normalizedName = normalizeListName(name);
-        list.updateIdentity(normalizedName, type);
-        shoppingListRepository.save(list);
-        return toView(list);
+        return writeWithRetry(() -> {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            ShoppingList list = getListForGroup(groupId, listId);
+            String normalizedName = normalizeListName(name);
+            list.updateIdentity(normalizedName, type);
+            shoppingListRepository.save(list);
+            return toView(list);
+        });
+    }
+
+    private void publishAfterCommit(UUID groupId, String type, UUID listId, ShoppingItem item) {
+        ShoppingItemChangeView change = new ShoppingItemChangeView(
+                type,
+                listId,
+                item.getId(),
+                toView(item),
+                item.getOrderIndex(),
+                clock.instant()
+        );
+        transactionRunner.afterCommit(() -> changeBroadcaster.publish(groupId, change));
+    }
+
+    private boolean isGroupMember(UUID groupId, UUID actorUserId) {
+        try {
+            ensureGroupMemberUseCase.execute(groupId, actorUserId);
+            return true;
+        } catch (app.lifelinq.features.group.contract.AccessDeniedException ex) {
+            return false;
+        }
+    }
+
+    private <T> T writeWithRetry(Supplier<T> command) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionRunner.execute(command);
+            } catch (ShoppingListConcurrentModificationException ex) {
+                writeMetrics.recordConflict();
+                if (transactionRunner.joinsCallerTransaction()) {
+                    writeMetrics.recordJoinedConflict();
+                    throw ex;
+                }
+                if (attempt >= maxWriteAttempts) {
+                    writeMetrics.recordExhausted();
+                    throw ex;
+                }
+                writeMetrics.recordRetry();
+                attempt++;
+            }
+        }
     }
 
     private ShoppingList getListForGroup(UUID groupId, UUID listId) {
@@ -0,0 +1,76 @@
+package app.lifelinq.features.shopping.application;
+
+import app.lifelinq.features.shopping.contract.ShoppingItemChangeView;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * In-process fan-out of committed item changes to the group's live subscriptions.
+ * Publishing never blocks: each subscription has its own bounded buffer.
+ */
+public final class ShoppingChangeBroadcaster {
+    private final int bufferCapacity;
+    private final Map<UUID, Set<ShoppingChangeSubscription>> subscriptionsByGroupId = new ConcurrentHashMap<>();
+
+    public ShoppingChangeBroadcaster(int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("bufferCapacity must be at least 1");
+        }
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public ShoppingChangeSubscription subscribe(UUID groupId) {
+        return subscribe(groupId, () -> true);
+    }
+
+    /**
+     * Subscribes to the group's changes for a listener whose access may be revoked later.
+     * {@code accessCheck} is consulted each time the listener calls
+     * {@link ShoppingChangeSubscription#recheckAccess()}.
+     */
+    public ShoppingChangeSubscription subscribe(UUID groupId, BooleanSupplier accessCheck) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (accessCheck == null) {
+            throw new IllegalArgumentException("accessCheck must not be null");
+        }
+        ShoppingChangeSubscription subscription = new ShoppingChangeSubscription(
+                groupId,
+                bufferCapacity,
+                accessCheck,
+                this
+        );
+        subscriptionsByGroupId.compute(groupId, (ignored, subscriptions) -> {
+            Set<ShoppingChangeSubscription> result = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+        return subscription;
+    }
+
+    void publish(UUID groupId, ShoppingItemChangeView change) {
+        Set<ShoppingChangeSubscription> subscriptions = subscriptionsByGroupId.get(groupId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (ShoppingChangeSubscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    void unsubscribe(ShoppingChangeSubscription subscription) {
+        subscriptionsByGroupId.computeIfPresent(subscription.getGroupId(), (groupId, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    public int subscriberCount(UUID groupId) {
+        Set<ShoppingChangeSubscription> subscriptions = subscriptionsByGroupId.get(groupId);
+        return subscriptions == null ? 0 : subscriptions.size();
+    }
+}
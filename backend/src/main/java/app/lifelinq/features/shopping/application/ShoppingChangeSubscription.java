@@ -0,0 +1,92 @@
+package app.lifelinq.features.shopping.application;
+
+import app.lifelinq.features.shopping.contract.ShoppingItemChangeView;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One listener's bounded view of a group's item changes. When the listener falls
+ * behind and the buffer fills up, the subscription is marked overflowed and stops
+ * buffering; the listener is expected to reload and subscribe again.
+ */
+public final class ShoppingChangeSubscription implements AutoCloseable {
+    private final UUID groupId;
+    private final BlockingQueue<ShoppingItemChangeView> buffer;
+    private final BooleanSupplier accessCheck;
+    private final ShoppingChangeBroadcaster broadcaster;
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+
+    ShoppingChangeSubscription(
+            UUID groupId,
+            int capacity,
+            BooleanSupplier accessCheck,
+            ShoppingChangeBroadcaster broadcaster
+    ) {
+        this.groupId = groupId;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.accessCheck = accessCheck;
+        this.broadcaster = broadcaster;
+    }
+
+    public UUID getGroupId() {
+        return groupId;
+    }
+
+    public ShoppingItemChangeView poll(Duration timeout) throws InterruptedException {
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+        if (closed) {
+            return null;
+        }
+        return buffer.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+
+    /**
+     * Checks again whether the listener may still see the group's changes, for example
+     * after being removed from the group. Closes the subscription when it may not.
+     */
+    public boolean recheckAccess() {
+        if (closed) {
+            return false;
+        }
+        if (accessCheck.getAsBoolean()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        broadcaster.unsubscribe(this);
+        buffer.clear();
+    }
+
+    void offer(ShoppingItemChangeView change) {
+        if (closed || overflowed) {
+            return;
+        }
+        if (!buffer.offer(change)) {
+            overflowed = true;
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package app.lifelinq.features.shopping.application;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs one attempt of a shopping list write in its own transaction so that a
+ * conflicting attempt can be rolled back and retried from a fresh load.
+ */
+public interface ShoppingTransactionRunner {
+
+    <T> T execute(Supplier<T> attempt);
+
+    /**
+     * True when the attempt would join a transaction opened by the caller. A
+     * conflict then poisons the caller's transaction and must not be retried here.
+     */
+    boolean joinsCallerTransaction();
+
+    /**
+     * Runs the callback once the current transaction has committed, or right away
+     * when there is none. Rolled back attempts never run their callbacks.
+     */
+    void afterCommit(Runnable callback);
+
+    static ShoppingTransactionRunner direct() {
+        return new ShoppingTransactionRunner() {
+            @Override
+            public <T> T execute(Supplier<T> attempt) {
+                return attempt.get();
+            }
+
+            @Override
+            public boolean joinsCallerTransaction() {
+                return false;
+            }
+
+            @Override
+            public void afterCommit(Runnable callback) {
+                callback.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package app.lifelinq.features.shopping.application;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ShoppingWriteMetrics {
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder joinedConflicts = new LongAdder();
+
+    void recordConflict() {
+        conflicts.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordExhausted() {
+        exhausted.increment();
+    }
+
+    void recordJoinedConflict() {
+        joinedConflicts.increment();
+    }
+
+    public long conflictCount() {
+        return conflicts.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Conflicts raised inside a caller's transaction, which are handed back to the caller
+     * without a retry and are therefore neither retried nor exhausted.
+     */
+    public long joinedConflictCount() {
+        return joinedConflicts.sum();
+    }
+}
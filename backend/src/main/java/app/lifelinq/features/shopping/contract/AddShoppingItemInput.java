@@ -0,0 +1,14 @@
+package app.lifelinq.features.shopping.contract;
+
+import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
+import app.lifelinq.features.shopping.domain.ShoppingUnit;
+import java.math.BigDecimal;
+
+public record AddShoppingItemInput(
+        String name,
+        BigDecimal quantity,
+        ShoppingUnit unit,
+        ShoppingItemSourceKind sourceKind,
+        String sourceLabel,
+        boolean addAsNew
+) {}
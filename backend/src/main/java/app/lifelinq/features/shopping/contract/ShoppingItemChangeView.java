@@ -0,0 +1,20 @@
+package app.lifelinq.features.shopping.contract;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ShoppingItemChangeView(
+        String type,
+        UUID listId,
+        UUID itemId,
+        ShoppingItemView item,
+        Long orderIndex,
+        Instant occurredAt
+) {
+    public static final String ADDED = "added";
+    public static final String TOGGLED = "toggled";
+    public static final String UPDATED = "updated";
+    public static final String REMOVED = "removed";
+    public static final String REORDERED = "reordered";
+    public static final String LIST_REMOVED = "list-removed";
+}
@@ -7,7 +7,7 @@ import java.util.UUID;
 public final class ShoppingItem {
     private final UUID id;
     private String name;
-    private int orderIndex;
+    private long orderIndex;
     private final Instant createdAt;
     private ShoppingItemStatus status;
     private Instant boughtAt;
@@ -39,7 +39,7 @@ public final class ShoppingItem {
     public ShoppingItem(
             UUID id,
             String name,
-            int orderIndex,
+            long orderIndex,
             Instant createdAt,
             BigDecimal quantity,
             ShoppingUnit unit,
@@ -52,9 +52,6 @@ public final class ShoppingItem {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("name must not be blank");
         }
-        if (orderIndex < 0) {
-            throw new IllegalArgumentException("orderIndex must be >= 0");
-        }
         if (createdAt == null) {
             throw new IllegalArgumentException("createdAt must not be null");
         }
@@ -75,7 +72,7 @@ public final class ShoppingItem {
     public static ShoppingItem rehydrate(
             UUID id,
             String name,
-            int orderIndex,
+            long orderIndex,
             Instant createdAt,
             ShoppingItemStatus status,
             Instant boughtAt,
@@ -177,14 +174,11 @@ public final class ShoppingItem {
         return name;
     }
 
-    public int getOrderIndex() {
+    public long getOrderIndex() {
         return orderIndex;
     }
 
-    public void setOrderIndex(int orderIndex) {
-        if (orderIndex < 0) {
-            throw new IllegalArgumentException("orderIndex must be >= 0");
-        }
+    public void setOrderIndex(long orderIndex) {
         this.orderIndex = orderIndex;
     }
 
@@ -0,0 +1,14 @@
+package app.lifelinq.features.shopping.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ShoppingItemSnapshot(
+        UUID itemId,
+        String name,
+        ShoppingItemStatus status,
+        BigDecimal quantity,
+        ShoppingUnit unit,
+        ShoppingItemSourceKind sourceKind,
+        String sourceLabel
+) {}
@@ -4,17 +4,23 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public final class ShoppingList {
+    static final long ITEM_ORDER_GAP = 1L << 20;
+
     private final UUID id;
     private final UUID groupId;
     private String name;
     private ShoppingListType type;
     private int orderIndex;
     private final Instant createdAt;
-    private final List<ShoppingItem> items;
+    private final Map<UUID, ShoppingItem> itemsById = new HashMap<>();
+    private final Map<String, List<ShoppingItem>> openItemsByName = new HashMap<>();
+    private long topItemOrderIndex;
 
     public ShoppingList(UUID id, UUID groupId, String name, Instant createdAt) {
         this(id, groupId, name, ShoppingListType.MIXED, 0, createdAt, List.of());
@@ -76,7 +82,9 @@ public final class ShoppingList {
         this.type = type;
         this.orderIndex = orderIndex;
         this.createdAt = createdAt;
-        this.items = new ArrayList<>(items);
+        for (ShoppingItem item : items) {
+            indexItem(item);
+        }
     }
 
     public ShoppingAddItemResult addItem(UUID itemId, String normalizedName, Instant now) {
@@ -150,15 +158,25 @@ public final class ShoppingList {
                 return manualDuplicateResult;
             }
         }
-        shiftItemOrderIndexesForInsertAtTop();
-        ShoppingItem item = new ShoppingItem(itemId, normalizedName, 0, now, quantity, unit, sourceKind, sourceLabel);
-        items.add(item);
+        ShoppingItem item = new ShoppingItem(
+                itemId,
+                normalizedName,
+                nextTopItemOrderIndex(),
+                now,
+                quantity,
+                unit,
+                sourceKind,
+                sourceLabel
+        );
+        indexItem(item);
         return new ShoppingAddItemResult(itemId, ShoppingAddItemOutcome.CREATED);
     }
 
     public void toggleItem(UUID itemId, Instant now) {
         ShoppingItem item = findItemOrThrow(itemId);
+        unindexOpenName(item);
         item.toggle(now);
+        indexOpenName(item);
     }
 
     public void updateItem(UUID itemId, String normalizedName, BigDecimal quantity, ShoppingUnit unit) {
@@ -166,18 +184,20 @@ public final class ShoppingList {
             throw new IllegalArgumentException("name must not be blank");
         }
         ShoppingItem item = findItemOrThrow(itemId);
+        unindexOpenName(item);
         item.updateDetails(normalizedName, quantity, unit);
+        indexOpenName(item);
     }
 
     public void removeItem(UUID itemId) {
         if (itemId == null) {
             throw new IllegalArgumentException("itemId must not be null");
         }
-        boolean removed = items.removeIf(item -> item.getId().equals(itemId));
-        if (!removed) {
+        ShoppingItem removed = itemsById.remove(itemId);
+        if (removed == null) {
             throw new ShoppingItemNotFoundException(itemId);
         }
-        normalizeItemOrderIndexes();
+        unindexOpenName(removed);
     }
 
     public void reorderOpenItem(UUID itemId, String direction) {
@@ -192,10 +212,8 @@ public final class ShoppingList {
             throw new IllegalArgumentException("direction must be UP or DOWN");
         }
 
-        normalizeItemOrderIndexes();
-        List<ShoppingItem> openItems = items.stream()
+        List<ShoppingItem> openItems = getItems().stream()
                 .filter(item -> item.getStatus() == ShoppingItemStatus.TO_BUY)
-                .sorted(Comparator.comparingInt(ShoppingItem::getOrderIndex))
                 .toList();
         int currentOpenIndex = -1;
         for (int i = 0; i < openItems.size(); i++) {
@@ -213,10 +231,9 @@ public final class ShoppingList {
         }
         ShoppingItem current = openItems.get(currentOpenIndex);
         ShoppingItem target = openItems.get(targetOpenIndex);
-        int currentOrder = current.getOrderIndex();
+        long currentOrder = current.getOrderIndex();
         current.setOrderIndex(target.getOrderIndex());
         target.setOrderIndex(currentOrder);
-        normalizeItemOrderIndexes();
     }
 
     public void rename(String normalizedName) {
@@ -269,9 +286,9 @@ public final class ShoppingList {
     }
 
     public List<ShoppingItem> getItems() {
-        List<ShoppingItem> sorted = new ArrayList<>(items);
+        List<ShoppingItem> sorted = new ArrayList<>(itemsById.values());
         sorted.sort(Comparator
-                .comparingInt(ShoppingItem::getOrderIndex)
+                .comparingLong(ShoppingItem::getOrderIndex)
                 .thenComparing(ShoppingItem::getCreatedAt)
                 .thenComparing(ShoppingItem::getId));
         return List.copyOf(sorted);
@@ -285,23 +302,66 @@ public final class ShoppingList {
         if (itemId == null) {
             throw new IllegalArgumentException("itemId must not be null");
         }
-        return items.stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst()
-                .orElseThrow(() -> new ShoppingItemNotFoundException(itemId));
+        ShoppingItem item = itemsById.get(itemId);
+        if (item == null) {
+            throw new ShoppingItemNotFoundException(itemId);
+        }
+        return item;
     }
 
-    private void shiftItemOrderIndexesForInsertAtTop() {
-        for (ShoppingItem item : items) {
-            item.setOrderIndex(item.getOrderIndex() + 1);
+    private void indexItem(ShoppingItem item) {
+        if (itemsById.isEmpty() || item.getOrderIndex() < topItemOrderIndex) {
+            topItemOrderIndex = item.getOrderIndex();
+        }
+        ShoppingItem replaced = itemsById.put(item.getId(), item);
+        if (replaced != null) {
+            unindexOpenName(replaced);
         }
+        indexOpenName(item);
+    }
+
+    private void indexOpenName(ShoppingItem item) {
+        if (item.getStatus() != ShoppingItemStatus.TO_BUY) {
+            return;
+        }
+        openItemsByName.computeIfAbsent(item.getName(), ignored -> new ArrayList<>(1)).add(item);
+    }
+
+    private void unindexOpenName(ShoppingItem item) {
+        List<ShoppingItem> sameName = openItemsByName.get(item.getName());
+        if (sameName == null) {
+            return;
+        }
+        sameName.remove(item);
+        if (sameName.isEmpty()) {
+            openItemsByName.remove(item.getName());
+        }
+    }
+
+    private List<ShoppingItem> openItemsNamed(String normalizedName) {
+        return openItemsByName.getOrDefault(normalizedName, List.of());
+    }
+
+    private long nextTopItemOrderIndex() {
+        if (itemsById.isEmpty()) {
+            return 0L;
+        }
+        if (topItemOrderIndex < Long.MIN_VALUE + ITEM_ORDER_GAP) {
+            rebalanceItemOrderIndexes();
+        }
+        return topItemOrderIndex - ITEM_ORDER_GAP;
+    }
+
+    private void rebalanceItemOrderIndexes() {
+        List<ShoppingItem> sorted = getItems();
+        for (int index = 0; index < sorted.size(); index++) {
+            sorted.get(index).setOrderIndex(index * ITEM_ORDER_GAP);
+        }
+        topItemOrderIndex = 0L;
     }
 
     private ShoppingItem findMealPlanMergeCandidate(String normalizedName, BigDecimal quantity, ShoppingUnit unit) {
-        List<ShoppingItem> matchingOpenItems = items.stream()
-                .filter(item -> item.getStatus() == ShoppingItemStatus.TO_BUY)
-                .filter(item -> item.getName().equals(normalizedName))
-                .toList();
+        List<ShoppingItem> matchingOpenItems = openItemsNamed(normalizedName);
         if (matchingOpenItems.size() != 1) {
             return null;
         }
@@ -310,10 +370,7 @@ public final class ShoppingList {
     }
 
     private ShoppingAddItemResult resolveManualDuplicateAdd(String normalizedName, BigDecimal quantity, ShoppingUnit unit) {
-        List<ShoppingItem> matchingOpenItems = items.stream()
-                .filter(item -> item.getStatus() == ShoppingItemStatus.TO_BUY)
-                .filter(item -> item.getName().equals(normalizedName))
-                .toList();
+        List<ShoppingItem> matchingOpenItems = openItemsNamed(normalizedName);
         if (matchingOpenItems.size() != 1) {
             return null;
         }
@@ -333,15 +390,4 @@ public final class ShoppingList {
         return null;
     }
 
-    private void normalizeItemOrderIndexes() {
-        List<ShoppingItem> sorted = new ArrayList<>(items);
-        sorted.sort(Comparator
-                .comparingInt(ShoppingItem::getOrderIndex)
-                .thenComparing(ShoppingItem::getCreatedAt)
-                .thenComparing(ShoppingItem::getId));
-        for (int index = 0; index < sorted.size(); index++) {
-            sorted.get(index).setOrderIndex(index);
-        }
-    }
-
 }
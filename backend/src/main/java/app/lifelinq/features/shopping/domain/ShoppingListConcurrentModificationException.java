@@ -0,0 +1,9 @@
+package app.lifelinq.features.shopping.domain;
+
+import java.util.UUID;
+
+public final class ShoppingListConcurrentModificationException extends RuntimeException {
+    public ShoppingListConcurrentModificationException(UUID listId, Throwable cause) {
+        super("list was modified concurrently: " + listId, cause);
+    }
+}
@@ -2,6 +2,7 @@ package app.lifelinq.features.shopping.domain;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ShoppingListRepository {
@@ -11,5 +12,7 @@ public interface ShoppingListRepository {
 
     List<ShoppingList> findByGroupId(UUID groupId);
 
+    List<ShoppingListSnapshot> findSnapshotsByGroupIdAndIds(UUID groupId, Set<UUID> listIds);
+
     void deleteById(UUID id);
 }
@@ -0,0 +1,11 @@
+package app.lifelinq.features.shopping.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ShoppingListSnapshot(
+        UUID listId,
+        String name,
+        ShoppingListType type,
+        List<ShoppingItemSnapshot> items
+) {}
@@ -1,12 +1,16 @@
 package app.lifelinq.features.shopping.infrastructure;
 
+import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingItemSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingList;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public final class InMemoryShoppingListRepository implements ShoppingListRepository {
@@ -43,6 +47,37 @@ public final class InMemoryShoppingListRepository implements ShoppingListReposit
         return result;
     }
 
+    @Override
+    public List<ShoppingListSnapshot> findSnapshotsByGroupIdAndIds(UUID groupId, Set<UUID> listIds) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (listIds == null) {
+            throw new IllegalArgumentException("listIds must not be null");
+        }
+        List<ShoppingListSnapshot> result = new ArrayList<>();
+        for (UUID listId : listIds) {
+            ShoppingList list = lists.get(listId);
+            if (list == null || !groupId.equals(list.getGroupId())) {
+                continue;
+            }
+            List<ShoppingItemSnapshot> items = new ArrayList<>();
+            for (ShoppingItem item : list.getItems()) {
+                items.add(new ShoppingItemSnapshot(
+                        item.getId(),
+                        item.getName(),
+                        item.getStatus(),
+                        item.getQuantity(),
+                        item.getUnit(),
+                        item.getSourceKind(),
+                        item.getSourceLabel()
+                ));
+            }
+            result.add(new ShoppingListSnapshot(list.getId(), list.getName(), list.getType(), List.copyOf(items)));
+        }
+        return result;
+    }
+
     @Override
     public void deleteById(UUID id) {
         if (id == null) {
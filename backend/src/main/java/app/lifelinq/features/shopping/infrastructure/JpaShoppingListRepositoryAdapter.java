@@ -1,19 +1,28 @@
 package app.lifelinq.features.shopping.infrastructure;
 
 import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 public final class JpaShoppingListRepositoryAdapter implements ShoppingListRepository {
     private final ShoppingListJpaRepository repository;
     private final ShoppingListMapper mapper;
+    private final EntityManager entityManager;
 
     public JpaShoppingListRepositoryAdapter(
             ShoppingListJpaRepository repository,
-            ShoppingListMapper mapper
+            ShoppingListMapper mapper,
+            EntityManager entityManager
     ) {
         if (repository == null) {
             throw new IllegalArgumentException("repository must not be null");
@@ -21,8 +30,12 @@ public final class JpaShoppingListRepositoryAdapter implements ShoppingListRepos
         if (mapper == null) {
             throw new IllegalArgumentException("mapper must not be null");
         }
+        if (entityManager == null) {
+            throw new IllegalArgumentException("entityManager must not be null");
+        }
         this.repository = repository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -30,8 +43,20 @@ public final class JpaShoppingListRepositoryAdapter implements ShoppingListRepos
         if (list == null) {
             throw new IllegalArgumentException("list must not be null");
         }
-        ShoppingListEntity saved = repository.save(mapper.toEntity(list));
-        return mapper.toDomain(saved);
+        ShoppingListEntity existing = repository.findById(list.getId()).orElse(null);
+        if (existing == null) {
+            return mapper.toDomain(repository.save(mapper.toEntity(list)));
+        }
+        try {
+            if (mapper.copyToEntity(list, existing)) {
+                // Item inserts and deletes do not touch the list row, so bump its version explicitly
+                // to make concurrent merges into the same list conflict instead of both succeeding.
+                entityManager.lock(existing, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+            }
+            return mapper.toDomain(repository.saveAndFlush(existing));
+        } catch (OptimisticLockException | OptimisticLockingFailureException ex) {
+            throw new ShoppingListConcurrentModificationException(list.getId(), ex);
+        }
     }
 
     @Override
@@ -54,6 +79,20 @@ public final class JpaShoppingListRepositoryAdapter implements ShoppingListRepos
         return result;
     }
 
+    @Override
+    public List<ShoppingListSnapshot> findSnapshotsByGroupIdAndIds(UUID groupId, Set<UUID> listIds) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId must not be null");
+        }
+        if (listIds == null) {
+            throw new IllegalArgumentException("listIds must not be null");
+        }
+        if (listIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toSnapshots(repository.findSnapshotRowsByGroupIdAndIdIn(groupId, listIds));
+    }
+
     @Override
     public void deleteById(UUID id) {
         if (id == null) {
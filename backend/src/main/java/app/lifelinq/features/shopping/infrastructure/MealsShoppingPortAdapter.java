@@ -2,20 +2,26 @@ package app.lifelinq.features.shopping.infrastructure;
 
 import app.lifelinq.features.meals.contract.MealsShoppingPort;
 import app.lifelinq.features.meals.contract.MealsShoppingAccessDeniedException;
+import app.lifelinq.features.meals.contract.MealsShoppingConflictException;
 import app.lifelinq.features.meals.contract.MealsShoppingDuplicateItemException;
+import app.lifelinq.features.meals.contract.MealsShoppingItemInput;
 import app.lifelinq.features.meals.contract.MealsShoppingListNotFoundException;
 import app.lifelinq.features.shopping.application.AccessDeniedException;
 import app.lifelinq.features.shopping.application.ShoppingApplicationService;
-import app.lifelinq.features.shopping.contract.ShoppingItemView;
-import app.lifelinq.features.shopping.contract.ShoppingListView;
+import app.lifelinq.features.shopping.contract.AddShoppingItemInput;
 import app.lifelinq.features.shopping.domain.DuplicateShoppingItemNameException;
+import app.lifelinq.features.shopping.domain.ShoppingItemSnapshot;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingListNotFoundException;
 import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
 import app.lifelinq.features.meals.contract.MealsShoppingItemSnapshot;
 import app.lifelinq.features.meals.contract.MealsShoppingListSnapshot;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -55,6 +61,45 @@ public final class MealsShoppingPortAdapter implements MealsShoppingPort {
             throw new MealsShoppingListNotFoundException(ex.getMessage());
         } catch (DuplicateShoppingItemNameException ex) {
             throw new MealsShoppingDuplicateItemException(ex.getMessage());
+        } catch (ShoppingListConcurrentModificationException ex) {
+            throw new MealsShoppingConflictException(ex.getMessage());
+        }
+    }
+
+    @Override
+    public void addShoppingItems(
+            UUID groupId,
+            UUID actorUserId,
+            UUID listId,
+            List<MealsShoppingItemInput> items
+    ) {
+        if (items == null) {
+            throw new IllegalArgumentException("items must not be null");
+        }
+        if (items.isEmpty()) {
+            return;
+        }
+        List<AddShoppingItemInput> inputs = new ArrayList<>();
+        for (MealsShoppingItemInput item : items) {
+            inputs.add(new AddShoppingItemInput(
+                    item.itemName(),
+                    item.quantity(),
+                    toShoppingUnit(item.unitName()),
+                    toShoppingSourceKind(item.sourceKind()),
+                    item.sourceLabel(),
+                    false
+            ));
+        }
+        try {
+            shoppingApplicationService.addShoppingItems(groupId, actorUserId, listId, inputs);
+        } catch (AccessDeniedException ex) {
+            throw new MealsShoppingAccessDeniedException(ex.getMessage());
+        } catch (ShoppingListNotFoundException ex) {
+            throw new MealsShoppingListNotFoundException(ex.getMessage());
+        } catch (DuplicateShoppingItemNameException ex) {
+            throw new MealsShoppingDuplicateItemException(ex.getMessage());
+        } catch (ShoppingListConcurrentModificationException ex) {
+            throw new MealsShoppingConflictException(ex.getMessage());
         }
     }
 
@@ -72,11 +117,12 @@ public final class MealsShoppingPortAdapter implements MealsShoppingPort {
         }
         try {
             Map<UUID, MealsShoppingListSnapshot> snapshots = new HashMap<>();
-            for (ShoppingListView list : shoppingApplicationService.listShoppingLists(groupId, actorUserId)) {
-                if (!listIds.contains(list.id())) {
-                    continue;
-                }
-                snapshots.put(list.id(), toSnapshot(list));
+            for (ShoppingListSnapshot list : shoppingApplicationService.getShoppingListSnapshots(
+                    groupId,
+                    actorUserId,
+                    listIds
+            )) {
+                snapshots.put(list.listId(), toSnapshot(list));
             }
             return Map.copyOf(snapshots);
         } catch (AccessDeniedException ex) {
@@ -98,23 +144,23 @@ public final class MealsShoppingPortAdapter implements MealsShoppingPort {
         return ShoppingItemSourceKind.fromKey(sourceKind);
     }
 
-    private MealsShoppingListSnapshot toSnapshot(ShoppingListView list) {
+    private MealsShoppingListSnapshot toSnapshot(ShoppingListSnapshot list) {
         return new MealsShoppingListSnapshot(
-                list.id(),
+                list.listId(),
                 list.name(),
-                list.type(),
+                list.type().key(),
                 list.items().stream().map(this::toSnapshot).toList()
         );
     }
 
-    private MealsShoppingItemSnapshot toSnapshot(ShoppingItemView item) {
+    private MealsShoppingItemSnapshot toSnapshot(ShoppingItemSnapshot item) {
         return new MealsShoppingItemSnapshot(
-                item.id(),
+                item.itemId(),
                 item.name(),
                 item.status().name(),
                 item.quantity(),
                 item.unit() == null ? null : item.unit().name(),
-                item.sourceKind(),
+                item.sourceKind() == null ? null : item.sourceKind().key(),
                 item.sourceLabel()
         );
     }
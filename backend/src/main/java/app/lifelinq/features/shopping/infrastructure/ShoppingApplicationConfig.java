@@ -3,9 +3,15 @@ package app.lifelinq.features.shopping.infrastructure;
 import app.lifelinq.features.meals.contract.MealsShoppingPort;
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
 import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeBroadcaster;
+import app.lifelinq.features.shopping.application.ShoppingTransactionRunner;
+import app.lifelinq.features.shopping.application.ShoppingWriteMetrics;
 import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,9 +23,53 @@ public class ShoppingApplicationConfig {
             ShoppingListRepository repository,
             ShoppingCategoryPreferenceRepository shoppingCategoryPreferenceRepository,
             EnsureGroupMemberUseCase ensureGroupMemberUseCase,
-            Clock clock
+            Clock clock,
+            ShoppingTransactionRunner shoppingTransactionRunner,
+            ShoppingWriteMetrics shoppingWriteMetrics,
+            @Value("${lifelinq.shopping.writeRetry.maxAttempts:4}") int maxWriteAttempts,
+            ShoppingChangeBroadcaster shoppingChangeBroadcaster
     ) {
-        return new ShoppingApplicationService(repository, shoppingCategoryPreferenceRepository, ensureGroupMemberUseCase, clock);
+        return new ShoppingApplicationService(
+                repository,
+                shoppingCategoryPreferenceRepository,
+                ensureGroupMemberUseCase,
+                clock,
+                shoppingTransactionRunner,
+                shoppingWriteMetrics,
+                maxWriteAttempts,
+                shoppingChangeBroadcaster
+        );
+    }
+
+    @Bean
+    public ShoppingChangeBroadcaster shoppingChangeBroadcaster(
+            @Value("${lifelinq.shopping.changes.bufferCapacity:"
+                    + ShoppingApplicationService.DEFAULT_CHANGE_BUFFER_CAPACITY + "}") int bufferCapacity
+    ) {
+        return new ShoppingChangeBroadcaster(bufferCapacity);
+    }
+
+    @Bean
+    public ShoppingWriteMetrics shoppingWriteMetrics() {
+        return new ShoppingWriteMetrics();
+    }
+
+    @Bean
+    public MeterBinder shoppingWriteMeters(ShoppingWriteMetrics metrics) {
+        return registry -> {
+            FunctionCounter.builder("lifelinq.shopping.write.conflicts", metrics, ShoppingWriteMetrics::conflictCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.shopping.write.retries", metrics, ShoppingWriteMetrics::retryCount)
+                    .register(registry);
+            FunctionCounter.builder("lifelinq.shopping.write.exhausted", metrics, ShoppingWriteMetrics::exhaustedCount)
+                    .register(registry);
+            FunctionCounter.builder(
+                            "lifelinq.shopping.write.conflicts.joined",
+                            metrics,
+                            ShoppingWriteMetrics::joinedConflictCount
+                    )
+                    .register(registry);
+        };
     }
 
     @Bean
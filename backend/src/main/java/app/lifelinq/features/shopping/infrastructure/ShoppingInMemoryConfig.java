@@ -1,5 +1,6 @@
 package app.lifelinq.features.shopping.infrastructure;
 
+import app.lifelinq.features.shopping.application.ShoppingTransactionRunner;
 import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +16,11 @@ public class ShoppingInMemoryConfig {
         return new InMemoryShoppingListRepository();
     }
 
+    @Bean
+    public ShoppingTransactionRunner shoppingTransactionRunner() {
+        return ShoppingTransactionRunner.direct();
+    }
+
     @Bean
     public ShoppingCategoryPreferenceRepository shoppingCategoryPreferenceRepository() {
         return new InMemoryShoppingCategoryPreferenceRepository();
@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
@@ -32,7 +33,7 @@ public class ShoppingItemEntity {
     private String name;
 
     @Column(name = "order_index")
-    private Integer orderIndex;
+    private Long orderIndex;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -57,6 +58,10 @@ public class ShoppingItemEntity {
     @Column(name = "bought_at")
     private Instant boughtAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected ShoppingItemEntity() {
     }
 
@@ -64,7 +69,7 @@ public class ShoppingItemEntity {
             UUID id,
             ShoppingListEntity list,
             String name,
-            Integer orderIndex,
+            Long orderIndex,
             ShoppingItemStatusEntity status,
             BigDecimal quantity,
             ShoppingUnitEntity unit,
@@ -86,6 +91,26 @@ public class ShoppingItemEntity {
         this.boughtAt = boughtAt;
     }
 
+    void updateDetails(
+            String name,
+            Long orderIndex,
+            ShoppingItemStatusEntity status,
+            BigDecimal quantity,
+            ShoppingUnitEntity unit,
+            String sourceKind,
+            String sourceLabel,
+            Instant boughtAt
+    ) {
+        this.name = name;
+        this.orderIndex = orderIndex;
+        this.status = status;
+        this.quantity = quantity;
+        this.unit = unit;
+        this.sourceKind = sourceKind;
+        this.sourceLabel = sourceLabel;
+        this.boughtAt = boughtAt;
+    }
+
     UUID getId() {
         return id;
     }
@@ -98,7 +123,7 @@ public class ShoppingItemEntity {
         return name;
     }
 
-    Integer getOrderIndex() {
+    Long getOrderIndex() {
         return orderIndex;
     }
 
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +39,10 @@ public class ShoppingListEntity {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(
             mappedBy = "list",
             cascade = CascadeType.ALL,
@@ -57,6 +62,12 @@ public class ShoppingListEntity {
         this.createdAt = createdAt;
     }
 
+    void updateDetails(String name, String listType, int orderIndex) {
+        this.name = name;
+        this.listType = listType;
+        this.orderIndex = orderIndex;
+    }
+
     UUID getId() {
         return id;
     }
@@ -1,10 +1,13 @@
 package app.lifelinq.features.shopping.infrastructure;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ShoppingListJpaRepository extends JpaRepository<ShoppingListEntity, UUID> {
     @Override
@@ -13,4 +16,28 @@ public interface ShoppingListJpaRepository extends JpaRepository<ShoppingListEnt
 
     @EntityGraph(attributePaths = "items")
     List<ShoppingListEntity> findByGroupId(UUID groupId);
+
+    @Query("""
+            select new app.lifelinq.features.shopping.infrastructure.ShoppingListSnapshotRow(
+                list.id,
+                list.name,
+                list.listType,
+                item.id,
+                item.name,
+                item.status,
+                item.quantity,
+                item.unit,
+                item.sourceKind,
+                item.sourceLabel
+            )
+            from ShoppingListEntity list
+            left join list.items item
+            where list.groupId = :groupId
+              and list.id in :listIds
+            order by list.id, item.orderIndex, item.createdAt, item.id
+            """)
+    List<ShoppingListSnapshotRow> findSnapshotRowsByGroupIdAndIdIn(
+            @Param("groupId") UUID groupId,
+            @Param("listIds") Collection<UUID> listIds
+    );
 }
@@ -1,13 +1,21 @@
 package app.lifelinq.features.shopping.infrastructure;
 
 import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingItemSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingItemStatus;
 import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
 import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingListType;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 final class ShoppingListMapper {
 
@@ -26,6 +34,36 @@ final class ShoppingListMapper {
         return entity;
     }
 
+    boolean copyToEntity(ShoppingList list, ShoppingListEntity entity) {
+        entity.updateDetails(list.getName(), list.getType().key(), list.getOrderIndex());
+        Map<UUID, ShoppingItemEntity> existingById = new HashMap<>();
+        for (ShoppingItemEntity item : entity.getItems()) {
+            existingById.put(item.getId(), item);
+        }
+        Set<UUID> retainedIds = new HashSet<>();
+        boolean membershipChanged = false;
+        for (ShoppingItem item : list.getItems()) {
+            retainedIds.add(item.getId());
+            ShoppingItemEntity existing = existingById.get(item.getId());
+            if (existing == null) {
+                entity.getItems().add(toEntity(item, entity));
+                membershipChanged = true;
+                continue;
+            }
+            existing.updateDetails(
+                    item.getName(),
+                    item.getOrderIndex(),
+                    toEntityStatus(item.getStatus()),
+                    item.getQuantity(),
+                    toEntityUnit(item.getUnit()),
+                    item.getSourceKind() != null ? item.getSourceKind().key() : null,
+                    item.getSourceLabel(),
+                    item.getBoughtAt()
+            );
+        }
+        return entity.getItems().removeIf(item -> !retainedIds.contains(item.getId())) || membershipChanged;
+    }
+
     ShoppingList toDomain(ShoppingListEntity entity) {
         List<ShoppingItem> items = new ArrayList<>();
         for (ShoppingItemEntity item : entity.getItems()) {
@@ -42,6 +80,36 @@ final class ShoppingListMapper {
         );
     }
 
+    List<ShoppingListSnapshot> toSnapshots(List<ShoppingListSnapshotRow> rows) {
+        Map<UUID, ShoppingListSnapshotRow> listsById = new LinkedHashMap<>();
+        Map<UUID, List<ShoppingItemSnapshot>> itemsByListId = new LinkedHashMap<>();
+        for (ShoppingListSnapshotRow row : rows) {
+            listsById.putIfAbsent(row.listId(), row);
+            List<ShoppingItemSnapshot> items = itemsByListId.computeIfAbsent(row.listId(), ignored -> new ArrayList<>());
+            if (row.itemId() != null) {
+                items.add(new ShoppingItemSnapshot(
+                        row.itemId(),
+                        row.itemName(),
+                        toDomainStatus(row.itemStatus()),
+                        row.itemQuantity(),
+                        toDomainUnit(row.itemUnit()),
+                        toDomainSourceKind(row.itemSourceKind()),
+                        row.itemSourceLabel()
+                ));
+            }
+        }
+        List<ShoppingListSnapshot> result = new ArrayList<>();
+        for (ShoppingListSnapshotRow list : listsById.values()) {
+            result.add(new ShoppingListSnapshot(
+                    list.listId(),
+                    list.listName(),
+                    ShoppingListType.fromKey(list.listType()),
+                    List.copyOf(itemsByListId.get(list.listId()))
+            ));
+        }
+        return result;
+    }
+
     private ShoppingItemEntity toEntity(ShoppingItem item, ShoppingListEntity list) {
         return new ShoppingItemEntity(
                 item.getId(),
@@ -62,7 +130,7 @@ final class ShoppingListMapper {
         return ShoppingItem.rehydrate(
                 entity.getId(),
                 entity.getName(),
-                entity.getOrderIndex() != null ? entity.getOrderIndex() : 0,
+                entity.getOrderIndex() != null ? entity.getOrderIndex() : 0L,
                 entity.getCreatedAt(),
                 toDomainStatus(entity.getStatus()),
                 entity.getBoughtAt(),
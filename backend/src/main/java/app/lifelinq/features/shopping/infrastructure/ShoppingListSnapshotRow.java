@@ -0,0 +1,17 @@
+package app.lifelinq.features.shopping.infrastructure;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ShoppingListSnapshotRow(
+        UUID listId,
+        String listName,
+        String listType,
+        UUID itemId,
+        String itemName,
+        ShoppingItemStatusEntity itemStatus,
+        BigDecimal itemQuantity,
+        ShoppingUnitEntity itemUnit,
+        String itemSourceKind,
+        String itemSourceLabel
+) {}
@@ -1,10 +1,13 @@
 package app.lifelinq.features.shopping.infrastructure;
 
+import app.lifelinq.features.shopping.application.ShoppingTransactionRunner;
 import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @Profile("persistence")
@@ -18,9 +21,15 @@ public class ShoppingPersistenceConfig {
     @Bean
     public ShoppingListRepository shoppingListRepository(
             ShoppingListJpaRepository repository,
-            ShoppingListMapper mapper
+            ShoppingListMapper mapper,
+            EntityManager entityManager
     ) {
-        return new JpaShoppingListRepositoryAdapter(repository, mapper);
+        return new JpaShoppingListRepositoryAdapter(repository, mapper, entityManager);
+    }
+
+    @Bean
+    public ShoppingTransactionRunner shoppingTransactionRunner(PlatformTransactionManager transactionManager) {
+        return new SpringShoppingTransactionRunner(transactionManager);
     }
 
     @Bean
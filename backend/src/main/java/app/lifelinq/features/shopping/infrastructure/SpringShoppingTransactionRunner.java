@@ -0,0 +1,43 @@
+package app.lifelinq.features.shopping.infrastructure;
+
+import app.lifelinq.features.shopping.application.ShoppingTransactionRunner;
+import java.util.function.Supplier;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public final class SpringShoppingTransactionRunner implements ShoppingTransactionRunner {
+    private final TransactionTemplate transactionTemplate;
+
+    public SpringShoppingTransactionRunner(PlatformTransactionManager transactionManager) {
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("transactionManager must not be null");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> attempt) {
+        return transactionTemplate.execute(status -> attempt.get());
+    }
+
+    @Override
+    public boolean joinsCallerTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    public void afterCommit(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                callback.run();
+            }
+        });
+    }
+}
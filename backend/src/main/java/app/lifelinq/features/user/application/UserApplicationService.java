@@ -7,6 +7,10 @@ import app.lifelinq.features.user.contract.UserProfileRead;
 import app.lifelinq.features.user.contract.UserProfileView;
 import app.lifelinq.features.user.contract.UserProvisioning;
 import app.lifelinq.features.user.domain.UserRepository;
+import app.lifelinq.features.user.domain.User;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -115,6 +119,18 @@ public class UserApplicationService implements
         return new UserProfileView(user.getFirstName(), user.getLastName());
     }
 
+    @Override
+    public Map<UUID, UserProfileView> getProfiles(Collection<UUID> userIds) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("userIds must not be null");
+        }
+        Map<UUID, UserProfileView> profiles = new HashMap<>();
+        for (User user : userRepository.findByIds(userIds)) {
+            profiles.put(user.getId(), new UserProfileView(user.getFirstName(), user.getLastName()));
+        }
+        return profiles;
+    }
+
     @Transactional
     public void updateProfile(UUID userId, String firstName, String lastName) {
         updateUserProfileUseCase.execute(userId, firstName, lastName);
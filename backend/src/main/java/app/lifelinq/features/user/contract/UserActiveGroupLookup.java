@@ -0,0 +1,12 @@
+package app.lifelinq.features.user.contract;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the active group of an authenticated user for the request filter chain.
+ * Empty means the user does not exist; a present view may still carry a null group.
+ */
+public interface UserActiveGroupLookup {
+    Optional<UserActiveGroupView> findActiveGroup(UUID userId);
+}
@@ -0,0 +1,6 @@
+package app.lifelinq.features.user.contract;
+
+import java.util.UUID;
+
+public record UserActiveGroupView(UUID groupId) {
+}
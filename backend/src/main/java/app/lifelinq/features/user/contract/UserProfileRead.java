@@ -1,7 +1,22 @@
 package app.lifelinq.features.user.contract;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 public interface UserProfileRead {
     UserProfileView getProfile(UUID userId);
+
+    /**
+     * Returns the profiles of the given users keyed by user id, read in one pass.
+     * Users that do not exist are left out of the result.
+     */
+    default Map<UUID, UserProfileView> getProfiles(Collection<UUID> userIds) {
+        Map<UUID, UserProfileView> profiles = new HashMap<>();
+        for (UUID userId : userIds) {
+            profiles.put(userId, getProfile(userId));
+        }
+        return profiles;
+    }
 }
@@ -1,11 +1,22 @@
 package app.lifelinq.features.user.domain;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository {
     Optional<User> findById(UUID id);
 
+    default List<User> findByIds(Collection<UUID> ids) {
+        List<User> result = new ArrayList<>();
+        for (UUID id : ids) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
     default Optional<User> findByEmail(String email) {
         return Optional.empty();
     }
@@ -2,14 +2,28 @@ package app.lifelinq.features.user.infrastructure;
 
 import app.lifelinq.features.user.domain.User;
 import app.lifelinq.features.user.domain.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class JpaUserRepositoryAdapter implements UserRepository {
     private final UserJpaRepository repository;
     private final UserMapper mapper;
+    private final UserActiveGroupCache activeGroupCache;
 
     public JpaUserRepositoryAdapter(UserJpaRepository repository, UserMapper mapper) {
+        this(repository, mapper, null);
+    }
+
+    public JpaUserRepositoryAdapter(
+            UserJpaRepository repository,
+            UserMapper mapper,
+            UserActiveGroupCache activeGroupCache
+    ) {
         if (repository == null) {
             throw new IllegalArgumentException("repository must not be null");
         }
@@ -18,6 +32,7 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         }
         this.repository = repository;
         this.mapper = mapper;
+        this.activeGroupCache = activeGroupCache;
     }
 
     @Override
@@ -25,6 +40,21 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         return repository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findByIds(Collection<UUID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("ids must not be null");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<User> result = new ArrayList<>();
+        for (UserEntity entity : repository.findAllById(ids)) {
+            result.add(mapper.toDomain(entity));
+        }
+        return result;
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         if (email == null || email.isBlank()) {
@@ -36,6 +66,7 @@ public class JpaUserRepositoryAdapter implements UserRepository {
     @Override
     public void save(User user) {
         repository.save(mapper.toEntity(user));
+        invalidateActiveGroup(user.getId());
     }
 
     @Override
@@ -44,5 +75,21 @@ public class JpaUserRepositoryAdapter implements UserRepository {
             throw new IllegalArgumentException("id must not be null");
         }
         repository.deleteById(id);
+        invalidateActiveGroup(id);
+    }
+
+    private void invalidateActiveGroup(UUID userId) {
+        if (activeGroupCache == null) {
+            return;
+        }
+        activeGroupCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    activeGroupCache.invalidate(userId);
+                }
+            });
+        }
     }
 }
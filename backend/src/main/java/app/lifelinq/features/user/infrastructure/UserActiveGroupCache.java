@@ -0,0 +1,77 @@
+package app.lifelinq.features.user.infrastructure;
+
+import app.lifelinq.common.BoundedCache;
+import app.lifelinq.common.CacheStatistics;
+import app.lifelinq.features.user.contract.UserActiveGroupView;
+import app.lifelinq.features.user.domain.UserRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Near cache of each user's active group, read by the request filter chain so that
+ * steady-state requests resolve their group without touching the database. Every
+ * active-group change is persisted through {@link JpaUserRepositoryAdapter}, which
+ * invalidates the user's entry on write and again once the transaction completes.
+ * The TTL bounds how long another instance's change can go unseen. Lookups do not
+ * lock, and a full cache drops its least recently used users first.
+ */
+public final class UserActiveGroupCache implements CacheStatistics {
+    private final long ttlMillis;
+    private final Clock clock;
+    private final BoundedCache<UUID, UserActiveGroupView> entries;
+
+    public UserActiveGroupCache(int maxEntries, Duration ttl, Clock clock) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.entries = new BoundedCache<>(maxEntries, clock);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public Optional<UserActiveGroupView> resolve(UUID userId, UserRepository userRepository) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+        UserActiveGroupView cached = entries.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = entries.invalidationStamp();
+        Optional<UserActiveGroupView> loaded = userRepository.findById(userId)
+                .map(user -> new UserActiveGroupView(user.getActiveGroupId()));
+        loaded.ifPresent(view -> entries.putUnlessInvalidated(userId, view, clock.millis() + ttlMillis, stamp));
+        return loaded;
+    }
+
+    public void invalidate(UUID userId) {
+        entries.invalidate(userId);
+    }
+
+    @Override
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    @Override
+    public long putCount() {
+        return entries.putCount();
+    }
+
+    @Override
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+}
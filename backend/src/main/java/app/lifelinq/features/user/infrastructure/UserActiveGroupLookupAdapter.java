@@ -0,0 +1,28 @@
+package app.lifelinq.features.user.infrastructure;
+
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
+import app.lifelinq.features.user.contract.UserActiveGroupView;
+import app.lifelinq.features.user.domain.UserRepository;
+import java.util.Optional;
+import java.util.UUID;
+
+public final class UserActiveGroupLookupAdapter implements UserActiveGroupLookup {
+    private final UserRepository userRepository;
+    private final UserActiveGroupCache activeGroupCache;
+
+    public UserActiveGroupLookupAdapter(UserRepository userRepository, UserActiveGroupCache activeGroupCache) {
+        if (userRepository == null) {
+            throw new IllegalArgumentException("userRepository must not be null");
+        }
+        this.userRepository = userRepository;
+        this.activeGroupCache = activeGroupCache;
+    }
+
+    @Override
+    public Optional<UserActiveGroupView> findActiveGroup(UUID userId) {
+        if (activeGroupCache != null) {
+            return activeGroupCache.resolve(userId, userRepository);
+        }
+        return userRepository.findById(userId).map(user -> new UserActiveGroupView(user.getActiveGroupId()));
+    }
+}
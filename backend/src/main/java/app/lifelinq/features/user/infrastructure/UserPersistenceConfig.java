@@ -1,5 +1,13 @@
 package app.lifelinq.features.user.infrastructure;
 
+import app.lifelinq.config.CacheStatisticsMeterBinder;
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,7 +20,35 @@ public class UserPersistenceConfig {
     }
 
     @Bean
-    public JpaUserRepositoryAdapter userRepository(UserJpaRepository repository, UserMapper mapper) {
-        return new JpaUserRepositoryAdapter(repository, mapper);
+    @ConditionalOnProperty(name = "lifelinq.user.activeGroupCache.enabled", havingValue = "true")
+    public UserActiveGroupCache userActiveGroupCache(
+            @Value("${lifelinq.user.activeGroupCache.maxEntries:10000}") int maxEntries,
+            @Value("${lifelinq.user.activeGroupCache.ttlSeconds:30}") long ttlSeconds,
+            Clock clock
+    ) {
+        return new UserActiveGroupCache(maxEntries, Duration.ofSeconds(ttlSeconds), clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lifelinq.user.activeGroupCache.enabled", havingValue = "true")
+    public MeterBinder userActiveGroupCacheMetrics(UserActiveGroupCache activeGroupCache) {
+        return new CacheStatisticsMeterBinder(activeGroupCache, "user.active-groups");
+    }
+
+    @Bean
+    public JpaUserRepositoryAdapter userRepository(
+            UserJpaRepository repository,
+            UserMapper mapper,
+            Optional<UserActiveGroupCache> activeGroupCache
+    ) {
+        return new JpaUserRepositoryAdapter(repository, mapper, activeGroupCache.orElse(null));
+    }
+
+    @Bean
+    public UserActiveGroupLookup userActiveGroupLookup(
+            JpaUserRepositoryAdapter userRepository,
+            Optional<UserActiveGroupCache> activeGroupCache
+    ) {
+        return new UserActiveGroupLookupAdapter(userRepository, activeGroupCache.orElse(null));
     }
 }
@@ -0,0 +1,61 @@
+CREATE TABLE meal_usage_years (
+    id UUID PRIMARY KEY,
+    group_id UUID NOT NULL,
+    usage_year INTEGER NOT NULL,
+    identity_key VARCHAR(512) NOT NULL,
+    recipe_id UUID,
+    title VARCHAR(255) NOT NULL,
+    occurrence_count INTEGER NOT NULL,
+    distinct_weeks INTEGER NOT NULL,
+    last_planned_date DATE NOT NULL,
+    used_meal_types VARCHAR(64) NOT NULL,
+    CONSTRAINT uk_meal_usage_years_group_year_identity UNIQUE (group_id, usage_year, identity_key)
+);
+
+CREATE INDEX idx_meal_usage_years_group_year ON meal_usage_years(group_id, usage_year);
+
+WITH occurrences AS (
+    SELECT
+        wp.group_id,
+        wp.week_year,
+        wp.iso_week,
+        pm.meal_type,
+        pm.recipe_id,
+        CASE
+            WHEN pm.recipe_id IS NOT NULL THEN 'recipe:' || pm.recipe_id::text
+            ELSE 'title:' || lower(regexp_replace(btrim(pm.meal_title), '\s+', ' ', 'g'))
+        END AS identity_key,
+        CASE
+            WHEN pm.recipe_id IS NOT NULL THEN COALESCE(NULLIF(btrim(pm.recipe_title_snapshot), ''), btrim(pm.meal_title))
+            ELSE btrim(pm.meal_title)
+        END AS title,
+        to_date(wp.week_year || '-' || wp.iso_week || '-' || pm.day_of_week, 'IYYY-IW-ID') AS planned_date,
+        CASE pm.meal_type WHEN 'BREAKFAST' THEN 0 WHEN 'LUNCH' THEN 1 ELSE 2 END AS meal_type_order
+    FROM planned_meals pm
+    JOIN week_plans wp ON wp.id = pm.week_plan_id
+)
+INSERT INTO meal_usage_years (
+    id,
+    group_id,
+    usage_year,
+    identity_key,
+    recipe_id,
+    title,
+    occurrence_count,
+    distinct_weeks,
+    last_planned_date,
+    used_meal_types
+)
+SELECT
+    gen_random_uuid(),
+    group_id,
+    week_year,
+    identity_key,
+    MAX(recipe_id::text)::uuid,
+    (array_agg(title ORDER BY planned_date DESC, meal_type_order ASC))[1],
+    COUNT(*),
+    COUNT(DISTINCT iso_week),
+    MAX(planned_date),
+    string_agg(DISTINCT meal_type, ',')
+FROM occurrences
+GROUP BY group_id, week_year, identity_key;
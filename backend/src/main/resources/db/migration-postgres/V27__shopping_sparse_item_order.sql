@@ -0,0 +1,16 @@
+ALTER TABLE shopping_items
+    ALTER COLUMN order_index TYPE BIGINT;
+
+WITH ranked AS (
+    SELECT
+        id,
+        ROW_NUMBER() OVER (
+            PARTITION BY list_id
+            ORDER BY COALESCE(order_index, 0), created_at, id
+        ) - 1 AS position
+    FROM shopping_items
+)
+UPDATE shopping_items item
+SET order_index = ranked.position * 1048576
+FROM ranked
+WHERE ranked.id = item.id;
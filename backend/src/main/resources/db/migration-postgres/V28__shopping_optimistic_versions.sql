@@ -0,0 +1,5 @@
+ALTER TABLE shopping_lists
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE shopping_items
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
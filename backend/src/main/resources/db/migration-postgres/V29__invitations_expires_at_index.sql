@@ -0,0 +1,2 @@
+CREATE INDEX idx_invitations_expires_at
+    ON invitations (expires_at);
@@ -0,0 +1,20 @@
+CREATE TABLE mail_outbox (
+    id UUID PRIMARY KEY,
+    recipient VARCHAR(320) NOT NULL,
+    sender VARCHAR(320) NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE NULL,
+    claim_token UUID NULL,
+    last_error VARCHAR(1000) NULL
+);
+
+CREATE INDEX idx_mail_outbox_status_next_attempt_at
+    ON mail_outbox(status, next_attempt_at);
+
+CREATE INDEX idx_mail_outbox_claim_token
+    ON mail_outbox(claim_token);
@@ -0,0 +1,8 @@
+CREATE TABLE invitation_short_code_counter (
+    id SMALLINT PRIMARY KEY,
+    next_value BIGINT NOT NULL,
+    CONSTRAINT ck_invitation_short_code_counter_next_value_non_negative
+        CHECK (next_value >= 0)
+);
+
+INSERT INTO invitation_short_code_counter (id, next_value) VALUES (1, 0);
@@ -0,0 +1,14 @@
+ALTER TABLE recipes ADD COLUMN normalized_source_url VARCHAR(1000);
+ALTER TABLE recipes ADD COLUMN normalized_name VARCHAR(1000);
+ALTER TABLE recipes ADD COLUMN normalized_source_name VARCHAR(1000);
+
+UPDATE recipes
+SET normalized_source_url = NULLIF(LOWER(BTRIM(source_url, E' \t\n\r\f\v')), ''),
+    normalized_name = NULLIF(LOWER(REGEXP_REPLACE(BTRIM(name, E' \t\n\r\f\v'), '\s+', ' ', 'g')), ''),
+    normalized_source_name = NULLIF(LOWER(REGEXP_REPLACE(BTRIM(source_name, E' \t\n\r\f\v'), '\s+', ' ', 'g')), '');
+
+CREATE INDEX idx_recipes_group_source_url_key
+    ON recipes (group_id, normalized_source_url);
+
+CREATE INDEX idx_recipes_group_name_source_key
+    ON recipes (group_id, normalized_name, normalized_source_name);
@@ -0,0 +1,9 @@
+CREATE TABLE meal_usage_year_locks (
+    group_id UUID NOT NULL,
+    usage_year INTEGER NOT NULL,
+    CONSTRAINT pk_meal_usage_year_locks PRIMARY KEY (group_id, usage_year)
+);
+
+INSERT INTO meal_usage_year_locks (group_id, usage_year)
+SELECT DISTINCT group_id, usage_year
+FROM meal_usage_years;
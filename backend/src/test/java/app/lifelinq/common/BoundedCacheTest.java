@@ -0,0 +1,128 @@
+package app.lifelinq.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T08:00:00Z"), ZoneOffset.UTC);
+    private static final long LATER = CLOCK.millis() + 60_000;
+
+    @Test
+    void fullCacheDropsLeastRecentlyUsedEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, CLOCK);
+        cache.put("a", "A", LATER);
+        cache.put("b", "B", LATER);
+
+        assertEquals("A", cache.get("a"));
+        cache.put("c", "C", LATER);
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.putCount());
+    }
+
+    @Test
+    void expiredEntriesAreMissesAndAreTrimmedBeforeLiveOnes() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, CLOCK);
+        cache.put("expired", "X", CLOCK.millis());
+        cache.put("live", "L", LATER);
+
+        assertNull(cache.get("expired"));
+        cache.put("expired", "X", CLOCK.millis());
+        cache.put("new", "N", LATER);
+
+        assertEquals("L", cache.get("live"));
+        assertEquals("N", cache.get("new"));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void largeCacheTrimsInBatchesAndStaysNearItsBound() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(160, CLOCK);
+        for (int key = 0; key < 1_000; key++) {
+            cache.put(key, key, LATER);
+        }
+
+        assertTrue(cache.size() <= 160);
+        assertTrue(cache.size() >= 150);
+        assertEquals(999, cache.get(999));
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    void valueLoadedBeforeAnInvalidationIsNotCached() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, CLOCK);
+        long stamp = cache.invalidationStamp();
+        cache.invalidate("a");
+
+        assertFalse(cache.putUnlessInvalidated("a", "stale", LATER, stamp));
+        assertNull(cache.get("a"));
+
+        assertTrue(cache.putUnlessInvalidated("a", "fresh", LATER, cache.invalidationStamp()));
+        assertEquals("fresh", cache.get("a"));
+    }
+
+    @Test
+    void invalidateIfRemovesEveryMatchingKey() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, CLOCK);
+        cache.put("group-1:monday", "A", LATER);
+        cache.put("group-1:tuesday", "B", LATER);
+        cache.put("group-2:monday", "C", LATER);
+
+        cache.invalidateIf(key -> key.startsWith("group-1:"));
+
+        assertEquals(1, cache.size());
+        assertEquals("C", cache.get("group-2:monday"));
+    }
+
+    @Test
+    void concurrentReadersAndWritersKeepTheCacheBounded() throws Exception {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(64, CLOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread * 10_000;
+            futures.add(executor.submit(() -> {
+                for (int index = 0; index < 5_000; index++) {
+                    int key = offset + index % 100;
+                    Integer cached = cache.get(key);
+                    if (cached == null) {
+                        cache.put(key, key, LATER);
+                    } else {
+                        assertEquals(key, cached);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(cache.size() <= 64 + 8);
+        assertEquals(40_000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    void requiresPositiveBound() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(0, CLOCK));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(1, null));
+    }
+}
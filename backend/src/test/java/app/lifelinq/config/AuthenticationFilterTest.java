@@ -12,6 +12,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
@@ -51,6 +52,29 @@ class AuthenticationFilterTest {
         filter.doFilter(request, response, chain);
     }
 
+    @Test
+    void authenticatesRepeatRequestsFromVerifiedTokenCache() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 300, Clock.systemUTC());
+        AuthenticationFilter filter = new AuthenticationFilter(new JwtVerifier(SECRET), cache);
+        UUID userId = UUID.randomUUID();
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+        FilterChain chain = (req, res) -> assertEquals(
+                userId.toString(),
+                SecurityContextHolder.getContext().getAuthentication().getPrincipal()
+        );
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+            HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+            Mockito.when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+            filter.doFilter(request, response, chain);
+            SecurityContextHolder.clearContext();
+        }
+
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
     @Test
     void returnsUnauthorizedWhenTokenMissing() throws Exception {
         AuthenticationFilter filter = new AuthenticationFilter(new JwtVerifier(SECRET));
@@ -0,0 +1,30 @@
+package app.lifelinq.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import app.lifelinq.common.BoundedCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import org.junit.jupiter.api.Test;
+
+class CacheStatisticsMeterBinderTest {
+
+    @Test
+    void publishesCacheTotalsUnderTheStandardCacheMeters() {
+        Clock clock = Clock.systemUTC();
+        BoundedCache<String, String> cache = new BoundedCache<>(1, clock);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CacheStatisticsMeterBinder(cache, "test-cache").bindTo(registry);
+
+        cache.put("a", "A", clock.millis() + 60_000);
+        cache.get("a");
+        cache.get("b");
+        cache.put("b", "B", clock.millis() + 60_000);
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "test-cache", "result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "test-cache", "result", "miss").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.puts").tags("cache", "test-cache").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").tags("cache", "test-cache").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tags("cache", "test-cache").gauge().value());
+    }
+}
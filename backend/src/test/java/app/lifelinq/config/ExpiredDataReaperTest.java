@@ -0,0 +1,98 @@
+package app.lifelinq.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import app.lifelinq.common.ExpiredRowPurger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExpiredDataReaperTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void purgesInBatchesUntilAShortBatchAndRecordsBacklog() {
+        FakePurger purger = new FakePurger("tokens", 25);
+        ExpiredDataReaperMetrics metrics = new ExpiredDataReaperMetrics();
+        ExpiredDataReaper reaper = new ExpiredDataReaper(List.of(purger), metrics, CLOCK, 10, 20);
+
+        reaper.run();
+
+        assertEquals(3, purger.batches);
+        assertEquals(0, purger.remaining);
+        assertEquals(25, metrics.deletedCount("tokens"));
+        assertEquals(25, metrics.lastRunDeletedCount("tokens"));
+        assertEquals(0, metrics.backlog("tokens"));
+        assertEquals(1, metrics.runCount("tokens"));
+    }
+
+    @Test
+    void stopsAtTheBatchCapAndLeavesTheRestForTheNextRun() {
+        FakePurger purger = new FakePurger("sessions", 100);
+        ExpiredDataReaperMetrics metrics = new ExpiredDataReaperMetrics();
+        ExpiredDataReaper reaper = new ExpiredDataReaper(List.of(purger), metrics, CLOCK, 10, 3);
+
+        reaper.run();
+
+        assertEquals(3, purger.batches);
+        assertEquals(30, metrics.deletedCount("sessions"));
+        assertEquals(70, metrics.backlog("sessions"));
+
+        reaper.run();
+
+        assertEquals(60, metrics.deletedCount("sessions"));
+        assertEquals(30, metrics.lastRunDeletedCount("sessions"));
+        assertEquals(40, metrics.backlog("sessions"));
+        assertEquals(2, metrics.runCount("sessions"));
+    }
+
+    @Test
+    void oneFailingPurgerDoesNotStopTheOthers() {
+        ExpiredRowPurger failing = new FakePurger("broken", 5) {
+            @Override
+            public int purgeBatch(Instant now, int batchSize) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        FakePurger healthy = new FakePurger("challenges", 5);
+        ExpiredDataReaperMetrics metrics = new ExpiredDataReaperMetrics();
+        ExpiredDataReaper reaper = new ExpiredDataReaper(List.of(failing, healthy), metrics, CLOCK, 10, 20);
+
+        reaper.run();
+
+        assertEquals(1, metrics.failureCount("broken"));
+        assertEquals(0, metrics.runCount("broken"));
+        assertEquals(5, metrics.deletedCount("challenges"));
+    }
+
+    private static class FakePurger implements ExpiredRowPurger {
+        private final String name;
+        private int remaining;
+        private int batches;
+
+        private FakePurger(String name, int remaining) {
+            this.name = name;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int purgeBatch(Instant now, int batchSize) {
+            batches++;
+            int deleted = Math.min(remaining, batchSize);
+            remaining -= deleted;
+            return deleted;
+        }
+
+        @Override
+        public long countBacklog(Instant now) {
+            return remaining;
+        }
+    }
+}
@@ -6,13 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import app.lifelinq.features.user.domain.User;
+import app.lifelinq.features.user.domain.UserRepository;
+import app.lifelinq.features.user.infrastructure.UserActiveGroupCache;
+import app.lifelinq.features.user.infrastructure.UserActiveGroupLookupAdapter;
 import app.lifelinq.test.FakeActiveGroupUserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -71,6 +79,48 @@ class GroupContextFilterTest {
         assertNull(RequestContextHolder.getCurrent());
     }
 
+    @Test
+    void servesRepeatRequestsFromActiveGroupCacheWithoutRepositoryLookups() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID groupId = UUID.randomUUID();
+        AtomicInteger lookups = new AtomicInteger();
+        FakeActiveGroupUserRepository users = new FakeActiveGroupUserRepository().withUser(userId, groupId);
+        UserRepository countingUsers = new UserRepository() {
+            @Override
+            public Optional<User> findById(UUID id) {
+                lookups.incrementAndGet();
+                return users.findById(id);
+            }
+
+            @Override
+            public void save(User user) {
+                users.save(user);
+            }
+
+            @Override
+            public void deleteById(UUID id) {
+                users.deleteById(id);
+            }
+        };
+        UserActiveGroupCache cache = new UserActiveGroupCache(100, Duration.ofMinutes(1), Clock.systemUTC());
+        GroupContextFilter filter = new GroupContextFilter(new UserActiveGroupLookupAdapter(countingUsers, cache));
+        FilterChain chain = (req, res) -> assertEquals(groupId, RequestContextHolder.getCurrent().getGroupId());
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userId.toString(), null)
+            );
+            filter.doFilter(
+                    Mockito.mock(HttpServletRequest.class),
+                    Mockito.mock(HttpServletResponse.class),
+                    chain
+            );
+        }
+
+        assertEquals(1, lookups.get());
+        assertEquals(2, cache.hitCount());
+    }
+
     @Test
     void returnsUnauthorizedWhenAuthenticationMissing() throws Exception {
         GroupContextFilter filter = new GroupContextFilter(new FakeActiveGroupUserRepository());
@@ -3,11 +3,17 @@ package app.lifelinq.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.Test;
@@ -53,6 +59,131 @@ class JwtVerifierTest {
         assertThrows(JwtValidationException.class, () -> new JwtVerifier(SECRET).verify(token));
     }
 
+    @Test
+    void acceptsAndRejectsTheSameCorpusAsTheRegexReference() throws Exception {
+        JwtVerifier verifier = new JwtVerifier(SECRET);
+        List<String> corpus = buildCorpus();
+        int accepted = 0;
+
+        for (String token : corpus) {
+            String expected = referenceOutcome(token);
+            String actual;
+            try {
+                JwtClaims claims = verifier.verify(token);
+                actual = claims.getGroupId() + "/" + claims.getUserId();
+            } catch (JwtValidationException ex) {
+                actual = "rejected";
+            }
+            assertEquals(expected, actual, token);
+            if (!"rejected".equals(actual)) {
+                accepted++;
+            }
+        }
+        assertTrue(corpus.size() > 1_000);
+        assertTrue(accepted >= 10);
+    }
+
+    private List<String> buildCorpus() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID groupId = UUID.randomUUID();
+        long future = Instant.now().plusSeconds(600).getEpochSecond();
+        long past = Instant.now().minusSeconds(600).getEpochSecond();
+        List<String> payloads = List.of(
+                "{\"userId\":\"" + userId + "\",\"exp\":" + future + "}",
+                "{\"userId\":\"" + userId + "\",\"exp\":" + future + ",\"iss\":\"lifelinq\",\"aud\":\"app\"}",
+                "{ \"exp\" : " + future + " , \"groupId\" :\"" + groupId + "\",\n\"userId\":\t\"" + userId + "\" }",
+                "{\"userId\":\"" + userId.toString().toUpperCase() + "\",\"exp\":" + future + "}",
+                "{\"userId\":\"1-2-3-4-5\",\"exp\":" + future + "}",
+                "{\"userId\":\"not-a-uuid\",\"exp\":" + future + "}",
+                "{\"userId\":\"\",\"userId\":\"" + userId + "\",\"exp\":" + future + "}",
+                "{\"groupId\":\"broken\",\"userId\":\"" + userId + "\",\"exp\":" + future + "}",
+                "{\"userId\":\"" + userId + "\",\"exp\":" + past + "}",
+                "{\"userId\":\"" + userId + "\",\"exp\":\"" + future + "\"}",
+                "{\"userId\":\"" + userId + "\",\"exp\":99999999999999999999}",
+                "{\"userId\":\"" + userId + "\",\"exp\":0" + future + "}",
+                "{\"userId\":\"" + userId + "\"}",
+                "{\"exp\":" + future + "}",
+                "{\"userId\":\"" + userId + "\",\"note\":\"caf\u00e9\",\"exp\":" + future + "}"
+        );
+        List<String> headers = List.of(
+                "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+                "{ \"typ\":\"JWT\", \"alg\" : \"HS256\" }",
+                "{\"alg\":\"none\"}",
+                "{\"alg\":\"HS512\"}",
+                "{\"typ\":\"JWT\"}"
+        );
+        List<String> corpus = new ArrayList<>();
+        for (String header : headers) {
+            for (String payload : payloads) {
+                corpus.add(createToken(header, payload, SECRET, false));
+                corpus.add(createToken(header, payload, SECRET, true));
+                corpus.add(createToken(header, payload, "other-secret", false));
+            }
+        }
+        String valid = corpus.get(0);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_=.+/ \u00e9";
+        for (String original : List.of(valid, corpus.get(1), corpus.get(6))) {
+            for (int index = 0; index < original.length(); index++) {
+                int shift = Math.floorMod(alphabet.indexOf(original.charAt(index)) + 1 + index, alphabet.length());
+                corpus.add(original.substring(0, index) + alphabet.charAt(shift) + original.substring(index + 1));
+                corpus.add(original.substring(0, index) + original.substring(index + 1));
+                corpus.add(original.substring(0, index));
+            }
+        }
+        corpus.add(valid + "=");
+        corpus.add(valid + "==");
+        corpus.add(valid + "AA");
+        corpus.add(valid + ".extra");
+        corpus.add("..");
+        corpus.add(".");
+        corpus.add("a.b");
+        return corpus;
+    }
+
+    private String referenceOutcome(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length != 3) {
+                return "rejected";
+            }
+            String alg = referenceClaim(decode(parts[0]), "\"alg\"\\s*:\\s*\"([^\"]+)\"");
+            if (!"HS256".equals(alg)) {
+                return "rejected";
+            }
+            byte[] signed = hmacSha256(SECRET, parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(signed, Base64.getUrlDecoder().decode(parts[2]))) {
+                return "rejected";
+            }
+            String payload = decode(parts[1]);
+            String groupId = referenceClaim(payload, "\"groupId\"\\s*:\\s*\"([^\"]+)\"");
+            String userId = referenceClaim(payload, "\"userId\"\\s*:\\s*\"([^\"]+)\"");
+            long exp = Long.parseLong(referenceClaim(payload, "\"exp\"\\s*:\\s*(\\d+)"));
+            if (Instant.now().getEpochSecond() >= exp) {
+                return "rejected";
+            }
+            return (groupId == null ? null : UUID.fromString(groupId)) + "/" + UUID.fromString(userId);
+        } catch (Exception ex) {
+            return "rejected";
+        }
+    }
+
+    private String referenceClaim(String json, String pattern) {
+        Matcher matcher = Pattern.compile(pattern).matcher(json);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private String decode(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private String createToken(String headerJson, String payloadJson, String secret, boolean padded) throws Exception {
+        Base64.Encoder encoder = padded ? Base64.getUrlEncoder() : Base64.getUrlEncoder().withoutPadding();
+        String headerPart = encoder.encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
+        String payloadPart = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+        String signaturePart = encoder.encodeToString(hmacSha256(secret, headerPart + "." + payloadPart));
+        return headerPart + "." + payloadPart + "." + signaturePart;
+    }
+
     private String createToken(UUID userId, Instant exp) throws Exception {
         String payloadJson = String.format(
                 "{\"userId\":\"%s\",\"exp\":%d}",
@@ -0,0 +1,127 @@
+package app.lifelinq.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import app.lifelinq.features.group.application.GroupApplicationConfig;
+import app.lifelinq.features.group.contract.AccessDeniedException;
+import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import app.lifelinq.features.group.domain.GroupRole;
+import app.lifelinq.features.group.domain.Membership;
+import app.lifelinq.features.group.domain.MembershipRepository;
+import app.lifelinq.features.group.infrastructure.InMemoryMembershipRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestMemoizedGroupMemberCheckTest {
+    private final UUID groupId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final CountingMembershipRepository memberships = new CountingMembershipRepository();
+    private final EnsureGroupMemberUseCase check = new RequestMemoizedGroupMemberCheck(
+            new GroupApplicationConfig().ensureGroupMemberUseCase(memberships)
+    );
+
+    @AfterEach
+    void clearRequestContext() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    void repeatedChecksWithinOneRequestRunOneMembershipQuery() {
+        memberships.save(new Membership(groupId, userId, GroupRole.MEMBER));
+
+        startRequest();
+        for (int index = 0; index < 25; index++) {
+            check.execute(groupId, userId);
+        }
+        assertEquals(1, memberships.queries.get());
+
+        startRequest();
+        check.execute(groupId, userId);
+        check.execute(groupId, userId);
+        assertEquals(2, memberships.queries.get());
+    }
+
+    @Test
+    void deniedChecksAreNotRemembered() {
+        startRequest();
+
+        assertThrows(AccessDeniedException.class, () -> check.execute(groupId, userId));
+        assertThrows(AccessDeniedException.class, () -> check.execute(groupId, userId));
+        assertEquals(2, memberships.queries.get());
+    }
+
+    @Test
+    void checksForAnotherUserOrOutsideARequestAlwaysQuery() {
+        UUID otherUserId = UUID.randomUUID();
+        memberships.save(new Membership(groupId, userId, GroupRole.MEMBER));
+        memberships.save(new Membership(groupId, otherUserId, GroupRole.MEMBER));
+
+        check.execute(groupId, userId);
+        check.execute(groupId, userId);
+        startRequest();
+        check.execute(groupId, otherUserId);
+        check.execute(groupId, otherUserId);
+
+        assertEquals(4, memberships.queries.get());
+    }
+
+    private void startRequest() {
+        RequestContext context = new RequestContext();
+        context.setUserId(userId);
+        context.setGroupId(groupId);
+        RequestContextHolder.set(context);
+    }
+
+    private static final class CountingMembershipRepository implements MembershipRepository {
+        private final InMemoryMembershipRepository delegate = new InMemoryMembershipRepository();
+        private final AtomicInteger queries = new AtomicInteger();
+
+        @Override
+        public void save(Membership membership) {
+            delegate.save(membership);
+        }
+
+        @Override
+        public List<Membership> findByGroupId(UUID groupId) {
+            queries.incrementAndGet();
+            return delegate.findByGroupId(groupId);
+        }
+
+        @Override
+        public boolean existsByGroupIdAndUserId(UUID groupId, UUID userId) {
+            queries.incrementAndGet();
+            return delegate.existsByGroupIdAndUserId(groupId, userId);
+        }
+
+        @Override
+        public List<Membership> findByUserId(UUID userId) {
+            queries.incrementAndGet();
+            return delegate.findByUserId(userId);
+        }
+
+        @Override
+        public List<UUID> findGroupIdsByUserId(UUID userId) {
+            queries.incrementAndGet();
+            return delegate.findGroupIdsByUserId(userId);
+        }
+
+        @Override
+        public boolean deleteByGroupIdAndUserId(UUID groupId, UUID userId) {
+            return delegate.deleteByGroupIdAndUserId(groupId, userId);
+        }
+
+        @Override
+        public void deleteByGroupId(UUID groupId) {
+            delegate.deleteByGroupId(groupId);
+        }
+
+        @Override
+        public void deleteByUserId(UUID userId) {
+            delegate.deleteByUserId(userId);
+        }
+    }
+}
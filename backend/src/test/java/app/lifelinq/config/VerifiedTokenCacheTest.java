@@ -0,0 +1,175 @@
+package app.lifelinq.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+    private static final String SECRET = "test-secret";
+
+    private final JwtVerifier verifier = new JwtVerifier(SECRET);
+    private final MutableClock clock = new MutableClock(Instant.now());
+
+    @Test
+    void servesRepeatedTokenFromCache() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 300, clock);
+        UUID userId = UUID.randomUUID();
+        String token = createToken(userId, clock.instant().plusSeconds(60));
+
+        JwtClaims first = cache.verify(token, verifier);
+        JwtClaims second = cache.verify(token, verifier);
+
+        assertEquals(userId, first.getUserId());
+        assertSame(first, second);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void tamperedTokenIsVerifiedAndRejectedEvenWhenOriginalIsCached() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 300, clock);
+        String token = createToken(UUID.randomUUID(), clock.instant().plusSeconds(60));
+        cache.verify(token, verifier);
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThrows(JwtValidationException.class, () -> cache.verify(tampered, verifier));
+        assertEquals(0, cache.hitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void neverServesClaimsPastTokenExpiry() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 3600, clock);
+        String token = createToken(UUID.randomUUID(), clock.instant().plusSeconds(60));
+        cache.verify(token, verifier);
+
+        clock.advanceSeconds(60);
+        cache.verify(token, verifier);
+
+        assertEquals(0, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void entriesExpireAfterMaxTtlEvenWhenTokenLivesLonger() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 10, clock);
+        String token = createToken(UUID.randomUUID(), clock.instant().plusSeconds(600));
+        cache.verify(token, verifier);
+
+        clock.advanceSeconds(9);
+        cache.verify(token, verifier);
+        clock.advanceSeconds(1);
+        cache.verify(token, verifier);
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndNotCached() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 300, clock);
+        String token = createToken(UUID.randomUUID(), Instant.now().minusSeconds(1));
+
+        assertThrows(JwtValidationException.class, () -> cache.verify(token, verifier));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void staysWithinMaxEntriesUnderSizePressure() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3, 300, clock);
+        for (int index = 0; index < 10; index++) {
+            cache.verify(createToken(UUID.randomUUID(), clock.instant().plusSeconds(60)), verifier);
+        }
+
+        assertTrue(cache.size() <= 3);
+        assertEquals(7, cache.evictionCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTokenWhenFull() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 300, clock);
+        String first = createToken(UUID.randomUUID(), clock.instant().plusSeconds(60));
+        String second = createToken(UUID.randomUUID(), clock.instant().plusSeconds(60));
+        cache.verify(first, verifier);
+        cache.verify(second, verifier);
+
+        cache.verify(first, verifier);
+        cache.verify(createToken(UUID.randomUUID(), clock.instant().plusSeconds(60)), verifier);
+        cache.verify(first, verifier);
+        cache.verify(second, verifier);
+
+        assertEquals(2, cache.hitCount());
+        assertEquals(4, cache.missCount());
+        assertEquals(2, cache.evictionCount());
+    }
+
+    @Test
+    void requiresPositiveBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedTokenCache(0, 300, clock));
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedTokenCache(10, 0, clock));
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedTokenCache(10, 300, null));
+    }
+
+    private String createToken(UUID userId, Instant exp) throws Exception {
+        String headerJson = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+        String payloadJson = String.format(
+                "{\"userId\":\"%s\",\"exp\":%d}",
+                userId,
+                exp.getEpochSecond()
+        );
+        String headerPart = base64Url(headerJson.getBytes(StandardCharsets.UTF_8));
+        String payloadPart = base64Url(payloadJson.getBytes(StandardCharsets.UTF_8));
+        String signaturePart = base64Url(hmacSha256(headerPart + "." + payloadPart));
+        return headerPart + "." + payloadPart + "." + signaturePart;
+    }
+
+    private byte[] hmacSha256(String data) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String base64Url(byte[] data) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -99,6 +99,41 @@ class RotateRefreshTokenUseCaseTest {
         assertEquals("REPLAY", session.getRevokeReason());
     }
 
+    @Test
+    void losingAConcurrentRotationRevokesSessionAsReplay() {
+        Instant now = Instant.parse("2026-03-03T10:00:00Z");
+        InMemoryRefreshSessionRepository sessions = new InMemoryRefreshSessionRepository();
+        InMemoryRefreshTokenRepository tokens = new InMemoryRefreshTokenRepository();
+        PrefixHasher hasher = new PrefixHasher();
+        UUID sessionId = UUID.randomUUID();
+        sessions.save(new RefreshSession(sessionId, UUID.randomUUID(), now.minusSeconds(60), now.plus(Duration.ofDays(90)), null, null));
+        tokens.save(new RefreshToken(
+                UUID.randomUUID(),
+                sessionId,
+                hasher.hash("old-refresh"),
+                now.minusSeconds(60),
+                now.plus(Duration.ofDays(30)),
+                null,
+                null,
+                null
+        ));
+        tokens.loseNextReplace = true;
+
+        RotateRefreshTokenUseCase useCase = new RotateRefreshTokenUseCase(
+                sessions,
+                tokens,
+                new StaticSequenceTokenGenerator("new-refresh"),
+                hasher
+        );
+
+        assertThrows(RefreshAuthenticationException.class,
+                () -> useCase.execute("old-refresh", now, Duration.ofDays(30)));
+        RefreshSession session = sessions.findById(sessionId).orElseThrow();
+        assertTrue(session.isRevoked());
+        assertEquals("REPLAY", session.getRevokeReason());
+        assertTrue(tokens.findByTokenHash(hasher.hash("new-refresh")).isEmpty());
+    }
+
     private static final class PrefixHasher implements RefreshTokenHasher {
         @Override
         public String hash(String plaintextToken) {
@@ -141,6 +176,7 @@ class RotateRefreshTokenUseCaseTest {
     private static final class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
         private final Map<UUID, RefreshToken> byId = new HashMap<>();
         private final Map<String, UUID> idByHash = new HashMap<>();
+        private boolean loseNextReplace;
 
         @Override
         public void save(RefreshToken refreshToken) {
@@ -162,5 +198,13 @@ class RotateRefreshTokenUseCaseTest {
             return Optional.ofNullable(byId.get(id));
         }
 
+        @Override
+        public boolean replace(UUID tokenId, RefreshToken replacement, Instant now) {
+            if (loseNextReplace) {
+                loseNextReplace = false;
+                return false;
+            }
+            return RefreshTokenRepository.super.replace(tokenId, replacement, now);
+        }
     }
 }
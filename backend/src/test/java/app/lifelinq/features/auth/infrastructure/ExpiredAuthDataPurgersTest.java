@@ -0,0 +1,132 @@
+package app.lifelinq.features.auth.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.auth.domain.RefreshSession;
+import app.lifelinq.features.auth.domain.RefreshToken;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = AuthJpaTestApplication.class)
+@ActiveProfiles("test")
+class ExpiredAuthDataPurgersTest {
+    private static final Instant ISSUED_AT = Instant.parse("2001-01-01T00:00:00Z");
+    private static final Instant LATER_ISSUED_AT = Instant.parse("2003-01-01T00:00:00Z");
+    private static final Instant EARLIER_ISSUED_AT = Instant.parse("1999-01-01T00:00:00Z");
+
+    @Autowired
+    private JpaRefreshTokenRepository tokenRepository;
+
+    @Autowired
+    private JpaRefreshSessionRepository sessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void tokenPurgerLeavesReferencedTokensForALaterBatch() {
+        RefreshSession session = seedSession(ISSUED_AT);
+        RefreshToken consumed = seedToken(session);
+        RefreshToken replacement = tokenFor(session);
+        new TransactionTemplate(transactionManager).execute(status ->
+                adapter().replace(consumed.getId(), replacement, ISSUED_AT));
+        ExpiredRefreshTokenPurger purger = new ExpiredRefreshTokenPurger(
+                tokenRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ZERO
+        );
+        Instant now = ISSUED_AT.plus(Duration.ofDays(60));
+
+        assertEquals(1, purger.purgeBatch(now, 100));
+        assertTrue(tokenRepository.findById(consumed.getId()).isEmpty());
+        assertTrue(tokenRepository.findById(replacement.getId()).isPresent());
+
+        assertEquals(1, purger.purgeBatch(now, 100));
+        assertTrue(tokenRepository.findById(replacement.getId()).isEmpty());
+        assertEquals(0, purger.purgeBatch(now, 100));
+    }
+
+    @Test
+    void tokenPurgerKeepsTokensInsideRetention() {
+        RefreshSession session = seedSession(LATER_ISSUED_AT);
+        RefreshToken token = seedToken(session);
+        ExpiredRefreshTokenPurger purger = new ExpiredRefreshTokenPurger(
+                tokenRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ofDays(7)
+        );
+
+        assertEquals(0, purger.purgeBatch(LATER_ISSUED_AT.plus(Duration.ofDays(33)), 100));
+        assertTrue(tokenRepository.findById(token.getId()).isPresent());
+    }
+
+    @Test
+    void sessionPurgerDeletesSessionsWithTheirTokensInBoundedBatches() {
+        RefreshSession first = seedSession(EARLIER_ISSUED_AT);
+        RefreshSession second = seedSession(EARLIER_ISSUED_AT);
+        RefreshToken firstToken = seedToken(first);
+        RefreshToken secondToken = seedToken(second);
+        ExpiredRefreshSessionPurger purger = new ExpiredRefreshSessionPurger(
+                sessionRepository,
+                tokenRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ZERO
+        );
+        Instant now = EARLIER_ISSUED_AT.plus(Duration.ofDays(120));
+
+        assertEquals(2, purger.countBacklog(now));
+        assertEquals(1, purger.purgeBatch(now, 1));
+        assertEquals(1, purger.countBacklog(now));
+        assertEquals(1, purger.purgeBatch(now, 1));
+        assertEquals(0, purger.countBacklog(now));
+
+        assertTrue(sessionRepository.findById(first.getId()).isEmpty());
+        assertTrue(sessionRepository.findById(second.getId()).isEmpty());
+        assertTrue(tokenRepository.findById(firstToken.getId()).isEmpty());
+        assertTrue(tokenRepository.findById(secondToken.getId()).isEmpty());
+    }
+
+    private JpaRefreshTokenRepositoryAdapter adapter() {
+        return new JpaRefreshTokenRepositoryAdapter(tokenRepository, sessionRepository);
+    }
+
+    private RefreshSession seedSession(Instant issuedAt) {
+        RefreshSession session = new RefreshSession(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                issuedAt,
+                issuedAt.plus(Duration.ofDays(90)),
+                null,
+                null
+        );
+        new JpaRefreshSessionRepositoryAdapter(sessionRepository).save(session);
+        return session;
+    }
+
+    private RefreshToken seedToken(RefreshSession session) {
+        RefreshToken token = tokenFor(session);
+        adapter().save(token);
+        return token;
+    }
+
+    private RefreshToken tokenFor(RefreshSession session) {
+        return new RefreshToken(
+                UUID.randomUUID(),
+                session.getId(),
+                "hash-" + UUID.randomUUID(),
+                session.getCreatedAt(),
+                session.getCreatedAt().plus(Duration.ofDays(30)),
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package app.lifelinq.features.auth.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.auth.domain.RefreshSession;
+import app.lifelinq.features.auth.domain.RefreshToken;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = AuthJpaTestApplication.class)
+@ActiveProfiles("test")
+class JpaRefreshTokenRepositoryAdapterTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private JpaRefreshTokenRepository tokenRepository;
+
+    @Autowired
+    private JpaRefreshSessionRepository sessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void replaceConsumesTokenAndStoresReplacement() {
+        JpaRefreshTokenRepositoryAdapter adapter = adapter();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        RefreshToken current = seedToken(now);
+        RefreshToken replacement = replacementFor(current, now);
+
+        boolean replaced = inTransaction(() -> adapter.replace(current.getId(), replacement, now));
+
+        assertTrue(replaced);
+        RefreshToken consumed = adapter.findById(current.getId()).orElseThrow();
+        assertEquals(replacement.getId(), consumed.getReplacedByTokenId());
+        assertNotNull(consumed.getUsedAt());
+        assertTrue(adapter.findByTokenHash(replacement.getTokenHash()).isPresent());
+    }
+
+    @Test
+    void replaceRejectsUsedRevokedAndExpiredTokensWithoutLeavingReplacement() {
+        JpaRefreshTokenRepositoryAdapter adapter = adapter();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        RefreshToken used = seedToken(now);
+        inTransaction(() -> adapter.replace(used.getId(), replacementFor(used, now), now));
+        RefreshToken revoked = seedToken(now);
+        adapter.save(adapter.findById(revoked.getId()).orElseThrow().revoke(now));
+        RefreshToken expired = seedToken(now);
+
+        for (RefreshToken token : List.of(used, revoked, expired)) {
+            Instant at = token == expired ? now.plus(Duration.ofDays(31)) : now;
+            RefreshToken replacement = replacementFor(token, at);
+            assertFalse(inTransaction(() -> adapter.replace(token.getId(), replacement, at)));
+            assertTrue(adapter.findById(replacement.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    void concurrentRotationsOfOneTokenLetExactlyOneWin() throws Exception {
+        JpaRefreshTokenRepositoryAdapter adapter = adapter();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        RefreshToken current = seedToken(now);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                RefreshToken replacement = replacementFor(current, now);
+                try {
+                    return inTransaction(() -> adapter.replace(current.getId(), replacement, now));
+                } catch (ConcurrencyFailureException ex) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int winners = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(60, TimeUnit.SECONDS)) {
+                winners++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, winners);
+        UUID winnerId = adapter.findById(current.getId()).orElseThrow().getReplacedByTokenId();
+        assertNotNull(winnerId);
+        long tokensInSession = tokenRepository.findAll().stream()
+                .filter(token -> token.getSession().getId().equals(current.getSessionId()))
+                .count();
+        assertEquals(2, tokensInSession);
+        assertTrue(adapter.findById(winnerId).isPresent());
+    }
+
+    private JpaRefreshTokenRepositoryAdapter adapter() {
+        return new JpaRefreshTokenRepositoryAdapter(tokenRepository, sessionRepository);
+    }
+
+    private RefreshToken seedToken(Instant now) {
+        RefreshSession session = new RefreshSession(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                now.minusSeconds(60),
+                now.plus(Duration.ofDays(90)),
+                null,
+                null
+        );
+        new JpaRefreshSessionRepositoryAdapter(sessionRepository).save(session);
+        RefreshToken token = new RefreshToken(
+                UUID.randomUUID(),
+                session.getId(),
+                "hash-" + UUID.randomUUID(),
+                now.minusSeconds(60),
+                now.plus(Duration.ofDays(30)),
+                null,
+                null,
+                null
+        );
+        adapter().save(token);
+        return token;
+    }
+
+    private RefreshToken replacementFor(RefreshToken current, Instant now) {
+        return new RefreshToken(
+                UUID.randomUUID(),
+                current.getSessionId(),
+                "hash-" + UUID.randomUUID(),
+                now,
+                now.plus(Duration.ofDays(30)),
+                null,
+                null,
+                null
+        );
+    }
+
+    private boolean inTransaction(Supplier<Boolean> action) {
+        Boolean result = new TransactionTemplate(transactionManager).execute(status -> action.get());
+        return Boolean.TRUE.equals(result);
+    }
+}
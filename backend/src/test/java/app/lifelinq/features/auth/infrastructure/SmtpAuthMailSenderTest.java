@@ -16,6 +16,7 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @SpringJUnitConfig(classes = {AuthPersistenceConfig.class, SmtpAuthMailSenderTest.TestConfig.class})
 @ActiveProfiles("dev")
@@ -69,5 +70,10 @@ class SmtpAuthMailSenderTest {
         JpaRefreshTokenRepository jpaRefreshTokenRepository() {
             return mock(JpaRefreshTokenRepository.class);
         }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
     }
 }
@@ -199,8 +199,33 @@ class CreateInvitationUseCaseTest {
         assertEquals("DEF456", repository.saved.get(1).getShortCode());
     }
 
+    @Test
+    void skipsShortCodeProbesForCollisionFreeShortCodeGenerators() {
+        InMemoryInvitationRepository repository = new InMemoryInvitationRepository();
+        CreateInvitationUseCase useCase = new CreateInvitationUseCase(
+                repository,
+                new FixedTokenGenerator("token-3"),
+                new CollisionFreeShortCodeGenerator("GHI789")
+        );
+
+        CreateInvitationCommand command = new CreateInvitationCommand(
+                UUID.randomUUID(),
+                InvitationType.EMAIL,
+                "new@example.com",
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Duration.ofDays(1),
+                1
+        );
+
+        useCase.execute(command);
+
+        assertEquals(1, repository.existenceProbes);
+        assertEquals("GHI789", repository.saved.get(0).getShortCode());
+    }
+
     private static final class InMemoryInvitationRepository implements InvitationRepository {
         private final List<Invitation> saved = new ArrayList<>();
+        private int existenceProbes;
 
         @Override
         public void save(Invitation invitation) {
@@ -239,11 +264,13 @@ class CreateInvitationUseCaseTest {
 
         @Override
         public boolean existsByToken(String token) {
+            existenceProbes++;
             return findByToken(token).isPresent();
         }
 
         @Override
         public boolean existsByShortCode(String shortCode) {
+            existenceProbes++;
             return findByShortCode(shortCode).isPresent();
         }
 
@@ -339,4 +366,22 @@ class CreateInvitationUseCaseTest {
             return shortCode;
         }
     }
+
+    private static final class CollisionFreeShortCodeGenerator implements InvitationShortCodeGenerator {
+        private final String shortCode;
+
+        private CollisionFreeShortCodeGenerator(String shortCode) {
+            this.shortCode = shortCode;
+        }
+
+        @Override
+        public String generate() {
+            return shortCode;
+        }
+
+        @Override
+        public boolean isCollisionFree() {
+            return true;
+        }
+    }
 }
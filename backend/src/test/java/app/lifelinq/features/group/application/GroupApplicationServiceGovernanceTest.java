@@ -1,6 +1,7 @@
 package app.lifelinq.features.group.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -18,6 +19,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,14 +95,46 @@ class GroupApplicationServiceGovernanceTest {
         assertEquals(1, membershipRepository.findByGroupId(groupId).size());
     }
 
+    @Test
+    void listMembersReadsAllProfilesInOneBatch() {
+        InMemoryMembershipRepository membershipRepository = new InMemoryMembershipRepository();
+        UUID groupId = UUID.randomUUID();
+        UUID namedUserId = UUID.randomUUID();
+        UUID unnamedUserId = UUID.randomUUID();
+        membershipRepository.save(new Membership(groupId, namedUserId, GroupRole.ADMIN));
+        membershipRepository.save(new Membership(groupId, unnamedUserId, GroupRole.MEMBER));
+        CountingUserProfileRead userProfileRead = new CountingUserProfileRead(Map.of(
+                namedUserId, new UserProfileView("Alex", "Doe"),
+                unnamedUserId, new UserProfileView(null, null)
+        ));
+
+        GroupApplicationService service = createService(membershipRepository, userProfileRead);
+
+        List<GroupMemberView> members = service.listMembers(groupId);
+
+        assertEquals(2, members.size());
+        assertEquals("Alex Doe", members.get(0).displayName());
+        assertNull(members.get(1).displayName());
+        assertEquals(1, userProfileRead.batchReads);
+        assertEquals(0, userProfileRead.singleReads);
+    }
+
     private GroupApplicationService createService(MembershipRepository membershipRepository) {
+        return createService(
+                membershipRepository,
+                userId -> new UserProfileView(null, null)
+        );
+    }
+
+    private GroupApplicationService createService(
+            MembershipRepository membershipRepository,
+            app.lifelinq.features.user.contract.UserProfileRead userProfileRead
+    ) {
         GroupRepository groupRepository = new StubGroupRepository();
         InvitationRepository invitationRepository = new StubInvitationRepository();
         UserProvisioning userProvisioning = (proposedUserId, email) -> proposedUserId;
         var userActiveGroupSelection = (app.lifelinq.features.user.contract.UserActiveGroupSelection) (userId, groupId) -> {
         };
-        var userProfileRead = (app.lifelinq.features.user.contract.UserProfileRead) userId ->
-                new UserProfileView(null, null);
         return GroupApplicationService.create(
                 groupRepository,
                 membershipRepository,
@@ -117,6 +151,32 @@ class GroupApplicationServiceGovernanceTest {
         );
     }
 
+    private static final class CountingUserProfileRead implements app.lifelinq.features.user.contract.UserProfileRead {
+        private final Map<UUID, UserProfileView> profiles;
+        private int singleReads;
+        private int batchReads;
+
+        private CountingUserProfileRead(Map<UUID, UserProfileView> profiles) {
+            this.profiles = profiles;
+        }
+
+        @Override
+        public UserProfileView getProfile(UUID userId) {
+            singleReads++;
+            return profiles.get(userId);
+        }
+
+        @Override
+        public Map<UUID, UserProfileView> getProfiles(Collection<UUID> userIds) {
+            batchReads++;
+            Map<UUID, UserProfileView> result = new HashMap<>();
+            for (UUID userId : userIds) {
+                result.put(userId, profiles.get(userId));
+            }
+            return result;
+        }
+    }
+
     private static final class InMemoryMembershipRepository implements MembershipRepository {
         private final List<Membership> memberships = new ArrayList<>();
 
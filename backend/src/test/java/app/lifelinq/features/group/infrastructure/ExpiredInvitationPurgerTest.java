@@ -0,0 +1,99 @@
+package app.lifelinq.features.group.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.group.domain.Invitation;
+import app.lifelinq.features.group.domain.InvitationStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = GroupJpaTestApplication.class)
+@ActiveProfiles("test")
+class ExpiredInvitationPurgerTest {
+
+    @Autowired
+    private InvitationJpaRepository invitationJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deletesInvitationsOnlyOnceTheRetentionWindowHasPassed() {
+        JpaInvitationRepositoryAdapter adapter = new JpaInvitationRepositoryAdapter(
+                invitationJpaRepository,
+                new InvitationMapper()
+        );
+        Instant longExpired = Instant.parse("2001-01-01T00:00:00Z");
+        Instant recentlyExpired = Instant.parse("2001-03-01T00:00:00Z");
+        Invitation old = invitation(longExpired);
+        Invitation recent = invitation(recentlyExpired);
+        adapter.save(old);
+        adapter.save(recent);
+        ExpiredInvitationPurger purger = new ExpiredInvitationPurger(
+                invitationJpaRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ofDays(30)
+        );
+        Instant now = Instant.parse("2001-03-15T00:00:00Z");
+
+        assertEquals(1, purger.countBacklog(now));
+        assertEquals(1, purger.purgeBatch(now, 100));
+        assertEquals(0, purger.purgeBatch(now, 100));
+
+        assertTrue(invitationJpaRepository.findById(old.getId()).isEmpty());
+        assertTrue(invitationJpaRepository.findById(recent.getId()).isPresent());
+    }
+
+    @Test
+    void keepsRevokedAndAcceptedInvitationsAsAuditTrail() {
+        JpaInvitationRepositoryAdapter adapter = new JpaInvitationRepositoryAdapter(
+                invitationJpaRepository,
+                new InvitationMapper()
+        );
+        Instant longExpired = Instant.parse("1999-01-01T00:00:00Z");
+        Invitation unused = invitation(longExpired);
+        Invitation revoked = invitation(longExpired);
+        revoked.revoke();
+        UUID acceptedId = UUID.randomUUID();
+        Invitation accepted = Invitation.rehydrate(
+                acceptedId,
+                UUID.randomUUID(),
+                "purge-" + acceptedId + "@example.com",
+                "token-" + acceptedId,
+                longExpired,
+                1,
+                1,
+                InvitationStatus.ACTIVE
+        );
+        adapter.save(unused);
+        adapter.save(revoked);
+        adapter.save(accepted);
+        ExpiredInvitationPurger purger = new ExpiredInvitationPurger(
+                invitationJpaRepository,
+                new TransactionTemplate(transactionManager),
+                Duration.ofDays(30)
+        );
+        Instant now = Instant.parse("1999-06-01T00:00:00Z");
+
+        assertEquals(1, purger.countBacklog(now));
+        assertEquals(1, purger.purgeBatch(now, 100));
+        assertEquals(0, purger.countBacklog(now));
+
+        assertTrue(invitationJpaRepository.findById(unused.getId()).isEmpty());
+        assertTrue(invitationJpaRepository.findById(revoked.getId()).isPresent());
+        assertTrue(invitationJpaRepository.findById(accepted.getId()).isPresent());
+    }
+
+    private Invitation invitation(Instant expiresAt) {
+        UUID id = UUID.randomUUID();
+        return Invitation.createActive(id, UUID.randomUUID(), "purge-" + id + "@example.com", "token-" + id, expiresAt);
+    }
+}
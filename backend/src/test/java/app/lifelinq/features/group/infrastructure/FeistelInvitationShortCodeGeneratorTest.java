@@ -0,0 +1,143 @@
+package app.lifelinq.features.group.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FeistelInvitationShortCodeGeneratorTest {
+
+    @Test
+    void generatesDistinctSixCharacterCodesFromConsecutiveSequenceNumbers() {
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "test-key",
+                32
+        );
+        Set<String> codes = new HashSet<>();
+        for (int index = 0; index < 200_000; index++) {
+            String code = generator.generate();
+            assertTrue(code.matches("[A-Z0-9]{6}"), code);
+            codes.add(code);
+        }
+        assertEquals(200_000, codes.size());
+    }
+
+    @Test
+    void everyRoundIsABijectionOverTheHalfSpace() {
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "dev-short-code-key",
+                1
+        );
+        int half = FeistelInvitationShortCodeGenerator.HALF;
+        for (int round = 0; round < FeistelInvitationShortCodeGenerator.ROUNDS; round++) {
+            for (int right = 0; right < half; right++) {
+                int offset = generator.mix(round, 0, right);
+                assertEquals((offset + half - 1) % half, generator.mix(round, half - 1, right));
+            }
+            for (int right = 0; right < half; right += 997) {
+                boolean[] seen = new boolean[half];
+                for (int left = 0; left < half; left++) {
+                    int mixed = generator.mix(round, left, right);
+                    assertTrue(mixed >= 0 && mixed < half);
+                    assertTrue(!seen[mixed], "round " + round + " maps two values to " + mixed);
+                    seen[mixed] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    void sequencesWhoseRoundSumOverflowedAnIntNoLongerCollide() {
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "dev-short-code-key",
+                1
+        );
+
+        assertNotEquals(generator.permute(1_509_500_732L), generator.permute(2_126_431_622L));
+    }
+
+    @Test
+    void permutationStaysInsideTheKeyspace() {
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "test-key",
+                1
+        );
+        Set<Long> permuted = new HashSet<>();
+        for (long value = FeistelInvitationShortCodeGenerator.KEYSPACE - 10_000;
+                value < FeistelInvitationShortCodeGenerator.KEYSPACE;
+                value++) {
+            long result = generator.permute(value);
+            assertTrue(result >= 0 && result < FeistelInvitationShortCodeGenerator.KEYSPACE);
+            permuted.add(result);
+        }
+        assertEquals(10_000, permuted.size());
+    }
+
+    @Test
+    void differentKeysGiveDifferentCodes() {
+        FeistelInvitationShortCodeGenerator first = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "key-one",
+                1
+        );
+        FeistelInvitationShortCodeGenerator second = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                "key-two",
+                1
+        );
+        assertNotEquals(first.generate(), second.generate());
+    }
+
+    @Test
+    void reservesOneBlockPerBlockSizeCodes() {
+        CountingBlockSource blockSource = new CountingBlockSource();
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                blockSource,
+                "test-key",
+                16
+        );
+        for (int index = 0; index < 40; index++) {
+            generator.generate();
+        }
+        assertEquals(3, blockSource.reservations);
+    }
+
+    @Test
+    void reportsExhaustedKeyspace() {
+        FeistelInvitationShortCodeGenerator generator = new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(FeistelInvitationShortCodeGenerator.KEYSPACE - 1),
+                "test-key",
+                4
+        );
+        generator.generate();
+        assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @Test
+    void requiresKey() {
+        assertThrows(IllegalArgumentException.class, () -> new FeistelInvitationShortCodeGenerator(
+                new InMemoryInvitationShortCodeBlockSource(),
+                " ",
+                32
+        ));
+    }
+
+    private static final class CountingBlockSource implements InvitationShortCodeBlockSource {
+        private final InMemoryInvitationShortCodeBlockSource delegate = new InMemoryInvitationShortCodeBlockSource();
+        private int reservations;
+
+        @Override
+        public long reserve(int size) {
+            reservations++;
+            return delegate.reserve(size);
+        }
+    }
+}
@@ -7,8 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import app.lifelinq.features.group.domain.Group;
 import app.lifelinq.features.group.domain.GroupRole;
 import app.lifelinq.features.group.domain.Membership;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +26,9 @@ class JpaGroupRepositoryAdapterTest {
     @Autowired
     private GroupJpaRepository groupJpaRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void savesAndLoadsRoundTrip() {
         JpaGroupRepositoryAdapter adapter = new JpaGroupRepositoryAdapter(
@@ -40,6 +48,30 @@ class JpaGroupRepositoryAdapterTest {
         assertEquals(loaded.get().getId(), membership.getGroupId());
     }
 
+    @Test
+    void findsGroupsByIdsInOneQuery() {
+        JpaGroupRepositoryAdapter adapter = new JpaGroupRepositoryAdapter(
+                groupJpaRepository,
+                new GroupMapper()
+        );
+        List<UUID> ids = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            Group group = new Group(UUID.randomUUID(), "Place " + index);
+            adapter.save(group);
+            ids.add(group.getId());
+        }
+        ids.add(UUID.randomUUID());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Group> loaded = adapter.findByIds(ids);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+        assertEquals(10, loaded.size());
+    }
+
     @Test
     void deletesById() {
         JpaGroupRepositoryAdapter adapter = new JpaGroupRepositoryAdapter(
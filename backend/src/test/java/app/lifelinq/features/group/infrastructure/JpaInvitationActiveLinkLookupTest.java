@@ -0,0 +1,161 @@
+package app.lifelinq.features.group.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.group.domain.Invitation;
+import app.lifelinq.features.group.domain.InvitationStatus;
+import app.lifelinq.features.group.domain.InvitationType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = GroupJpaTestApplication.class)
+@ActiveProfiles("test")
+class JpaInvitationActiveLinkLookupTest {
+    private static final int GROUPS = 10_000;
+    private static final int INVITATIONS_PER_GROUP = 10;
+    private static final Instant NOW = Instant.parse("2030-06-01T00:00:00Z");
+
+    @Autowired
+    private InvitationJpaRepository invitationJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AfterEach
+    void removeSeededInvitations() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("delete from InvitationEntity invitation where invitation.token like 'scale-%'")
+                .executeUpdate());
+    }
+
+    @Test
+    void activeLinkLookupLoadsOneRowAmongOneHundredThousandInvitations() {
+        UUID[] groupIds = seed();
+        JpaInvitationRepositoryAdapter adapter = adapter();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        for (int sample = 0; sample < 100; sample++) {
+            UUID groupId = groupIds[sample * (GROUPS / 100)];
+            statistics.clear();
+            Optional<Invitation> link = adapter.findActiveLinkByGroupId(groupId, NOW);
+
+            assertTrue(link.isPresent());
+            assertEquals(groupId, link.get().getGroupId());
+            assertEquals(InvitationType.LINK, link.get().getType());
+            assertTrue(link.get().isAcceptAllowed(NOW));
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getEntityLoadCount());
+        }
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void activeLinkLookupSkipsExpiredExhaustedAndRevokedLinks() {
+        UUID groupId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.persist(link(groupId, NOW.minusSeconds(1), 5, 0, InvitationStatus.ACTIVE));
+            entityManager.persist(link(groupId, NOW.plusSeconds(3600), 1, 1, InvitationStatus.ACTIVE));
+            entityManager.persist(link(groupId, NOW.plusSeconds(7200), null, 0, InvitationStatus.REVOKED));
+        });
+
+        assertTrue(adapter().findActiveLinkByGroupId(groupId, NOW).isEmpty());
+    }
+
+    @Test
+    void emailLookupReturnsLatestActiveInvitationWhenAnExpiredOneIsStillActive() {
+        UUID groupId = UUID.randomUUID();
+        InvitationEntity stale = email(groupId, "same@example.com", NOW.minusSeconds(60));
+        InvitationEntity current = email(groupId, "same@example.com", NOW.plusSeconds(3600));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.persist(stale);
+            entityManager.persist(current);
+        });
+
+        Invitation found = adapter().findActiveByGroupIdAndInviteeEmail(groupId, "same@example.com").orElseThrow();
+
+        assertEquals(current.getId(), found.getId());
+    }
+
+    private UUID[] seed() {
+        UUID[] groupIds = new UUID[GROUPS];
+        for (int index = 0; index < GROUPS; index++) {
+            groupIds[index] = UUID.randomUUID();
+        }
+        int chunk = 500;
+        for (int from = 0; from < GROUPS; from += chunk) {
+            int start = from;
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (int index = start; index < Math.min(start + chunk, GROUPS); index++) {
+                    UUID groupId = groupIds[index];
+                    entityManager.persist(link(groupId, NOW.minusSeconds(86_400), null, 0, InvitationStatus.ACTIVE));
+                    entityManager.persist(link(groupId, NOW.plusSeconds(86_400), 1, 1, InvitationStatus.ACTIVE));
+                    entityManager.persist(link(groupId, NOW.plusSeconds(86_400), null, 0, InvitationStatus.REVOKED));
+                    entityManager.persist(link(groupId, NOW.plusSeconds(86_400 * 7), 10, 2, InvitationStatus.ACTIVE));
+                    for (int email = 0; email < INVITATIONS_PER_GROUP - 4; email++) {
+                        entityManager.persist(email(groupId, "invitee" + email + "@example.com", NOW.plusSeconds(3600)));
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return groupIds;
+    }
+
+    private JpaInvitationRepositoryAdapter adapter() {
+        return new JpaInvitationRepositoryAdapter(invitationJpaRepository, new InvitationMapper());
+    }
+
+    private InvitationEntity link(UUID groupId, Instant expiresAt, Integer maxUses, int usageCount, InvitationStatus status) {
+        return new InvitationEntity(
+                UUID.randomUUID(),
+                groupId,
+                InvitationType.LINK,
+                null,
+                null,
+                "scale-" + UUID.randomUUID(),
+                null,
+                expiresAt,
+                maxUses,
+                usageCount,
+                status
+        );
+    }
+
+    private InvitationEntity email(UUID groupId, String inviteeEmail, Instant expiresAt) {
+        return new InvitationEntity(
+                UUID.randomUUID(),
+                groupId,
+                InvitationType.EMAIL,
+                inviteeEmail,
+                null,
+                "scale-" + UUID.randomUUID(),
+                null,
+                expiresAt,
+                1,
+                0,
+                InvitationStatus.ACTIVE
+        );
+    }
+}
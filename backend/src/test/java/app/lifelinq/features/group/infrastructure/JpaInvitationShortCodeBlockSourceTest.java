@@ -0,0 +1,65 @@
+package app.lifelinq.features.group.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest(classes = GroupJpaTestApplication.class)
+@ActiveProfiles("test")
+class JpaInvitationShortCodeBlockSourceTest {
+    private static final int THREADS = 4;
+    private static final int RESERVATIONS_PER_THREAD = 25;
+    private static final int BLOCK_SIZE = 8;
+
+    @Autowired
+    private InvitationShortCodeCounterJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentReservationsNeverOverlap() throws Exception {
+        JpaInvitationShortCodeBlockSource blockSource = new JpaInvitationShortCodeBlockSource(
+                repository,
+                transactionManager
+        );
+        Set<Long> starts = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int reservation = 0; reservation < RESERVATIONS_PER_THREAD; reservation++) {
+                    starts.add(blockSource.reserve(BLOCK_SIZE));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * RESERVATIONS_PER_THREAD, starts.size());
+        List<Long> sorted = starts.stream().sorted().toList();
+        for (int index = 1; index < sorted.size(); index++) {
+            assertTrue(sorted.get(index) - sorted.get(index - 1) >= BLOCK_SIZE);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package app.lifelinq.features.group.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import app.lifelinq.features.group.domain.GroupRole;
@@ -39,6 +40,22 @@ class JpaMembershipRepositoryAdapterTest {
         assertEquals(GroupRole.MEMBER, loaded.get(0).getRole());
     }
 
+    @Test
+    void checksMembershipExistenceByGroupAndUser() {
+        JpaMembershipRepositoryAdapter adapter = new JpaMembershipRepositoryAdapter(
+                membershipJpaRepository,
+                new MembershipMapper()
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        adapter.save(new Membership(groupId, userId, GroupRole.MEMBER));
+        adapter.save(new Membership(groupId, UUID.randomUUID(), GroupRole.ADMIN));
+
+        assertTrue(adapter.existsByGroupIdAndUserId(groupId, userId));
+        assertFalse(adapter.existsByGroupIdAndUserId(groupId, UUID.randomUUID()));
+        assertFalse(adapter.existsByGroupIdAndUserId(UUID.randomUUID(), userId));
+    }
+
     @Test
     @Transactional
     void deletesByGroupAndUser() {
@@ -0,0 +1,85 @@
+package app.lifelinq.features.group.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.group.contract.UserGroupMembershipSummary;
+import app.lifelinq.features.group.domain.Group;
+import app.lifelinq.features.group.domain.GroupRole;
+import app.lifelinq.features.group.domain.Membership;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = GroupJpaTestApplication.class)
+@ActiveProfiles("test")
+class JpaUserGroupMembershipLookupAdapterTest {
+    private static final int GROUPS = 20;
+
+    @Autowired
+    private GroupJpaRepository groupJpaRepository;
+
+    @Autowired
+    private MembershipJpaRepository membershipJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void listsMembershipsWithGroupNamesInOneQuery() {
+        UUID userId = UUID.randomUUID();
+        Map<UUID, String> expectedNames = new HashMap<>();
+        JpaGroupRepositoryAdapter groups = new JpaGroupRepositoryAdapter(groupJpaRepository, new GroupMapper());
+        JpaMembershipRepositoryAdapter memberships = new JpaMembershipRepositoryAdapter(
+                membershipJpaRepository,
+                new MembershipMapper()
+        );
+        for (int index = 0; index < GROUPS; index++) {
+            Group group = new Group(UUID.randomUUID(), "Place " + index);
+            groups.save(group);
+            memberships.save(new Membership(group.getId(), userId, index == 0 ? GroupRole.ADMIN : GroupRole.MEMBER));
+            expectedNames.put(group.getId(), group.getName());
+        }
+        UUID missingGroupId = UUID.randomUUID();
+        memberships.save(new Membership(missingGroupId, userId, GroupRole.MEMBER));
+        JpaUserGroupMembershipLookupAdapter adapter = new JpaUserGroupMembershipLookupAdapter(membershipJpaRepository);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<UserGroupMembershipSummary> summaries = adapter.listMemberships(userId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+        assertEquals(GROUPS + 1, summaries.size());
+        for (UserGroupMembershipSummary summary : summaries) {
+            if (summary.groupId().equals(missingGroupId)) {
+                assertNull(summary.groupName());
+            } else {
+                assertEquals(expectedNames.get(summary.groupId()), summary.groupName());
+            }
+        }
+    }
+
+    @Test
+    void checksMembershipByKey() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        new JpaMembershipRepositoryAdapter(membershipJpaRepository, new MembershipMapper())
+                .save(new Membership(groupId, userId, GroupRole.MEMBER));
+        JpaUserGroupMembershipLookupAdapter adapter = new JpaUserGroupMembershipLookupAdapter(membershipJpaRepository);
+
+        assertTrue(adapter.isMember(userId, groupId));
+        assertFalse(adapter.isMember(userId, UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,268 @@
+package app.lifelinq.features.mail.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.mail.application.MailOutboxMetrics;
+import app.lifelinq.features.mail.domain.MailOutboxRetryPolicy;
+import app.lifelinq.features.mail.domain.MailOutboxStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.MailSender;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = MailJpaTestApplication.class)
+@ActiveProfiles("test")
+class MailOutboxDispatcherTest {
+    private static final MailOutboxRetryPolicy RETRY_POLICY =
+            new MailOutboxRetryPolicy(3, Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    @Autowired
+    private MailOutboxJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T08:00:00Z"));
+    private final FakeSmtpServer smtp = new FakeSmtpServer();
+    private final MailOutboxMetrics metrics = new MailOutboxMetrics();
+
+    @BeforeEach
+    void clearOutbox() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void queuedMailIsSentInOneBatchAndRemovedFromTheOutbox() {
+        MailOutboxDispatcher dispatcher = dispatcher(50);
+        OutboxMailSender sender = new OutboxMailSender(repository, dispatcher, metrics, clock);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int index = 0; index < 5; index++) {
+                sender.send(message("user" + index + "@example.com"));
+            }
+        });
+        assertTrue(smtp.sent.isEmpty());
+
+        clock.advance(Duration.ofMillis(250));
+        assertEquals(5, dispatcher.drainOnce());
+
+        assertEquals(1, smtp.batches);
+        assertEquals(5, smtp.sent.size());
+        assertEquals(0, repository.count());
+        assertEquals(5, metrics.enqueuedCount());
+        assertEquals(5, metrics.sentCount());
+        assertEquals(250, metrics.maxLatencyMillis());
+        assertEquals(0, metrics.queueDepth());
+    }
+
+    @Test
+    void rolledBackRequestLeavesNothingToSend() {
+        MailOutboxDispatcher dispatcher = dispatcher(50);
+        OutboxMailSender sender = new OutboxMailSender(repository, dispatcher, metrics, clock);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sender.send(message("user@example.com"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, dispatcher.drainOnce());
+        assertTrue(smtp.sent.isEmpty());
+    }
+
+    @Test
+    void failedRecipientsAreRetriedWithBackoffUntilTheyAreGivenUp() {
+        MailOutboxDispatcher dispatcher = dispatcher(50);
+        OutboxMailSender sender = new OutboxMailSender(repository, dispatcher, metrics, clock);
+        sender.send(message("ok@example.com"));
+        sender.send(message("bounce@example.com"));
+        smtp.rejected.add("bounce@example.com");
+
+        assertEquals(2, dispatcher.drainOnce());
+        assertEquals(List.of("ok@example.com"), smtp.sentRecipients());
+        MailOutboxEntity retried = repository.findAll().get(0);
+        assertEquals(1, retried.getAttempts());
+        assertEquals(MailOutboxStatus.PENDING, retried.getStatus());
+        assertEquals(clock.instant().plusSeconds(30), retried.getNextAttemptAt());
+        assertEquals(1, metrics.queueDepth());
+
+        assertEquals(0, dispatcher.drainOnce());
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(1, dispatcher.drainOnce());
+        assertEquals(clock.instant().plusSeconds(60), repository.findAll().get(0).getNextAttemptAt());
+
+        clock.advance(Duration.ofSeconds(60));
+        assertEquals(1, dispatcher.drainOnce());
+        MailOutboxEntity failed = repository.findAll().get(0);
+        assertEquals(MailOutboxStatus.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertTrue(failed.getLastError().contains("rejected"));
+        assertEquals(2, metrics.retryCount());
+        assertEquals(1, metrics.failedCount());
+        assertEquals(0, metrics.queueDepth());
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(0, dispatcher.drainOnce());
+    }
+
+    @Test
+    void connectionFailureReschedulesTheWholeBatch() {
+        MailOutboxDispatcher dispatcher = dispatcher(50);
+        OutboxMailSender sender = new OutboxMailSender(repository, dispatcher, metrics, clock);
+        sender.send(message("a@example.com"));
+        sender.send(message("b@example.com"));
+        smtp.down = true;
+
+        assertEquals(2, dispatcher.drainOnce());
+        assertEquals(2, metrics.retryCount());
+        assertEquals(0, dispatcher.drainOnce());
+
+        smtp.down = false;
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(2, dispatcher.drainOnce());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void concurrentWorkersSendEveryMessageExactlyOnce() throws Exception {
+        MailOutboxDispatcher dispatcher = dispatcher(10);
+        OutboxMailSender sender = new OutboxMailSender(repository, dispatcher, metrics, clock);
+        for (int index = 0; index < 200; index++) {
+            sender.send(message("user" + index + "@example.com"));
+        }
+
+        int workers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (dispatcher.drainOnce() > 0) {
+                    // Drain until no due rows are left.
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(200, smtp.sent.size());
+        assertEquals(200, Set.copyOf(smtp.sentRecipients()).size());
+        assertEquals(0, repository.count());
+    }
+
+    private MailOutboxDispatcher dispatcher(int batchSize) {
+        return new MailOutboxDispatcher(
+                repository,
+                smtp,
+                new TransactionTemplate(transactionManager),
+                metrics,
+                RETRY_POLICY,
+                clock,
+                1,
+                batchSize,
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(2)
+        );
+    }
+
+    private SimpleMailMessage message(String recipient) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(recipient);
+        message.setFrom("no-reply@lifelinq.dev");
+        message.setSubject("Hello");
+        message.setText("Body for " + recipient);
+        return message;
+    }
+
+    private static final class FakeSmtpServer implements MailSender {
+        private final List<SimpleMailMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+        private volatile boolean down;
+        private volatile int batches;
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) throws MailException {
+            send(new SimpleMailMessage[] {simpleMessage});
+        }
+
+        @Override
+        public synchronized void send(SimpleMailMessage... simpleMessages) throws MailException {
+            if (down) {
+                throw new MailSendException("connection refused");
+            }
+            batches++;
+            Map<Object, Exception> failures = new LinkedHashMap<>();
+            for (SimpleMailMessage message : simpleMessages) {
+                String recipient = message.getTo()[0];
+                if (rejected.contains(recipient)) {
+                    failures.put(message, new IllegalStateException("550 recipient rejected"));
+                } else {
+                    sent.add(message);
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+        }
+
+        private List<String> sentRecipients() {
+            synchronized (sent) {
+                return sent.stream().map(message -> message.getTo()[0]).toList();
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import app.lifelinq.features.meals.application.RecipeDuplicateAttentionRequiredE
 import app.lifelinq.features.meals.application.RecipeImportApplicationService;
 import app.lifelinq.features.meals.application.RecipeImportFailedException;
 import app.lifelinq.features.meals.contract.MealsShoppingAccessDeniedException;
+import app.lifelinq.features.meals.contract.MealsShoppingConflictException;
 import app.lifelinq.features.meals.contract.MealsShoppingDuplicateItemException;
 import app.lifelinq.features.meals.contract.MealsShoppingListNotFoundException;
 import app.lifelinq.features.meals.application.RecipeNotFoundException;
@@ -37,6 +38,7 @@ import app.lifelinq.features.meals.contract.MealReadinessView;
 import app.lifelinq.features.meals.contract.MealShoppingProjectionView;
 import app.lifelinq.features.meals.contract.MealIdentitySummaryView;
 import app.lifelinq.features.meals.contract.PlanningChoiceSupportView;
+import app.lifelinq.features.meals.contract.ProposedMealView;
 import app.lifelinq.features.meals.contract.AggregatedIngredientComparisonView;
 import app.lifelinq.features.meals.contract.AggregatedIngredientNeedView;
 import app.lifelinq.features.meals.contract.ContributorMealReferenceView;
@@ -51,6 +53,7 @@ import app.lifelinq.features.meals.contract.RecipeView;
 import app.lifelinq.features.meals.contract.PlannedMealView;
 import app.lifelinq.features.meals.contract.ShoppingDeltaView;
 import app.lifelinq.features.meals.contract.ShoppingLinkReferenceView;
+import app.lifelinq.features.meals.contract.WeekPlanProposalView;
 import app.lifelinq.features.meals.contract.WeekPlanView;
 import app.lifelinq.features.meals.contract.WeekShoppingReviewLinkView;
 import app.lifelinq.features.meals.contract.WeekShoppingReviewView;
@@ -273,6 +276,27 @@ class MealsControllerTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void addReturns409WhenShoppingListWriteConflicts() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID recipeId = UUID.randomUUID();
+        UUID targetListId = UUID.randomUUID();
+        userRepository.withUser(userId, groupId);
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+
+        Mockito.doThrow(new MealsShoppingConflictException("shopping list was modified concurrently"))
+                .when(mealsApplicationService)
+                .addOrReplaceMeal(groupId, userId, 2025, 10, 1, app.lifelinq.features.meals.domain.MealType.DINNER, "Pasta", recipeId, targetListId, null);
+
+        mockMvc.perform(post("/meals/weeks/2025/10/days/1/meals/DINNER")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mealTitle\":\"Pasta\",\"recipeId\":\"" + recipeId + "\",\"mealType\":\"DINNER\",\"targetShoppingListId\":\"" + targetListId + "\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SHOPPING_LIST_CONFLICT"));
+    }
+
     @Test
     void getWeekPlanIncludesReviewableWeekShoppingSignal() throws Exception {
         UUID groupId = UUID.randomUUID();
@@ -852,7 +876,7 @@ class MealsControllerTest {
         userRepository.withUser(userId, groupId);
         String token = createToken(userId, Instant.now().plusSeconds(60));
 
-        when(mealsApplicationService.listRecipeLibraryItems(groupId, userId, "active"))
+        when(mealsApplicationService.listRecipeLibraryItems(groupId, userId, "active", null, null))
                 .thenReturn(List.of(new RecipeLibraryItemView(
                         recipeId,
                         "Pasta",
@@ -860,7 +884,8 @@ class MealsControllerTest {
                         new RecipeLifecycleView("active", false, "Recipe must be archived before you can delete it."),
                         Instant.parse("2026-03-24T09:00:00Z"),
                         Instant.parse("2026-03-24T10:00:00Z"),
-                        3
+                        3,
+                        "cursor-1"
                 )));
 
         mockMvc.perform(get("/meals/recipe-library/items")
@@ -868,9 +893,10 @@ class MealsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].recipeId").value(recipeId.toString()))
                 .andExpect(jsonPath("$[0].lifecycle.state").value("active"))
-                .andExpect(jsonPath("$[0].ingredientCount").value(3));
+                .andExpect(jsonPath("$[0].ingredientCount").value(3))
+                .andExpect(jsonPath("$[0].cursor").value("cursor-1"));
 
-        verify(mealsApplicationService).listRecipeLibraryItems(groupId, userId, "active");
+        verify(mealsApplicationService).listRecipeLibraryItems(groupId, userId, "active", null, null);
     }
 
     @Test
@@ -889,7 +915,8 @@ class MealsControllerTest {
                         new RecipeLifecycleView("active", false, "Recipe must be archived before you can delete it."),
                         Instant.parse("2026-03-24T09:00:00Z"),
                         Instant.parse("2026-03-24T10:00:00Z"),
-                        3
+                        3,
+                        "cursor-1"
                 )));
 
         mockMvc.perform(get("/meals/recipe-library/recent-items")
@@ -909,7 +936,7 @@ class MealsControllerTest {
         userRepository.withUser(userId, groupId);
         String token = createToken(userId, Instant.now().plusSeconds(60));
 
-        when(mealsApplicationService.listRecipeLibraryItems(groupId, userId, "archived"))
+        when(mealsApplicationService.listRecipeLibraryItems(groupId, userId, "archived", null, null))
                 .thenReturn(List.of(new RecipeLibraryItemView(
                         recipeId,
                         "Archived Pasta",
@@ -917,7 +944,8 @@ class MealsControllerTest {
                         new RecipeLifecycleView("archived", true, null),
                         null,
                         Instant.parse("2026-03-24T10:00:00Z"),
-                        2
+                        2,
+                        "cursor-1"
                 )));
 
         mockMvc.perform(get("/meals/recipe-library/items?state=archived")
@@ -926,7 +954,7 @@ class MealsControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Archived Pasta"))
                 .andExpect(jsonPath("$[0].lifecycle.state").value("archived"));
 
-        verify(mealsApplicationService).listRecipeLibraryItems(groupId, userId, "archived");
+        verify(mealsApplicationService).listRecipeLibraryItems(groupId, userId, "archived", null, null);
     }
 
     @Test
@@ -1365,6 +1393,67 @@ class MealsControllerTest {
         );
     }
 
+    @Test
+    void rebuildMealUsageRebuildsForRequestingGroup() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        userRepository.withUser(userId, groupId);
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+
+        mockMvc.perform(post("/meals/household-memory/rebuild")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        verify(mealsApplicationService).rebuildMealUsage(groupId, userId);
+    }
+
+    @Test
+    void proposeWeekPlanReturnsProposedMealsForRequestedMealTypes() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        userRepository.withUser(userId, groupId);
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+        List<app.lifelinq.features.meals.domain.MealType> mealTypes = List.of(
+                app.lifelinq.features.meals.domain.MealType.LUNCH,
+                app.lifelinq.features.meals.domain.MealType.DINNER
+        );
+
+        when(mealsApplicationService.proposeWeekPlan(groupId, userId, 2026, 13, mealTypes))
+                .thenReturn(new WeekPlanProposalView(2026, 13, List.of(new ProposedMealView(
+                        1,
+                        "DINNER",
+                        java.time.LocalDate.parse("2026-03-23"),
+                        new MealChoiceCandidateView(
+                                "familiar",
+                                "title:tacos",
+                                "title_only",
+                                "Tacos",
+                                null,
+                                java.time.LocalDate.parse("2026-03-16"),
+                                4,
+                                false,
+                                true,
+                                true,
+                                false,
+                                true,
+                                false,
+                                false,
+                                false,
+                                "fits this meal slot"
+                        )
+                ))));
+
+        mockMvc.perform(get("/meals/choice-support/week?year=2026&isoWeek=13&mealTypes=LUNCH,DINNER")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isoWeek").value(13))
+                .andExpect(jsonPath("$.meals[0].dayOfWeek").value(1))
+                .andExpect(jsonPath("$.meals[0].mealType").value("DINNER"))
+                .andExpect(jsonPath("$.meals[0].candidate.title").value("Tacos"));
+
+        verify(mealsApplicationService).proposeWeekPlan(groupId, userId, 2026, 13, mealTypes);
+    }
+
     @Test
     void markRecipeMakeSoonReturnsUpdatedRecipeResponse() throws Exception {
         UUID groupId = UUID.randomUUID();
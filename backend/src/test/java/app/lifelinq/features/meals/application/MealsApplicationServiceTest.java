@@ -4,14 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
 import app.lifelinq.features.meals.contract.IngredientInput;
+import app.lifelinq.features.meals.contract.MealsShoppingItemInput;
 import app.lifelinq.features.meals.contract.MealsShoppingPort;
 import app.lifelinq.features.meals.contract.ParsedRecipeImportData;
 import app.lifelinq.features.meals.contract.RecipeImportPort;
@@ -21,6 +21,8 @@ import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalTargetKind;
 import app.lifelinq.features.meals.domain.HouseholdPreferenceSignalType;
 import app.lifelinq.features.meals.domain.IngredientUnit;
 import app.lifelinq.features.meals.domain.MealMemoryRepository;
+import app.lifelinq.features.meals.domain.MealUsageRepository;
+import app.lifelinq.features.meals.domain.MealUsageYear;
 import app.lifelinq.features.meals.domain.MealOccurrence;
 import app.lifelinq.features.meals.domain.MealType;
 import app.lifelinq.features.meals.domain.RecentPlannedMeal;
@@ -38,6 +40,7 @@ import app.lifelinq.features.shopping.infrastructure.InMemoryShoppingListReposit
 import app.lifelinq.features.shopping.infrastructure.MealsShoppingPortAdapter;
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -50,7 +53,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
-import org.mockito.InOrder;
+import org.mockito.ArgumentCaptor;
 
 class MealsApplicationServiceTest {
 
@@ -316,6 +319,7 @@ class MealsApplicationServiceTest {
                 recipes,
                 null,
                 weekPlans,
+                new InMemoryMealUsageRepository(),
                 preferences,
                 null,
                 membership,
@@ -380,6 +384,7 @@ class MealsApplicationServiceTest {
                 recipes,
                 null,
                 weekPlans,
+                new InMemoryMealUsageRepository(),
                 preferences,
                 null,
                 membership,
@@ -440,6 +445,7 @@ class MealsApplicationServiceTest {
                 recipes,
                 null,
                 weekPlans,
+                new InMemoryMealUsageRepository(),
                 preferences,
                 null,
                 membership,
@@ -485,6 +491,220 @@ class MealsApplicationServiceTest {
         });
     }
 
+    @Test
+    void mealUsageReadModelMatchesFullHistoryScanAcrossYears() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID recipeId = UUID.randomUUID();
+        EnsureGroupMemberUseCase membership = (h, u) -> {};
+        InMemoryWeekPlanRepository weekPlans = new InMemoryWeekPlanRepository();
+        InMemoryRecipeRepository recipes = new InMemoryRecipeRepository();
+        InMemoryHouseholdPreferenceSignalRepository preferences = new InMemoryHouseholdPreferenceSignalRepository();
+        InMemoryMealUsageRepository usage = new InMemoryMealUsageRepository();
+        Clock clock = Clock.fixed(Instant.parse("2026-03-24T10:00:00Z"), ZoneOffset.UTC);
+        MealsApplicationService withReadModel = new MealsApplicationService(
+                weekPlans,
+                recipes,
+                null,
+                weekPlans,
+                usage,
+                preferences,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                clock
+        );
+        MealsApplicationService fullScan = new MealsApplicationService(
+                weekPlans,
+                recipes,
+                null,
+                weekPlans,
+                null,
+                preferences,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                clock
+        );
+
+        recipes.save(new Recipe(
+                recipeId,
+                groupId,
+                "Pasta Bake",
+                Instant.parse("2023-01-01T09:00:00Z"),
+                List.of(new app.lifelinq.features.meals.domain.Ingredient(
+                        UUID.randomUUID(), "Pasta", null, null, 1))
+        ));
+        withReadModel.addOrReplaceMeal(groupId, userId, 2024, 5, 1, MealType.DINNER, recipeId, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2024, 5, 3, MealType.LUNCH, recipeId, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2024, 9, 2, MealType.DINNER, "Tacos", null, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2025, 40, 5, MealType.DINNER, " tacos ", null, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2025, 41, 5, MealType.DINNER, "Soup", null, null, null);
+        withReadModel.removeMeal(groupId, userId, 2025, 41, 5, MealType.DINNER);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2026, 11, 2, MealType.DINNER, recipeId, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2026, 13, 1, MealType.DINNER, "Tacos", null, null, null);
+        withReadModel.addOrReplaceMeal(groupId, userId, 2026, 14, 1, MealType.DINNER, "Pizza", null, null, null);
+        withReadModel.writeHouseholdPreferenceSignal(groupId, userId, "meal_identity", "prefer", null, "title:tacos");
+
+        assertThat(usage.rows(groupId)).extracting(MealUsageYear::year).containsOnly(2024, 2025, 2026);
+        assertThat(withReadModel.listMealIdentitySummaries(groupId, userId, 50))
+                .isEqualTo(fullScan.listMealIdentitySummaries(groupId, userId, 50));
+        assertThat(withReadModel.listRecipeUsageSummaries(groupId, userId, 50))
+                .isEqualTo(fullScan.listRecipeUsageSummaries(groupId, userId, 50));
+        assertThat(withReadModel.getTonightPlanningChoiceSupport(groupId, userId))
+                .isEqualTo(fullScan.getTonightPlanningChoiceSupport(groupId, userId));
+        assertThat(withReadModel.getSlotPlanningChoiceSupport(groupId, userId, 2026, 13, 3, MealType.DINNER))
+                .isEqualTo(fullScan.getSlotPlanningChoiceSupport(groupId, userId, 2026, 13, 3, MealType.DINNER));
+
+        usage.deleteByGroupId(groupId);
+        assertThat(withReadModel.rebuildMealUsage(groupId)).isEqualTo(usage.rows(groupId).size());
+        assertThat(withReadModel.listGroupsWithMealUsage()).containsExactly(groupId);
+        assertThat(withReadModel.listMealIdentitySummaries(groupId, userId, 50))
+                .isEqualTo(fullScan.listMealIdentitySummaries(groupId, userId, 50));
+    }
+
+    @Test
+    void planningChoiceInputsAreCachedPerGroupUntilMealOrPreferenceWrites() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        EnsureGroupMemberUseCase membership = (h, u) -> {};
+        InMemoryWeekPlanRepository weekPlans = new InMemoryWeekPlanRepository();
+        InMemoryRecipeRepository recipes = new InMemoryRecipeRepository();
+        InMemoryHouseholdPreferenceSignalRepository preferences = new InMemoryHouseholdPreferenceSignalRepository();
+        InMemoryMealUsageRepository usage = new InMemoryMealUsageRepository();
+        Clock clock = Clock.fixed(Instant.parse("2026-03-24T10:00:00Z"), ZoneOffset.UTC);
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(100, Duration.ofMinutes(5), clock);
+        MealsApplicationService cached = new MealsApplicationService(
+                weekPlans,
+                recipes,
+                null,
+                weekPlans,
+                usage,
+                preferences,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                clock,
+                cache
+        );
+        MealsApplicationService uncached = new MealsApplicationService(
+                weekPlans,
+                recipes,
+                null,
+                weekPlans,
+                usage,
+                preferences,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                clock
+        );
+        cached.addOrReplaceMeal(groupId, userId, 2026, 11, 2, MealType.DINNER, "Tacos", null, null, null);
+
+        var first = cached.getTonightPlanningChoiceSupport(groupId, userId);
+        var second = cached.getTonightPlanningChoiceSupport(groupId, userId);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+
+        cached.addOrReplaceMeal(groupId, userId, 2026, 12, 3, MealType.DINNER, "Pizza", null, null, null);
+        assertThat(cached.getTonightPlanningChoiceSupport(groupId, userId))
+                .isEqualTo(uncached.getTonightPlanningChoiceSupport(groupId, userId))
+                .isNotEqualTo(first);
+
+        cached.writeHouseholdPreferenceSignal(groupId, userId, "meal_identity", "prefer", null, "title:pizza");
+        assertThat(cached.getTonightPlanningChoiceSupport(groupId, userId))
+                .isEqualTo(uncached.getTonightPlanningChoiceSupport(groupId, userId));
+        assertThat(cache.missCount()).isEqualTo(3);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void proposeWeekPlanFillsOpenSlotsWithoutRepeatingMeals() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        EnsureGroupMemberUseCase membership = (h, u) -> {};
+        InMemoryWeekPlanRepository weekPlans = new InMemoryWeekPlanRepository();
+        InMemoryRecipeRepository recipes = new InMemoryRecipeRepository();
+        InMemoryHouseholdPreferenceSignalRepository preferences = new InMemoryHouseholdPreferenceSignalRepository();
+        InMemoryMealUsageRepository usage = new InMemoryMealUsageRepository();
+        Clock clock = Clock.fixed(Instant.parse("2026-03-24T10:00:00Z"), ZoneOffset.UTC);
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(100, Duration.ofMinutes(5), clock);
+        MealsApplicationService service = new MealsApplicationService(
+                weekPlans,
+                recipes,
+                null,
+                weekPlans,
+                usage,
+                preferences,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                clock,
+                cache
+        );
+        service.addOrReplaceMeal(groupId, userId, 2026, 10, 1, MealType.DINNER, "Tacos", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 11, 1, MealType.DINNER, "Tacos", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 11, 2, MealType.DINNER, "Soup", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 11, 3, MealType.DINNER, "Pizza", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 12, 4, MealType.DINNER, "Curry", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 12, 5, MealType.DINNER, "Lasagna", null, null, null);
+        service.addOrReplaceMeal(groupId, userId, 2026, 12, 6, MealType.DINNER, "Stew", null, null, null);
+        service.writeHouseholdPreferenceSignal(groupId, userId, "meal_identity", "deprioritize", null, "title:stew");
+        service.addOrReplaceMeal(groupId, userId, 2026, 13, 2, MealType.DINNER, "Soup", null, null, null);
+
+        var proposal = service.proposeWeekPlan(groupId, userId, 2026, 13, List.of(MealType.DINNER));
+
+        assertThat(proposal.year()).isEqualTo(2026);
+        assertThat(proposal.isoWeek()).isEqualTo(13);
+        assertThat(proposal.meals()).extracting(meal -> meal.dayOfWeek()).containsExactly(1, 3, 4, 5);
+        assertThat(proposal.meals()).allSatisfy(meal -> assertThat(meal.mealType()).isEqualTo("DINNER"));
+        assertThat(proposal.meals()).extracting(meal -> meal.candidate().title())
+                .doesNotHaveDuplicates()
+                .doesNotContain("Soup", "Stew")
+                .containsExactlyInAnyOrder("Tacos", "Pizza", "Curry", "Lasagna");
+        assertThat(proposal.meals().get(0).candidate().title()).isEqualTo("Tacos");
+        assertThat(proposal.meals().get(0).plannedDate()).isEqualTo(java.time.LocalDate.parse("2026-03-23"));
+
+        service.proposeWeekPlan(groupId, userId, 2026, 13, List.of(MealType.DINNER));
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listRecipeLibraryItemsPagesWithOpaqueItemCursors() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        EnsureGroupMemberUseCase membership = (h, u) -> {};
+        InMemoryRecipeRepository recipes = new InMemoryRecipeRepository();
+        MealsApplicationService service = new MealsApplicationService(
+                new InMemoryWeekPlanRepository(),
+                recipes,
+                membership,
+                mock(MealsShoppingPort.class),
+                Clock.fixed(Instant.parse("2026-03-24T10:00:00Z"), ZoneOffset.UTC)
+        );
+        for (String name : List.of("Curry", "apple pie", "Borscht")) {
+            recipes.save(new Recipe(
+                    UUID.randomUUID(),
+                    groupId,
+                    name,
+                    Instant.parse("2026-03-01T09:00:00Z"),
+                    List.of(new app.lifelinq.features.meals.domain.Ingredient(
+                            UUID.randomUUID(), "Salt", null, null, 1))
+            ));
+        }
+
+        var firstPage = service.listRecipeLibraryItems(groupId, userId, "active", null, 2);
+        var secondPage = service.listRecipeLibraryItems(groupId, userId, "active", firstPage.get(1).cursor(), 2);
+
+        assertThat(firstPage).extracting(item -> item.name()).containsExactly("apple pie", "Borscht");
+        assertThat(secondPage).extracting(item -> item.name()).containsExactly("Curry");
+        assertThatThrownBy(() -> service.listRecipeLibraryItems(groupId, userId, "active", "not a cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void listRecentlyUsedRecipeLibraryItemsReturnsActiveSavedRecipesInRecentOrder() {
         UUID groupId = UUID.randomUUID();
@@ -600,26 +820,9 @@ class MealsApplicationServiceTest {
                 null
         );
 
-        InOrder order = inOrder(shopping);
-        order.verify(shopping).addShoppingItem(
-                eq(groupId),
-                eq(userId),
-                eq(listId),
-                eq("olive oil"),
-                eq(new BigDecimal("2")),
-                eq("DL"),
-                eq("meal-plan"),
-                eq("Dinner")
-        );
-        order.verify(shopping).addShoppingItem(
-                eq(groupId),
-                eq(userId),
-                eq(listId),
-                eq("tomato"),
-                eq(null),
-                eq(null),
-                eq("meal-plan"),
-                eq("Dinner")
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).containsSubsequence(
+                new MealsShoppingItemInput("olive oil", new BigDecimal("2"), "DL", "meal-plan", "Dinner"),
+                new MealsShoppingItemInput("tomato", null, null, "meal-plan", "Dinner")
         );
     }
 
@@ -690,10 +893,10 @@ class MealsApplicationServiceTest {
                 null
         );
 
-        verify(shopping).addShoppingItem(groupId, userId, listId, "olive oil", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "olivolja", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "färsk rosmarin", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "prosciutto", null, null, "meal-plan", "Dinner");
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("olive oil", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("olivolja", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("färsk rosmarin", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("prosciutto", null, null, "meal-plan", "Dinner"));
     }
 
     @Test
@@ -742,15 +945,8 @@ class MealsApplicationServiceTest {
                 null
         );
 
-        verify(shopping).addShoppingItem(
-                groupId,
-                userId,
-                listId,
-                "olive oil",
-                new BigDecimal("2"),
-                "DL",
-                "meal-plan",
-                "Dinner"
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(
+                new MealsShoppingItemInput("olive oil", new BigDecimal("2"), "DL", "meal-plan", "Dinner")
         );
     }
 
@@ -807,8 +1003,8 @@ class MealsApplicationServiceTest {
                 null
         );
 
-        verify(shopping).addShoppingItem(groupId, userId, listId, "english mustard", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "garlic", null, null, "meal-plan", "Dinner");
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("english mustard", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("garlic", null, null, "meal-plan", "Dinner"));
     }
 
     @Test
@@ -885,11 +1081,11 @@ class MealsApplicationServiceTest {
                 null
         );
 
-        verify(shopping).addShoppingItem(groupId, userId, listId, "thyme", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "parsley", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "shallot", new BigDecimal("1"), "PCS", "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "chestnut mushroom", null, null, "meal-plan", "Dinner");
-        verify(shopping).addShoppingItem(groupId, userId, listId, "root veg", null, null, "meal-plan", "Dinner");
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("thyme", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("parsley", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("shallot", new BigDecimal("1"), "PCS", "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("chestnut mushroom", null, null, "meal-plan", "Dinner"));
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).contains(new MealsShoppingItemInput("root veg", null, null, "meal-plan", "Dinner"));
     }
 
     @Test
@@ -923,7 +1119,8 @@ class MealsApplicationServiceTest {
 
         service.addOrReplaceMeal(groupId, userId, 2026, 5, 1, MealType.DINNER, recipeId, listId, null);
 
-        verify(shopping, times(2)).addShoppingItem(groupId, userId, listId, "tomato", null, null, "meal-plan", "Soup");
+        MealsShoppingItemInput tomato = new MealsShoppingItemInput("tomato", null, null, "meal-plan", "Soup");
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).filteredOn(tomato::equals).hasSize(2);
     }
 
     @Test
@@ -955,7 +1152,7 @@ class MealsApplicationServiceTest {
                 null
         )).isInstanceOf(RecipeNotFoundException.class);
 
-        verify(shopping, never()).addShoppingItem(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(shopping, never()).addShoppingItems(any(), any(), any(), any());
     }
 
     @Test
@@ -995,7 +1192,7 @@ class MealsApplicationServiceTest {
         assertThat(weekPlan.meals().get(0).mealTitle()).isEqualTo("Tacos");
         assertThat(weekPlan.meals().get(0).recipeId()).isNull();
 
-        verify(shopping, never()).addShoppingItem(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(shopping, never()).addShoppingItems(any(), any(), any(), any());
     }
 
     @Test
@@ -1997,9 +2194,10 @@ class MealsApplicationServiceTest {
                 groupId, userId, 2026, 5, 1, MealType.DINNER, recipeId, listId, null
         );
 
-        InOrder order = inOrder(shopping);
-        order.verify(shopping).addShoppingItem(groupId, userId, listId, "tomato", null, null, "meal-plan", "Recipe");
-        order.verify(shopping).addShoppingItem(groupId, userId, listId, "onion", null, null, "meal-plan", "Recipe");
+        assertThat(pushedShoppingItems(shopping, groupId, userId, listId)).containsSubsequence(
+                new MealsShoppingItemInput("tomato", null, null, "meal-plan", "Recipe"),
+                new MealsShoppingItemInput("onion", null, null, "meal-plan", "Recipe")
+        );
     }
 
     @Test
@@ -2036,10 +2234,12 @@ class MealsApplicationServiceTest {
                 groupId, userId, 2026, 5, 1, MealType.DINNER, recipeId, listId, List.of(1, 3)
         );
 
-        InOrder order = inOrder(shopping);
-        order.verify(shopping).addShoppingItem(groupId, userId, listId, "milk", null, null, "meal-plan", "Soup");
-        order.verify(shopping).addShoppingItem(groupId, userId, listId, "tomato", null, null, "meal-plan", "Soup");
-        verify(shopping, never()).addShoppingItem(groupId, userId, listId, "onion", null, null, "meal-plan", "Soup");
+        List<MealsShoppingItemInput> pushed = pushedShoppingItems(shopping, groupId, userId, listId);
+        assertThat(pushed).containsSubsequence(
+                new MealsShoppingItemInput("milk", null, null, "meal-plan", "Soup"),
+                new MealsShoppingItemInput("tomato", null, null, "meal-plan", "Soup")
+        );
+        assertThat(pushed).doesNotContain(new MealsShoppingItemInput("onion", null, null, "meal-plan", "Soup"));
     }
 
     @Test
@@ -2900,6 +3100,18 @@ class MealsApplicationServiceTest {
         assertThat(reopenedReview.reviewLink().shoppingListId()).isEqualTo(listId);
     }
 
+    @SuppressWarnings("unchecked")
+    private static List<MealsShoppingItemInput> pushedShoppingItems(
+            MealsShoppingPort shopping,
+            UUID groupId,
+            UUID userId,
+            UUID listId
+    ) {
+        ArgumentCaptor<List<MealsShoppingItemInput>> items = ArgumentCaptor.forClass(List.class);
+        verify(shopping, atLeastOnce()).addShoppingItems(eq(groupId), eq(userId), eq(listId), items.capture());
+        return items.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
     private static final class InMemoryWeekPlanRepository implements WeekPlanRepository, MealMemoryRepository {
         private final Map<UUID, WeekPlan> byId = new HashMap<>();
 
@@ -3001,11 +3213,76 @@ class MealsApplicationServiceTest {
                             .thenComparing(meal -> meal.mealType().ordinal()))
                     .toList();
         }
+
+        @Override
+        public List<MealOccurrence> findHistoricalOccurrencesOnOrBefore(
+                UUID groupId,
+                int fromYear,
+                int year,
+                int isoWeek,
+                int dayOfWeek
+        ) {
+            return findHistoricalOccurrencesOnOrBefore(groupId, year, isoWeek, dayOfWeek).stream()
+                    .filter(occurrence -> occurrence.year() >= fromYear)
+                    .toList();
+        }
+
+        @Override
+        public List<MealOccurrence> findOccurrencesInYear(UUID groupId, int year) {
+            return findHistoricalOccurrencesOnOrBefore(groupId, year, 53, 7).stream()
+                    .filter(occurrence -> occurrence.year() == year)
+                    .toList();
+        }
+
+        @Override
+        public List<Integer> findPlannedYears(UUID groupId) {
+            return byId.values().stream()
+                    .filter(plan -> plan.getGroupId().equals(groupId) && !plan.getMeals().isEmpty())
+                    .map(WeekPlan::getYear)
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+
+        @Override
+        public List<UUID> findGroupIdsWithPlannedMeals() {
+            return byId.values().stream()
+                    .filter(plan -> !plan.getMeals().isEmpty())
+                    .map(WeekPlan::getGroupId)
+                    .distinct()
+                    .toList();
+        }
     }
 
     private record RecentMealRecipe(int year, int isoWeek, int dayOfWeek, UUID recipeId) {
     }
 
+    private static final class InMemoryMealUsageRepository implements MealUsageRepository {
+        private final Map<UUID, Map<Integer, List<MealUsageYear>>> byGroup = new HashMap<>();
+
+        @Override
+        public List<MealUsageYear> findByGroupIdBeforeYear(UUID groupId, int year) {
+            return byGroup.getOrDefault(groupId, Map.of()).entrySet().stream()
+                    .filter(entry -> entry.getKey() < year)
+                    .flatMap(entry -> entry.getValue().stream())
+                    .toList();
+        }
+
+        @Override
+        public void replaceYear(UUID groupId, int year, List<MealUsageYear> usage) {
+            byGroup.computeIfAbsent(groupId, ignored -> new HashMap<>()).put(year, List.copyOf(usage));
+        }
+
+        @Override
+        public void deleteByGroupId(UUID groupId) {
+            byGroup.remove(groupId);
+        }
+
+        private List<MealUsageYear> rows(UUID groupId) {
+            return findByGroupIdBeforeYear(groupId, Integer.MAX_VALUE);
+        }
+    }
+
     private static final class InMemoryHouseholdPreferenceSignalRepository implements HouseholdPreferenceSignalRepository {
         private final Map<UUID, HouseholdPreferenceSignal> byId = new HashMap<>();
 
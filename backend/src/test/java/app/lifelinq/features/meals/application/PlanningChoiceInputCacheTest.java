@@ -0,0 +1,151 @@
+package app.lifelinq.features.meals.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class PlanningChoiceInputCacheTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 24);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-24T10:00:00Z"));
+
+    @Test
+    void servesRepeatedReferenceDateFromCacheAndTracksHitRatio() {
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(10, Duration.ofMinutes(5), clock);
+        UUID groupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        PlanningChoiceInputCache.Inputs first = cache.get(groupId, TODAY, countingLoader(loads));
+        PlanningChoiceInputCache.Inputs second = cache.get(groupId, TODAY, countingLoader(loads));
+        cache.get(groupId, TODAY.plusDays(1), countingLoader(loads));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitRatio()).isEqualTo(1.0 / 3);
+        assertThat(cache.maxRebuildLatency()).isGreaterThanOrEqualTo(cache.averageRebuildLatency());
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidationDropsEveryReferenceDateOfTheGroupOnly() {
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(10, Duration.ofMinutes(5), clock);
+        UUID groupId = UUID.randomUUID();
+        UUID otherGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(groupId, TODAY, countingLoader(loads));
+        cache.get(groupId, TODAY.plusDays(1), countingLoader(loads));
+        cache.get(otherGroupId, TODAY, countingLoader(loads));
+
+        cache.invalidate(groupId);
+        cache.get(groupId, TODAY, countingLoader(loads));
+        cache.get(groupId, TODAY.plusDays(1), countingLoader(loads));
+        cache.get(otherGroupId, TODAY, countingLoader(loads));
+
+        assertThat(loads).hasValue(5);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheInputsLoadedWhileTheGroupWasInvalidated() {
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(10, Duration.ofMinutes(5), clock);
+        UUID groupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(groupId, TODAY, () -> {
+            cache.invalidate(groupId);
+            return countingLoader(loads).get();
+        });
+        cache.get(groupId, TODAY, countingLoader(loads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(10, Duration.ofSeconds(30), clock);
+        UUID groupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(groupId, TODAY, countingLoader(loads));
+
+        clock.advanceSeconds(30);
+        cache.get(groupId, TODAY, countingLoader(loads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void staysWithinMaxEntriesByDroppingTheLeastRecentlyUsed() throws InterruptedException {
+        PlanningChoiceInputCache cache = new PlanningChoiceInputCache(3, Duration.ofMinutes(5), clock);
+        UUID busyGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(busyGroupId, TODAY, countingLoader(loads));
+
+        for (int index = 0; index < 10; index++) {
+            Thread.sleep(1);
+            cache.get(busyGroupId, TODAY, countingLoader(loads));
+            cache.get(UUID.randomUUID(), TODAY, countingLoader(loads));
+        }
+        cache.get(busyGroupId, TODAY, countingLoader(loads));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.evictionCount()).isEqualTo(8);
+        assertThat(loads).hasValue(11);
+    }
+
+    @Test
+    void requiresPositiveBounds() {
+        assertThatThrownBy(() -> new PlanningChoiceInputCache(0, Duration.ofMinutes(5), clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PlanningChoiceInputCache(10, Duration.ZERO, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Supplier<PlanningChoiceInputCache.Inputs> countingLoader(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return new PlanningChoiceInputCache.Inputs(List.of(), List.of());
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
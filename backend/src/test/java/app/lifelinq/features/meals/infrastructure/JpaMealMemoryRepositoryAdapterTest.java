@@ -10,10 +10,13 @@ import app.lifelinq.features.meals.domain.WeekPlanRepository;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest(classes = MealsJpaTestApplication.class)
 @ActiveProfiles("test")
@@ -25,6 +28,9 @@ class JpaMealMemoryRepositoryAdapterTest {
     @Autowired
     private MealMemoryRepository mealMemoryRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void projectsHistoricalMealOccurrencesFromWeekPlans() {
         UUID groupId = UUID.randomUUID();
@@ -45,4 +51,67 @@ class JpaMealMemoryRepositoryAdapterTest {
         assertThat(occurrences.get(1).mealTitle()).isEqualTo("Tacos");
         assertThat(occurrences.get(1).recipeId()).isNull();
     }
+
+    @Test
+    void streamsOccurrencesNewestFirstWithinLowerWeekBound() {
+        UUID groupId = UUID.randomUUID();
+        WeekPlan lastYear = new WeekPlan(UUID.randomUUID(), groupId, 2025, 50, Instant.parse("2025-12-08T10:00:00Z"));
+        lastYear.addOrReplaceMeal(1, MealType.DINNER, "Too old", null, null);
+        WeekPlan week2 = new WeekPlan(UUID.randomUUID(), groupId, 2026, 2, Instant.parse("2026-01-05T10:00:00Z"));
+        week2.addOrReplaceMeal(3, MealType.DINNER, "Pasta", null, null);
+        week2.addOrReplaceMeal(5, MealType.DINNER, "Pizza", null, null);
+        WeekPlan week4 = new WeekPlan(UUID.randomUUID(), groupId, 2026, 4, Instant.parse("2026-01-19T10:00:00Z"));
+        week4.addOrReplaceMeal(1, MealType.LUNCH, "Salad", null, null);
+        week4.addOrReplaceMeal(6, MealType.DINNER, "After reference day", null, null);
+        weekPlanRepository.save(lastYear);
+        weekPlanRepository.save(week2);
+        weekPlanRepository.save(week4);
+
+        List<String> titles = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<MealOccurrence> occurrences = mealMemoryRepository.streamHistoricalOccurrencesOnOrBefore(
+                    groupId,
+                    2026,
+                    1,
+                    2026,
+                    4,
+                    5
+            )) {
+                return occurrences.map(MealOccurrence::mealTitle).limit(2).toList();
+            }
+        });
+
+        assertThat(titles).containsExactly("Salad", "Pizza");
+        List<String> all = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<MealOccurrence> occurrences = mealMemoryRepository.streamHistoricalOccurrencesOnOrBefore(
+                    groupId,
+                    2026,
+                    1,
+                    2026,
+                    4,
+                    5
+            )) {
+                return occurrences.map(MealOccurrence::mealTitle).toList();
+            }
+        });
+        assertThat(all).containsExactly("Salad", "Pizza", "Pasta");
+    }
+
+    @Test
+    void listsDistinctPlannedYearsOfTheGroupOldestFirst() {
+        UUID groupId = UUID.randomUUID();
+        WeekPlan later = new WeekPlan(UUID.randomUUID(), groupId, 2026, 3, Instant.parse("2026-01-12T10:00:00Z"));
+        later.addOrReplaceMeal(1, MealType.DINNER, "Curry", null, null);
+        later.addOrReplaceMeal(2, MealType.DINNER, "Stew", null, null);
+        WeekPlan earlier = new WeekPlan(UUID.randomUUID(), groupId, 2024, 30, Instant.parse("2024-07-22T10:00:00Z"));
+        earlier.addOrReplaceMeal(4, MealType.LUNCH, "Salad", null, null);
+        WeekPlan empty = new WeekPlan(UUID.randomUUID(), groupId, 2025, 10, Instant.parse("2025-03-03T10:00:00Z"));
+        WeekPlan otherGroup = new WeekPlan(UUID.randomUUID(), UUID.randomUUID(), 2023, 5, Instant.parse("2023-01-30T10:00:00Z"));
+        otherGroup.addOrReplaceMeal(1, MealType.DINNER, "Pizza", null, null);
+        weekPlanRepository.save(later);
+        weekPlanRepository.save(earlier);
+        weekPlanRepository.save(empty);
+        weekPlanRepository.save(otherGroup);
+
+        assertThat(mealMemoryRepository.findPlannedYears(groupId)).containsExactly(2024, 2026);
+    }
 }
@@ -0,0 +1,58 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.lifelinq.features.meals.domain.MealIdentity;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.MealUsageYear;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = MealsJpaTestApplication.class)
+@ActiveProfiles("test")
+class JpaMealUsageRepositoryAdapterTest {
+
+    @Autowired
+    private JpaMealUsageRepositoryAdapter repository;
+
+    @Test
+    void replacesOneYearAndFindsEarlierYearsOnly() {
+        UUID groupId = UUID.randomUUID();
+        UUID recipeId = UUID.randomUUID();
+        repository.replaceYear(groupId, 2024, List.of(
+                new MealUsageYear(MealIdentity.recipeKey(recipeId), recipeId, "Soup", 2024, 3, 2,
+                        LocalDate.of(2024, 11, 4), Set.of(MealType.LUNCH, MealType.DINNER)),
+                new MealUsageYear(MealIdentity.titleKey("Tacos"), null, "Tacos", 2024, 1, 1,
+                        LocalDate.of(2024, 2, 2), Set.of(MealType.DINNER))
+        ));
+        repository.replaceYear(groupId, 2025, List.of(
+                new MealUsageYear(MealIdentity.titleKey("Tacos"), null, "Tacos", 2025, 1, 1,
+                        LocalDate.of(2025, 6, 6), Set.of(MealType.DINNER))
+        ));
+        repository.replaceYear(groupId, 2024, List.of(
+                new MealUsageYear(MealIdentity.recipeKey(recipeId), recipeId, "Soup", 2024, 4, 3,
+                        LocalDate.of(2024, 12, 2), Set.of(MealType.LUNCH, MealType.DINNER))
+        ));
+
+        List<MealUsageYear> before2025 = repository.findByGroupIdBeforeYear(groupId, 2025);
+
+        assertThat(before2025).singleElement().satisfies(usage -> {
+            assertThat(usage.recipeId()).isEqualTo(recipeId);
+            assertThat(usage.occurrences()).isEqualTo(4);
+            assertThat(usage.distinctWeeks()).isEqualTo(3);
+            assertThat(usage.lastPlannedDate()).isEqualTo(LocalDate.of(2024, 12, 2));
+            assertThat(usage.usedMealTypes()).containsExactlyInAnyOrder(MealType.LUNCH, MealType.DINNER);
+        });
+        assertThat(repository.findByGroupIdBeforeYear(groupId, 2026)).hasSize(2);
+
+        repository.deleteByGroupId(groupId);
+
+        assertThat(repository.findByGroupIdBeforeYear(groupId, 2026)).isEmpty();
+    }
+}
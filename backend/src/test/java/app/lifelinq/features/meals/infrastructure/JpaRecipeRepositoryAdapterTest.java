@@ -5,13 +5,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import app.lifelinq.features.meals.domain.Ingredient;
 import app.lifelinq.features.meals.domain.IngredientUnit;
 import app.lifelinq.features.meals.domain.Recipe;
+import app.lifelinq.features.meals.domain.RecipeLibraryCursor;
+import app.lifelinq.features.meals.domain.RecipeLifecycle;
 import app.lifelinq.features.meals.domain.RecipeOriginKind;
+import app.lifelinq.features.meals.domain.RecipeRepository;
+import app.lifelinq.features.meals.domain.RecipeSummary;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,6 +32,9 @@ class JpaRecipeRepositoryAdapterTest {
     @Autowired
     private JpaRecipeRepositoryAdapter repository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void savesAndLoadsRecipeWithIngredientsOrderedByPositionThenId() {
         UUID groupId = UUID.randomUUID();
@@ -208,6 +219,147 @@ class JpaRecipeRepositoryAdapterTest {
         assertThat(result).extracting(Recipe::getId).containsExactly(recipeA);
     }
 
+    @Test
+    void duplicateLookupsMatchNormalizedKeysWithOneQueryEach() {
+        UUID groupId = UUID.randomUUID();
+        UUID recipeId = UUID.randomUUID();
+        repository.save(new Recipe(
+                recipeId,
+                groupId,
+                "  Tomato   Soup ",
+                "Grandma's  Cookbook",
+                " HTTPS://Example.com/Soup ",
+                RecipeOriginKind.URL_IMPORT,
+                null,
+                null,
+                Instant.parse("2026-02-01T10:00:00Z"),
+                Instant.parse("2026-02-01T10:00:00Z"),
+                List.of(new Ingredient(UUID.randomUUID(), "Tomato", null, null, 1))
+        ));
+        repository.save(new Recipe(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "Tomato Soup",
+                "Grandma's Cookbook",
+                "https://example.com/soup",
+                RecipeOriginKind.URL_IMPORT,
+                null,
+                null,
+                Instant.parse("2026-01-01T10:00:00Z"),
+                Instant.parse("2026-01-01T10:00:00Z"),
+                List.of()
+        ));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Optional<UUID> byUrl = repository.findIdByGroupIdAndNormalizedSourceUrl(groupId, "https://example.com/soup");
+        Optional<UUID> byName = repository.findIdByGroupIdAndNormalizedNameAndSourceName(
+                groupId,
+                "tomato soup",
+                "grandma's cookbook"
+        );
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        statistics.setStatisticsEnabled(false);
+        assertThat(byUrl).contains(recipeId);
+        assertThat(byName).contains(recipeId);
+        assertThat(repository.findIdByGroupIdAndNormalizedSourceUrl(groupId, "https://example.com/other")).isEmpty();
+    }
+
+    @Test
+    void duplicateKeysFollowUpdatedRecipeContent() {
+        UUID groupId = UUID.randomUUID();
+        UUID recipeId = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-02-01T10:00:00Z");
+        repository.save(new Recipe(
+                recipeId,
+                groupId,
+                "Pasta",
+                "Blog",
+                "https://example.com/pasta",
+                RecipeOriginKind.URL_IMPORT,
+                null,
+                null,
+                createdAt,
+                createdAt,
+                List.of()
+        ));
+
+        repository.save(new Recipe(
+                recipeId,
+                groupId,
+                "Pasta Bake",
+                "Blog",
+                "https://example.com/pasta-bake",
+                RecipeOriginKind.URL_IMPORT,
+                null,
+                null,
+                createdAt,
+                Instant.parse("2026-02-02T10:00:00Z"),
+                List.of()
+        ));
+
+        assertThat(repository.findIdByGroupIdAndNormalizedSourceUrl(groupId, "https://example.com/pasta")).isEmpty();
+        assertThat(repository.findIdByGroupIdAndNormalizedSourceUrl(groupId, "https://example.com/pasta-bake"))
+                .contains(recipeId);
+        assertThat(repository.findIdByGroupIdAndNormalizedNameAndSourceName(groupId, "pasta bake", "blog"))
+                .contains(recipeId);
+    }
+
+    @Test
+    void summaryPagesFollowNameOrderAcrossKeysetCursorWithoutLoadingIngredients() {
+        UUID groupId = UUID.randomUUID();
+        saveLibraryRecipe(groupId, "banana bread", null, 2);
+        saveLibraryRecipe(groupId, "Apple Pie", null, 3);
+        saveLibraryRecipe(groupId, "carrot cake", null, 0);
+        saveLibraryRecipe(groupId, "Dumplings", null, 1);
+        saveLibraryRecipe(groupId, "Archived Stew", Instant.parse("2026-02-05T10:00:00Z"), 1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<RecipeSummary> firstPage = repository.findSummaryPage(groupId, RecipeLifecycle.ACTIVE, null, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        statistics.setStatisticsEnabled(false);
+        assertThat(firstPage).extracting(RecipeSummary::getName).containsExactly("Apple Pie", "banana bread");
+        assertThat(firstPage).extracting(RecipeSummary::getIngredientCount).containsExactly(3, 2);
+
+        List<RecipeSummary> secondPage = repository.findSummaryPage(
+                groupId,
+                RecipeLifecycle.ACTIVE,
+                RecipeLibraryCursor.after(firstPage.get(1)),
+                2
+        );
+        List<RecipeSummary> lastPage = repository.findSummaryPage(
+                groupId,
+                RecipeLifecycle.ACTIVE,
+                RecipeLibraryCursor.after(secondPage.get(1)),
+                2
+        );
+
+        assertThat(secondPage).extracting(RecipeSummary::getName).containsExactly("carrot cake", "Dumplings");
+        assertThat(lastPage).isEmpty();
+        assertThat(repository.findSummaryPage(groupId, RecipeLifecycle.ARCHIVED, null, 10))
+                .extracting(RecipeSummary::getName)
+                .containsExactly("Archived Stew");
+    }
+
+    @Test
+    void summaryPageContinuesAfterCursorRecipeIsDeleted() {
+        assertPagingSurvivesCursorRecipeDeletion(repository);
+        assertPagingSurvivesCursorRecipeDeletion(new InMemoryRecipeRepository());
+    }
+
+    @Test
+    void summaryPageKeepsItsPlaceWhenCursorRecipeIsRenamed() {
+        assertPagingSurvivesCursorRecipeRename(repository);
+        assertPagingSurvivesCursorRecipeRename(new InMemoryRecipeRepository());
+    }
+
     @Test
     void repeatedSaveReplacesIngredientsForSameRecipeId() {
         UUID groupId = UUID.randomUUID();
@@ -292,4 +444,79 @@ class JpaRecipeRepositoryAdapterTest {
 
         assertThat(repository.findByIdAndGroupId(recipeId, groupId)).isEmpty();
     }
+
+    private void assertPagingSurvivesCursorRecipeDeletion(RecipeRepository target) {
+        UUID groupId = UUID.randomUUID();
+        saveLibraryRecipe(target, groupId, "Apple Pie", null, 1);
+        Recipe banana = saveLibraryRecipe(target, groupId, "banana bread", null, 1);
+        saveLibraryRecipe(target, groupId, "carrot cake", null, 1);
+        saveLibraryRecipe(target, groupId, "Dumplings", null, 1);
+        List<RecipeSummary> firstPage = target.findSummaryPage(groupId, RecipeLifecycle.ACTIVE, null, 2);
+        RecipeLibraryCursor cursor = RecipeLibraryCursor.decode(RecipeLibraryCursor.after(firstPage.get(1)).encode());
+
+        target.delete(banana);
+
+        assertThat(target.findSummaryPage(groupId, RecipeLifecycle.ACTIVE, cursor, 2))
+                .extracting(RecipeSummary::getName)
+                .containsExactly("carrot cake", "Dumplings");
+    }
+
+    private void assertPagingSurvivesCursorRecipeRename(RecipeRepository target) {
+        UUID groupId = UUID.randomUUID();
+        saveLibraryRecipe(target, groupId, "Apple Pie", null, 1);
+        Recipe banana = saveLibraryRecipe(target, groupId, "banana bread", null, 1);
+        saveLibraryRecipe(target, groupId, "carrot cake", null, 1);
+        saveLibraryRecipe(target, groupId, "Dumplings", null, 1);
+        List<RecipeSummary> firstPage = target.findSummaryPage(groupId, RecipeLifecycle.ACTIVE, null, 2);
+        RecipeLibraryCursor cursor = RecipeLibraryCursor.after(firstPage.get(1));
+
+        target.save(libraryRecipe(banana.getId(), groupId, "Zucchini bread", null, 1));
+
+        List<RecipeSummary> secondPage = target.findSummaryPage(groupId, RecipeLifecycle.ACTIVE, cursor, 2);
+        assertThat(secondPage).extracting(RecipeSummary::getName).containsExactly("carrot cake", "Dumplings");
+        assertThat(target.findSummaryPage(
+                groupId,
+                RecipeLifecycle.ACTIVE,
+                RecipeLibraryCursor.after(secondPage.get(1)),
+                2
+        ))
+                .extracting(RecipeSummary::getName)
+                .containsExactly("Zucchini bread");
+    }
+
+    private Recipe saveLibraryRecipe(UUID groupId, String name, Instant archivedAt, int ingredientCount) {
+        return saveLibraryRecipe(repository, groupId, name, archivedAt, ingredientCount);
+    }
+
+    private Recipe saveLibraryRecipe(
+            RecipeRepository target,
+            UUID groupId,
+            String name,
+            Instant archivedAt,
+            int ingredientCount
+    ) {
+        return target.save(libraryRecipe(UUID.randomUUID(), groupId, name, archivedAt, ingredientCount));
+    }
+
+    private Recipe libraryRecipe(UUID recipeId, UUID groupId, String name, Instant archivedAt, int ingredientCount) {
+        List<Ingredient> ingredients = new ArrayList<>();
+        for (int position = 1; position <= ingredientCount; position++) {
+            ingredients.add(new Ingredient(UUID.randomUUID(), "Ingredient " + position, null, null, position));
+        }
+        return new Recipe(
+                recipeId,
+                groupId,
+                name,
+                null,
+                null,
+                RecipeOriginKind.MANUAL,
+                null,
+                null,
+                Instant.parse("2026-02-01T10:00:00Z"),
+                archivedAt == null ? Instant.parse("2026-02-01T10:00:00Z") : archivedAt,
+                archivedAt,
+                true,
+                ingredients
+        );
+    }
 }
@@ -3,16 +3,22 @@ package app.lifelinq.features.meals.infrastructure;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.RecentPlannedMeal;
 import app.lifelinq.features.meals.domain.WeekPlan;
 import app.lifelinq.features.meals.domain.WeekPlanRepository;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest(classes = MealsJpaTestApplication.class)
 @ActiveProfiles("test")
@@ -21,6 +27,9 @@ class JpaWeekPlanRepositoryAdapterTest {
     @Autowired
     private WeekPlanRepository repository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void savesAndLoadsWeekPlanRoundTrip() {
         UUID groupId = UUID.randomUUID();
@@ -126,4 +135,35 @@ class JpaWeekPlanRepositoryAdapterTest {
         WeekPlan updated = repository.findByGroupAndWeek(groupId, 2025, 15).orElseThrow();
         assertTrue(updated.getMeals().isEmpty());
     }
+
+    @Test
+    void streamsRecentMealsAndRecipeIdsWithinLowerWeekBound() {
+        UUID groupId = UUID.randomUUID();
+        UUID oldRecipeId = UUID.randomUUID();
+        UUID soupRecipeId = UUID.randomUUID();
+        UUID stewRecipeId = UUID.randomUUID();
+        WeekPlan oldPlan = new WeekPlan(UUID.randomUUID(), groupId, 2025, 30, Instant.parse("2025-07-21T10:00:00Z"));
+        oldPlan.addOrReplaceMeal(2, MealType.DINNER, oldRecipeId, "Old favourite");
+        WeekPlan recentPlan = new WeekPlan(UUID.randomUUID(), groupId, 2026, 3, Instant.parse("2026-01-12T10:00:00Z"));
+        recentPlan.addOrReplaceMeal(1, MealType.DINNER, stewRecipeId, "Stew");
+        recentPlan.addOrReplaceMeal(2, MealType.DINNER, "Leftovers", null, null);
+        recentPlan.addOrReplaceMeal(4, MealType.DINNER, soupRecipeId, "Soup");
+        repository.save(oldPlan);
+        repository.save(recentPlan);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<String> meals = transaction.execute(status -> {
+            try (Stream<RecentPlannedMeal> stream = repository.streamRecentMealsOnOrBefore(groupId, 2025, 40, 2026, 3, 7)) {
+                return stream.map(RecentPlannedMeal::mealTitle).toList();
+            }
+        });
+        List<UUID> recipeIds = transaction.execute(status -> {
+            try (Stream<UUID> stream = repository.streamRecentRecipeIdsOnOrBefore(groupId, 2025, 40, 2026, 3, 7)) {
+                return stream.toList();
+            }
+        });
+
+        assertEquals(List.of("Soup", "Leftovers", "Stew"), meals);
+        assertEquals(List.of(soupRecipeId, stewRecipeId), recipeIds);
+    }
 }
@@ -0,0 +1,112 @@
+package app.lifelinq.features.meals.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import app.lifelinq.features.meals.application.MealsApplicationService;
+import app.lifelinq.features.meals.contract.MealsShoppingPort;
+import app.lifelinq.features.meals.domain.MealChoiceSupportEngine;
+import app.lifelinq.features.meals.domain.MealType;
+import app.lifelinq.features.meals.domain.MealUsageYear;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = MealsJpaTestApplication.class)
+@ActiveProfiles("test")
+class MealUsageConcurrentWriteTest {
+    private static final int THREADS = 8;
+    private static final int WEEKS_PER_THREAD = 4;
+    private static final int YEAR = 2026;
+
+    @Autowired
+    private JpaWeekPlanRepositoryAdapter weekPlanRepository;
+
+    @Autowired
+    private JpaRecipeRepositoryAdapter recipeRepository;
+
+    @Autowired
+    private JpaMealMemoryRepositoryAdapter mealMemoryRepository;
+
+    @Autowired
+    private JpaMealUsageRepositoryAdapter mealUsageRepository;
+
+    @Autowired
+    private JpaHouseholdPreferenceSignalRepositoryAdapter preferenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentMealWritesInOneYearKeepUsageInSyncWithPlannedMeals() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        EnsureGroupMemberUseCase membership = (ignoredGroupId, ignoredUserId) -> { };
+        MealsApplicationService service = new MealsApplicationService(
+                weekPlanRepository,
+                recipeRepository,
+                null,
+                mealMemoryRepository,
+                mealUsageRepository,
+                preferenceRepository,
+                null,
+                membership,
+                mock(MealsShoppingPort.class),
+                Clock.systemUTC()
+        );
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadIndex = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int week = 1; week <= WEEKS_PER_THREAD; week++) {
+                    int isoWeek = threadIndex * WEEKS_PER_THREAD + week;
+                    transaction.executeWithoutResult(status -> service.addOrReplaceMeal(
+                            groupId, userId, YEAR, isoWeek, 1, MealType.DINNER, "Tacos", null, null, null));
+                    transaction.executeWithoutResult(status -> service.addOrReplaceMeal(
+                            groupId, userId, YEAR, isoWeek, 2, MealType.DINNER, "Soup " + threadIndex, null, null, null));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<MealUsageYear> expected = new MealChoiceSupportEngine()
+                .summarizeUsageYear(YEAR, mealMemoryRepository.findOccurrencesInYear(groupId, YEAR));
+        assertThat(mealUsageRepository.findByGroupIdBeforeYear(groupId, YEAR + 1))
+                .containsExactlyInAnyOrderElementsOf(expected)
+                .anySatisfy(usage -> {
+                    assertThat(usage.title()).isEqualTo("Tacos");
+                    assertThat(usage.occurrences()).isEqualTo(THREADS * WEEKS_PER_THREAD);
+                });
+
+        mealUsageRepository.deleteByGroupId(groupId);
+        transaction.executeWithoutResult(status -> service.rebuildMealUsage(groupId, userId));
+
+        assertThat(mealUsageRepository.findByGroupIdBeforeYear(groupId, YEAR + 1))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
@@ -82,6 +82,14 @@ public class MealsJpaTestApplication {
         return new JpaMealMemoryRepositoryAdapter(repository);
     }
 
+    @Bean
+    public JpaMealUsageRepositoryAdapter mealUsageRepository(
+            MealUsageYearJpaRepository repository,
+            MealUsageYearLockJpaRepository lockRepository
+    ) {
+        return new JpaMealUsageRepositoryAdapter(repository, lockRepository);
+    }
+
     @Bean
     public JpaHouseholdPreferenceSignalRepositoryAdapter householdPreferenceSignalRepository(
             HouseholdPreferenceSignalJpaRepository repository
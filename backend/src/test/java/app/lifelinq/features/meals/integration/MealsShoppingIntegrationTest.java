@@ -18,10 +18,15 @@ import app.lifelinq.features.shopping.contract.CreateShoppingListOutput;
 import app.lifelinq.features.shopping.domain.ShoppingList;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
+import app.lifelinq.features.meals.contract.WeekShoppingProjectionView;
+import app.lifelinq.features.meals.domain.MealType;
 import app.lifelinq.test.integration.MealsShoppingIntegrationTestApplication;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -46,6 +51,9 @@ class MealsShoppingIntegrationTest {
     @Autowired
     private MealsApplicationService mealsApplicationService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void addMealPushesIngredientsToList() {
         UUID groupId = UUID.randomUUID();
@@ -338,4 +346,87 @@ class MealsShoppingIntegrationTest {
         assertEquals(1, list.getItems().size());
         assertEquals("parsley", list.getItems().get(0).getName());
     }
+
+    @Test
+    void weekShoppingProjectionQueryCountDoesNotGrowWithMealsPerWeek() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        groupRepository.save(new Group(groupId, "Home"));
+        membershipRepository.save(new Membership(groupId, userId, GroupRole.ADMIN));
+        UUID listId = shoppingApplicationService.createShoppingList(groupId, userId, "Groceries").listId();
+        UUID otherListId = shoppingApplicationService.createShoppingList(groupId, userId, "Market").listId();
+
+        planMeals(groupId, userId, 2025, 20, 1, listId, otherListId);
+        planMeals(groupId, userId, 2025, 21, 21, listId, otherListId);
+
+        long singleMealQueries = countStatements(() -> mealsApplicationService.getWeekShoppingProjection(
+                groupId,
+                userId,
+                2025,
+                20
+        ));
+        WeekShoppingProjectionView[] fullWeek = new WeekShoppingProjectionView[1];
+        long fullWeekQueries = countStatements(() -> fullWeek[0] = mealsApplicationService.getWeekShoppingProjection(
+                groupId,
+                userId,
+                2025,
+                21
+        ));
+
+        assertEquals(21, fullWeek[0].meals().size());
+        assertEquals(singleMealQueries, fullWeekQueries);
+    }
+
+    private void planMeals(
+            UUID groupId,
+            UUID userId,
+            int year,
+            int isoWeek,
+            int mealCount,
+            UUID listId,
+            UUID otherListId
+    ) {
+        MealType[] mealTypes = {MealType.BREAKFAST, MealType.LUNCH, MealType.DINNER};
+        for (int index = 0; index < mealCount; index++) {
+            RecipeView recipe = mealsApplicationService.createRecipe(
+                    groupId,
+                    userId,
+                    "Recipe " + isoWeek + "-" + index,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    true,
+                    List.of(
+                            new IngredientInput("Ingredient " + index, new BigDecimal("1"), IngredientUnit.PCS, 1),
+                            new IngredientInput("Salt", null, null, 2)
+                    )
+            );
+            mealsApplicationService.addOrReplaceMeal(
+                    groupId,
+                    userId,
+                    year,
+                    isoWeek,
+                    index / mealTypes.length + 1,
+                    mealTypes[index % mealTypes.length],
+                    recipe.recipeId(),
+                    index % 2 == 0 ? listId : otherListId,
+                    null
+            );
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package app.lifelinq.features.shopping.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.lifelinq.features.group.contract.AccessDeniedException;
+import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeBroadcaster;
+import app.lifelinq.features.shopping.application.ShoppingChangeSubscription;
+import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.infrastructure.InMemoryShoppingCategoryPreferenceRepository;
+import app.lifelinq.features.shopping.infrastructure.InMemoryShoppingListRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+class ShoppingChangeStreamTest {
+
+    @Test
+    void closeEndsOpenConnectionsAndReleasesSubscriptions() throws Exception {
+        ShoppingChangeBroadcaster broadcaster = new ShoppingChangeBroadcaster(8);
+        ShoppingChangeStream stream = new ShoppingChangeStream();
+        UUID groupId = UUID.randomUUID();
+        ShoppingChangeSubscription subscription = broadcaster.subscribe(groupId);
+
+        stream.open(subscription);
+        assertEquals(1, stream.openConnectionCount());
+        assertEquals(1, broadcaster.subscriberCount(groupId));
+
+        stream.close();
+
+        assertEquals(0, stream.openConnectionCount());
+        assertEquals(0, broadcaster.subscriberCount(groupId));
+        assertTrue(subscription.isClosed());
+    }
+
+    @Test
+    void connectionEndsOnceTheListenerIsRemovedFromTheGroup() throws Exception {
+        Set<UUID> members = ConcurrentHashMap.newKeySet();
+        InMemoryShoppingListRepository listRepository = new InMemoryShoppingListRepository();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                listRepository,
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                (groupId, actorUserId) -> {
+                    if (!members.contains(actorUserId)) {
+                        throw new AccessDeniedException("Actor is not a member of the group");
+                    }
+                },
+                Clock.systemUTC()
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID removedUserId = UUID.randomUUID();
+        UUID remainingUserId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        members.add(removedUserId);
+        members.add(remainingUserId);
+        listRepository.save(new ShoppingList(listId, groupId, "Groceries", Instant.now()));
+        ShoppingChangeStream stream = new ShoppingChangeStream(Duration.ZERO);
+        ShoppingChangeSubscription subscription = service.subscribeToItemChanges(groupId, removedUserId);
+        stream.open(subscription);
+
+        members.remove(removedUserId);
+        service.addShoppingItem(groupId, remainingUserId, listId, "milk");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (stream.openConnectionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(subscription.isClosed());
+        assertEquals(0, stream.openConnectionCount());
+        stream.close();
+    }
+}
@@ -8,6 +8,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import app.lifelinq.config.AuthenticationFilter;
@@ -15,11 +17,19 @@ import app.lifelinq.config.GroupContextFilter;
 import app.lifelinq.config.JwtVerifier;
 import app.lifelinq.config.RequestContextExceptionHandler;
 import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeBroadcaster;
+import app.lifelinq.features.shopping.application.ShoppingChangeSubscription;
+import app.lifelinq.features.shopping.contract.AddShoppingItemInput;
+import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
 import app.lifelinq.features.shopping.contract.ShoppingCategoryPreferenceView;
 import app.lifelinq.features.shopping.contract.CreateShoppingListOutput;
+import app.lifelinq.features.shopping.contract.ShoppingItemStatusView;
 import app.lifelinq.features.shopping.contract.ShoppingListView;
+import app.lifelinq.features.shopping.contract.ShoppingUnitView;
 import app.lifelinq.features.shopping.domain.ShoppingListType;
+import app.lifelinq.features.shopping.domain.ShoppingUnit;
 import app.lifelinq.test.FakeActiveGroupUserRepository;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
@@ -45,7 +55,7 @@ class ShoppingControllerTest {
     void setUp() {
         userRepository = new FakeActiveGroupUserRepository();
         shoppingApplicationService = Mockito.mock(ShoppingApplicationService.class);
-        ShoppingController controller = new ShoppingController(shoppingApplicationService);
+        ShoppingController controller = new ShoppingController(shoppingApplicationService, new ShoppingChangeStream());
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new RequestContextExceptionHandler())
                 .addFilters(
@@ -111,6 +121,39 @@ class ShoppingControllerTest {
         verify(shoppingApplicationService).createShoppingList(groupId, userId, "Groceries", ShoppingListType.MIXED);
     }
 
+    @Test
+    void addItemsBatchSucceedsWithValidToken() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        userRepository.withUser(userId, groupId);
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+        List<AddShoppingItemInput> inputs = List.of(
+                new AddShoppingItemInput("Milk", new BigDecimal("2"), ShoppingUnit.DL, null, null, false),
+                new AddShoppingItemInput("Bread", null, null, null, null, true)
+        );
+        Instant createdAt = Instant.parse("2026-03-13T09:00:00Z");
+        when(shoppingApplicationService.addShoppingItems(groupId, userId, listId, inputs))
+                .thenReturn(List.of(
+                        new AddShoppingItemOutput(listId, UUID.randomUUID(), "milk", "CREATED", ShoppingItemStatusView.TO_BUY,
+                                new BigDecimal("2"), ShoppingUnitView.DL, null, null, createdAt, null),
+                        new AddShoppingItemOutput(listId, UUID.randomUUID(), "bread", "CREATED", ShoppingItemStatusView.TO_BUY,
+                                null, null, null, null, createdAt, null)
+                ));
+
+        mockMvc.perform(post("/shopping-lists/{listId}/items/batch", listId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"name\":\"Milk\",\"quantity\":2,\"unit\":\"dl\"},"
+                                + "{\"name\":\"Bread\",\"addAsNew\":true}]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("milk"))
+                .andExpect(jsonPath("$[1].name").value("bread"));
+
+        verify(shoppingApplicationService).addShoppingItems(groupId, userId, listId, inputs);
+    }
+
     @Test
     void removeListReturns401WhenTokenMissing() throws Exception {
         mockMvc.perform(delete("/shopping-lists/{listId}", UUID.randomUUID()))
@@ -252,6 +295,31 @@ class ShoppingControllerTest {
         );
     }
 
+    @Test
+    void itemChangeStreamOpensForActiveGroup() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        userRepository.withUser(userId, groupId);
+        String token = createToken(userId, Instant.now().plusSeconds(60));
+        ShoppingChangeSubscription subscription = new ShoppingChangeBroadcaster(4).subscribe(groupId);
+        when(shoppingApplicationService.subscribeToItemChanges(groupId, userId)).thenReturn(subscription);
+
+        mockMvc.perform(get("/shopping-lists/events")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted());
+
+        verify(shoppingApplicationService).subscribeToItemChanges(groupId, userId);
+        subscription.close();
+    }
+
+    @Test
+    void itemChangeStreamReturns401WhenTokenMissing() throws Exception {
+        mockMvc.perform(get("/shopping-lists/events"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(shoppingApplicationService);
+    }
+
     private String createToken(UUID userId, Instant exp) throws Exception {
         String headerJson = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
         String payloadJson = String.format(
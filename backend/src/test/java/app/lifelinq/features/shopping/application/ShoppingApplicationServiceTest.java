@@ -1,13 +1,22 @@
 package app.lifelinq.features.shopping.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import app.lifelinq.features.group.contract.EnsureGroupMemberUseCase;
+import app.lifelinq.features.shopping.contract.AddShoppingItemInput;
 import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
+import app.lifelinq.features.shopping.contract.ShoppingItemChangeView;
 import app.lifelinq.features.shopping.contract.ShoppingUnitView;
+import app.lifelinq.features.shopping.domain.ShoppingItemNotFoundException;
 import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
 import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
+import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingListType;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
 import app.lifelinq.features.shopping.contract.ShoppingListView;
@@ -15,9 +24,16 @@ import app.lifelinq.features.shopping.infrastructure.InMemoryShoppingCategoryPre
 import app.lifelinq.features.shopping.infrastructure.InMemoryShoppingListRepository;
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 
 class ShoppingApplicationServiceTest {
@@ -244,6 +260,272 @@ class ShoppingApplicationServiceTest {
         assertEquals("CREATED", third.outcome());
     }
 
+    @Test
+    void addShoppingItemsAppliesSequentialMergeSemanticsAndSavesOnce() {
+        InMemoryShoppingListRepository delegate = new InMemoryShoppingListRepository();
+        int[] saves = new int[1];
+        ShoppingListRepository listRepository = new ShoppingListRepository() {
+            @Override
+            public ShoppingList save(ShoppingList list) {
+                saves[0]++;
+                return delegate.save(list);
+            }
+
+            @Override
+            public Optional<ShoppingList> findById(UUID id) {
+                return delegate.findById(id);
+            }
+
+            @Override
+            public List<ShoppingList> findByGroupId(UUID groupId) {
+                return delegate.findByGroupId(groupId);
+            }
+
+            @Override
+            public List<ShoppingListSnapshot> findSnapshotsByGroupIdAndIds(UUID groupId, Set<UUID> listIds) {
+                return delegate.findSnapshotsByGroupIdAndIds(groupId, listIds);
+            }
+
+            @Override
+            public void deleteById(UUID id) {
+                delegate.deleteById(id);
+            }
+        };
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                listRepository,
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                allowAllMembership(),
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        delegate.save(new ShoppingList(
+                listId,
+                groupId,
+                "Groceries",
+                ShoppingListType.GROCERY,
+                Instant.parse("2026-03-13T08:00:00Z")
+        ));
+
+        List<AddShoppingItemOutput> outputs = service.addShoppingItems(groupId, userId, listId, List.of(
+                new AddShoppingItemInput("Banana", null, null, null, null, false),
+                new AddShoppingItemInput("banana", null, null, null, null, false),
+                new AddShoppingItemInput("milk", new BigDecimal("2"), ShoppingUnit.DL, ShoppingItemSourceKind.MEAL_PLAN, "Soup", false),
+                new AddShoppingItemInput("milk", new BigDecimal("1"), ShoppingUnit.DL, ShoppingItemSourceKind.MEAL_PLAN, "Soup", false),
+                new AddShoppingItemInput("banana", null, null, null, null, true)
+        ));
+
+        assertEquals(1, saves[0]);
+        assertEquals(
+                List.of("CREATED", "REUSED_EXISTING", "CREATED", "INCREASED_EXISTING", "CREATED"),
+                outputs.stream().map(AddShoppingItemOutput::outcome).toList()
+        );
+        assertEquals(outputs.get(0).itemId(), outputs.get(1).itemId());
+        assertEquals(outputs.get(2).itemId(), outputs.get(3).itemId());
+        assertEquals(0, new BigDecimal("3").compareTo(outputs.get(3).quantity()));
+        assertEquals(3, delegate.findById(listId).orElseThrow().getItems().size());
+    }
+
+    @Test
+    void itemChangesReachGroupSubscribersOnlyAfterTheWriteSucceeds() throws Exception {
+        InMemoryShoppingListRepository listRepository = new InMemoryShoppingListRepository();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                listRepository,
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                allowAllMembership(),
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        listRepository.save(new ShoppingList(listId, groupId, "Groceries", Instant.parse("2026-03-13T08:00:00Z")));
+        ShoppingChangeSubscription subscription = service.subscribeToItemChanges(groupId, userId);
+        ShoppingChangeSubscription otherGroup = service.subscribeToItemChanges(UUID.randomUUID(), userId);
+
+        AddShoppingItemOutput added = service.addShoppingItem(groupId, userId, listId, "Milk");
+        service.addShoppingItem(groupId, userId, listId, "milk");
+        service.toggleShoppingItem(groupId, userId, listId, added.itemId());
+        service.removeShoppingItem(groupId, userId, listId, added.itemId());
+        assertThrows(
+                ShoppingItemNotFoundException.class,
+                () -> service.toggleShoppingItem(groupId, userId, listId, added.itemId())
+        );
+
+        ShoppingItemChangeView first = subscription.poll(Duration.ZERO);
+        assertEquals(ShoppingItemChangeView.ADDED, first.type());
+        assertEquals(listId, first.listId());
+        assertEquals("milk", first.item().name());
+        assertEquals(ShoppingItemChangeView.TOGGLED, subscription.poll(Duration.ZERO).type());
+        ShoppingItemChangeView removed = subscription.poll(Duration.ZERO);
+        assertEquals(ShoppingItemChangeView.REMOVED, removed.type());
+        assertEquals(added.itemId(), removed.itemId());
+        assertNull(removed.item());
+        assertNull(subscription.poll(Duration.ZERO));
+        assertNull(otherGroup.poll(Duration.ZERO));
+    }
+
+    @Test
+    void reorderPublishesTheNewOrderIndexOfEveryMovedItem() throws Exception {
+        InMemoryShoppingListRepository listRepository = new InMemoryShoppingListRepository();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                listRepository,
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                allowAllMembership(),
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        listRepository.save(new ShoppingList(listId, groupId, "Groceries", Instant.parse("2026-03-13T08:00:00Z")));
+        service.addShoppingItem(groupId, userId, listId, "milk");
+        AddShoppingItemOutput bread = service.addShoppingItem(groupId, userId, listId, "bread");
+        ShoppingChangeSubscription subscription = service.subscribeToItemChanges(groupId, userId);
+
+        service.reorderShoppingItem(groupId, userId, listId, bread.itemId(), "DOWN");
+
+        ShoppingList reordered = listRepository.findById(listId).orElseThrow();
+        List<ShoppingItemChangeView> changes = new ArrayList<>();
+        ShoppingItemChangeView change;
+        while ((change = subscription.poll(Duration.ZERO)) != null) {
+            changes.add(change);
+        }
+        assertFalse(changes.isEmpty());
+        Set<UUID> movedItemIds = new HashSet<>();
+        for (ShoppingItemChangeView moved : changes) {
+            assertEquals(ShoppingItemChangeView.REORDERED, moved.type());
+            assertEquals(reordered.getItemOrThrow(moved.itemId()).getOrderIndex(), moved.orderIndex());
+            movedItemIds.add(moved.itemId());
+        }
+        assertTrue(movedItemIds.contains(bread.itemId()));
+    }
+
+    @Test
+    void removingAListNotifiesGroupSubscribers() throws Exception {
+        InMemoryShoppingListRepository listRepository = new InMemoryShoppingListRepository();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                listRepository,
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                allowAllMembership(),
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        listRepository.save(new ShoppingList(listId, groupId, "Groceries", Instant.parse("2026-03-13T08:00:00Z")));
+        ShoppingChangeSubscription subscription = service.subscribeToItemChanges(groupId, userId);
+
+        service.removeShoppingList(groupId, userId, listId);
+
+        ShoppingItemChangeView removed = subscription.poll(Duration.ZERO);
+        assertEquals(ShoppingItemChangeView.LIST_REMOVED, removed.type());
+        assertEquals(listId, removed.listId());
+        assertNull(removed.itemId());
+        assertNull(subscription.poll(Duration.ZERO));
+    }
+
+    @Test
+    void subscriptionClosesWhenAccessRecheckFindsTheListenerRemoved() {
+        Set<UUID> members = ConcurrentHashMap.newKeySet();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                new InMemoryShoppingListRepository(),
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                (groupId, actorUserId) -> {
+                    if (!members.contains(actorUserId)) {
+                        throw new app.lifelinq.features.group.contract.AccessDeniedException("not a member");
+                    }
+                },
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        members.add(userId);
+        ShoppingChangeSubscription subscription = service.subscribeToItemChanges(groupId, userId);
+
+        assertTrue(subscription.recheckAccess());
+        members.remove(userId);
+
+        assertFalse(subscription.recheckAccess());
+        assertTrue(subscription.isClosed());
+    }
+
+    @Test
+    void slowSubscriberOverflowsInsteadOfBufferingWithoutBound() throws Exception {
+        ShoppingChangeBroadcaster broadcaster = new ShoppingChangeBroadcaster(2);
+        UUID groupId = UUID.randomUUID();
+        ShoppingChangeSubscription subscription = broadcaster.subscribe(groupId);
+
+        for (int index = 0; index < 3; index++) {
+            broadcaster.publish(groupId, new ShoppingItemChangeView(
+                    ShoppingItemChangeView.REMOVED,
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    null,
+                    null,
+                    Instant.now()
+            ));
+        }
+
+        assertTrue(subscription.isOverflowed());
+        assertNull(subscription.poll(Duration.ZERO));
+        subscription.close();
+        assertEquals(0, broadcaster.subscriberCount(groupId));
+    }
+
+    @Test
+    void conflictsAreRetriedUntilExhaustedOnlyWhenOwningTheTransaction() {
+        ShoppingWriteMetrics ownMetrics = new ShoppingWriteMetrics();
+        ShoppingApplicationService owning = conflictingService(false, ownMetrics);
+        ShoppingWriteMetrics joinedMetrics = new ShoppingWriteMetrics();
+        ShoppingApplicationService joined = conflictingService(true, joinedMetrics);
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(ShoppingListConcurrentModificationException.class,
+                () -> owning.addShoppingItem(groupId, userId, listId, "milk"));
+        assertThrows(ShoppingListConcurrentModificationException.class,
+                () -> joined.addShoppingItem(groupId, userId, listId, "milk"));
+
+        assertEquals(3, ownMetrics.conflictCount());
+        assertEquals(2, ownMetrics.retryCount());
+        assertEquals(1, ownMetrics.exhaustedCount());
+        assertEquals(0, ownMetrics.joinedConflictCount());
+        assertEquals(1, joinedMetrics.conflictCount());
+        assertEquals(0, joinedMetrics.retryCount());
+        assertEquals(0, joinedMetrics.exhaustedCount());
+        assertEquals(1, joinedMetrics.joinedConflictCount());
+    }
+
+    private ShoppingApplicationService conflictingService(boolean joinsCallerTransaction, ShoppingWriteMetrics metrics) {
+        ShoppingTransactionRunner runner = new ShoppingTransactionRunner() {
+            @Override
+            public <T> T execute(java.util.function.Supplier<T> attempt) {
+                throw new ShoppingListConcurrentModificationException(UUID.randomUUID(), null);
+            }
+
+            @Override
+            public boolean joinsCallerTransaction() {
+                return joinsCallerTransaction;
+            }
+
+            @Override
+            public void afterCommit(Runnable callback) {
+                callback.run();
+            }
+        };
+        return new ShoppingApplicationService(
+                new InMemoryShoppingListRepository(),
+                new InMemoryShoppingCategoryPreferenceRepository(),
+                allowAllMembership(),
+                Clock.fixed(Instant.parse("2026-03-13T09:00:00Z"), ZoneOffset.UTC),
+                runner,
+                metrics,
+                3,
+                new ShoppingChangeBroadcaster(ShoppingApplicationService.DEFAULT_CHANGE_BUFFER_CAPACITY)
+        );
+    }
+
     private EnsureGroupMemberUseCase allowAllMembership() {
         return (groupId, actorUserId) -> {};
     }
@@ -47,6 +47,100 @@ class ShoppingListTest {
         assertEquals(first, items.get(2).getId());
     }
 
+    @Test
+    void addItemAtTopLeavesExistingOrderIndexesUntouched() {
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "List", Instant.now());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        list.addItem(first, "milk", Instant.now());
+        list.addItem(second, "bread", Instant.now());
+        long firstOrderIndex = list.getItemOrThrow(first).getOrderIndex();
+        long secondOrderIndex = list.getItemOrThrow(second).getOrderIndex();
+
+        UUID third = UUID.randomUUID();
+        list.addItem(third, "eggs", Instant.now());
+
+        assertEquals(firstOrderIndex, list.getItemOrThrow(first).getOrderIndex());
+        assertEquals(secondOrderIndex, list.getItemOrThrow(second).getOrderIndex());
+        assertEquals(third, list.getItems().get(0).getId());
+    }
+
+    @Test
+    void reorderOpenItemOnlySwapsTheTwoOpenNeighbors() {
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "List", Instant.now());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        list.addItem(first, "milk", Instant.now());
+        list.addItem(second, "bread", Instant.now());
+        list.addItem(third, "eggs", Instant.now());
+        long firstOrderIndex = list.getItemOrThrow(first).getOrderIndex();
+        long secondOrderIndex = list.getItemOrThrow(second).getOrderIndex();
+        long thirdOrderIndex = list.getItemOrThrow(third).getOrderIndex();
+
+        list.reorderOpenItem(first, "UP");
+
+        assertEquals(thirdOrderIndex, list.getItemOrThrow(third).getOrderIndex());
+        assertEquals(secondOrderIndex, list.getItemOrThrow(first).getOrderIndex());
+        assertEquals(firstOrderIndex, list.getItemOrThrow(second).getOrderIndex());
+        List<ShoppingItem> items = list.getItems();
+        assertEquals(third, items.get(0).getId());
+        assertEquals(first, items.get(1).getId());
+        assertEquals(second, items.get(2).getId());
+    }
+
+    @Test
+    void reorderOpenItemSkipsBoughtItemsAndLeavesThemInPlace() {
+        Instant createdAt = Instant.now();
+        UUID top = UUID.randomUUID();
+        UUID bought = UUID.randomUUID();
+        UUID bottom = UUID.randomUUID();
+        ShoppingList list = new ShoppingList(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "List",
+                ShoppingListType.MIXED,
+                0,
+                createdAt,
+                List.of(
+                        new ShoppingItem(top, "milk", 0, createdAt, null, null, null, null),
+                        new ShoppingItem(bought, "bread", 1, createdAt, null, null, null, null),
+                        new ShoppingItem(bottom, "eggs", 2, createdAt, null, null, null, null)
+                )
+        );
+        list.toggleItem(bought, createdAt);
+
+        list.reorderOpenItem(bottom, "UP");
+
+        List<ShoppingItem> items = list.getItems();
+        assertEquals(bottom, items.get(0).getId());
+        assertEquals(bought, items.get(1).getId());
+        assertEquals(top, items.get(2).getId());
+        assertEquals(1, list.getItemOrThrow(bought).getOrderIndex());
+    }
+
+    @Test
+    void duplicateDetectionFollowsToggleUpdateAndRemove() {
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "List", Instant.now());
+        UUID milk = UUID.randomUUID();
+        list.addItem(milk, "milk", Instant.now());
+
+        list.toggleItem(milk, Instant.now());
+        ShoppingAddItemResult afterToggle = list.addItem(UUID.randomUUID(), "milk", Instant.now());
+        assertEquals(ShoppingAddItemOutcome.CREATED, afterToggle.outcome());
+
+        list.updateItem(afterToggle.itemId(), "oat milk", null, null);
+        assertEquals(ShoppingAddItemOutcome.CREATED, list.addItem(UUID.randomUUID(), "milk", Instant.now()).outcome());
+        assertEquals(
+                new ShoppingAddItemResult(afterToggle.itemId(), ShoppingAddItemOutcome.REUSED_EXISTING),
+                list.addItem(UUID.randomUUID(), "oat milk", Instant.now())
+        );
+
+        list.removeItem(afterToggle.itemId());
+        assertEquals(ShoppingAddItemOutcome.CREATED, list.addItem(UUID.randomUUID(), "oat milk", Instant.now()).outcome());
+        assertThrows(ShoppingItemNotFoundException.class, () -> list.getItemOrThrow(afterToggle.itemId()));
+    }
+
     @Test
     void reorderOpenItemDoesNothingAtBoundaries() {
         ShoppingList list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "List", Instant.now());
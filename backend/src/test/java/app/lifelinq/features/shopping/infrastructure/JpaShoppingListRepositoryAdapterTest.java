@@ -1,24 +1,36 @@
 package app.lifelinq.features.shopping.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import app.lifelinq.features.shopping.domain.ShoppingItem;
 import app.lifelinq.features.shopping.domain.ShoppingItemStatus;
 import app.lifelinq.features.shopping.domain.ShoppingItemSourceKind;
+import app.lifelinq.features.shopping.domain.ShoppingItemSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
 import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import app.lifelinq.features.shopping.domain.ShoppingListSnapshot;
 import app.lifelinq.features.shopping.domain.ShoppingUnit;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest(classes = ShoppingJpaTestApplication.class)
 @ActiveProfiles("test")
@@ -27,6 +39,12 @@ class JpaShoppingListRepositoryAdapterTest {
     @Autowired
     private ShoppingListRepository repository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void savesAndLoadsShoppingListRoundTrip() {
         UUID groupId = UUID.randomUUID();
@@ -74,4 +92,135 @@ class JpaShoppingListRepositoryAdapterTest {
         assertEquals(1, lists.size());
         assertEquals(list.getId(), lists.get(0).getId());
     }
+
+    @Test
+    void findsSnapshotsOnlyForRequestedListsInGroup() {
+        UUID groupId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+        ShoppingList groceries = new ShoppingList(UUID.randomUUID(), groupId, "Groceries", createdAt);
+        UUID milkId = UUID.randomUUID();
+        UUID breadId = UUID.randomUUID();
+        groceries.addItem(milkId, "milk", new BigDecimal("2"), ShoppingUnit.DL, ShoppingItemSourceKind.MEAL_PLAN, "Pasta", createdAt);
+        groceries.addItem(breadId, "bread", null, null, null, null, createdAt.plusSeconds(1));
+        groceries.toggleItem(breadId, createdAt.plusSeconds(2));
+        ShoppingList empty = new ShoppingList(UUID.randomUUID(), groupId, "Market", createdAt);
+        ShoppingList unrequested = new ShoppingList(UUID.randomUUID(), groupId, "Hardware", createdAt);
+        ShoppingList otherGroup = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "Other", createdAt);
+        repository.save(groceries);
+        repository.save(empty);
+        repository.save(unrequested);
+        repository.save(otherGroup);
+
+        List<ShoppingListSnapshot> snapshots = repository.findSnapshotsByGroupIdAndIds(
+                groupId,
+                Set.of(groceries.getId(), empty.getId(), otherGroup.getId())
+        );
+
+        assertEquals(2, snapshots.size());
+        ShoppingListSnapshot groceriesSnapshot = snapshots.stream()
+                .filter(snapshot -> snapshot.listId().equals(groceries.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Groceries", groceriesSnapshot.name());
+        assertEquals(
+                repository.findById(groceries.getId()).orElseThrow().getItems().stream().map(ShoppingItem::getId).toList(),
+                groceriesSnapshot.items().stream().map(ShoppingItemSnapshot::itemId).toList()
+        );
+        ShoppingItemSnapshot milk = groceriesSnapshot.items().stream()
+                .filter(item -> item.itemId().equals(milkId))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(milkId, milk.itemId());
+        assertEquals("milk", milk.name());
+        assertEquals(ShoppingItemStatus.TO_BUY, milk.status());
+        assertEquals(0, milk.quantity().compareTo(new BigDecimal("2")));
+        assertEquals(ShoppingUnit.DL, milk.unit());
+        assertEquals(ShoppingItemSourceKind.MEAL_PLAN, milk.sourceKind());
+        assertEquals("Pasta", milk.sourceLabel());
+        assertTrue(groceriesSnapshot.items().stream()
+                .anyMatch(item -> item.itemId().equals(breadId) && item.status() == ShoppingItemStatus.BOUGHT));
+        ShoppingListSnapshot emptySnapshot = snapshots.stream()
+                .filter(snapshot -> snapshot.listId().equals(empty.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(emptySnapshot.items().isEmpty());
+    }
+
+    @Test
+    void savingToggledItemWritesOnlyThatRow() {
+        UUID groupId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), groupId, "Groceries", createdAt);
+        for (int index = 0; index < 200; index++) {
+            list.addItem(UUID.randomUUID(), "item " + index, createdAt.plusMillis(index));
+        }
+        repository.save(list);
+        UUID toggledItemId = list.getItems().get(100).getId();
+
+        long statements = countStatementsAfterLoad(list.getId(), loaded -> loaded.toggleItem(toggledItemId, Instant.now()));
+
+        assertEquals(1, statements);
+        ShoppingList reloaded = repository.findById(list.getId()).orElseThrow();
+        assertEquals(ShoppingItemStatus.BOUGHT, reloaded.getItemOrThrow(toggledItemId).getStatus());
+        assertEquals(200, reloaded.getItems().size());
+    }
+
+    @Test
+    void savingRemovedItemDeletesOnlyAffectedRows() {
+        UUID groupId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), groupId, "Groceries", createdAt);
+        for (int index = 0; index < 20; index++) {
+            list.addItem(UUID.randomUUID(), "item " + index, createdAt.plusMillis(index));
+        }
+        repository.save(list);
+        UUID removedItemId = list.getItems().get(0).getId();
+
+        countStatementsAfterLoad(list.getId(), loaded -> loaded.removeItem(removedItemId));
+
+        ShoppingList reloaded = repository.findById(list.getId()).orElseThrow();
+        assertEquals(19, reloaded.getItems().size());
+        assertTrue(reloaded.getItems().stream().noneMatch(item -> item.getId().equals(removedItemId)));
+    }
+
+    @Test
+    void savingListLoadedBeforeAConcurrentCommitThrowsConcurrentModification() {
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), UUID.randomUUID(), "Groceries", Instant.now());
+        list.addItem(UUID.randomUUID(), "milk", Instant.now());
+        repository.save(list);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ShoppingListConcurrentModificationException.class, () -> outer.executeWithoutResult(status -> {
+            ShoppingList stale = repository.findById(list.getId()).orElseThrow();
+            concurrent.executeWithoutResult(inner -> {
+                ShoppingList fresh = repository.findById(list.getId()).orElseThrow();
+                fresh.addItem(UUID.randomUUID(), "bread", Instant.now());
+                repository.save(fresh);
+            });
+            stale.addItem(UUID.randomUUID(), "eggs", Instant.now());
+            repository.save(stale);
+        }));
+
+        ShoppingList reloaded = repository.findById(list.getId()).orElseThrow();
+        assertEquals(2, reloaded.getItems().size());
+        assertTrue(reloaded.getItems().stream().anyMatch(item -> item.getName().equals("bread")));
+    }
+
+    private long countStatementsAfterLoad(UUID listId, Consumer<ShoppingList> mutation) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ShoppingList loaded = repository.findById(listId).orElseThrow();
+                mutation.accept(loaded);
+                statistics.clear();
+                repository.save(loaded);
+            });
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package app.lifelinq.features.shopping.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.lifelinq.features.meals.contract.MealsShoppingConflictException;
+import app.lifelinq.features.meals.contract.MealsShoppingItemInput;
+import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.domain.ShoppingListConcurrentModificationException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MealsShoppingPortAdapterTest {
+
+    @Test
+    void translatesConcurrentListModificationIntoMealsConflict() {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        ShoppingApplicationService shopping = mock(ShoppingApplicationService.class);
+        when(shopping.addShoppingItems(eq(groupId), eq(userId), eq(listId), anyList()))
+                .thenThrow(new ShoppingListConcurrentModificationException(listId, null));
+        when(shopping.addShoppingItem(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new ShoppingListConcurrentModificationException(listId, null));
+        MealsShoppingPortAdapter adapter = new MealsShoppingPortAdapter(shopping);
+
+        assertThrows(MealsShoppingConflictException.class, () -> adapter.addShoppingItems(
+                groupId,
+                userId,
+                listId,
+                List.of(new MealsShoppingItemInput("pasta", BigDecimal.ONE, null, "meal-plan", "Pasta"))
+        ));
+        assertThrows(MealsShoppingConflictException.class, () -> adapter.addShoppingItem(
+                groupId,
+                userId,
+                listId,
+                "pasta",
+                null,
+                null,
+                null,
+                null
+        ));
+    }
+}
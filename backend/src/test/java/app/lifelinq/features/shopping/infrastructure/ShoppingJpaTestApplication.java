@@ -1,5 +1,6 @@
 package app.lifelinq.features.shopping.infrastructure;
 
+import jakarta.persistence.EntityManager;
 import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -44,9 +45,10 @@ public class ShoppingJpaTestApplication {
     @Bean
     public JpaShoppingListRepositoryAdapter shoppingListRepository(
             ShoppingListJpaRepository repository,
-            ShoppingListMapper mapper
+            ShoppingListMapper mapper,
+            EntityManager entityManager
     ) {
-        return new JpaShoppingListRepositoryAdapter(repository, mapper);
+        return new JpaShoppingListRepositoryAdapter(repository, mapper, entityManager);
     }
 
     @Bean
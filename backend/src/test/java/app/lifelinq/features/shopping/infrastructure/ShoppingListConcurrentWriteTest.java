@@ -0,0 +1,112 @@
+package app.lifelinq.features.shopping.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import app.lifelinq.features.shopping.application.ShoppingApplicationService;
+import app.lifelinq.features.shopping.application.ShoppingChangeBroadcaster;
+import app.lifelinq.features.shopping.application.ShoppingWriteMetrics;
+import app.lifelinq.features.shopping.contract.AddShoppingItemOutput;
+import app.lifelinq.features.shopping.domain.ShoppingCategoryPreferenceRepository;
+import app.lifelinq.features.shopping.domain.ShoppingItem;
+import app.lifelinq.features.shopping.domain.ShoppingList;
+import app.lifelinq.features.shopping.domain.ShoppingListRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest(classes = ShoppingJpaTestApplication.class)
+@ActiveProfiles("test")
+class ShoppingListConcurrentWriteTest {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 30;
+    private static final int SEED_ITEMS = 10;
+
+    @Autowired
+    private ShoppingListRepository repository;
+
+    @Autowired
+    private ShoppingCategoryPreferenceRepository categoryPreferenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentTogglesAndAddsOnOneListLoseNoItems() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ShoppingList list = new ShoppingList(UUID.randomUUID(), groupId, "Shared", Instant.now());
+        for (int index = 0; index < SEED_ITEMS; index++) {
+            list.addItem(UUID.randomUUID(), "seed " + index, Instant.now());
+        }
+        repository.save(list);
+        List<UUID> seedItemIds = list.getItems().stream().map(ShoppingItem::getId).toList();
+        ShoppingWriteMetrics metrics = new ShoppingWriteMetrics();
+        ShoppingApplicationService service = new ShoppingApplicationService(
+                repository,
+                categoryPreferenceRepository,
+                (ignoredGroupId, ignoredUserId) -> { },
+                Clock.systemUTC(),
+                new SpringShoppingTransactionRunner(transactionManager),
+                metrics,
+                50,
+                new ShoppingChangeBroadcaster(ShoppingApplicationService.DEFAULT_CHANGE_BUFFER_CAPACITY)
+        );
+        Set<UUID> addedItemIds = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadIndex = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+                    if (operation % 2 == 0) {
+                        AddShoppingItemOutput added = service.addShoppingItem(
+                                groupId,
+                                userId,
+                                list.getId(),
+                                "item " + threadIndex + "-" + operation
+                        );
+                        addedItemIds.add(added.itemId());
+                    } else {
+                        UUID seedItemId = seedItemIds.get(ThreadLocalRandom.current().nextInt(SEED_ITEMS));
+                        service.toggleShoppingItem(groupId, userId, list.getId(), seedItemId);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        ShoppingList reloaded = repository.findById(list.getId()).orElseThrow();
+        int expectedAdds = THREADS * ((OPERATIONS_PER_THREAD + 1) / 2);
+        assertEquals(expectedAdds, addedItemIds.size());
+        assertEquals(SEED_ITEMS + expectedAdds, reloaded.getItems().size());
+        for (UUID addedItemId : addedItemIds) {
+            reloaded.getItemOrThrow(addedItemId);
+        }
+        assertEquals(0, metrics.exhaustedCount());
+        assertEquals(metrics.conflictCount(), metrics.retryCount());
+        assertEquals(0, metrics.joinedConflictCount());
+    }
+}
@@ -6,8 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import app.lifelinq.features.user.domain.User;
 import app.lifelinq.features.user.domain.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +26,12 @@ class JpaUserRepositoryAdapterTest {
     @Autowired
     private UserRepository repository;
 
+    @Autowired
+    private UserActiveGroupCache activeGroupCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void savesAndLoadsUserRoundTrip() {
         User user = new User(UUID.randomUUID());
@@ -42,6 +53,26 @@ class JpaUserRepositoryAdapterTest {
         assertTrue(repository.findById(user.getId()).isEmpty());
     }
 
+    @Test
+    void findsUsersByIdsInOneQuery() {
+        List<UUID> ids = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            User user = new User(UUID.randomUUID(), null, null, "First" + index, "Last" + index);
+            repository.save(user);
+            ids.add(user.getId());
+        }
+        ids.add(UUID.randomUUID());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<User> loaded = repository.findByIds(ids);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+        assertEquals(10, loaded.size());
+    }
+
     @Test
     void enforcesUniqueEmailConstraint() {
         repository.save(new User(UUID.randomUUID(), null, "user@example.com", null, null));
@@ -50,4 +81,28 @@ class JpaUserRepositoryAdapterTest {
                 () -> repository.save(new User(UUID.randomUUID(), null, "user@example.com", null, null))
         );
     }
+
+    @Test
+    void savingUserInvalidatesCachedActiveGroup() {
+        UUID userId = UUID.randomUUID();
+        UUID firstGroupId = UUID.randomUUID();
+        UUID secondGroupId = UUID.randomUUID();
+        repository.save(new User(userId, firstGroupId));
+        assertEquals(firstGroupId, activeGroupCache.resolve(userId, repository).orElseThrow().groupId());
+
+        repository.save(new User(userId, secondGroupId));
+
+        assertEquals(secondGroupId, activeGroupCache.resolve(userId, repository).orElseThrow().groupId());
+    }
+
+    @Test
+    void deletingUserInvalidatesCachedActiveGroup() {
+        UUID userId = UUID.randomUUID();
+        repository.save(new User(userId, UUID.randomUUID()));
+        assertTrue(activeGroupCache.resolve(userId, repository).isPresent());
+
+        repository.deleteById(userId);
+
+        assertTrue(activeGroupCache.resolve(userId, repository).isEmpty());
+    }
 }
@@ -0,0 +1,36 @@
+package app.lifelinq.features.user.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import app.lifelinq.test.FakeActiveGroupUserRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UserActiveGroupCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedUserWhenFull() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        FakeActiveGroupUserRepository users = new FakeActiveGroupUserRepository()
+                .withUser(first, UUID.randomUUID())
+                .withUser(second, UUID.randomUUID())
+                .withUser(third, UUID.randomUUID());
+        UserActiveGroupCache cache = new UserActiveGroupCache(2, Duration.ofMinutes(1), Clock.systemUTC());
+
+        cache.resolve(first, users);
+        cache.resolve(second, users);
+        cache.resolve(first, users);
+        cache.resolve(third, users);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.hitCount());
+        cache.resolve(first, users);
+        assertEquals(2, cache.hitCount());
+        cache.resolve(second, users);
+        assertEquals(2, cache.hitCount());
+    }
+}
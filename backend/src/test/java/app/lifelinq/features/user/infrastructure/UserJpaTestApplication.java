@@ -1,5 +1,7 @@
 package app.lifelinq.features.user.infrastructure;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -42,7 +44,16 @@ public class UserJpaTestApplication {
     }
 
     @Bean
-    public JpaUserRepositoryAdapter userRepository(UserJpaRepository repository, UserMapper mapper) {
-        return new JpaUserRepositoryAdapter(repository, mapper);
+    public UserActiveGroupCache userActiveGroupCache() {
+        return new UserActiveGroupCache(100, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    @Bean
+    public JpaUserRepositoryAdapter userRepository(
+            UserJpaRepository repository,
+            UserMapper mapper,
+            UserActiveGroupCache activeGroupCache
+    ) {
+        return new JpaUserRepositoryAdapter(repository, mapper, activeGroupCache);
     }
 }
@@ -29,8 +29,10 @@ import app.lifelinq.features.group.contract.UserGroupMembershipView;
 import app.lifelinq.features.group.domain.MembershipRepository;
 import app.lifelinq.features.group.infrastructure.InMemoryMembershipRepository;
 import app.lifelinq.features.user.application.UserApplicationConfig;
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
 import app.lifelinq.features.user.domain.User;
 import app.lifelinq.features.user.domain.UserRepository;
+import app.lifelinq.features.user.infrastructure.UserActiveGroupLookupAdapter;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -87,6 +89,11 @@ public class DevAuthTestApplication {
         };
     }
 
+    @Bean
+    public UserActiveGroupLookup userActiveGroupLookup(UserRepository userRepository) {
+        return new UserActiveGroupLookupAdapter(userRepository, null);
+    }
+
     @Bean
     public GroupAccountDeletionGovernancePort groupAccountDeletionGovernancePort() {
         return new GroupAccountDeletionGovernancePort() {
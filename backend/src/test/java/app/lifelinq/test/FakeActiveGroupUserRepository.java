@@ -1,5 +1,7 @@
 package app.lifelinq.test;
 
+import app.lifelinq.features.user.contract.UserActiveGroupLookup;
+import app.lifelinq.features.user.contract.UserActiveGroupView;
 import app.lifelinq.features.user.domain.User;
 import app.lifelinq.features.user.domain.UserRepository;
 import java.util.HashMap;
@@ -7,7 +9,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-public final class FakeActiveGroupUserRepository implements UserRepository {
+public final class FakeActiveGroupUserRepository implements UserRepository, UserActiveGroupLookup {
     private final Map<UUID, User> users = new HashMap<>();
 
     public FakeActiveGroupUserRepository withUser(UUID userId) {
@@ -34,4 +36,9 @@ public final class FakeActiveGroupUserRepository implements UserRepository {
     public void deleteById(UUID id) {
         users.remove(id);
     }
+
+    @Override
+    public Optional<UserActiveGroupView> findActiveGroup(UUID userId) {
+        return findById(userId).map(user -> new UserActiveGroupView(user.getActiveGroupId()));
+    }
 }